@@ -1,7 +1,9 @@
 package com.ws.application.price.mapper;
 
 import com.ws.application.price.model.PriceDto;
+import com.ws.application.price.model.PriceSegmentDto;
 import com.ws.domain.price.model.Price;
+import com.ws.domain.price.model.PriceSegment;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -37,4 +39,13 @@ public interface PriceDtoMapper {
    */
   @Mapping(source = "brand.id", target = "brandId")
   PriceDto toDto(Price price);
+
+  /**
+   * Converts a {@link PriceSegment} into a {@link PriceSegmentDto}, mapping its price with
+   * {@link #toDto(Price)}.
+   *
+   * @param segment the segment to convert
+   * @return the corresponding {@link PriceSegmentDto}
+   */
+  PriceSegmentDto toSegmentDto(PriceSegment segment);
 }
@@ -0,0 +1,19 @@
+package com.ws.application.price.model;
+
+import com.ws.domain.price.model.Currency;
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Data Transfer Object (DTO) representing a version of the exchange rate table.
+ *
+ * <p>Returned by {@link com.ws.application.price.port.in.ExchangeRateInboundPort}.</p>
+ *
+ * @param version the version of the table
+ * @param rates   the rate of each currency, as the amount of the currency worth one Euro
+ */
+public record ExchangeRatesDto(
+    Long version,
+    Map<Currency, BigDecimal> rates
+) {
+}
@@ -0,0 +1,24 @@
+package com.ws.application.price.model;
+
+/**
+ * Result of a single {@link PriceQuery} inside a batch lookup.
+ *
+ * <p>A miss does not fail the whole batch: it is reported with a {@code null} {@link #price()}.</p>
+ *
+ * @param query the query this result answers
+ * @param price the preferred {@link PriceDto}, or {@code null} if no price is available
+ */
+public record PriceBatchItemDto(
+    PriceQuery query,
+    PriceDto price
+) {
+
+  /**
+   * Returns whether a price was found for the query.
+   *
+   * @return {@code true} if {@link #price()} is not {@code null}
+   */
+  public boolean found() {
+    return price != null;
+  }
+}
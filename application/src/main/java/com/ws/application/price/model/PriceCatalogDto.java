@@ -0,0 +1,71 @@
+package com.ws.application.price.model;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Data Transfer Object (DTO) representing the catalog of a brand at a given date: the preferred price of
+ * each of its products, in ascending product order.
+ *
+ * <p>The prices are not held by the object. They are resolved each time {@link #forEachPrice} is called, so
+ * that they can be written while they are read.</p>
+ */
+public final class PriceCatalogDto {
+
+  private final Integer brandId;
+  private final LocalDateTime applicationDate;
+  private final Integer afterProductId;
+  private final Consumer<Consumer<PriceDto>> prices;
+
+  /**
+   * Constructor to initialize the catalog with the source of its prices.
+   *
+   * @param brandId         the identifier of the brand
+   * @param applicationDate the date on which the prices are applied
+   * @param afterProductId  the identifier after which products are read, or {@code null}
+   * @param prices          the source that passes each price, in ascending product order, to the given action
+   */
+  public PriceCatalogDto(Integer brandId, LocalDateTime applicationDate, Integer afterProductId,
+                         Consumer<Consumer<PriceDto>> prices) {
+    this.brandId = brandId;
+    this.applicationDate = applicationDate;
+    this.afterProductId = afterProductId;
+    this.prices = prices;
+  }
+
+  /**
+   * Returns the identifier of the brand.
+   *
+   * @return the identifier of the brand
+   */
+  public Integer brandId() {
+    return brandId;
+  }
+
+  /**
+   * Returns the date on which the prices are applied.
+   *
+   * @return the date on which the prices are applied
+   */
+  public LocalDateTime applicationDate() {
+    return applicationDate;
+  }
+
+  /**
+   * Returns the identifier after which products are read.
+   *
+   * @return the identifier after which products are read, or {@code null} if every product is read
+   */
+  public Integer afterProductId() {
+    return afterProductId;
+  }
+
+  /**
+   * Resolves the prices of the catalog and passes each one to {@code action}, in ascending product order.
+   *
+   * @param action the action run for each {@link PriceDto}
+   */
+  public void forEachPrice(Consumer<PriceDto> action) {
+    prices.accept(action);
+  }
+}
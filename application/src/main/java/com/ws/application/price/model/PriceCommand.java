@@ -0,0 +1,32 @@
+package com.ws.application.price.model;
+
+import com.ws.domain.price.model.Currency;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Command to create or replace a price list.
+ *
+ * <p>Used to write prices through
+ * {@link com.ws.application.price.port.in.PriceAdminInboundPort#upsertPrice(PriceCommand)}.</p>
+ *
+ * @param priceList the identifier of the price list
+ * @param productId the identifier of the product
+ * @param brandId   the identifier of the brand
+ * @param priority  the priority of the price
+ * @param currency  the currency of the price
+ * @param price     the price value of the product
+ * @param startDate the date and time when the price starts being valid
+ * @param endDate   the date and time when the price stops being valid, inclusive
+ */
+public record PriceCommand(
+    Integer priceList,
+    Integer productId,
+    Integer brandId,
+    Integer priority,
+    Currency currency,
+    BigDecimal price,
+    LocalDateTime startDate,
+    LocalDateTime endDate
+) {
+}
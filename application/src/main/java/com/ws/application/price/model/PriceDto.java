@@ -1,5 +1,6 @@
 package com.ws.application.price.model;
 
+import com.ws.domain.price.model.Currency;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -7,7 +8,7 @@ import java.time.LocalDateTime;
  * Data Transfer Object (DTO) representing the price details of a product.
  *
  * <p>This {@link PriceDto} contains all the necessary information about a price
- * for a product including the list of prices, product identifier, price amount,
+ * for a product including the list of prices, product identifier, price amount and its currency,
  * start and end dates, and the brand identifier.</p>
  *
  * <p>This DTO is typically used for transferring price information between
@@ -15,13 +16,14 @@ import java.time.LocalDateTime;
  * <p>
  * Example usage:
  * <pre>{@code
- * PriceDto priceDto = new PriceDto(1, 101, new BigDecimal("19.99"),
+ * PriceDto priceDto = new PriceDto(1, 101, new BigDecimal("19.99"), Currency.EUR,
  *                                   LocalDateTime.now(), LocalDateTime.now().plusDays(10), 1001);
  * }</pre>
  *
  * @param priceList the identifier of the price list
  * @param productId the identifier of the product
  * @param price     the price value
+ * @param currency  the currency of the price value
  * @param startDate the date and time when the price starts being valid
  * @param endDate   the date and time when the price ends being valid
  * @param brandId   the identifier of the brand associated with the price
@@ -30,6 +32,7 @@ public record PriceDto(
     Integer priceList,
     Integer productId,
     BigDecimal price,
+    Currency currency,
     LocalDateTime startDate,
     LocalDateTime endDate,
     Integer brandId
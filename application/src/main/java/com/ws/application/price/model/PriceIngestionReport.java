@@ -0,0 +1,19 @@
+package com.ws.application.price.model;
+
+/**
+ * Outcome of a bulk price ingestion.
+ *
+ * <p>Returned by {@link com.ws.application.price.port.in.PriceAdminInboundPort#ingestPrices}.</p>
+ *
+ * @param rows          the number of rows read from the file and published
+ * @param chunks        the number of chunks the file was split into
+ * @param elapsedMillis the time spent parsing, writing and publishing the rows, in milliseconds
+ * @param rowsPerSecond the throughput of the ingestion
+ */
+public record PriceIngestionReport(
+    long rows,
+    int chunks,
+    long elapsedMillis,
+    long rowsPerSecond
+) {
+}
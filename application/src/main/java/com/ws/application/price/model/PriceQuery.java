@@ -0,0 +1,23 @@
+package com.ws.application.price.model;
+
+import com.ws.domain.price.model.Currency;
+import java.time.LocalDateTime;
+
+/**
+ * Query for the preferred price of a product and brand at a given date.
+ *
+ * <p>Used to request several prices in a single call through
+ * {@link com.ws.application.price.port.in.PriceInboundPort#getPreferredPrices(java.util.List)}.</p>
+ *
+ * @param applicationDate the date on which the price is being applied
+ * @param productId       the identifier of the product
+ * @param brandId         the identifier of the brand
+ * @param currency        the currency of the price, or {@code null} for the currency it is stored in
+ */
+public record PriceQuery(
+    LocalDateTime applicationDate,
+    Integer productId,
+    Integer brandId,
+    Currency currency
+) {
+}
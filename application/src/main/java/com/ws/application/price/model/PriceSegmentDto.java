@@ -0,0 +1,18 @@
+package com.ws.application.price.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) representing the preferred price of a product together with the interval
+ * during which it keeps winning.
+ *
+ * @param from  the date and time (inclusive) from which the price wins
+ * @param to    the date and time (exclusive) at which another price, or none, takes over
+ * @param price the preferred price
+ */
+public record PriceSegmentDto(
+    LocalDateTime from,
+    LocalDateTime to,
+    PriceDto price
+) {
+}
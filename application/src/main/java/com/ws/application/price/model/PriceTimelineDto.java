@@ -0,0 +1,83 @@
+package com.ws.application.price.model;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Data Transfer Object (DTO) representing the price timeline of a product and brand over the
+ * {@code [from, to)} interval.
+ *
+ * <p>The segments are not held by the object. They are resolved each time {@link #forEachSegment} is
+ * called, so that they can be written while they are read.</p>
+ */
+public final class PriceTimelineDto {
+
+  private final Integer productId;
+  private final Integer brandId;
+  private final LocalDateTime from;
+  private final LocalDateTime to;
+  private final Consumer<Consumer<PriceSegmentDto>> segments;
+
+  /**
+   * Constructor to initialize the timeline with the source of its segments.
+   *
+   * @param productId the identifier of the product
+   * @param brandId   the identifier of the brand
+   * @param from      the start (inclusive) of the interval
+   * @param to        the end (exclusive) of the interval
+   * @param segments  the source that passes each segment, in ascending order, to the given action
+   */
+  public PriceTimelineDto(Integer productId, Integer brandId, LocalDateTime from, LocalDateTime to,
+                          Consumer<Consumer<PriceSegmentDto>> segments) {
+    this.productId = productId;
+    this.brandId = brandId;
+    this.from = from;
+    this.to = to;
+    this.segments = segments;
+  }
+
+  /**
+   * Returns the identifier of the product.
+   *
+   * @return the identifier of the product
+   */
+  public Integer productId() {
+    return productId;
+  }
+
+  /**
+   * Returns the identifier of the brand.
+   *
+   * @return the identifier of the brand
+   */
+  public Integer brandId() {
+    return brandId;
+  }
+
+  /**
+   * Returns the start (inclusive) of the interval.
+   *
+   * @return the start (inclusive) of the interval
+   */
+  public LocalDateTime from() {
+    return from;
+  }
+
+  /**
+   * Returns the end (exclusive) of the interval.
+   *
+   * @return the end (exclusive) of the interval
+   */
+  public LocalDateTime to() {
+    return to;
+  }
+
+  /**
+   * Resolves the segments of the timeline and passes each one to {@code action}, in ascending order.
+   *
+   * @param action the action run for each {@link PriceSegmentDto}
+   */
+  public void forEachSegment(Consumer<PriceSegmentDto> action) {
+    segments.accept(action);
+  }
+}
@@ -0,0 +1,33 @@
+package com.ws.application.price.port.in;
+
+import com.ws.application.price.model.ExchangeRatesDto;
+import com.ws.domain.price.model.Currency;
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Inbound port interface for publishing and reading the exchange rates prices are converted with.
+ *
+ * <p>Every published table gets the next version. Its rates are merged into the previous table, unless the
+ * caller asks for it to replace that table as a whole. Lookups through {@link PriceInboundPort} convert prices
+ * with the table of the highest version.</p>
+ */
+public interface ExchangeRateInboundPort {
+
+  /**
+   * Publishes a new exchange rate table.
+   *
+   * @param rates   the rate of each currency, as the amount of the currency worth one Euro
+   * @param replace whether the currencies missing from {@code rates} stop being served, instead of keeping
+   *                their previous rates
+   * @return the {@link ExchangeRatesDto} representing the published table
+   */
+  ExchangeRatesDto publishRates(Map<Currency, BigDecimal> rates, boolean replace);
+
+  /**
+   * Retrieves the exchange rate table prices are currently converted with.
+   *
+   * @return the {@link ExchangeRatesDto} representing the current table
+   */
+  ExchangeRatesDto getCurrentRates();
+}
@@ -0,0 +1,39 @@
+package com.ws.application.price.port.in;
+
+import com.ws.application.price.model.PriceCommand;
+import com.ws.application.price.model.PriceDto;
+import com.ws.application.price.model.PriceIngestionReport;
+import java.nio.file.Path;
+
+/**
+ * Inbound port interface for writing price lists.
+ *
+ * <p>This interface defines the contract used by administration clients to create, replace,
+ * delete and bulk load price lists. Lookups keep going through {@link PriceInboundPort}.</p>
+ */
+public interface PriceAdminInboundPort {
+
+  /**
+   * Creates the price list or replaces it if it already exists.
+   *
+   * @param command the values of the price list
+   * @return the {@link PriceDto} representing the stored price list
+   */
+  PriceDto upsertPrice(PriceCommand command);
+
+  /**
+   * Deletes a price list.
+   *
+   * @param priceList the identifier of the price list
+   */
+  void deletePrice(Integer priceList);
+
+  /**
+   * Loads every price list of a CSV or NDJSON file.
+   *
+   * @param file    the file to load
+   * @param replace whether the prices of the brands present in the file that are missing from it are deleted
+   * @return the {@link PriceIngestionReport} of the load
+   */
+  PriceIngestionReport ingestPrices(Path file, boolean replace);
+}
@@ -0,0 +1,27 @@
+package com.ws.application.price.port.in;
+
+import com.ws.application.price.model.PriceCatalogDto;
+import com.ws.domain.price.model.Currency;
+import java.time.LocalDateTime;
+
+/**
+ * Inbound port interface for exporting the catalog of a brand: the preferred price of each of its products
+ * at a given date.
+ */
+public interface PriceCatalogInboundPort {
+
+  /**
+   * Retrieves the catalog of a brand at the application date.
+   *
+   * <p>The prices are only resolved when they are read from the returned {@link PriceCatalogDto}, in
+   * ascending product order, so an interrupted export can be resumed with the last product it returned.</p>
+   *
+   * @param brandId         the identifier of the brand
+   * @param applicationDate the date on which the prices are applied
+   * @param afterProductId  the identifier after which products are read, or {@code null} to read them all
+   * @param currency        the currency of the prices, or {@code null} for the currency they are stored in
+   * @return the {@link PriceCatalogDto} of the brand
+   */
+  PriceCatalogDto getCatalog(Integer brandId, LocalDateTime applicationDate, Integer afterProductId,
+                             Currency currency);
+}
@@ -1,7 +1,12 @@
 package com.ws.application.price.port.in;
 
+import com.ws.application.price.model.PriceBatchItemDto;
 import com.ws.application.price.model.PriceDto;
+import com.ws.application.price.model.PriceQuery;
+import com.ws.application.price.model.PriceSegmentDto;
+import com.ws.domain.price.model.Currency;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Inbound port interface for retrieving the preferred price of a product
@@ -11,8 +16,9 @@ import java.time.LocalDateTime;
  * for a given product from an external source, such as a price service or database.</p>
  *
  * <p>The {@link PriceDto} returned contains the details of the price,
- * including the price list identifier, product ID, price value, start and end
- * dates, and brand identifier.</p>
+ * including the price list identifier, product ID, price value and currency, start and end
+ * dates, and brand identifier. Prices are returned in the currency they are stored in, or converted into
+ * the currency the caller asks for.</p>
  */
 public interface PriceInboundPort {
 
@@ -22,7 +28,32 @@ public interface PriceInboundPort {
    * @param applicationDate the date on which the price is being applied
    * @param productId       the identifier of the product
    * @param brandId         the identifier of the brand
+   * @param currency        the currency of the returned price, or {@code null} for the currency it is stored in
    * @return the {@link PriceDto} representing the preferred price for the product and brand
    */
-  PriceDto getPreferredPrice(LocalDateTime applicationDate, Integer productId, Integer brandId);
+  PriceDto getPreferredPrice(LocalDateTime applicationDate, Integer productId, Integer brandId,
+                             Currency currency);
+
+  /**
+   * Retrieves the preferred price for a given product, brand, and application date, together with the
+   * interval during which it keeps winning.
+   *
+   * @param applicationDate the date on which the price is being applied
+   * @param productId       the identifier of the product
+   * @param brandId         the identifier of the brand
+   * @param currency        the currency of the returned price, or {@code null} for the currency it is stored in
+   * @return the {@link PriceSegmentDto} containing the application date
+   */
+  PriceSegmentDto getPreferredSegment(LocalDateTime applicationDate, Integer productId, Integer brandId,
+                                      Currency currency);
+
+  /**
+   * Retrieves the preferred price of several products in a single call.
+   *
+   * <p>Misses are reported per item and never fail the whole batch.</p>
+   *
+   * @param queries the product, brand, application date and currency of each price to retrieve
+   * @return one {@link PriceBatchItemDto} per query, in the same order as {@code queries}
+   */
+  List<PriceBatchItemDto> getPreferredPrices(List<PriceQuery> queries);
 }
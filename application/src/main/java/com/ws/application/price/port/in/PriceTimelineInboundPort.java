@@ -0,0 +1,32 @@
+package com.ws.application.price.port.in;
+
+import com.ws.application.price.model.PriceTimelineDto;
+import com.ws.domain.price.model.Currency;
+import java.time.LocalDateTime;
+
+/**
+ * Inbound port interface for retrieving the price timeline of a product and brand over an interval.
+ *
+ * <p>The returned {@link PriceTimelineDto} holds the effective-price segments of the interval, in the
+ * order in which they apply.</p>
+ */
+public interface PriceTimelineInboundPort {
+
+  /**
+   * Retrieves the price timeline of a product and brand over the {@code [from, to)} interval.
+   *
+   * <p>The interval is checked right away, while the segments are only resolved when they are read from the
+   * returned {@link PriceTimelineDto}.</p>
+   *
+   * @param productId the identifier of the product
+   * @param brandId   the identifier of the brand
+   * @param from      the start (inclusive) of the interval
+   * @param to        the end (exclusive) of the interval
+   * @param currency  the currency of the prices of the segments, or {@code null} for the currency they are
+   *                  stored in
+   * @return the {@link PriceTimelineDto} of the interval, without any segment if no price applies
+   * @throws IllegalArgumentException if {@code from} is not before {@code to}
+   */
+  PriceTimelineDto getTimeline(Integer productId, Integer brandId, LocalDateTime from, LocalDateTime to,
+                               Currency currency);
+}
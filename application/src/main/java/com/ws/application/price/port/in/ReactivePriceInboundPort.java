@@ -0,0 +1,45 @@
+package com.ws.application.price.port.in;
+
+import com.ws.application.price.model.PriceBatchItemDto;
+import com.ws.application.price.model.PriceDto;
+import com.ws.application.price.model.PriceQuery;
+import com.ws.domain.price.model.Currency;
+import java.time.LocalDateTime;
+import java.util.List;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of {@link PriceInboundPort}.
+ *
+ * <p>It offers the same lookups, but the result is delivered through a {@link Mono} or a {@link Flux}
+ * instead of being returned on the calling thread, so a reactive adapter never blocks an event loop
+ * while the price is being resolved.</p>
+ *
+ * @see PriceInboundPort
+ */
+public interface ReactivePriceInboundPort {
+
+  /**
+   * Retrieves the preferred price for a given product, brand, and application date.
+   *
+   * @param applicationDate the date on which the price is being applied
+   * @param productId       the identifier of the product
+   * @param brandId         the identifier of the brand
+   * @param currency        the currency of the returned price, or {@code null} for the currency it is stored in
+   * @return a {@link Mono} emitting the {@link PriceDto} representing the preferred price, or failing
+   *         with a {@link com.ws.domain.price.exception.NotFoundException} if no price is available
+   */
+  Mono<PriceDto> getPreferredPrice(LocalDateTime applicationDate, Integer productId, Integer brandId,
+                                   Currency currency);
+
+  /**
+   * Retrieves the preferred price of several products.
+   *
+   * <p>Misses are reported per item and never fail the whole batch.</p>
+   *
+   * @param queries the product, brand, application date and currency of each price to retrieve
+   * @return a {@link Flux} emitting one {@link PriceBatchItemDto} per query, in the same order as {@code queries}
+   */
+  Flux<PriceBatchItemDto> getPreferredPrices(List<PriceQuery> queries);
+}
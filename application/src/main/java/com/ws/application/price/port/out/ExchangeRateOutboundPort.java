@@ -0,0 +1,34 @@
+package com.ws.application.price.port.out;
+
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.ExchangeRates;
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Outbound port interface for storing the versioned exchange rate tables.
+ *
+ * <p>Implementations are responsible for making a published table visible to
+ * {@link PriceConversionOutboundPort} once it has been stored.</p>
+ */
+public interface ExchangeRateOutboundPort {
+
+  /**
+   * Stores a new exchange rate table, with the version following the current one.
+   *
+   * <p>Unless {@code replace} is set, the new table also holds the rates of the current one for the
+   * currencies missing from {@code rates}. Both tables are read and written in the same transaction.</p>
+   *
+   * @param rates   the rate of each currency against {@link ExchangeRates#BASE}
+   * @param replace whether the currencies missing from {@code rates} are left out of the new table
+   * @return the stored {@link ExchangeRates}
+   */
+  ExchangeRates publish(Map<Currency, BigDecimal> rates, boolean replace);
+
+  /**
+   * Retrieves the exchange rate table with the highest version.
+   *
+   * @return the current {@link ExchangeRates}, or {@link ExchangeRates#empty()} if none has been published
+   */
+  ExchangeRates findCurrent();
+}
@@ -0,0 +1,31 @@
+package com.ws.application.price.port.out;
+
+import com.ws.application.price.model.PriceCommand;
+import com.ws.domain.price.model.Price;
+import java.util.Optional;
+
+/**
+ * Outbound port interface for storing price lists.
+ *
+ * <p>This interface defines the contract for writing prices to an external store (e.g., a
+ * database). Implementations are responsible for making the change visible to
+ * {@link PriceOutboundPort} once it has been stored.</p>
+ */
+public interface PriceAdminOutboundPort {
+
+  /**
+   * Creates the price list or replaces it if it already exists.
+   *
+   * @param command the values of the price list
+   * @return an {@link Optional} containing the stored {@link Price}, or an empty {@link Optional} if the brand does not exist
+   */
+  Optional<Price> savePrice(PriceCommand command);
+
+  /**
+   * Deletes a price list.
+   *
+   * @param priceList the identifier of the price list
+   * @return {@code true} if the price list existed and was deleted
+   */
+  boolean deletePrice(Integer priceList);
+}
@@ -0,0 +1,28 @@
+package com.ws.application.price.port.out;
+
+import com.ws.domain.price.model.Price;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Outbound port interface for reading the preferred price of every product of a brand at a given date.
+ *
+ * <p>Prices are pushed to the caller while they are read, so implementations never hold the catalog of a
+ * brand in memory.</p>
+ */
+public interface PriceCatalogOutboundPort {
+
+  /**
+   * Resolves the preferred price of every product of the brand at the application date whose identifier is
+   * greater than {@code afterProductId}, and passes each one to {@code action} in ascending product order.
+   *
+   * <p>Products without a price at the application date are skipped.</p>
+   *
+   * @param brandId         the identifier of the brand
+   * @param applicationDate the date on which the prices are applied
+   * @param afterProductId  the identifier after which products are read, or {@code null} to read them all
+   * @param action          the action run for each preferred {@link Price}
+   */
+  void forEachPreferredPrice(Integer brandId, LocalDateTime applicationDate, Integer afterProductId,
+                             Consumer<Price> action);
+}
@@ -0,0 +1,32 @@
+package com.ws.application.price.port.out;
+
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.Price;
+
+/**
+ * Outbound port interface for converting prices into the currency a client asks for.
+ *
+ * <p>Implementations are expected to answer from amounts converted in advance, when prices or exchange
+ * rates change, so that a conversion costs about as much as reading the price itself.</p>
+ */
+public interface PriceConversionOutboundPort {
+
+  /**
+   * Checks whether prices can be converted into the given currency with the current exchange rates.
+   *
+   * @param currency the currency to check
+   * @return {@code true} if there is an exchange rate for {@code currency}
+   */
+  boolean supports(Currency currency);
+
+  /**
+   * Converts a price into the given currency with the current exchange rates.
+   *
+   * @param price    the price to convert
+   * @param currency the currency to convert to
+   * @return the {@link Price} in {@code currency}, or {@code price} itself if it is already in it
+   * @throws IllegalArgumentException if there is no exchange rate for {@code currency} or for the currency
+   *                                  of the price
+   */
+  Price convert(Price price, Currency currency);
+}
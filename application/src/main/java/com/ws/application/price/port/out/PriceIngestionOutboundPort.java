@@ -0,0 +1,22 @@
+package com.ws.application.price.port.out;
+
+import com.ws.application.price.model.PriceIngestionReport;
+import java.nio.file.Path;
+
+/**
+ * Outbound port interface for bulk loading price lists from a file.
+ *
+ * <p>Implementations must make the whole file visible at once: lookups going through
+ * {@link PriceOutboundPort} either see none of its rows or all of them.</p>
+ */
+public interface PriceIngestionOutboundPort {
+
+  /**
+   * Loads every price list of a file.
+   *
+   * @param file    the CSV or NDJSON file to load
+   * @param replace whether the prices of the brands present in the file that are missing from it are deleted
+   * @return the {@link PriceIngestionReport} of the load
+   */
+  PriceIngestionReport ingest(Path file, boolean replace);
+}
@@ -0,0 +1,20 @@
+package com.ws.application.price.port.out;
+
+/**
+ * Outbound port interface for checking whether a product and brand may have any price at all.
+ *
+ * <p>It lets lookups for pairs that have never been priced be answered without reaching
+ * {@link PriceOutboundPort}. Implementations may answer {@code true} for a pair without prices (a false
+ * positive), but must never answer {@code false} for a pair that has one.</p>
+ */
+public interface PriceKeyFilterOutboundPort {
+
+  /**
+   * Checks whether the product and brand may have a price.
+   *
+   * @param productId the identifier of the product
+   * @param brandId   the identifier of the brand
+   * @return {@code false} if the pair certainly has no price, {@code true} if it may have one
+   */
+  boolean mightContain(Integer productId, Integer brandId);
+}
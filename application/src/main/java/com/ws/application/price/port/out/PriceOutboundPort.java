@@ -1,7 +1,10 @@
 package com.ws.application.price.port.out;
 
+import com.ws.application.price.model.PriceQuery;
 import com.ws.domain.price.model.Price;
+import com.ws.domain.price.model.PriceSegment;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -27,4 +30,39 @@ public interface PriceOutboundPort {
    */
   Optional<Price> getPreferredPrice(LocalDateTime applicationDate, Integer productId,
                                     Integer brandId);
-}
\ No newline at end of file
+
+  /**
+   * Retrieves the segment of the price timeline that contains the given application date.
+   *
+   * <p>The returned {@link PriceSegment} holds the preferred price together with the interval during
+   * which that price keeps winning, so a caller may reuse it for any date inside the interval. The
+   * default implementation only knows the winning price, so its segment covers the exact application
+   * date. Implementations able to resolve the neighbouring prices should override it.</p>
+   *
+   * @param applicationDate the date on which the price is being applied
+   * @param productId       the identifier of the product
+   * @param brandId         the identifier of the brand
+   * @return an {@link Optional} containing the {@link PriceSegment} if found, or an empty {@link Optional} if no price is available
+   */
+  default Optional<PriceSegment> getPreferredSegment(LocalDateTime applicationDate, Integer productId,
+                                                     Integer brandId) {
+    return getPreferredPrice(applicationDate, productId, brandId)
+        .map(price -> new PriceSegment(applicationDate, applicationDate.plusNanos(1), price));
+  }
+
+  /**
+   * Retrieves the preferred price of several products in a single call.
+   *
+   * <p>The default implementation resolves each query with
+   * {@link #getPreferredPrice(LocalDateTime, Integer, Integer)}. Implementations backed by a remote
+   * store should override it to resolve every query in a single round-trip.</p>
+   *
+   * @param queries the product, brand and application date of each price to retrieve
+   * @return one {@link Optional} per query, in the same order as {@code queries}
+   */
+  default List<Optional<Price>> getPreferredPrices(List<PriceQuery> queries) {
+    return queries.stream()
+        .map(query -> getPreferredPrice(query.applicationDate(), query.productId(), query.brandId()))
+        .toList();
+  }
+}
@@ -0,0 +1,29 @@
+package com.ws.application.price.port.out;
+
+import com.ws.domain.price.model.PriceSegment;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Outbound port interface for reading the resolved price timeline of a product and brand over an interval.
+ *
+ * <p>Segments are pushed to the caller while the prices are read, so implementations never hold the whole
+ * timeline of a long interval in memory.</p>
+ */
+public interface PriceTimelineOutboundPort {
+
+  /**
+   * Resolves the segments of the price timeline of a product and brand that overlap the {@code [from, to)}
+   * interval, and passes each one to {@code action} in ascending order.
+   *
+   * <p>Segments are clipped to the interval, and dates without any price are skipped.</p>
+   *
+   * @param productId the identifier of the product
+   * @param brandId   the identifier of the brand
+   * @param from      the start (inclusive) of the interval
+   * @param to        the end (exclusive) of the interval
+   * @param action    the action run for each {@link PriceSegment}
+   */
+  void forEachSegment(Integer productId, Integer brandId, LocalDateTime from, LocalDateTime to,
+                      Consumer<PriceSegment> action);
+}
@@ -0,0 +1,26 @@
+package com.ws.application.price.port.out;
+
+import com.ws.domain.price.model.Price;
+import java.time.LocalDateTime;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of {@link PriceOutboundPort}.
+ *
+ * <p>Implementations resolve the preferred price without blocking the calling thread, for instance
+ * with a reactive database driver, and signal its absence by completing empty.</p>
+ *
+ * @see PriceOutboundPort
+ */
+public interface ReactivePriceOutboundPort {
+
+  /**
+   * Retrieves the preferred price for a given product, brand, and application date.
+   *
+   * @param applicationDate the date on which the price is being applied
+   * @param productId       the identifier of the product
+   * @param brandId         the identifier of the brand
+   * @return a {@link Mono} emitting the {@link Price} if found, or completing empty if no price is available
+   */
+  Mono<Price> getPreferredPrice(LocalDateTime applicationDate, Integer productId, Integer brandId);
+}
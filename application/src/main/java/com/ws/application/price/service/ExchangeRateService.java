@@ -0,0 +1,57 @@
+package com.ws.application.price.service;
+
+import com.ws.application.price.model.ExchangeRatesDto;
+import com.ws.application.price.port.in.ExchangeRateInboundPort;
+import com.ws.application.price.port.out.ExchangeRateOutboundPort;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.ExchangeRates;
+import java.math.BigDecimal;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Service class that implements the {@link ExchangeRateInboundPort} interface.
+ *
+ * <p>The rates of a table are checked against the rules of {@link ExchangeRates} before it is handed, with the rate
+ * of the Euro added, to the {@link ExchangeRateOutboundPort}, which assigns its version.</p>
+ *
+ * @see ExchangeRateInboundPort
+ * @see ExchangeRateOutboundPort
+ */
+@Component
+@RequiredArgsConstructor
+public class ExchangeRateService implements ExchangeRateInboundPort {
+
+  private final ExchangeRateOutboundPort exchangeRateOutboundPort;
+
+  /**
+   * Publishes a new exchange rate table.
+   *
+   * @param rates   the rate of each currency, as the amount of the currency worth one Euro
+   * @param replace whether the currencies missing from {@code rates} stop being served, instead of keeping
+   *                their previous rates
+   * @return the {@link ExchangeRatesDto} representing the published table
+   * @throws IllegalArgumentException if a rate is not positive or the rate of the Euro is not one
+   */
+  @Override
+  public ExchangeRatesDto publishRates(Map<Currency, BigDecimal> rates, boolean replace) {
+    var checked = new ExchangeRates(0, rates);
+    return toDto(exchangeRateOutboundPort.publish(checked.rates(), replace));
+  }
+
+  /**
+   * Retrieves the exchange rate table prices are currently converted with.
+   *
+   * @return the {@link ExchangeRatesDto} of the current table, with version 0 and only the Euro if no
+   *         table has been published
+   */
+  @Override
+  public ExchangeRatesDto getCurrentRates() {
+    return toDto(exchangeRateOutboundPort.findCurrent());
+  }
+
+  private static ExchangeRatesDto toDto(ExchangeRates rates) {
+    return new ExchangeRatesDto(rates.version(), rates.rates());
+  }
+}
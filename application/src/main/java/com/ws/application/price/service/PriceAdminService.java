@@ -0,0 +1,86 @@
+package com.ws.application.price.service;
+
+import com.ws.application.price.mapper.PriceDtoMapper;
+import com.ws.application.price.model.PriceCommand;
+import com.ws.application.price.model.PriceDto;
+import com.ws.application.price.model.PriceIngestionReport;
+import com.ws.application.price.port.in.PriceAdminInboundPort;
+import com.ws.application.price.port.out.PriceAdminOutboundPort;
+import com.ws.application.price.port.out.PriceIngestionOutboundPort;
+import com.ws.domain.price.exception.NotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Service class that implements the {@link PriceAdminInboundPort} interface,
+ * providing the logic to create, replace, delete and bulk load price lists.
+ *
+ * <p>The validity window of a price list is checked before it is handed to the
+ * {@link PriceAdminOutboundPort}. A {@link NotFoundException} is thrown when the brand
+ * of a price list, the price list to delete, or the file to load, does not exist. Bulk loads are
+ * handed to the {@link PriceIngestionOutboundPort}.</p>
+ *
+ * @see PriceAdminInboundPort
+ * @see PriceAdminOutboundPort
+ * @see PriceIngestionOutboundPort
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceAdminService implements PriceAdminInboundPort {
+
+  private static final String MSG_BRAND_NOTFOUND_ERROR = "No brand available.";
+  private static final String MSG_PRICE_NOTFOUND_ERROR = "No price list available.";
+  private static final String MSG_FILE_NOTFOUND_ERROR = "No price file available.";
+  private final PriceAdminOutboundPort priceAdminOutboundPort;
+  private final PriceIngestionOutboundPort priceIngestionOutboundPort;
+  private final PriceDtoMapper mapper;
+
+  /**
+   * Creates the price list or replaces it if it already exists.
+   *
+   * @param command the values of the price list
+   * @return the {@link PriceDto} representing the stored price list
+   * @throws IllegalArgumentException if the price list ends before it starts
+   * @throws NotFoundException        if the brand does not exist
+   */
+  @Override
+  public PriceDto upsertPrice(PriceCommand command) {
+    if (command.endDate().isBefore(command.startDate())) {
+      throw new IllegalArgumentException("endDate must not be before startDate");
+    }
+    return priceAdminOutboundPort.savePrice(command)
+        .map(mapper::toDto)
+        .orElseThrow(() -> new NotFoundException(MSG_BRAND_NOTFOUND_ERROR));
+  }
+
+  /**
+   * Deletes a price list.
+   *
+   * @param priceList the identifier of the price list
+   * @throws NotFoundException if the price list does not exist
+   */
+  @Override
+  public void deletePrice(Integer priceList) {
+    if (!priceAdminOutboundPort.deletePrice(priceList)) {
+      throw new NotFoundException(MSG_PRICE_NOTFOUND_ERROR);
+    }
+  }
+
+  /**
+   * Loads every price list of a CSV or NDJSON file.
+   *
+   * @param file    the file to load
+   * @param replace whether the prices of the brands present in the file that are missing from it are deleted
+   * @return the {@link PriceIngestionReport} of the load
+   * @throws NotFoundException if the file does not exist
+   */
+  @Override
+  public PriceIngestionReport ingestPrices(Path file, boolean replace) {
+    if (!Files.isRegularFile(file)) {
+      throw new NotFoundException(MSG_FILE_NOTFOUND_ERROR);
+    }
+    return priceIngestionOutboundPort.ingest(file, replace);
+  }
+}
@@ -0,0 +1,54 @@
+package com.ws.application.price.service;
+
+import com.ws.application.price.mapper.PriceDtoMapper;
+import com.ws.application.price.model.PriceCatalogDto;
+import com.ws.application.price.port.in.PriceCatalogInboundPort;
+import com.ws.application.price.port.out.PriceCatalogOutboundPort;
+import com.ws.application.price.port.out.PriceConversionOutboundPort;
+import com.ws.domain.price.model.Currency;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Service class that implements the {@link PriceCatalogInboundPort} interface.
+ *
+ * <p>The prices of the catalog are read from the {@link PriceCatalogOutboundPort} when the returned
+ * {@link PriceCatalogDto} is read, and mapped one by one with the {@link PriceDtoMapper}. When a currency is
+ * asked for, it is checked right away and each price is converted by the
+ * {@link PriceConversionOutboundPort}.</p>
+ *
+ * @see PriceCatalogInboundPort
+ * @see PriceCatalogOutboundPort
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceCatalogService implements PriceCatalogInboundPort {
+
+  private static final String MSG_CURRENCY_ERROR = "No exchange rate available for ";
+  private final PriceCatalogOutboundPort priceCatalogOutboundPort;
+  private final PriceConversionOutboundPort priceConversion;
+  private final PriceDtoMapper mapper;
+
+  /**
+   * Retrieves the catalog of a brand at the application date.
+   *
+   * @param brandId         the identifier of the brand
+   * @param applicationDate the date on which the prices are applied
+   * @param afterProductId  the identifier after which products are read, or {@code null} to read them all
+   * @param currency        the currency of the prices, or {@code null} for the currency they are stored in
+   * @return the {@link PriceCatalogDto} of the brand
+   * @throws IllegalArgumentException if there is no exchange rate for {@code currency}
+   */
+  @Override
+  public PriceCatalogDto getCatalog(Integer brandId, LocalDateTime applicationDate, Integer afterProductId,
+                                    Currency currency) {
+    if (currency != null && !priceConversion.supports(currency)) {
+      throw new IllegalArgumentException(MSG_CURRENCY_ERROR + currency + ".");
+    }
+    return new PriceCatalogDto(brandId, applicationDate, afterProductId, action ->
+        priceCatalogOutboundPort.forEachPreferredPrice(brandId, applicationDate, afterProductId,
+            price -> action.accept(mapper.toDto(
+                currency == null ? price : priceConversion.convert(price, currency)))));
+  }
+}
@@ -1,11 +1,21 @@
 package com.ws.application.price.service;
 
 import com.ws.application.price.mapper.PriceDtoMapper;
+import com.ws.application.price.model.PriceBatchItemDto;
 import com.ws.application.price.model.PriceDto;
+import com.ws.application.price.model.PriceQuery;
+import com.ws.application.price.model.PriceSegmentDto;
 import com.ws.application.price.port.in.PriceInboundPort;
+import com.ws.application.price.port.out.PriceConversionOutboundPort;
+import com.ws.application.price.port.out.PriceKeyFilterOutboundPort;
 import com.ws.application.price.port.out.PriceOutboundPort;
 import com.ws.domain.price.exception.NotFoundException;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.Price;
+import com.ws.domain.price.model.PriceSegment;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -21,8 +31,16 @@ import org.springframework.stereotype.Component;
  * <p>If no price is found for the given parameters, a {@link NotFoundException}
  * is thrown to indicate that no price data is available.</p>
  *
+ * <p>Lookups are first checked against the {@link PriceKeyFilterOutboundPort}, so those for a product
+ * and brand that have no price at all are answered without calling the {@link PriceOutboundPort}.</p>
+ *
+ * <p>A price asked for in another currency than the one it is stored in is converted by the
+ * {@link PriceConversionOutboundPort} before it is mapped.</p>
+ *
  * @see PriceInboundPort
  * @see PriceOutboundPort
+ * @see PriceKeyFilterOutboundPort
+ * @see PriceConversionOutboundPort
  * @see PriceDtoMapper
  */
 
@@ -33,6 +51,8 @@ public class PriceService implements PriceInboundPort {
 
   private static final String MSG_NOTFOUND_ERROR = "No price available.";
   private final PriceOutboundPort priceOutboundPort;
+  private final PriceKeyFilterOutboundPort priceKeyFilter;
+  private final PriceConversionOutboundPort priceConversion;
   private final PriceDtoMapper mapper;
 
   /**
@@ -42,14 +62,82 @@ public class PriceService implements PriceInboundPort {
    * @param applicationDate the date on which the price is being applied
    * @param productId       the identifier of the product
    * @param brandId         the identifier of the brand
+   * @param currency        the currency of the returned price, or {@code null} for the currency it is stored in
    * @return the corresponding {@link PriceDto} if a price is found
-   * @throws NotFoundException if no price is found for the given parameters
+   * @throws NotFoundException        if no price is found for the given parameters
+   * @throws IllegalArgumentException if the price cannot be converted into {@code currency}
    */
   @Override
   public PriceDto getPreferredPrice(LocalDateTime applicationDate, Integer productId,
-                                    Integer brandId) {
+                                    Integer brandId, Currency currency) {
+    if (!priceKeyFilter.mightContain(productId, brandId)) {
+      throw new NotFoundException(MSG_NOTFOUND_ERROR);
+    }
     return priceOutboundPort.getPreferredPrice(applicationDate, productId, brandId)
-        .map(mapper::toDto)
+        .map(price -> mapper.toDto(convert(price, currency)))
+        .orElseThrow(() -> new NotFoundException(MSG_NOTFOUND_ERROR));
+  }
+
+  /**
+   * Retrieves the preferred price for the specified product and brand at the given application date,
+   * together with the interval during which it keeps winning.
+   *
+   * @param applicationDate the date on which the price is being applied
+   * @param productId       the identifier of the product
+   * @param brandId         the identifier of the brand
+   * @param currency        the currency of the returned price, or {@code null} for the currency it is stored in
+   * @return the corresponding {@link PriceSegmentDto} if a price is found
+   * @throws NotFoundException        if no price is found for the given parameters
+   * @throws IllegalArgumentException if the price cannot be converted into {@code currency}
+   */
+  @Override
+  public PriceSegmentDto getPreferredSegment(LocalDateTime applicationDate, Integer productId,
+                                             Integer brandId, Currency currency) {
+    if (!priceKeyFilter.mightContain(productId, brandId)) {
+      throw new NotFoundException(MSG_NOTFOUND_ERROR);
+    }
+    return priceOutboundPort.getPreferredSegment(applicationDate, productId, brandId)
+        .map(segment -> mapper.toSegmentDto(convert(segment, currency)))
         .orElseThrow(() -> new NotFoundException(MSG_NOTFOUND_ERROR));
   }
+
+  /**
+   * Retrieves the preferred price of several products in a single call to the outbound port.
+   *
+   * <p>Only the queries that pass the {@link PriceKeyFilterOutboundPort} are sent to the outbound port,
+   * which is not called at all when none of them does.</p>
+   *
+   * @param queries the product, brand, application date and currency of each price to retrieve
+   * @return one {@link PriceBatchItemDto} per query, with a {@code null} price for misses
+   * @throws IllegalArgumentException if a price cannot be converted into the currency of its query
+   */
+  @Override
+  public List<PriceBatchItemDto> getPreferredPrices(List<PriceQuery> queries) {
+    var items = new ArrayList<PriceBatchItemDto>(queries.size());
+    var candidates = new ArrayList<Integer>();
+    for (PriceQuery query : queries) {
+      if (priceKeyFilter.mightContain(query.productId(), query.brandId())) {
+        candidates.add(items.size());
+      }
+      items.add(new PriceBatchItemDto(query, null));
+    }
+    if (!candidates.isEmpty()) {
+      var prices = priceOutboundPort.getPreferredPrices(candidates.stream().map(queries::get).toList());
+      for (int i = 0; i < candidates.size(); i++) {
+        var query = queries.get(candidates.get(i));
+        items.set(candidates.get(i), new PriceBatchItemDto(query,
+            prices.get(i).map(price -> mapper.toDto(convert(price, query.currency()))).orElse(null)));
+      }
+    }
+    return items;
+  }
+
+  private Price convert(Price price, Currency currency) {
+    return currency == null ? price : priceConversion.convert(price, currency);
+  }
+
+  private PriceSegment convert(PriceSegment segment, Currency currency) {
+    var price = convert(segment.price(), currency);
+    return price == segment.price() ? segment : new PriceSegment(segment.from(), segment.to(), price);
+  }
 }
@@ -0,0 +1,73 @@
+package com.ws.application.price.service;
+
+import com.ws.application.price.mapper.PriceDtoMapper;
+import com.ws.application.price.model.PriceTimelineDto;
+import com.ws.application.price.port.in.PriceTimelineInboundPort;
+import com.ws.application.price.port.out.PriceConversionOutboundPort;
+import com.ws.application.price.port.out.PriceKeyFilterOutboundPort;
+import com.ws.application.price.port.out.PriceTimelineOutboundPort;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.PriceSegment;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Service class that implements the {@link PriceTimelineInboundPort} interface.
+ *
+ * <p>The segments of the timeline are read from the {@link PriceTimelineOutboundPort} when the returned
+ * {@link PriceTimelineDto} is read, and mapped one by one with the {@link PriceDtoMapper}. A product and
+ * brand rejected by the {@link PriceKeyFilterOutboundPort} gets a timeline without any segment, without
+ * calling the outbound port. When a currency is asked for, it is checked right away and the price of each
+ * segment is converted by the {@link PriceConversionOutboundPort}.</p>
+ *
+ * @see PriceTimelineInboundPort
+ * @see PriceTimelineOutboundPort
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceTimelineService implements PriceTimelineInboundPort {
+
+  private static final String MSG_INTERVAL_ERROR = "The start of the interval must be before its end.";
+  private static final String MSG_CURRENCY_ERROR = "No exchange rate available for ";
+  private final PriceTimelineOutboundPort priceTimelineOutboundPort;
+  private final PriceKeyFilterOutboundPort priceKeyFilter;
+  private final PriceConversionOutboundPort priceConversion;
+  private final PriceDtoMapper mapper;
+
+  /**
+   * Retrieves the price timeline of a product and brand over the {@code [from, to)} interval.
+   *
+   * @param productId the identifier of the product
+   * @param brandId   the identifier of the brand
+   * @param from      the start (inclusive) of the interval
+   * @param to        the end (exclusive) of the interval
+   * @param currency  the currency of the prices of the segments, or {@code null} for the currency they are
+   *                  stored in
+   * @return the {@link PriceTimelineDto} of the interval
+   * @throws IllegalArgumentException if {@code from} is not before {@code to}, or if there is no exchange
+   *                                  rate for {@code currency}
+   */
+  @Override
+  public PriceTimelineDto getTimeline(Integer productId, Integer brandId, LocalDateTime from,
+                                      LocalDateTime to, Currency currency) {
+    if (!from.isBefore(to)) {
+      throw new IllegalArgumentException(MSG_INTERVAL_ERROR);
+    }
+    if (currency != null && !priceConversion.supports(currency)) {
+      throw new IllegalArgumentException(MSG_CURRENCY_ERROR + currency + ".");
+    }
+    if (!priceKeyFilter.mightContain(productId, brandId)) {
+      return new PriceTimelineDto(productId, brandId, from, to, action -> { });
+    }
+    return new PriceTimelineDto(productId, brandId, from, to, action ->
+        priceTimelineOutboundPort.forEachSegment(productId, brandId, from, to,
+            segment -> action.accept(mapper.toSegmentDto(convert(segment, currency)))));
+  }
+
+  private PriceSegment convert(PriceSegment segment, Currency currency) {
+    return currency == null
+        ? segment
+        : new PriceSegment(segment.from(), segment.to(), priceConversion.convert(segment.price(), currency));
+  }
+}
@@ -0,0 +1,80 @@
+package com.ws.application.price.service;
+
+import com.ws.application.price.mapper.PriceDtoMapper;
+import com.ws.application.price.model.PriceBatchItemDto;
+import com.ws.application.price.model.PriceDto;
+import com.ws.application.price.model.PriceQuery;
+import com.ws.application.price.port.in.ReactivePriceInboundPort;
+import com.ws.application.price.port.out.PriceConversionOutboundPort;
+import com.ws.application.price.port.out.ReactivePriceOutboundPort;
+import com.ws.domain.price.exception.NotFoundException;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.Price;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service class that implements the {@link ReactivePriceInboundPort} interface on top of a
+ * {@link ReactivePriceOutboundPort}.
+ *
+ * <p>It applies the same rules as {@link PriceService}: a lookup without any price fails with a
+ * {@link NotFoundException}, while a batch reports its misses per item. Prices asked for in another
+ * currency are converted by the {@link PriceConversionOutboundPort}, which answers from memory and can
+ * therefore be called on the event loop.</p>
+ *
+ * <p>It is not a component, so the servlet deployment, which has no reactive outbound adapter, does not
+ * pick it up. The reactive deployment declares it as a bean.</p>
+ *
+ * @see ReactivePriceInboundPort
+ * @see ReactivePriceOutboundPort
+ * @see PriceDtoMapper
+ */
+@RequiredArgsConstructor
+public class ReactivePriceService implements ReactivePriceInboundPort {
+
+  private static final String MSG_NOTFOUND_ERROR = "No price available.";
+  private final ReactivePriceOutboundPort priceOutboundPort;
+  private final PriceConversionOutboundPort priceConversion;
+  private final PriceDtoMapper mapper;
+
+  /**
+   * Retrieves the preferred price for the specified product and brand at the given application date.
+   *
+   * @param applicationDate the date on which the price is being applied
+   * @param productId       the identifier of the product
+   * @param brandId         the identifier of the brand
+   * @param currency        the currency of the returned price, or {@code null} for the currency it is stored in
+   * @return a {@link Mono} emitting the corresponding {@link PriceDto}, or failing with a
+   *         {@link NotFoundException} if no price is found
+   */
+  @Override
+  public Mono<PriceDto> getPreferredPrice(LocalDateTime applicationDate, Integer productId,
+                                          Integer brandId, Currency currency) {
+    return priceOutboundPort.getPreferredPrice(applicationDate, productId, brandId)
+        .map(price -> mapper.toDto(convert(price, currency)))
+        .switchIfEmpty(Mono.error(() -> new NotFoundException(MSG_NOTFOUND_ERROR)));
+  }
+
+  /**
+   * Retrieves the preferred price of several products, resolving the queries concurrently.
+   *
+   * @param queries the product, brand, application date and currency of each price to retrieve
+   * @return a {@link Flux} emitting one {@link PriceBatchItemDto} per query, in the same order as
+   *         {@code queries}, with a {@code null} price for misses
+   */
+  @Override
+  public Flux<PriceBatchItemDto> getPreferredPrices(List<PriceQuery> queries) {
+    return Flux.fromIterable(queries)
+        .flatMapSequential(query -> priceOutboundPort
+            .getPreferredPrice(query.applicationDate(), query.productId(), query.brandId())
+            .map(price -> new PriceBatchItemDto(query, mapper.toDto(convert(price, query.currency()))))
+            .defaultIfEmpty(new PriceBatchItemDto(query, null)));
+  }
+
+  private Price convert(Price price, Currency currency) {
+    return currency == null ? price : priceConversion.convert(price, currency);
+  }
+}
@@ -0,0 +1,90 @@
+package com.ws.application.price.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ws.application.price.mapper.PriceDtoMapper;
+import com.ws.application.price.model.PriceCommand;
+import com.ws.application.price.model.PriceDto;
+import com.ws.application.price.port.out.PriceAdminOutboundPort;
+import com.ws.application.price.port.out.PriceIngestionOutboundPort;
+import com.ws.domain.price.exception.NotFoundException;
+import com.ws.domain.price.model.Brand;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.Price;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PriceAdminServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.parse("2025-06-14T00:00:00");
+
+    @Mock
+    private PriceAdminOutboundPort priceAdminOutboundPort;
+
+    @Mock
+    private PriceIngestionOutboundPort priceIngestionOutboundPort;
+
+    @Mock
+    private PriceDtoMapper mapper;
+
+    @InjectMocks
+    private PriceAdminService priceAdminService;
+
+    private static PriceCommand command(LocalDateTime endDate) {
+        return new PriceCommand(5, 35455, 1, 2, Currency.EUR, BigDecimal.TEN, START, endDate);
+    }
+
+    @Test
+    void upsertPrice_ShouldReturnStoredPrice_WhenBrandExists() {
+        var command = command(START.plusDays(1));
+        var stored = new Price(5, 35455, 2, Currency.EUR, BigDecimal.TEN, START, START.plusDays(1),
+                new Brand(1, "ZARA"));
+        var dto = mock(PriceDto.class);
+        when(priceAdminOutboundPort.savePrice(command)).thenReturn(Optional.of(stored));
+        when(mapper.toDto(stored)).thenReturn(dto);
+
+        assertEquals(dto, priceAdminService.upsertPrice(command));
+    }
+
+    @Test
+    void upsertPrice_ShouldThrowNotFoundException_WhenBrandDoesNotExist() {
+        when(priceAdminOutboundPort.savePrice(any())).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> priceAdminService.upsertPrice(command(START.plusDays(1))));
+    }
+
+    @Test
+    void upsertPrice_ShouldThrowIllegalArgumentException_WhenEndDateIsBeforeStartDate() {
+        assertThrows(IllegalArgumentException.class, () -> priceAdminService.upsertPrice(command(START.minusDays(1))));
+        verifyNoInteractions(priceAdminOutboundPort);
+    }
+
+    @Test
+    void deletePrice_ShouldThrowNotFoundException_WhenPriceListDoesNotExist() {
+        when(priceAdminOutboundPort.deletePrice(5)).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> priceAdminService.deletePrice(5));
+        verify(priceAdminOutboundPort).deletePrice(5);
+    }
+
+    @Test
+    void ingestPrices_ShouldThrowNotFoundException_WhenFileDoesNotExist() {
+        assertThrows(NotFoundException.class,
+                () -> priceAdminService.ingestPrices(Path.of("missing-prices.csv"), false));
+        verifyNoInteractions(priceIngestionOutboundPort);
+    }
+}
@@ -0,0 +1,73 @@
+package com.ws.application.price.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ws.application.price.mapper.PriceDtoMapper;
+import com.ws.application.price.model.PriceDto;
+import com.ws.application.price.port.out.PriceCatalogOutboundPort;
+import com.ws.domain.price.model.Brand;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.Price;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PriceCatalogServiceTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.parse("2025-06-14T16:00:00");
+    private static final LocalDateTime END = LocalDateTime.parse("2025-12-31T23:59:59");
+
+    @Mock
+    private PriceCatalogOutboundPort priceCatalogOutboundPort;
+
+    @Mock
+    private PriceDtoMapper mapper;
+
+    @InjectMocks
+    private PriceCatalogService priceCatalogService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getCatalog_ShouldMapEachPriceInOrder_WhenTheCatalogIsRead() {
+        var first = new Price(1, 10, 0, Currency.EUR, BigDecimal.ONE, DATE, END, new Brand(1, "ZARA"));
+        var second = new Price(2, 35455, 0, Currency.EUR, BigDecimal.TEN, DATE, END, new Brand(1, "ZARA"));
+        var firstDto = new PriceDto(1, 10, BigDecimal.ONE, Currency.EUR, DATE, END, 1);
+        var secondDto = new PriceDto(2, 35455, BigDecimal.TEN, Currency.EUR, DATE, END, 1);
+        when(mapper.toDto(first)).thenReturn(firstDto);
+        when(mapper.toDto(second)).thenReturn(secondDto);
+        doAnswer(invocation -> {
+            Consumer<Price> action = invocation.getArgument(3, Consumer.class);
+            action.accept(first);
+            action.accept(second);
+            return null;
+        }).when(priceCatalogOutboundPort).forEachPreferredPrice(eq(1), eq(DATE), eq(5), any());
+
+        var catalog = priceCatalogService.getCatalog(1, DATE, 5, null);
+        var prices = new ArrayList<PriceDto>();
+        catalog.forEachPrice(prices::add);
+
+        assertEquals(1, catalog.brandId());
+        assertEquals(5, catalog.afterProductId());
+        assertEquals(List.of(firstDto, secondDto), prices);
+    }
+
+    @Test
+    void getCatalog_ShouldNotReadPrices_WhenTheCatalogIsNotRead() {
+        priceCatalogService.getCatalog(1, DATE, null, null);
+
+        verifyNoInteractions(priceCatalogOutboundPort, mapper);
+    }
+}
@@ -2,21 +2,33 @@ package com.ws.application.price.service;
 
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.ws.application.price.mapper.PriceDtoMapper;
 import com.ws.application.price.model.PriceDto;
+import com.ws.application.price.model.PriceQuery;
+import com.ws.application.price.model.PriceSegmentDto;
+import com.ws.application.price.port.out.PriceConversionOutboundPort;
+import com.ws.application.price.port.out.PriceKeyFilterOutboundPort;
 import com.ws.application.price.port.out.PriceOutboundPort;
 import com.ws.domain.price.exception.NotFoundException;
 import com.ws.domain.price.model.Brand;
 import com.ws.domain.price.model.Currency;
 import com.ws.domain.price.model.Price;
+import com.ws.domain.price.model.PriceSegment;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,6 +42,12 @@ class PriceServiceTest {
     @Mock
     private PriceOutboundPort priceOutboundPort;
 
+    @Mock
+    private PriceKeyFilterOutboundPort priceKeyFilter;
+
+    @Mock
+    private PriceConversionOutboundPort priceConversion;
+
     @InjectMocks
     private PriceService priceService;
 
@@ -46,8 +64,9 @@ class PriceServiceTest {
                 new Brand(1, "Zara"));
         var mockDto = mock(PriceDto.class);
         when(mapper.toDto(any())).thenReturn(mockDto);
+        when(priceKeyFilter.mightContain(productId, brandId)).thenReturn(true);
         when(priceOutboundPort.getPreferredPrice(applicationDate, productId, brandId)).thenReturn(Optional.of(mockDomain));
-        PriceDto result = priceService.getPreferredPrice(applicationDate, productId, brandId);
+        PriceDto result = priceService.getPreferredPrice(applicationDate, productId, brandId, null);
 
         assertNotNull(result);
         assertEquals(mockDto, result);
@@ -58,10 +77,141 @@ class PriceServiceTest {
         LocalDateTime applicationDate = LocalDateTime.now();
         Integer productId = 1;
         Integer brandId = 1;
+        when(priceKeyFilter.mightContain(productId, brandId)).thenReturn(true);
         when(priceOutboundPort.getPreferredPrice(applicationDate, productId, brandId)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () ->
-                priceService.getPreferredPrice(applicationDate, productId, brandId)
+                priceService.getPreferredPrice(applicationDate, productId, brandId, null)
         );
     }
+
+    @Test
+    void getPreferredPrices_ShouldReportMissesPerItem() {
+        LocalDateTime applicationDate = LocalDateTime.now();
+        var hit = new PriceQuery(applicationDate, 1, 1, null);
+        var miss = new PriceQuery(applicationDate, 1, 2, null);
+        var mockDomain = new Price(0, 1, 0, Currency.EUR,
+                BigDecimal.ZERO, LocalDateTime.now(), LocalDateTime.now(),
+                new Brand(1, "Zara"));
+        var mockDto = mock(PriceDto.class);
+        when(mapper.toDto(mockDomain)).thenReturn(mockDto);
+        when(priceKeyFilter.mightContain(any(), any())).thenReturn(true);
+        when(priceOutboundPort.getPreferredPrices(List.of(hit, miss)))
+                .thenReturn(List.of(Optional.of(mockDomain), Optional.empty()));
+
+        var result = priceService.getPreferredPrices(List.of(hit, miss));
+
+        assertEquals(2, result.size());
+        assertTrue(result.get(0).found());
+        assertEquals(mockDto, result.get(0).price());
+        assertFalse(result.get(1).found());
+        assertNull(result.get(1).price());
+        assertEquals(miss, result.get(1).query());
+    }
+
+    @Test
+    void getPreferredSegment_ShouldReturnSegment_WhenPriceExists() {
+        LocalDateTime applicationDate = LocalDateTime.now();
+        var mockDomain = new Price(0, 1, 0, Currency.EUR,
+                BigDecimal.ZERO, applicationDate, applicationDate.plusDays(1),
+                new Brand(1, "Zara"));
+        var segment = new PriceSegment(applicationDate, applicationDate.plusHours(1), mockDomain);
+        var mockDto = mock(PriceSegmentDto.class);
+        when(priceKeyFilter.mightContain(1, 1)).thenReturn(true);
+        when(priceOutboundPort.getPreferredSegment(applicationDate, 1, 1)).thenReturn(Optional.of(segment));
+        when(mapper.toSegmentDto(segment)).thenReturn(mockDto);
+
+        assertEquals(mockDto, priceService.getPreferredSegment(applicationDate, 1, 1, null));
+    }
+
+    @Test
+    void getPreferredSegment_ShouldThrowException_WhenPriceDoesNotExist() {
+        LocalDateTime applicationDate = LocalDateTime.now();
+        when(priceKeyFilter.mightContain(1, 1)).thenReturn(true);
+        when(priceOutboundPort.getPreferredSegment(applicationDate, 1, 1)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> priceService.getPreferredSegment(applicationDate, 1, 1, null));
+    }
+
+    @Test
+    void getPreferredPrice_ShouldNotCallOutboundPort_WhenKeyIsFilteredOut() {
+        LocalDateTime applicationDate = LocalDateTime.now();
+        when(priceKeyFilter.mightContain(1, 2)).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> priceService.getPreferredPrice(applicationDate, 1, 2, null));
+        verifyNoInteractions(priceOutboundPort, mapper);
+    }
+
+    @Test
+    void getPreferredPrices_ShouldOnlyQueryKeysThatPassTheFilter() {
+        LocalDateTime applicationDate = LocalDateTime.now();
+        var hit = new PriceQuery(applicationDate, 1, 1, null);
+        var filtered = new PriceQuery(applicationDate, 1, 2, null);
+        var mockDomain = new Price(0, 1, 0, Currency.EUR,
+                BigDecimal.ZERO, LocalDateTime.now(), LocalDateTime.now(),
+                new Brand(1, "Zara"));
+        var mockDto = mock(PriceDto.class);
+        when(mapper.toDto(mockDomain)).thenReturn(mockDto);
+        when(priceKeyFilter.mightContain(1, 1)).thenReturn(true);
+        when(priceKeyFilter.mightContain(1, 2)).thenReturn(false);
+        when(priceOutboundPort.getPreferredPrices(List.of(hit))).thenReturn(List.of(Optional.of(mockDomain)));
+
+        var result = priceService.getPreferredPrices(List.of(filtered, hit));
+
+        assertFalse(result.get(0).found());
+        assertEquals(filtered, result.get(0).query());
+        assertEquals(mockDto, result.get(1).price());
+    }
+
+    @Test
+    void getPreferredPrices_ShouldNotCallOutboundPort_WhenEveryKeyIsFilteredOut() {
+        var query = new PriceQuery(LocalDateTime.now(), 1, 2, null);
+        when(priceKeyFilter.mightContain(1, 2)).thenReturn(false);
+
+        var result = priceService.getPreferredPrices(List.of(query));
+
+        assertFalse(result.get(0).found());
+        verify(priceOutboundPort, never()).getPreferredPrices(any());
+    }
+
+    @Test
+    void getPreferredSegment_ShouldConvertThePrice_WhenACurrencyIsAskedFor() {
+        LocalDateTime applicationDate = LocalDateTime.now();
+        var stored = new Price(0, 1, 0, Currency.EUR,
+                BigDecimal.TEN, applicationDate, applicationDate.plusDays(1),
+                new Brand(1, "Zara"));
+        var converted = stored.withPrice(Currency.USD, new BigDecimal("10.84"));
+        var segment = new PriceSegment(applicationDate, applicationDate.plusHours(1), stored);
+        var mockDto = mock(PriceSegmentDto.class);
+        when(priceKeyFilter.mightContain(1, 1)).thenReturn(true);
+        when(priceOutboundPort.getPreferredSegment(applicationDate, 1, 1)).thenReturn(Optional.of(segment));
+        when(priceConversion.convert(stored, Currency.USD)).thenReturn(converted);
+        when(mapper.toSegmentDto(new PriceSegment(segment.from(), segment.to(), converted))).thenReturn(mockDto);
+
+        assertEquals(mockDto, priceService.getPreferredSegment(applicationDate, 1, 1, Currency.USD));
+    }
+
+    @Test
+    void getPreferredPrices_ShouldConvertEachPriceIntoTheCurrencyOfItsQuery() {
+        LocalDateTime applicationDate = LocalDateTime.now();
+        var stored = new PriceQuery(applicationDate, 1, 1, null);
+        var converted = new PriceQuery(applicationDate, 1, 1, Currency.GBP);
+        var mockDomain = new Price(0, 1, 0, Currency.EUR,
+                BigDecimal.TEN, LocalDateTime.now(), LocalDateTime.now(),
+                new Brand(1, "Zara"));
+        var inGbp = mockDomain.withPrice(Currency.GBP, new BigDecimal("8.57"));
+        var eurDto = mock(PriceDto.class);
+        var gbpDto = mock(PriceDto.class);
+        when(priceKeyFilter.mightContain(1, 1)).thenReturn(true);
+        when(priceOutboundPort.getPreferredPrices(List.of(stored, converted)))
+                .thenReturn(List.of(Optional.of(mockDomain), Optional.of(mockDomain)));
+        when(priceConversion.convert(mockDomain, Currency.GBP)).thenReturn(inGbp);
+        when(mapper.toDto(mockDomain)).thenReturn(eurDto);
+        when(mapper.toDto(inGbp)).thenReturn(gbpDto);
+
+        var result = priceService.getPreferredPrices(List.of(stored, converted));
+
+        assertEquals(eurDto, result.get(0).price());
+        assertEquals(gbpDto, result.get(1).price());
+    }
 }
@@ -0,0 +1,101 @@
+package com.ws.application.price.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ws.application.price.mapper.PriceDtoMapper;
+import com.ws.application.price.model.PriceDto;
+import com.ws.application.price.model.PriceSegmentDto;
+import com.ws.application.price.port.out.PriceConversionOutboundPort;
+import com.ws.application.price.port.out.PriceKeyFilterOutboundPort;
+import com.ws.application.price.port.out.PriceTimelineOutboundPort;
+import com.ws.domain.price.model.Brand;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.Price;
+import com.ws.domain.price.model.PriceSegment;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PriceTimelineServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.parse("2025-06-14T00:00:00");
+    private static final LocalDateTime TO = LocalDateTime.parse("2025-06-15T00:00:00");
+
+    @Mock
+    private PriceTimelineOutboundPort priceTimelineOutboundPort;
+
+    @Mock
+    private PriceKeyFilterOutboundPort priceKeyFilter;
+
+    @Mock
+    private PriceConversionOutboundPort priceConversion;
+
+    @Mock
+    private PriceDtoMapper mapper;
+
+    @InjectMocks
+    private PriceTimelineService priceTimelineService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getTimeline_ShouldMapEachSegment_WhenTheTimelineIsRead() {
+        var price = new Price(1, 35455, 0, Currency.EUR, BigDecimal.TEN, FROM, TO, new Brand(1, "ZARA"));
+        var segment = new PriceSegment(FROM, TO, price);
+        var dto = new PriceSegmentDto(FROM, TO, new PriceDto(1, 35455, BigDecimal.TEN, Currency.EUR, FROM, TO, 1));
+        when(priceKeyFilter.mightContain(35455, 1)).thenReturn(true);
+        when(mapper.toSegmentDto(segment)).thenReturn(dto);
+        doAnswer(invocation -> {
+            invocation.getArgument(4, Consumer.class).accept(segment);
+            return null;
+        }).when(priceTimelineOutboundPort).forEachSegment(eq(35455), eq(1), eq(FROM), eq(TO), any());
+
+        var timeline = priceTimelineService.getTimeline(35455, 1, FROM, TO, null);
+        var segments = new ArrayList<PriceSegmentDto>();
+        timeline.forEachSegment(segments::add);
+
+        assertEquals(35455, timeline.productId());
+        assertEquals(1, segments.size());
+        assertEquals(dto, segments.get(0));
+    }
+
+    @Test
+    void getTimeline_ShouldNotReadPrices_WhenTheKeyFilterRejectsTheProduct() {
+        when(priceKeyFilter.mightContain(35455, 2)).thenReturn(false);
+
+        var segments = new ArrayList<PriceSegmentDto>();
+        priceTimelineService.getTimeline(35455, 2, FROM, TO, null).forEachSegment(segments::add);
+
+        assertTrue(segments.isEmpty());
+        verifyNoInteractions(priceTimelineOutboundPort);
+    }
+
+    @Test
+    void getTimeline_ShouldThrowIllegalArgumentException_WhenTheIntervalIsEmpty() {
+        assertThrows(IllegalArgumentException.class, () -> priceTimelineService.getTimeline(35455, 1, TO, FROM, null));
+        assertThrows(IllegalArgumentException.class, () -> priceTimelineService.getTimeline(35455, 1, FROM, FROM, null));
+        verifyNoInteractions(priceKeyFilter, priceTimelineOutboundPort);
+    }
+
+    @Test
+    void getTimeline_ShouldFailRightAway_WhenTheCurrencyHasNoRate() {
+        when(priceConversion.supports(Currency.CHF)).thenReturn(false);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> priceTimelineService.getTimeline(35455, 1, FROM, TO, Currency.CHF));
+        verifyNoInteractions(priceTimelineOutboundPort);
+    }
+}
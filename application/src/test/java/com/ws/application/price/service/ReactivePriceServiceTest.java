@@ -0,0 +1,96 @@
+package com.ws.application.price.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.ws.application.price.mapper.PriceDtoMapper;
+import com.ws.application.price.model.PriceDto;
+import com.ws.application.price.model.PriceQuery;
+import com.ws.application.price.port.out.PriceConversionOutboundPort;
+import com.ws.application.price.port.out.ReactivePriceOutboundPort;
+import com.ws.domain.price.exception.NotFoundException;
+import com.ws.domain.price.model.Brand;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.Price;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ReactivePriceServiceTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.parse("2025-06-14T16:00:00");
+    private static final Price PRICE = new Price(2, 35455, 1, Currency.EUR, new BigDecimal("25.45"),
+            DATE.minusHours(1), DATE.plusHours(2), new Brand(1, "ZARA"));
+    private static final PriceDto DTO = new PriceDto(2, 35455, new BigDecimal("25.45"), Currency.EUR,
+            DATE.minusHours(1), DATE.plusHours(2), 1);
+
+    @Mock
+    private ReactivePriceOutboundPort priceOutboundPort;
+
+    @Mock
+    private PriceConversionOutboundPort priceConversion;
+
+    @Mock
+    private PriceDtoMapper mapper;
+
+    @InjectMocks
+    private ReactivePriceService priceService;
+
+    @Test
+    void getPreferredPrice_ShouldEmitPrice_WhenPriceExists() {
+        when(priceOutboundPort.getPreferredPrice(DATE, 35455, 1)).thenReturn(Mono.just(PRICE));
+        when(mapper.toDto(PRICE)).thenReturn(DTO);
+
+        StepVerifier.create(priceService.getPreferredPrice(DATE, 35455, 1, null))
+                .expectNext(DTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void getPreferredPrice_ShouldEmitConvertedPrice_WhenAnotherCurrencyIsAsked() {
+        var converted = PRICE.withPrice(Currency.USD, new BigDecimal("27.59"));
+        var dto = new PriceDto(2, 35455, new BigDecimal("27.59"), Currency.USD,
+                DATE.minusHours(1), DATE.plusHours(2), 1);
+        when(priceOutboundPort.getPreferredPrice(DATE, 35455, 1)).thenReturn(Mono.just(PRICE));
+        when(priceConversion.convert(PRICE, Currency.USD)).thenReturn(converted);
+        when(mapper.toDto(converted)).thenReturn(dto);
+
+        StepVerifier.create(priceService.getPreferredPrice(DATE, 35455, 1, Currency.USD))
+                .expectNext(dto)
+                .verifyComplete();
+    }
+
+    @Test
+    void getPreferredPrice_ShouldFailWithNotFound_WhenPriceDoesNotExist() {
+        when(priceOutboundPort.getPreferredPrice(DATE, 35455, 2)).thenReturn(Mono.empty());
+
+        StepVerifier.create(priceService.getPreferredPrice(DATE, 35455, 2, null))
+                .verifyError(NotFoundException.class);
+    }
+
+    @Test
+    void getPreferredPrices_ShouldKeepQueryOrder_AndReportMisses() {
+        var hit = new PriceQuery(DATE, 35455, 1, null);
+        var miss = new PriceQuery(DATE, 35455, 2, null);
+        when(priceOutboundPort.getPreferredPrice(DATE, 35455, 1)).thenReturn(Mono.just(PRICE));
+        when(priceOutboundPort.getPreferredPrice(DATE, 35455, 2)).thenReturn(Mono.empty());
+        when(mapper.toDto(any())).thenReturn(DTO);
+
+        var items = priceService.getPreferredPrices(List.of(miss, hit)).collectList().block();
+
+        assertEquals(List.of(miss, hit), items.stream().map(item -> item.query()).toList());
+        assertFalse(items.get(0).found());
+        assertTrue(items.get(1).found());
+    }
+}
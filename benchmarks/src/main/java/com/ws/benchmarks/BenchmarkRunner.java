@@ -0,0 +1,43 @@
+package com.ws.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.openjdk.jmh.Main;
+
+/**
+ * Entry point of the benchmarks, run with {@code mvn -pl benchmarks exec:exec}.
+ *
+ * <p>It delegates to the JMH command line and writes the results as JSON to
+ * {@code target/jmh-result.json} unless {@code -rf} or {@code -rff} are given, so runs on different
+ * commits can be compared. JMH options are passed with {@code -Djmh.args="..."}, for example
+ * {@code -Djmh.args="PriceServiceBenchmark -rff target/before.json"}.</p>
+ */
+public final class BenchmarkRunner {
+
+    private static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs the benchmarks selected by the arguments.
+     *
+     * @param args JMH command-line options, possibly given as a single space-separated argument
+     * @throws Exception if JMH fails
+     */
+    public static void main(String[] args) throws Exception {
+        var options = new ArrayList<String>();
+        Arrays.stream(args)
+                .flatMap(arg -> Arrays.stream(arg.trim().split("\\s+")))
+                .filter(arg -> !arg.isEmpty())
+                .forEach(options::add);
+        if (!options.contains("-rf")) {
+            options.addAll(List.of("-rf", "json"));
+        }
+        if (!options.contains("-rff")) {
+            options.addAll(List.of("-rff", DEFAULT_RESULT_FILE));
+        }
+        Main.main(options.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,93 @@
+package com.ws.benchmarks;
+
+import com.ws.AppRun;
+import com.ws.application.price.model.PriceSegmentDto;
+import com.ws.application.price.port.in.ExchangeRateInboundPort;
+import com.ws.application.price.port.in.PriceInboundPort;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.ExchangeRates;
+import com.ws.infrastructure.price.persistence.event.PricesReloadedEvent;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Compares {@link PriceInboundPort#getPreferredSegment} in the currency the prices are stored in, EUR, with
+ * the same lookup in USD and GBP, on the default {@code timeline} adapter over 100K synthetic rows.
+ *
+ * <p>{@code precomputed} reads the converted amount from the table built when the rates were published, as
+ * every lookup does. {@code computedOnRequest} looks the price up in EUR and converts it with
+ * {@link ExchangeRates#convert}, which is what each lookup would cost without that table. Run it with
+ * {@code -prof gc} to compare the allocations as well.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceCurrencyLookupBenchmark {
+
+    private static final int ROWS = 100_000;
+
+    @Param({"EUR", "USD", "GBP"})
+    private Currency currency;
+
+    private ConfigurableApplicationContext context;
+    private PriceInboundPort priceInboundPort;
+    private ExchangeRates rates;
+    private int products;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(AppRun.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:currency-lookups",
+                        "--spring.sql.init.mode=never",
+                        "--logging.level.root=WARN");
+        SyntheticPrices.populate(context.getBean(JdbcTemplate.class), ROWS);
+        context.publishEvent(new PricesReloadedEvent(ROWS));
+        var published = context.getBean(ExchangeRateInboundPort.class).publishRates(Map.of(
+                Currency.USD, new BigDecimal("1.0842"),
+                Currency.GBP, new BigDecimal("0.8571")), true);
+        rates = new ExchangeRates(published.version(), published.rates());
+        priceInboundPort = context.getBean(PriceInboundPort.class);
+        products = ROWS / SyntheticPrices.PRICES_PER_PRODUCT;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PriceSegmentDto precomputed() {
+        int productId = ThreadLocalRandom.current().nextInt(products) + 1;
+        return priceInboundPort.getPreferredSegment(SyntheticPrices.APPLICATION_DATE, productId, 1, currency);
+    }
+
+    @Benchmark
+    public BigDecimal computedOnRequest() {
+        int productId = ThreadLocalRandom.current().nextInt(products) + 1;
+        var price = priceInboundPort.getPreferredSegment(SyntheticPrices.APPLICATION_DATE, productId, 1, null)
+                .price();
+        return rates.convert(price.price(), price.currency(), currency);
+    }
+}
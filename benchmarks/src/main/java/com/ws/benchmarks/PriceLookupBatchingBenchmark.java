@@ -0,0 +1,85 @@
+package com.ws.benchmarks;
+
+import com.ws.AppRun;
+import com.ws.application.price.model.PriceSegmentDto;
+import com.ws.application.price.port.in.PriceInboundPort;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Measures {@link PriceInboundPort#getPreferredSegment}, the lookup behind {@code GET /prices}, from 32
+ * concurrent threads, with one {@code findTopPrice} and one successor query per lookup against lookups
+ * micro-batched by {@code PriceLookupBatcher}.
+ *
+ * <p>Both the throughput and the sampled latency, with its percentiles, are reported. Every invocation looks up
+ * a random product of 1M synthetic rows, so lookups are never identical and coalescing, disabled here, would
+ * not merge them anyway. The key filter is disabled so that every lookup reaches the database. The
+ * {@code window} parameter is the gathering window of the batcher, and is ignored without batching.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class PriceLookupBatchingBenchmark {
+
+    private static final int ROWS = 1_000_000;
+
+    @Param({"false", "true"})
+    private boolean batching;
+
+    @Param({"500us", "2ms"})
+    private String window;
+
+    private ConfigurableApplicationContext context;
+    private PriceInboundPort priceService;
+    private int products;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(AppRun.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:file:./target/benchmark-h2/prices-" + ROWS,
+                        "--spring.jpa.hibernate.ddl-auto=update",
+                        "--spring.sql.init.mode=never",
+                        "--price.outbound.adapter=jpa",
+                        "--price.coalescing.enabled=false",
+                        "--price.key-filter.enabled=false",
+                        "--price.db.batching.enabled=" + batching,
+                        "--price.db.batching.window=" + window,
+                        "--logging.level.root=WARN");
+        SyntheticPrices.populate(context.getBean(JdbcTemplate.class), ROWS);
+        priceService = context.getBean(PriceInboundPort.class);
+        products = ROWS / SyntheticPrices.PRICES_PER_PRODUCT;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PriceSegmentDto getPreferredSegment() {
+        int productId = ThreadLocalRandom.current().nextInt(products) + 1;
+        return priceService.getPreferredSegment(SyntheticPrices.APPLICATION_DATE, productId, 1, null);
+    }
+}
@@ -0,0 +1,81 @@
+package com.ws.benchmarks;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import com.ws.AppRun;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Measures a whole {@code GET /prices} through the {@code DispatcherServlet} for the three outcomes of the
+ * {@code normal}, {@code notFound} and {@code error} load scenarios: a hit, a brand without prices and a
+ * malformed application date.
+ *
+ * <p>The application runs with its default configuration and {@code data.sql}, and requests go through
+ * {@link MockMvc}, so the numbers include argument binding, the exception handling and the writing of the
+ * body, but not the network. Run it with {@code -prof gc} to compare the allocations as well.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceLookupOutcomeBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(AppRun.class)
+                .run("--server.port=0",
+                        "--logging.level.root=WARN");
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int hit() throws Exception {
+        return lookup("2025-06-14T16:00:00.000", 1);
+    }
+
+    @Benchmark
+    public int notFound() throws Exception {
+        return lookup("2025-06-14T10:00:00.000", 2);
+    }
+
+    @Benchmark
+    public int badRequest() throws Exception {
+        return lookup("2025-00:00:00.000", 1);
+    }
+
+    private int lookup(String applicationDate, int brandId) throws Exception {
+        return mockMvc.perform(get("/prices")
+                        .param("applicationDate", applicationDate)
+                        .param("productId", "35455")
+                        .param("brandId", String.valueOf(brandId)))
+                .andReturn()
+                .getResponse()
+                .getStatus();
+    }
+}
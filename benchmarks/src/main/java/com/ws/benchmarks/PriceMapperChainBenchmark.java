@@ -0,0 +1,71 @@
+package com.ws.benchmarks;
+
+import com.ws.application.price.mapper.PriceDtoMapper;
+import com.ws.application.price.mapper.PriceDtoMapperImpl;
+import com.ws.application.price.model.PriceDto;
+import com.ws.domain.price.model.Price;
+import com.ws.infrastructure.price.persistence.entity.PriceEntity;
+import com.ws.infrastructure.price.persistence.mapper.PriceEntityMapper;
+import com.ws.infrastructure.price.persistence.mapper.PriceEntityMapperImpl;
+import com.ws.infrastructure.price.rest.dto.PriceResponseDTO;
+import com.ws.infrastructure.price.rest.mapper.PriceResponseMapper;
+import com.ws.infrastructure.price.rest.mapper.PriceResponseMapperImpl;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the MapStruct chain of a lookup: {@link PriceEntityMapper}, then {@link PriceDtoMapper},
+ * then {@link PriceResponseMapper}, each step alone and the three together.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceMapperChainBenchmark {
+
+    private final PriceEntityMapper priceEntityMapper = new PriceEntityMapperImpl();
+    private final PriceDtoMapper priceDtoMapper = new PriceDtoMapperImpl();
+    private final PriceResponseMapper priceResponseMapper = new PriceResponseMapperImpl();
+
+    private PriceEntity entity;
+    private Price price;
+    private PriceDto dto;
+
+    @Setup
+    public void setUp() {
+        entity = SyntheticPrices.entity();
+        price = priceEntityMapper.toDomain(entity);
+        dto = priceDtoMapper.toDto(price);
+    }
+
+    @Benchmark
+    public Price entityToDomain() {
+        return priceEntityMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public PriceDto domainToDto() {
+        return priceDtoMapper.toDto(price);
+    }
+
+    @Benchmark
+    public PriceResponseDTO dtoToResponse() {
+        return priceResponseMapper.toResponse(dto);
+    }
+
+    @Benchmark
+    public PriceResponseDTO entityToResponse() {
+        return priceResponseMapper.toResponse(priceDtoMapper.toDto(priceEntityMapper.toDomain(entity)));
+    }
+}
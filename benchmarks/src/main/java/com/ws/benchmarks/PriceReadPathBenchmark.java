@@ -0,0 +1,121 @@
+package com.ws.benchmarks;
+
+import com.ws.AppRun;
+import com.ws.application.price.model.PriceQuery;
+import com.ws.domain.price.model.Price;
+import com.ws.domain.price.model.PriceSegment;
+import com.ws.domain.price.model.PriceTimeline;
+import com.ws.infrastructure.price.persistence.PriceJpaRepository;
+import com.ws.infrastructure.price.persistence.mapper.PriceEntityMapper;
+import com.ws.infrastructure.price.persistence.projection.BrandRegistry;
+import com.ws.infrastructure.price.persistence.projection.PreferredPriceViews;
+import com.ws.infrastructure.price.persistence.projection.PriceView;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Compares the two read paths of a lookup against H2 holding 10K and 1M synthetic rows: the managed
+ * {@code PriceEntity} returned by {@link PriceJpaRepository#findTopPrice}, with its brand, and the
+ * {@code PriceView} projection returned by {@link PriceJpaRepository#findTopPriceView}, with the brand taken
+ * from {@link BrandRegistry}. Both are mapped to the domain {@link Price}.
+ *
+ * <p>Two more cases read the {@link PriceSegment} behind {@code GET /prices}: {@code allViews} reads every
+ * {@code PriceView} of the product and brand with {@link PriceJpaRepository#findPriceViews} and resolves their
+ * {@link PriceTimeline}, and {@code topAndSuccessors} reads the top price with
+ * {@link PriceJpaRepository#findTopPriceView} and bounds its segment with
+ * {@link PriceJpaRepository#findSuccessorPriceViews}, as the {@code jpa} adapter does.</p>
+ *
+ * <p>It reuses the file databases of {@link PriceRepositoryAdapterBenchmark}. Run it with {@code -prof gc} to
+ * compare the allocations as well.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceReadPathBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private PriceJpaRepository repository;
+    private PriceEntityMapper mapper;
+    private BrandRegistry brandRegistry;
+    private int products;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(AppRun.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:file:./target/benchmark-h2/prices-" + rows,
+                        "--spring.jpa.hibernate.ddl-auto=update",
+                        "--spring.sql.init.mode=never",
+                        "--price.outbound.adapter=jpa",
+                        "--logging.level.root=WARN");
+        SyntheticPrices.populate(context.getBean(JdbcTemplate.class), rows);
+        repository = context.getBean(PriceJpaRepository.class);
+        mapper = context.getBean(PriceEntityMapper.class);
+        brandRegistry = context.getBean(BrandRegistry.class);
+        products = rows / SyntheticPrices.PRICES_PER_PRODUCT;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Price> entity() {
+        int productId = ThreadLocalRandom.current().nextInt(products) + 1;
+        return repository.findTopPrice(productId, 1, SyntheticPrices.APPLICATION_DATE)
+                .map(mapper::toDomain);
+    }
+
+    @Benchmark
+    public Optional<Price> projection() {
+        int productId = ThreadLocalRandom.current().nextInt(products) + 1;
+        return repository.findTopPriceView(productId, 1, SyntheticPrices.APPLICATION_DATE)
+                .map(this::toDomain);
+    }
+
+    @Benchmark
+    public Optional<PriceSegment> allViews() {
+        int productId = ThreadLocalRandom.current().nextInt(products) + 1;
+        return PriceTimeline.of(repository.findPriceViews(productId, 1).stream().map(this::toDomain).toList())
+                .segmentAt(SyntheticPrices.APPLICATION_DATE);
+    }
+
+    @Benchmark
+    public Optional<PriceSegment> topAndSuccessors() {
+        int productId = ThreadLocalRandom.current().nextInt(products) + 1;
+        var query = new PriceQuery(SyntheticPrices.APPLICATION_DATE, productId, 1, null);
+        return repository.findTopPriceView(productId, 1, SyntheticPrices.APPLICATION_DATE)
+                .map(winner -> PreferredPriceViews.resolveSegments(List.of(query), List.of(winner),
+                        repository::findSuccessorPriceViews).get(0))
+                .map(segment -> new PriceSegment(segment.from(), segment.to(), toDomain(segment.price())));
+    }
+
+    private Price toDomain(PriceView view) {
+        return mapper.toDomain(view, brandRegistry.brand(view.brandId()));
+    }
+}
@@ -0,0 +1,72 @@
+package com.ws.benchmarks;
+
+import com.ws.AppRun;
+import com.ws.domain.price.model.Price;
+import com.ws.infrastructure.price.persistence.adapter.PriceRepositoryAdapter;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Measures {@link PriceRepositoryAdapter#getPreferredPrice} against H2 holding 10K, 1M and 10M synthetic rows.
+ *
+ * <p>The application context starts without a web server, on a file database under {@code target/benchmark-h2}
+ * so that the generated rows are kept between runs and only created again when the row count changes. Every
+ * invocation looks up a random product at a date covered by several overlapping price lists.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceRepositoryAdapterBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private PriceRepositoryAdapter adapter;
+    private int products;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(AppRun.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:file:./target/benchmark-h2/prices-" + rows,
+                        "--spring.jpa.hibernate.ddl-auto=update",
+                        "--spring.sql.init.mode=never",
+                        "--price.outbound.adapter=jpa",
+                        "--logging.level.root=WARN");
+        SyntheticPrices.populate(context.getBean(JdbcTemplate.class), rows);
+        adapter = context.getBean(PriceRepositoryAdapter.class);
+        products = rows / SyntheticPrices.PRICES_PER_PRODUCT;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Price> getPreferredPrice() {
+        int productId = ThreadLocalRandom.current().nextInt(products) + 1;
+        return adapter.getPreferredPrice(SyntheticPrices.APPLICATION_DATE, productId, 1);
+    }
+}
@@ -0,0 +1,64 @@
+package com.ws.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ws.application.price.mapper.PriceDtoMapperImpl;
+import com.ws.application.price.model.PriceDto;
+import com.ws.infrastructure.price.rest.cache.PriceResponseCache;
+import com.ws.infrastructure.price.rest.mapper.PriceResponseMapper;
+import com.ws.infrastructure.price.rest.mapper.PriceResponseMapperImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Measures the body of a lookup from the {@link PriceDto} returned by the service: mapped by
+ * {@link PriceResponseMapper} and serialized by Jackson, against taken from a warm {@link PriceResponseCache}.
+ *
+ * <p>Run it with {@code -prof gc} to compare the bytes allocated per operation.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceResponseCacheBenchmark {
+
+    private final PriceResponseMapper mapper = new PriceResponseMapperImpl();
+
+    private ObjectMapper objectMapper;
+    private PriceResponseCache responseCache;
+    private PriceDto dto;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        responseCache = new PriceResponseCache(objectMapper, mapper, true, 10_000, new SimpleMeterRegistry());
+        dto = new PriceDtoMapperImpl().toDto(SyntheticPrices.price());
+        responseCache.toResponse(dto);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(mapper.toResponse(dto));
+    }
+
+    @Benchmark
+    public byte[] cached() {
+        return responseCache.encoded(responseCache.toResponse(dto));
+    }
+}
@@ -0,0 +1,69 @@
+package com.ws.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ws.application.price.mapper.PriceDtoMapperImpl;
+import com.ws.infrastructure.price.rest.dto.PriceBatchItemDTO;
+import com.ws.infrastructure.price.rest.dto.PriceBatchResponseDTO;
+import com.ws.infrastructure.price.rest.dto.PriceResponseDTO;
+import com.ws.infrastructure.price.rest.mapper.PriceResponseMapperImpl;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Measures the JSON serialization of a {@link PriceResponseDTO}, and of a batch response of
+ * {@value #BATCH_SIZE} items, with an {@code ObjectMapper} configured like the one of the application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceResponseSerializationBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    private ObjectWriter writer;
+    private PriceResponseDTO response;
+    private PriceBatchResponseDTO batch;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+        response = new PriceResponseMapperImpl().toResponse(new PriceDtoMapperImpl().toDto(SyntheticPrices.price()));
+        batch = new PriceBatchResponseDTO();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.addItemsItem(new PriceBatchItemDTO()
+                    .applicationDate(SyntheticPrices.APPLICATION_DATE)
+                    .productId(response.getProductId())
+                    .brandId(response.getBrandId())
+                    .found(true)
+                    .price(response));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeBatch() throws JsonProcessingException {
+        return writer.writeValueAsBytes(batch);
+    }
+}
@@ -0,0 +1,79 @@
+package com.ws.benchmarks;
+
+import com.ws.application.price.mapper.PriceDtoMapperImpl;
+import com.ws.application.price.model.PriceDto;
+import com.ws.application.price.port.out.PriceConversionOutboundPort;
+import com.ws.application.price.port.out.PriceOutboundPort;
+import com.ws.application.price.service.PriceService;
+import com.ws.domain.price.exception.NotFoundException;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.Price;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link PriceService#getPreferredPrice} on top of a stubbed {@link PriceOutboundPort}.
+ *
+ * <p>The port answers from a constant, so the result isolates the service and the MapStruct
+ * {@code Price -> PriceDto} mapping. A lookup without a price is measured too, since it builds and throws
+ * a {@link NotFoundException}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceServiceBenchmark {
+
+    private PriceService priceService;
+
+    @Setup
+    public void setUp() {
+        var price = Optional.of(SyntheticPrices.price());
+        PriceOutboundPort port = new PriceOutboundPort() {
+            @Override
+            public Optional<Price> getPreferredPrice(LocalDateTime applicationDate, Integer productId,
+                                                     Integer brandId) {
+                return productId == 35455 ? price : Optional.empty();
+            }
+        };
+        PriceConversionOutboundPort conversion = new PriceConversionOutboundPort() {
+            @Override
+            public boolean supports(Currency currency) {
+                return true;
+            }
+
+            @Override
+            public Price convert(Price price, Currency currency) {
+                return price;
+            }
+        };
+        priceService = new PriceService(port, (productId, brandId) -> true, conversion, new PriceDtoMapperImpl());
+    }
+
+    @Benchmark
+    public PriceDto getPreferredPrice_hit() {
+        return priceService.getPreferredPrice(SyntheticPrices.APPLICATION_DATE, 35455, 1, null);
+    }
+
+    @Benchmark
+    public Object getPreferredPrice_miss() {
+        try {
+            return priceService.getPreferredPrice(SyntheticPrices.APPLICATION_DATE, 1, 1, null);
+        } catch (NotFoundException e) {
+            return e;
+        }
+    }
+}
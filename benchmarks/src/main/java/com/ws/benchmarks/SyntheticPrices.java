@@ -0,0 +1,90 @@
+package com.ws.benchmarks;
+
+import com.ws.domain.price.model.Brand;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.Price;
+import com.ws.infrastructure.price.persistence.entity.BrandEntity;
+import com.ws.infrastructure.price.persistence.entity.PriceEntity;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Synthetic price data shared by the benchmarks.
+ *
+ * <p>Generated tables hold {@value #PRICES_PER_PRODUCT} overlapping price lists per product, all of
+ * brand 1: a base price valid for the whole year and three promotions of increasing priority, which
+ * mirrors the shape of {@code data.sql}.</p>
+ */
+final class SyntheticPrices {
+
+    static final int PRICES_PER_PRODUCT = 4;
+    static final LocalDateTime APPLICATION_DATE = LocalDateTime.parse("2025-06-14T16:00:00");
+
+    private static final int INSERT_STEP = 1_000_000;
+
+    private static final String INSERT = """
+            INSERT INTO PRICES(PRICE_LIST, PRODUCT_ID, BRAND_ID, PRIORITY, CURR, PRICE, START_DATE, END_DATE)
+            SELECT X, (X - 1) / 4 + 1, 1, MOD(X - 1, 4), 'EUR', 10 + MOD(X, 90) + 0.45,
+                   CASE MOD(X - 1, 4) WHEN 0 THEN TIMESTAMP '2025-01-01 00:00:00'
+                        ELSE DATEADD('DAY', MOD(X - 1, 4) * 60, TIMESTAMP '2025-01-01 00:00:00') END,
+                   CASE MOD(X - 1, 4) WHEN 0 THEN TIMESTAMP '2025-12-31 23:59:59'
+                        ELSE DATEADD('DAY', MOD(X - 1, 4) * 60 + 45, TIMESTAMP '2025-01-01 00:00:00') END
+            FROM SYSTEM_RANGE(?, ?)
+            """;
+
+    private SyntheticPrices() {
+    }
+
+    /**
+     * Creates a domain price.
+     *
+     * @return the {@link Price}
+     */
+    static Price price() {
+        return new Price(2, 35455, 1, Currency.EUR, new BigDecimal("25.45"),
+                LocalDateTime.parse("2025-06-14T15:00:00"), LocalDateTime.parse("2025-06-14T18:30:00"),
+                new Brand(1, "ZARA"));
+    }
+
+    /**
+     * Creates an entity with the same values as {@link #price()}.
+     *
+     * @return the {@link PriceEntity}
+     */
+    static PriceEntity entity() {
+        var brand = new BrandEntity();
+        brand.setId(1);
+        brand.setName("ZARA");
+        var entity = new PriceEntity();
+        entity.setPriceList(2);
+        entity.setProductId(35455);
+        entity.setPriority(1);
+        entity.setCurrency(com.ws.infrastructure.price.persistence.entity.Currency.EUR);
+        entity.setPrice(new BigDecimal("25.45"));
+        entity.setStartDate(LocalDateTime.parse("2025-06-14T15:00:00"));
+        entity.setEndDate(LocalDateTime.parse("2025-06-14T18:30:00"));
+        entity.setBrand(brand);
+        return entity;
+    }
+
+    /**
+     * Fills {@code PRICES} with the given number of generated rows, unless it already holds them.
+     *
+     * @param jdbcTemplate the {@link JdbcTemplate} of the database
+     * @param rows         the number of rows
+     */
+    static void populate(JdbcTemplate jdbcTemplate, int rows) {
+        jdbcTemplate.update("MERGE INTO BRAND KEY(ID) VALUES (1, 'ZARA')");
+        var existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM PRICES", Long.class);
+        if (existing != null && existing == rows) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM EFFECTIVE_PRICES");
+        jdbcTemplate.update("DELETE FROM PRICES");
+        for (int from = 1; from <= rows; from += INSERT_STEP) {
+            jdbcTemplate.update(INSERT, from, Math.min(rows, from + INSERT_STEP - 1));
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
@@ -0,0 +1,23 @@
+package com.ws.domain.price.exception;
+
+/**
+ * Custom exception thrown when a change cannot be applied because it conflicts with another change made
+ * at the same time.
+ *
+ * <p>The conflicting change has already been applied, so the caller can read the current state and try
+ * again.</p>
+ *
+ * @see RuntimeException
+ */
+public class ConflictException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code ConflictException} with the specified detail message and cause.
+     *
+     * @param message the detail message explaining why the exception was thrown
+     * @param cause   the failure that revealed the conflict
+     */
+    public ConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -8,6 +8,10 @@ package com.ws.domain.price.exception;
  * {@link RuntimeException} to allow for unchecked exceptions that do not
  * require explicit handling.</p>
  *
+ * <p>A missing price is an expected outcome of a lookup rather than a failure, so the exception does not
+ * capture a stack trace and does not record suppressed exceptions, which makes throwing it about as cheap
+ * as returning a value.</p>
+ *
  * @see RuntimeException
  */
 public class NotFoundException extends RuntimeException {
@@ -18,6 +22,6 @@ public class NotFoundException extends RuntimeException {
      * @param message the detail message explaining why the exception was thrown
      */
     public NotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
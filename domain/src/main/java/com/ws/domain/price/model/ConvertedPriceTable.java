@@ -0,0 +1,128 @@
+package com.ws.domain.price.model;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable table of price amounts converted into every currency of an {@link ExchangeRates} table.
+ *
+ * <p>A converted price only depends on its amount, its currency and the rates, so the table holds one entry
+ * per distinct amount of each currency rather than one per price list. Each entry keeps the amount in every
+ * currency of the rates, computed when the entry is added, and a lookup is then a single hash probe by
+ * amount. Prices usually share a small set of amounts, so the table stays small whatever the number of price
+ * lists.</p>
+ *
+ * <p>Amounts are added with {@link #with(Currency, Collection)}, which returns a new table and leaves this
+ * one untouched. Only the entries of the added currency are copied. A new {@link ExchangeRates} version needs
+ * a new table built with {@link #of(ExchangeRates)}.</p>
+ *
+ * @see ExchangeRates
+ */
+public final class ConvertedPriceTable {
+
+    private static final Currency[] CURRENCIES = Currency.values();
+
+    private static final ConvertedPriceTable EMPTY = of(ExchangeRates.empty());
+
+    private final ExchangeRates rates;
+    private final Map<BigDecimal, BigDecimal[]>[] amounts;
+    private final int size;
+
+    private ConvertedPriceTable(ExchangeRates rates, Map<BigDecimal, BigDecimal[]>[] amounts, int size) {
+        this.rates = rates;
+        this.amounts = amounts;
+        this.size = size;
+    }
+
+    /**
+     * Returns a table without any amount, for the empty {@link ExchangeRates}.
+     *
+     * @return the empty table
+     */
+    public static ConvertedPriceTable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a table without any amount for the given rates.
+     *
+     * @param rates the rates the amounts are converted with
+     * @return the new {@link ConvertedPriceTable}
+     */
+    @SuppressWarnings("unchecked")
+    public static ConvertedPriceTable of(ExchangeRates rates) {
+        Map<BigDecimal, BigDecimal[]>[] amounts = new Map[CURRENCIES.length];
+        for (int i = 0; i < CURRENCIES.length; i++) {
+            amounts[i] = Map.of();
+        }
+        return new ConvertedPriceTable(rates, amounts, 0);
+    }
+
+    /**
+     * Returns a copy of this table in which the given amounts of a currency are converted into every
+     * currency of the rates.
+     *
+     * <p>Amounts already in the table are kept as they are. Amounts of a currency without a rate cannot be
+     * converted and are ignored.</p>
+     *
+     * @param currency the currency of the amounts
+     * @param added    the amounts to convert
+     * @return the new {@link ConvertedPriceTable}, or this table if it already holds every amount
+     */
+    public ConvertedPriceTable with(Currency currency, Collection<BigDecimal> added) {
+        var current = amounts[currency.ordinal()];
+        if (!rates.supports(currency) || current.keySet().containsAll(added)) {
+            return this;
+        }
+        var copy = new HashMap<>(current);
+        for (BigDecimal amount : added) {
+            copy.computeIfAbsent(amount, key -> convertAll(key, currency));
+        }
+        var table = amounts.clone();
+        table[currency.ordinal()] = copy;
+        return new ConvertedPriceTable(rates, table, size + copy.size() - current.size());
+    }
+
+    /**
+     * Returns the precomputed amount of a price in another currency.
+     *
+     * @param amount the amount of the price
+     * @param from   the currency of the price
+     * @param to     the currency to convert to
+     * @return the converted amount, or {@code null} if the amount is not in the table or {@code to} has no rate
+     */
+    public BigDecimal amount(BigDecimal amount, Currency from, Currency to) {
+        var converted = amounts[from.ordinal()].get(amount);
+        return converted == null ? null : converted[to.ordinal()];
+    }
+
+    /**
+     * Returns the rates the amounts of this table are converted with.
+     *
+     * @return the {@link ExchangeRates}
+     */
+    public ExchangeRates rates() {
+        return rates;
+    }
+
+    /**
+     * Returns the number of amounts in the table, whatever their currency.
+     *
+     * @return the number of amounts
+     */
+    public int size() {
+        return size;
+    }
+
+    private BigDecimal[] convertAll(BigDecimal amount, Currency from) {
+        var converted = new BigDecimal[CURRENCIES.length];
+        for (Currency to : CURRENCIES) {
+            if (rates.supports(to)) {
+                converted[to.ordinal()] = rates.convert(amount, from, to);
+            }
+        }
+        return converted;
+    }
+}
@@ -3,11 +3,17 @@ package com.ws.domain.price.model;
 /**
  * Enum representing different currencies.
  *
- * <p>This enum defines a set of supported currencies. In this case, the only
- * supported currency is the Euro (EUR), but additional currencies can be
- * added as needed.</p>
+ * <p>This enum defines the set of supported currencies, named after their ISO 4217 codes. Prices are
+ * stored in one of them, usually the Euro (EUR), and served in any other one that has a rate in the
+ * current {@link ExchangeRates}.</p>
  *
  */
 public enum Currency {
-    EUR;
+    EUR,
+    USD,
+    GBP,
+    CHF,
+    SEK,
+    PLN,
+    MXN;
 }
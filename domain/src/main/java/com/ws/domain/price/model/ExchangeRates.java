@@ -0,0 +1,103 @@
+package com.ws.domain.price.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable, versioned table of exchange rates against the {@link #BASE} currency.
+ *
+ * <p>Each rate is the amount of its currency worth one unit of {@link #BASE}, whose own rate is always one.
+ * An amount is converted between any two currencies of the table through the base, and rounded half up to
+ * the number of fraction digits of the target currency.</p>
+ *
+ * <p>Conversions use {@link BigDecimal} arithmetic, so lookups do not call {@link #convert} themselves: they
+ * read the amounts precomputed by {@link ConvertedPriceTable}.</p>
+ *
+ * @param version the version of the table, incremented by every published table
+ * @param rates   the rate of each supported currency
+ * @see ConvertedPriceTable
+ */
+public record ExchangeRates(
+        long version,
+        Map<Currency, BigDecimal> rates
+) {
+
+    /**
+     * Currency every rate is quoted against.
+     */
+    public static final Currency BASE = Currency.EUR;
+
+    private static final ExchangeRates EMPTY = new ExchangeRates(0, Map.of());
+
+    /**
+     * Validates the rates and adds the rate of the base currency.
+     *
+     * @throws IllegalArgumentException if a rate is not positive or the base currency has a rate other
+     *                                  than one
+     */
+    public ExchangeRates {
+        var copy = new EnumMap<Currency, BigDecimal>(Currency.class);
+        rates.forEach((currency, rate) -> {
+            if (rate == null || rate.signum() <= 0) {
+                throw new IllegalArgumentException("The exchange rate of " + currency + " must be positive.");
+            }
+            if (currency == BASE && rate.compareTo(BigDecimal.ONE) != 0) {
+                throw new IllegalArgumentException("The exchange rate of " + BASE + " must be 1.");
+            }
+            copy.put(currency, rate);
+        });
+        copy.put(BASE, BigDecimal.ONE);
+        rates = Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Returns the table of version 0, which only holds the base currency.
+     *
+     * @return the empty table
+     */
+    public static ExchangeRates empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Checks whether an amount can be converted to or from the given currency.
+     *
+     * @param currency the currency to check
+     * @return {@code true} if the table has a rate for the currency
+     */
+    public boolean supports(Currency currency) {
+        return rates.containsKey(currency);
+    }
+
+    /**
+     * Converts an amount from one currency to another.
+     *
+     * @param amount the amount to convert
+     * @param from   the currency of the amount
+     * @param to     the currency to convert to
+     * @return the converted amount, rounded to the fraction digits of {@code to}, or {@code amount} itself if
+     *         both currencies are the same
+     * @throws IllegalArgumentException if either currency has no rate
+     */
+    public BigDecimal convert(BigDecimal amount, Currency from, Currency to) {
+        if (from == to) {
+            return amount;
+        }
+        return amount.multiply(rate(to)).divide(rate(from), fractionDigits(to), RoundingMode.HALF_UP);
+    }
+
+    private BigDecimal rate(Currency currency) {
+        var rate = rates.get(currency);
+        if (rate == null) {
+            throw new IllegalArgumentException("No exchange rate available for " + currency + ".");
+        }
+        return rate;
+    }
+
+    private static int fractionDigits(Currency currency) {
+        return java.util.Currency.getInstance(currency.name()).getDefaultFractionDigits();
+    }
+}
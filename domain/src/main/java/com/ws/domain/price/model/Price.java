@@ -28,4 +28,17 @@ public record Price(
         LocalDateTime startDate,
         LocalDateTime endDate,
         Brand brand
-) {}
+) {
+
+    /**
+     * Returns a copy of this price with another currency and amount, such as the same price converted into
+     * the currency a client asked for.
+     *
+     * @param currency the currency of the copy
+     * @param price    the price value of the copy, in {@code currency}
+     * @return the new {@link Price}
+     */
+    public Price withPrice(Currency currency, BigDecimal price) {
+        return new Price(priceList, productId, priority, currency, price, startDate, endDate, brand);
+    }
+}
@@ -0,0 +1,31 @@
+package com.ws.domain.price.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents a resolved, non-overlapping slice of a product price timeline.
+ *
+ * <p>A segment covers the half-open interval {@code [from, to)} during which the same
+ * {@link Price} wins the priority resolution for a product and brand. Segments are produced
+ * by {@link PriceTimeline} and never overlap each other.</p>
+ *
+ * @param from  the instant (inclusive) at which the segment starts
+ * @param to    the instant (exclusive) at which the segment ends
+ * @param price the winning {@link Price} for the whole segment
+ */
+public record PriceSegment(
+        LocalDateTime from,
+        LocalDateTime to,
+        Price price
+) {
+
+    /**
+     * Checks whether the given date falls inside this segment.
+     *
+     * @param date the date to check
+     * @return {@code true} if {@code from <= date < to}
+     */
+    public boolean contains(LocalDateTime date) {
+        return !date.isBefore(from) && date.isBefore(to);
+    }
+}
@@ -0,0 +1,233 @@
+package com.ws.domain.price.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Immutable, pre-resolved price timeline of a single product and brand.
+ *
+ * <p>The overlapping validity windows of every {@link Price} of a product and brand are
+ * flattened into a sorted list of non-overlapping {@link PriceSegment}s, each one holding the
+ * price with the highest priority for its interval. Ties in priority are broken by the highest
+ * price list. Looking up the preferred price for a date is then a single binary search.</p>
+ *
+ * <p>The end date of a {@link Price} is inclusive, so a segment produced from it ends one
+ * nanosecond after {@link Price#endDate()}.</p>
+ *
+ * @see PriceSegment
+ */
+public final class PriceTimeline {
+
+    private static final PriceTimeline EMPTY = new PriceTimeline(new LocalDateTime[0], new LocalDateTime[0], new Price[0]);
+
+    private static final Comparator<Price> PREFERENCE = Comparator
+            .comparing(Price::priority)
+            .thenComparing(Price::priceList)
+            .reversed();
+
+    private final LocalDateTime[] froms;
+    private final LocalDateTime[] tos;
+    private final Price[] prices;
+
+    private PriceTimeline(LocalDateTime[] froms, LocalDateTime[] tos, Price[] prices) {
+        this.froms = froms;
+        this.tos = tos;
+        this.prices = prices;
+    }
+
+    /**
+     * Returns a timeline without any segment.
+     *
+     * @return the empty timeline
+     */
+    public static PriceTimeline empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Resolves the given prices into a timeline of non-overlapping segments.
+     *
+     * <p>All prices are expected to belong to the same product and brand.</p>
+     *
+     * @param prices the prices to resolve
+     * @return the resolved {@link PriceTimeline}
+     */
+    public static PriceTimeline of(Collection<Price> prices) {
+        if (prices.isEmpty()) {
+            return EMPTY;
+        }
+        var byStart = new ArrayList<>(prices);
+        byStart.sort(Comparator.comparing(Price::startDate));
+
+        var segments = new ArrayList<PriceSegment>();
+        resolve(byStart.iterator(), LocalDateTime.MIN, LocalDateTime.MAX, segments::add);
+        return fromSegments(segments);
+    }
+
+    /**
+     * Resolves prices sorted by start date into the segments that overlap the {@code [from, to)} interval,
+     * in a single pass and without keeping the segments.
+     *
+     * <p>Each segment is passed to {@code action} as soon as the price that follows it is known, in
+     * ascending order, and is clipped to the interval. Only the prices valid at the current date are kept
+     * while resolving, so the prices can be read one by one from a cursor. All prices are expected to belong
+     * to the same product and brand.</p>
+     *
+     * @param byStart the prices to resolve, sorted by start date
+     * @param from    the start (inclusive) of the interval
+     * @param to      the end (exclusive) of the interval
+     * @param action  the action run for each segment
+     * @throws IllegalArgumentException if the prices are not sorted by start date
+     */
+    public static void resolve(Iterator<Price> byStart, LocalDateTime from, LocalDateTime to,
+                               Consumer<PriceSegment> action) {
+        var active = new PriorityQueue<>(PREFERENCE);
+        var ending = new PriorityQueue<>(Comparator.comparing(PriceTimeline::exclusiveEnd));
+        Price pending = byStart.hasNext() ? byStart.next() : null;
+        LocalDateTime openFrom = null;
+        Price openPrice = null;
+        while (pending != null || !ending.isEmpty()) {
+            var boundary = pending != null
+                    && (ending.isEmpty() || !pending.startDate().isAfter(exclusiveEnd(ending.peek())))
+                    ? pending.startDate()
+                    : exclusiveEnd(ending.peek());
+            if (!boundary.isBefore(to)) {
+                break;
+            }
+            while (pending != null && !pending.startDate().isAfter(boundary)) {
+                active.add(pending);
+                ending.add(pending);
+                var next = byStart.hasNext() ? byStart.next() : null;
+                if (next != null && next.startDate().isBefore(pending.startDate())) {
+                    throw new IllegalArgumentException("prices are not sorted by start date");
+                }
+                pending = next;
+            }
+            while (!ending.isEmpty() && !exclusiveEnd(ending.peek()).isAfter(boundary)) {
+                active.remove(ending.poll());
+            }
+            var winner = active.peek();
+            if (winner != openPrice) {
+                if (openPrice != null) {
+                    emit(openFrom, boundary, openPrice, from, action);
+                }
+                openFrom = boundary;
+                openPrice = winner;
+            }
+        }
+        if (openPrice != null) {
+            emit(openFrom, to, openPrice, from, action);
+        }
+    }
+
+    /**
+     * Builds a timeline from segments that are already resolved, sorted and non-overlapping.
+     *
+     * @param segments the resolved segments
+     * @return the corresponding {@link PriceTimeline}
+     */
+    public static PriceTimeline fromSegments(List<PriceSegment> segments) {
+        if (segments.isEmpty()) {
+            return EMPTY;
+        }
+        int size = segments.size();
+        var froms = new LocalDateTime[size];
+        var tos = new LocalDateTime[size];
+        var prices = new Price[size];
+        for (int i = 0; i < size; i++) {
+            var segment = segments.get(i);
+            froms[i] = segment.from();
+            tos[i] = segment.to();
+            prices[i] = segment.price();
+        }
+        return new PriceTimeline(froms, tos, prices);
+    }
+
+    /**
+     * Finds the segment that contains the given date.
+     *
+     * @param date the date to look up
+     * @return an {@link Optional} with the matching {@link PriceSegment}, or empty if no price applies
+     */
+    public Optional<PriceSegment> segmentAt(LocalDateTime date) {
+        int index = indexAt(date);
+        return index < 0 ? Optional.empty() : Optional.of(new PriceSegment(froms[index], tos[index], prices[index]));
+    }
+
+    /**
+     * Finds the preferred price for the given date.
+     *
+     * @param date the date to look up
+     * @return an {@link Optional} with the winning {@link Price}, or empty if no price applies
+     */
+    public Optional<Price> priceAt(LocalDateTime date) {
+        int index = indexAt(date);
+        return index < 0 ? Optional.empty() : Optional.of(prices[index]);
+    }
+
+    /**
+     * Returns all the segments of this timeline, sorted by start date.
+     *
+     * @return the list of {@link PriceSegment}
+     */
+    public List<PriceSegment> segments() {
+        var segments = new ArrayList<PriceSegment>(prices.length);
+        for (int i = 0; i < prices.length; i++) {
+            segments.add(new PriceSegment(froms[i], tos[i], prices[i]));
+        }
+        return segments;
+    }
+
+    /**
+     * Returns the number of segments of this timeline.
+     *
+     * @return the segment count
+     */
+    public int size() {
+        return prices.length;
+    }
+
+    /**
+     * Returns whether this timeline has no segment.
+     *
+     * @return {@code true} if no price is defined
+     */
+    public boolean isEmpty() {
+        return prices.length == 0;
+    }
+
+    private int indexAt(LocalDateTime date) {
+        int low = 0;
+        int high = froms.length - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (froms[mid].isAfter(date)) {
+                high = mid - 1;
+            } else {
+                candidate = mid;
+                low = mid + 1;
+            }
+        }
+        return candidate >= 0 && date.isBefore(tos[candidate]) ? candidate : -1;
+    }
+
+    private static void emit(LocalDateTime start, LocalDateTime end, Price price, LocalDateTime from,
+                             Consumer<PriceSegment> action) {
+        var clipped = start.isBefore(from) ? from : start;
+        if (clipped.isBefore(end)) {
+            action.accept(new PriceSegment(clipped, end, price));
+        }
+    }
+
+    private static LocalDateTime exclusiveEnd(Price price) {
+        return price.endDate().plusNanos(1);
+    }
+}
@@ -0,0 +1,56 @@
+package com.ws.domain.price.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ConvertedPriceTableTest {
+
+    private static final ExchangeRates RATES = new ExchangeRates(1, Map.of(
+            Currency.USD, new BigDecimal("1.0842"),
+            Currency.GBP, new BigDecimal("0.8571")));
+
+    @Test
+    void amount_ShouldReturnTheAmountConvertedWhenItWasAdded() {
+        var table = ConvertedPriceTable.of(RATES)
+                .with(Currency.EUR, List.of(new BigDecimal("35.50"), new BigDecimal("25.45")));
+
+        assertEquals(2, table.size());
+        assertEquals(new BigDecimal("38.49"), table.amount(new BigDecimal("35.50"), Currency.EUR, Currency.USD));
+        assertEquals(new BigDecimal("21.81"), table.amount(new BigDecimal("25.45"), Currency.EUR, Currency.GBP));
+    }
+
+    @Test
+    void amount_ShouldReturnNull_WhenTheAmountOrTheTargetIsMissing() {
+        var table = ConvertedPriceTable.of(RATES).with(Currency.EUR, List.of(new BigDecimal("35.50")));
+
+        assertNull(table.amount(new BigDecimal("30.50"), Currency.EUR, Currency.USD));
+        assertNull(table.amount(new BigDecimal("35.50"), Currency.USD, Currency.EUR));
+        assertNull(table.amount(new BigDecimal("35.50"), Currency.EUR, Currency.CHF));
+    }
+
+    @Test
+    void with_ShouldReturnTheSameTable_WhenNothingIsAdded() {
+        var table = ConvertedPriceTable.of(RATES).with(Currency.EUR, List.of(new BigDecimal("35.50")));
+
+        assertSame(table, table.with(Currency.EUR, List.of(new BigDecimal("35.50"))));
+        assertSame(table, table.with(Currency.CHF, List.of(BigDecimal.TEN)));
+    }
+
+    @Test
+    void with_ShouldLeaveThePreviousTableUntouched() {
+        var table = ConvertedPriceTable.of(RATES).with(Currency.EUR, List.of(new BigDecimal("35.50")));
+
+        var extended = table.with(Currency.EUR, List.of(new BigDecimal("30.50")));
+
+        assertEquals(1, table.size());
+        assertEquals(2, extended.size());
+        assertNull(table.amount(new BigDecimal("30.50"), Currency.EUR, Currency.USD));
+        assertEquals(new BigDecimal("33.07"), extended.amount(new BigDecimal("30.50"), Currency.EUR, Currency.USD));
+    }
+}
@@ -0,0 +1,52 @@
+package com.ws.domain.price.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ExchangeRatesTest {
+
+    private final ExchangeRates rates = new ExchangeRates(3, Map.of(
+            Currency.USD, new BigDecimal("1.0842"),
+            Currency.GBP, new BigDecimal("0.8571")));
+
+    @Test
+    void convert_ShouldRoundToTheFractionDigitsOfTheTarget() {
+        assertEquals(new BigDecimal("38.49"), rates.convert(new BigDecimal("35.50"), Currency.EUR, Currency.USD));
+        assertEquals(new BigDecimal("32.74"), rates.convert(new BigDecimal("35.50"), Currency.USD, Currency.EUR));
+    }
+
+    @Test
+    void convert_ShouldGoThroughTheBase_BetweenTwoOtherCurrencies() {
+        assertEquals(new BigDecimal("30.43"), rates.convert(new BigDecimal("38.49"), Currency.USD, Currency.GBP));
+    }
+
+    @Test
+    void convert_ShouldReturnTheAmount_WhenBothCurrenciesAreTheSame() {
+        var amount = new BigDecimal("35.50");
+
+        assertSame(amount, rates.convert(amount, Currency.PLN, Currency.PLN));
+    }
+
+    @Test
+    void convert_ShouldThrow_WhenACurrencyHasNoRate() {
+        assertFalse(rates.supports(Currency.CHF));
+        assertThrows(IllegalArgumentException.class,
+                () -> rates.convert(BigDecimal.TEN, Currency.EUR, Currency.CHF));
+    }
+
+    @Test
+    void constructor_ShouldAddTheBase_AndRejectInvalidRates() {
+        assertTrue(rates.supports(ExchangeRates.BASE));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ExchangeRates(1, Map.of(Currency.USD, BigDecimal.ZERO)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ExchangeRates(1, Map.of(Currency.EUR, new BigDecimal("1.1"))));
+    }
+}
@@ -0,0 +1,101 @@
+package com.ws.domain.price.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PriceTimelineTest {
+
+    private static final Brand BRAND = new Brand(1, "ZARA");
+
+    private static Price price(int priceList, int priority, String price, String start, String end) {
+        return new Price(priceList, 35455, priority, Currency.EUR, new BigDecimal(price),
+                LocalDateTime.parse(start), LocalDateTime.parse(end), BRAND);
+    }
+
+    private final PriceTimeline timeline = PriceTimeline.of(List.of(
+            price(1, 0, "35.50", "2025-06-14T00:00:00", "2025-12-31T23:59:59"),
+            price(2, 1, "25.45", "2025-06-14T15:00:00", "2025-06-14T18:30:00"),
+            price(3, 1, "30.50", "2025-06-15T00:00:00", "2025-06-15T11:00:00"),
+            price(4, 1, "38.95", "2025-06-15T16:00:00", "2025-12-31T23:59:59")
+    ));
+
+    @Test
+    void of_ShouldFlattenOverlappingPricesIntoNonOverlappingSegments() {
+        var segments = timeline.segments();
+
+        assertEquals(List.of(1, 2, 1, 3, 1, 4), segments.stream().map(s -> s.price().priceList()).toList());
+        for (int i = 1; i < segments.size(); i++) {
+            assertEquals(segments.get(i - 1).to(), segments.get(i).from());
+        }
+    }
+
+    @Test
+    void priceAt_ShouldReturnHighestPriorityPrice() {
+        assertEquals(1, timeline.priceAt(LocalDateTime.parse("2025-06-14T10:00:00")).orElseThrow().priceList());
+        assertEquals(2, timeline.priceAt(LocalDateTime.parse("2025-06-14T16:00:00")).orElseThrow().priceList());
+        assertEquals(1, timeline.priceAt(LocalDateTime.parse("2025-06-14T21:00:00")).orElseThrow().priceList());
+        assertEquals(3, timeline.priceAt(LocalDateTime.parse("2025-06-15T10:00:00")).orElseThrow().priceList());
+        assertEquals(4, timeline.priceAt(LocalDateTime.parse("2025-06-16T21:00:00")).orElseThrow().priceList());
+    }
+
+    @Test
+    void priceAt_ShouldTreatEndDateAsInclusive() {
+        assertEquals(2, timeline.priceAt(LocalDateTime.parse("2025-06-14T18:30:00")).orElseThrow().priceList());
+        assertEquals(1, timeline.priceAt(LocalDateTime.parse("2025-06-14T18:30:00.001")).orElseThrow().priceList());
+        assertTrue(timeline.priceAt(LocalDateTime.parse("2025-12-31T23:59:59")).isPresent());
+        assertFalse(timeline.priceAt(LocalDateTime.parse("2025-12-31T23:59:59.001")).isPresent());
+    }
+
+    @Test
+    void priceAt_ShouldReturnEmpty_WhenNoPriceApplies() {
+        assertFalse(timeline.priceAt(LocalDateTime.parse("2024-06-14T10:00:00")).isPresent());
+        assertFalse(PriceTimeline.empty().priceAt(LocalDateTime.now()).isPresent());
+    }
+
+    @Test
+    void of_ShouldLeaveGapsBetweenDisjointPrices() {
+        var disjoint = PriceTimeline.of(List.of(
+                price(1, 0, "10.00", "2025-01-01T00:00:00", "2025-01-31T23:59:59"),
+                price(2, 0, "20.00", "2025-03-01T00:00:00", "2025-03-31T23:59:59")
+        ));
+
+        assertEquals(2, disjoint.size());
+        assertFalse(disjoint.priceAt(LocalDateTime.parse("2025-02-15T00:00:00")).isPresent());
+        assertEquals(2, disjoint.segmentAt(LocalDateTime.parse("2025-03-15T00:00:00")).orElseThrow().price().priceList());
+    }
+
+    @Test
+    void resolve_ShouldEmitTheSegmentsOfTheInterval_ClippedToItsBounds() {
+        var segments = new ArrayList<PriceSegment>();
+        PriceTimeline.resolve(timeline.segments().stream().map(PriceSegment::price).distinct()
+                        .sorted(Comparator.comparing(Price::startDate)).iterator(),
+                LocalDateTime.parse("2025-06-14T16:00:00"), LocalDateTime.parse("2025-06-15T12:00:00"),
+                segments::add);
+
+        assertEquals(List.of(2, 1, 3, 1), segments.stream().map(s -> s.price().priceList()).toList());
+        assertEquals(LocalDateTime.parse("2025-06-14T16:00:00"), segments.get(0).from());
+        assertEquals(LocalDateTime.parse("2025-06-15T12:00:00"), segments.get(3).to());
+        for (var segment : segments) {
+            assertEquals(timeline.segmentAt(segment.from()).orElseThrow().price(), segment.price());
+        }
+    }
+
+    @Test
+    void resolve_ShouldThrow_WhenPricesAreNotSortedByStartDate() {
+        var unsorted = List.of(
+                price(1, 0, "10.00", "2025-03-01T00:00:00", "2025-03-31T23:59:59"),
+                price(2, 0, "20.00", "2025-01-01T00:00:00", "2025-01-31T23:59:59"));
+
+        assertThrows(IllegalArgumentException.class, () -> PriceTimeline.resolve(unsorted.iterator(),
+                LocalDateTime.MIN, LocalDateTime.MAX, segment -> { }));
+    }
+}
@@ -0,0 +1,26 @@
+package com.ws.infrastructure.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Main entry point of the non-blocking deployment of the application.
+ *
+ * <p>It serves the same price API as {@code com.ws.AppRun} on WebFlux and R2DBC. Component scanning is
+ * limited to this package, so the blocking services of the application module are not picked up; the
+ * reactive ones are declared in
+ * {@link com.ws.infrastructure.reactive.price.config.ReactivePriceConfig}.</p>
+ */
+@SpringBootApplication
+public class ReactiveAppRun {
+
+    /**
+     * Starts the Spring Boot application.
+     *
+     * @param args command-line arguments
+     */
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveAppRun.class, args);
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.ws.infrastructure.reactive.price.config;
+
+
+import com.ws.domain.price.exception.NotFoundException;
+import com.ws.infrastructure.reactive.price.rest.dto.ErrorResponseDTO;
+import jakarta.validation.ConstraintViolationException;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * Global exception handler of the reactive deployment.
+ *
+ * <p>It answers with the same statuses and {@link ErrorResponseDTO} body as the servlet deployment:
+ * <ul>
+ *   <li>{@link NotFoundException} - Returns a 404 Not Found response.</li>
+ *   <li>{@link IllegalArgumentException}, {@link ServerWebInputException} (missing or malformed parameters and
+ *   bodies) and failed validations - Returns a 400 Bad Request response.</li>
+ *   <li>{@link DataAccessResourceFailureException} - Returns a 503 Service Unavailable response when no
+ *   database connection can be obtained.</li>
+ *   <li>{@link Exception} - Catches all other exceptions and returns a 500 Internal Server Error response.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>Client errors are expected under normal operation, so they are only logged at debug level. Server
+ * errors are logged once, with their stack trace.</p>
+ *
+ * @see NotFoundException
+ * @see ServerWebInputException
+ * @see ErrorResponseDTO
+ */
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    /**
+     * Handles {@link NotFoundException} and returns a 404 Not Found response.
+     *
+     * @param ex the exception thrown
+     * @return a {@link ResponseEntity} containing the error details
+     */
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<Object> handleResourceNotFound(NotFoundException ex) {
+        return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    /**
+     * Handles invalid requests and returns a 400 Bad Request response.
+     *
+     * @param ex the exception thrown
+     * @return a {@link ResponseEntity} containing the error details
+     */
+    @ExceptionHandler({IllegalArgumentException.class, ServerWebInputException.class,
+            HandlerMethodValidationException.class, ConstraintViolationException.class})
+    public ResponseEntity<Object> handleIllegalArgument(Exception ex) {
+        var badRequest = HttpStatus.BAD_REQUEST;
+        log.debug("exception - {} : {}", badRequest.value(), ex.getMessage());
+        return buildErrorResponse(badRequest, badRequest.getReasonPhrase());
+    }
+
+    /**
+     * Handles the failures to obtain a database connection and returns a 503 Service Unavailable response.
+     *
+     * @param ex the exception thrown
+     * @return a {@link ResponseEntity} containing the error details
+     */
+    @ExceptionHandler(DataAccessResourceFailureException.class)
+    public ResponseEntity<Object> handleUnavailable(Exception ex) {
+        log.warn("database unavailable : {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, "The service is temporarily unavailable.");
+    }
+
+    /**
+     * Handles any other {@link Exception} and returns a 500 Internal Server Error response.
+     *
+     * @param ex the exception thrown
+     * @return a {@link ResponseEntity} containing the error details
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<Object> handleGeneralException(Exception ex) {
+        log.error("exception : {}", ex.getMessage(), ex);
+        return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred.");
+    }
+
+    private ResponseEntity<Object> buildErrorResponse(HttpStatus status, String message) {
+        var body = new ErrorResponseDTO();
+        body.setTimestamp(LocalDateTime.now());
+        body.setStatus(status.value());
+        body.setError(status.getReasonPhrase());
+        body.setMessage(message);
+        return new ResponseEntity<>(body, status);
+    }
+}
@@ -0,0 +1,44 @@
+package com.ws.infrastructure.reactive.price.config;
+
+import com.ws.application.price.mapper.PriceDtoMapper;
+import com.ws.application.price.port.in.ReactivePriceInboundPort;
+import com.ws.application.price.port.out.PriceConversionOutboundPort;
+import com.ws.application.price.port.out.ReactivePriceOutboundPort;
+import com.ws.application.price.service.ReactivePriceService;
+import org.mapstruct.factory.Mappers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class that declares the application services used by the reactive deployment.
+ *
+ * @see ReactivePriceService
+ */
+@Configuration
+public class ReactivePriceConfig {
+
+    /**
+     * Creates the mapper from domain prices to {@link com.ws.application.price.model.PriceDto}.
+     *
+     * @return the {@link PriceDtoMapper}
+     */
+    @Bean
+    public PriceDtoMapper priceDtoMapper() {
+        return Mappers.getMapper(PriceDtoMapper.class);
+    }
+
+    /**
+     * Creates the reactive price service on top of the R2DBC adapters.
+     *
+     * @param priceOutboundPort the reactive outbound adapter
+     * @param priceConversion   the adapter converting prices into the requested currency
+     * @param priceDtoMapper    the mapper from domain prices to DTOs
+     * @return the {@link ReactivePriceInboundPort}
+     */
+    @Bean
+    public ReactivePriceInboundPort reactivePriceService(ReactivePriceOutboundPort priceOutboundPort,
+                                                         PriceConversionOutboundPort priceConversion,
+                                                         PriceDtoMapper priceDtoMapper) {
+        return new ReactivePriceService(priceOutboundPort, priceConversion, priceDtoMapper);
+    }
+}
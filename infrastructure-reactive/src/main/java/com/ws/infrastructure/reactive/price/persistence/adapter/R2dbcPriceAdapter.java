@@ -0,0 +1,73 @@
+package com.ws.infrastructure.reactive.price.persistence.adapter;
+
+import com.ws.application.price.port.out.ReactivePriceOutboundPort;
+import com.ws.domain.price.model.Brand;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.Price;
+import io.r2dbc.spi.Readable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Adapter class that implements the {@link ReactivePriceOutboundPort} interface with R2DBC.
+ *
+ * <p>It runs the same query as {@code PriceJpaRepository#findTopPrice} of the servlet deployment: the
+ * highest-priority price of the product and brand that is valid at the application date. The query is
+ * sent through a {@link DatabaseClient}, so the calling thread is released while the database answers,
+ * and the row is mapped straight to the domain {@link Price}.</p>
+ *
+ * @see ReactivePriceOutboundPort
+ * @see DatabaseClient
+ */
+@Repository
+@RequiredArgsConstructor
+public class R2dbcPriceAdapter implements ReactivePriceOutboundPort {
+
+    private static final String FIND_TOP_PRICE = """
+            SELECT P.PRICE_LIST, P.PRODUCT_ID, P.PRIORITY, P.CURR, P.PRICE, P.START_DATE, P.END_DATE,
+                   B.ID AS BRAND_ID, B.NAME AS BRAND_NAME
+            FROM PRICES P
+            JOIN BRAND B ON B.ID = P.BRAND_ID
+            WHERE P.PRODUCT_ID = :productId
+            AND P.BRAND_ID = :brandId
+            AND P.START_DATE <= :date
+            AND P.END_DATE >= :date
+            ORDER BY P.PRIORITY DESC LIMIT 1
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Retrieves the preferred price for a given product and brand at a specified application date.
+     *
+     * @param applicationDate the date for which the price is being retrieved
+     * @param productId the identifier of the product
+     * @param brandId the identifier of the brand
+     * @return a {@link Mono} emitting the preferred {@link Price}, or completing empty if no price is found
+     */
+    @Override
+    public Mono<Price> getPreferredPrice(LocalDateTime applicationDate, Integer productId, Integer brandId) {
+        return databaseClient.sql(FIND_TOP_PRICE)
+                .bind("productId", productId)
+                .bind("brandId", brandId)
+                .bind("date", applicationDate)
+                .map(R2dbcPriceAdapter::toDomain)
+                .one();
+    }
+
+    private static Price toDomain(Readable row) {
+        return new Price(
+                row.get("PRICE_LIST", Integer.class),
+                row.get("PRODUCT_ID", Integer.class),
+                row.get("PRIORITY", Integer.class),
+                Currency.valueOf(row.get("CURR", String.class)),
+                row.get("PRICE", BigDecimal.class),
+                row.get("START_DATE", LocalDateTime.class),
+                row.get("END_DATE", LocalDateTime.class),
+                new Brand(row.get("BRAND_ID", Integer.class), row.get("BRAND_NAME", String.class)));
+    }
+}
@@ -0,0 +1,123 @@
+package com.ws.infrastructure.reactive.price.persistence.adapter;
+
+import com.ws.application.price.port.out.PriceConversionOutboundPort;
+import com.ws.domain.price.model.ConvertedPriceTable;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.ExchangeRates;
+import com.ws.domain.price.model.Price;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Adapter class that implements the {@link PriceConversionOutboundPort} interface with a
+ * {@link ConvertedPriceTable} loaded through R2DBC.
+ *
+ * <p>The table is built once, after every singleton has been created (and therefore after {@code data.sql} has
+ * been applied), from the latest version of {@code EXCHANGE_RATES} and the distinct amounts of {@code PRICES}.
+ * Loading waits for both queries, which is only done at startup and never on an event loop. Lookups then read
+ * the table from memory, so converting a price never blocks. This deployment does not write prices or rates,
+ * so the table is only rebuilt by a restart.</p>
+ *
+ * <p>A price whose amount is missing from the table is converted on the spot with the same rates.</p>
+ *
+ * @see PriceConversionOutboundPort
+ * @see ConvertedPriceTable
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class R2dbcPriceConversionAdapter implements PriceConversionOutboundPort, SmartInitializingSingleton {
+
+    private static final String FIND_CURRENT_RATES = """
+            SELECT VERSION, CURR, RATE
+            FROM EXCHANGE_RATES
+            WHERE VERSION = (SELECT MAX(VERSION) FROM EXCHANGE_RATES)
+            """;
+
+    private static final String FIND_AMOUNTS = "SELECT DISTINCT CURR, PRICE FROM PRICES";
+
+    private final DatabaseClient databaseClient;
+
+    private volatile ConvertedPriceTable table = ConvertedPriceTable.empty();
+
+    /**
+     * Builds the table once the application context has been fully initialized.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        var rates = findCurrentRates();
+        var amounts = new EnumMap<Currency, List<BigDecimal>>(Currency.class);
+        databaseClient.sql(FIND_AMOUNTS)
+                .map(row -> Map.entry(Currency.valueOf(row.get("CURR", String.class)),
+                        row.get("PRICE", BigDecimal.class)))
+                .all()
+                .doOnNext(amount -> amounts.computeIfAbsent(amount.getKey(), currency -> new ArrayList<>())
+                        .add(amount.getValue()))
+                .blockLast();
+        var loaded = ConvertedPriceTable.of(rates);
+        for (var entry : amounts.entrySet()) {
+            loaded = loaded.with(entry.getKey(), entry.getValue());
+        }
+        table = loaded;
+        log.info("converted prices loaded : rates version {}, {} currencies, {} amounts",
+                rates.version(), rates.rates().size(), loaded.size());
+    }
+
+    /**
+     * Checks whether prices can be converted into the given currency with the loaded rates.
+     *
+     * @param currency the currency to check
+     * @return {@code true} if the loaded rates have a rate for {@code currency}
+     */
+    @Override
+    public boolean supports(Currency currency) {
+        return table.rates().supports(currency);
+    }
+
+    /**
+     * Converts a price into the given currency, with the amount precomputed for its own amount when there is
+     * one.
+     *
+     * @param price    the price to convert
+     * @param currency the currency to convert to
+     * @return the {@link Price} in {@code currency}, or {@code price} itself if it is already in it
+     * @throws IllegalArgumentException if there is no exchange rate for {@code currency} or for the currency
+     *                                  of the price
+     */
+    @Override
+    public Price convert(Price price, Currency currency) {
+        if (price.currency() == currency) {
+            return price;
+        }
+        var current = table;
+        var amount = current.amount(price.price(), price.currency(), currency);
+        return price.withPrice(currency,
+                amount != null ? amount : current.rates().convert(price.price(), price.currency(), currency));
+    }
+
+    private ExchangeRates findCurrentRates() {
+        var rows = databaseClient.sql(FIND_CURRENT_RATES)
+                .map(row -> new RateRow(row.get("VERSION", Long.class),
+                        Currency.valueOf(row.get("CURR", String.class)), row.get("RATE", BigDecimal.class)))
+                .all()
+                .collectList()
+                .block();
+        if (rows == null || rows.isEmpty()) {
+            return ExchangeRates.empty();
+        }
+        var rates = new EnumMap<Currency, BigDecimal>(Currency.class);
+        rows.forEach(row -> rates.put(row.currency(), row.rate()));
+        return new ExchangeRates(rows.get(0).version(), rates);
+    }
+
+    private record RateRow(long version, Currency currency, BigDecimal rate) {
+    }
+}
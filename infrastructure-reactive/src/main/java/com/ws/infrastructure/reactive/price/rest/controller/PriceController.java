@@ -0,0 +1,77 @@
+package com.ws.infrastructure.reactive.price.rest.controller;
+
+import com.ws.application.price.port.in.ReactivePriceInboundPort;
+import com.ws.infrastructure.reactive.price.rest.dto.CurrencyDTO;
+import com.ws.infrastructure.reactive.price.rest.dto.PriceBatchRequestDTO;
+import com.ws.infrastructure.reactive.price.rest.dto.PriceBatchResponseDTO;
+import com.ws.infrastructure.reactive.price.rest.dto.PriceResponseDTO;
+import com.ws.infrastructure.reactive.price.rest.mapper.PriceResponseMapper;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking controller that handles HTTP requests related to prices.
+ *
+ * <p>This controller implements the {@link PricesApi} interface generated with WebFlux signatures from the
+ * same OpenAPI specification as the servlet deployment. Lookups are resolved through the
+ * {@link ReactivePriceInboundPort}, so the event loop is never blocked while a price is fetched.</p>
+ *
+ * @see PricesApi
+ * @see ReactivePriceInboundPort
+ * @see PriceResponseDTO
+ */
+@Slf4j
+@RestController
+@RequestMapping
+@RequiredArgsConstructor
+public class PriceController implements PricesApi {
+
+    private final ReactivePriceInboundPort priceInboundPort;
+    private final PriceResponseMapper mapper;
+
+    /**
+     * Retrieves the preferred price for a given product, brand, and application date.
+     *
+     * @param applicationDate the date for which the price is requested
+     * @param productId the ID of the product for which the price is requested
+     * @param brandId the ID of the brand for which the price is requested
+     * @param currency the currency the price is requested in, or {@code null} for the currency it is stored in
+     * @param exchange the current server exchange
+     * @return a {@link Mono} emitting a {@link ResponseEntity} containing the {@link PriceResponseDTO}
+     */
+    @Override
+    public Mono<ResponseEntity<PriceResponseDTO>> getPrices(LocalDateTime applicationDate, Integer productId,
+                                                            Integer brandId, CurrencyDTO currency,
+                                                            ServerWebExchange exchange) {
+        return priceInboundPort.getPreferredPrice(applicationDate, productId, brandId, mapper.toCurrency(currency))
+                .map(mapper::toResponse)
+                .doOnNext(response -> log.debug("response 200 : {}", response))
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * Retrieves the preferred price of several products in a single call.
+     *
+     * <p>Queries without an available price are returned with {@code found = false} instead of failing
+     * the batch.</p>
+     *
+     * @param priceBatchRequestDTO the product, brand and application date of each price to retrieve
+     * @param exchange the current server exchange
+     * @return a {@link Mono} emitting a {@link ResponseEntity} with one item per query, in request order
+     */
+    @Override
+    public Mono<ResponseEntity<PriceBatchResponseDTO>> getPricesBatch(Mono<PriceBatchRequestDTO> priceBatchRequestDTO,
+                                                                      ServerWebExchange exchange) {
+        return priceBatchRequestDTO
+                .flatMap(request -> priceInboundPort.getPreferredPrices(mapper.toQueries(request.getItems()))
+                        .collectList())
+                .map(items -> ResponseEntity.ok(new PriceBatchResponseDTO().items(mapper.toBatchItems(items))));
+    }
+
+}
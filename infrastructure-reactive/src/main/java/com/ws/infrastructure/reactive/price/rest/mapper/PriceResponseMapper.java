@@ -0,0 +1,72 @@
+package com.ws.infrastructure.reactive.price.rest.mapper;
+
+import com.ws.application.price.model.PriceBatchItemDto;
+import com.ws.application.price.model.PriceDto;
+import com.ws.application.price.model.PriceQuery;
+import com.ws.domain.price.model.Currency;
+import com.ws.infrastructure.reactive.price.rest.dto.CurrencyDTO;
+import com.ws.infrastructure.reactive.price.rest.dto.PriceBatchItemDTO;
+import com.ws.infrastructure.reactive.price.rest.dto.PriceQueryDTO;
+import com.ws.infrastructure.reactive.price.rest.dto.PriceResponseDTO;
+import java.util.List;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+
+/**
+ * Mapper interface for converting {@link PriceDto} to the {@link PriceResponseDTO} of the reactive API.
+ *
+ * <p>It is the counterpart of the servlet mapper for the DTOs generated into this module from the same
+ * OpenAPI specification.</p>
+ *
+ * @see PriceDto
+ * @see PriceResponseDTO
+ * @see Mapper
+ */
+@Mapper(componentModel = "spring")
+public interface PriceResponseMapper {
+
+    /**
+     * Maps a {@link PriceDto} to a {@link PriceResponseDTO}.
+     *
+     * @param price the {@link PriceDto} to map
+     * @return the corresponding {@link PriceResponseDTO}
+     */
+    PriceResponseDTO toResponse(PriceDto price);
+
+    /**
+     * Maps the items of a batch request to {@link PriceQuery} objects.
+     *
+     * @param items the {@link PriceQueryDTO} items of the request
+     * @return the corresponding list of {@link PriceQuery}
+     */
+    List<PriceQuery> toQueries(List<PriceQueryDTO> items);
+
+    /**
+     * Maps the results of a batch lookup to {@link PriceBatchItemDTO} objects.
+     *
+     * @param items the {@link PriceBatchItemDto} results
+     * @return the corresponding list of {@link PriceBatchItemDTO}
+     */
+    List<PriceBatchItemDTO> toBatchItems(List<PriceBatchItemDto> items);
+
+    /**
+     * Maps a single batch result to a {@link PriceBatchItemDTO}, echoing the query it answers.
+     *
+     * @param item the {@link PriceBatchItemDto} to map
+     * @return the corresponding {@link PriceBatchItemDTO}
+     */
+    @Mapping(source = "query.applicationDate", target = "applicationDate")
+    @Mapping(source = "query.productId", target = "productId")
+    @Mapping(source = "query.brandId", target = "brandId")
+    @Mapping(target = "found", expression = "java(item.found())")
+    PriceBatchItemDTO toBatchItem(PriceBatchItemDto item);
+
+    /**
+     * Maps the currency of a request to the {@link Currency} of the domain.
+     *
+     * @param currency the {@link CurrencyDTO} of the request, or {@code null}
+     * @return the corresponding {@link Currency}, or {@code null}
+     */
+    Currency toCurrency(CurrencyDTO currency);
+}
@@ -0,0 +1,24 @@
+INSERT INTO BRAND
+VALUES (1, 'ZARA');
+
+INSERT INTO PRICES(BRAND_ID, PRICE, START_DATE, CURR, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY)
+VALUES (1, 35.50, TIMESTAMP '2025-06-14 00:00:00', 'EUR', TIMESTAMP '2025-12-31 23:59:59', 1, 35455, 0);
+INSERT INTO PRICES(BRAND_ID, PRICE, START_DATE, CURR, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY)
+VALUES (1, 25.45, TIMESTAMP '2025-06-14 15:00:00', 'EUR', TIMESTAMP '2025-06-14 18:30:00', 2, 35455, 1);
+INSERT INTO PRICES(BRAND_ID, PRICE, START_DATE, CURR, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY)
+VALUES (1, 30.50, TIMESTAMP '2025-06-15 00:00:00', 'EUR', TIMESTAMP '2025-06-15 11:00:00', 3, 35455, 1);
+INSERT INTO PRICES(BRAND_ID, PRICE, START_DATE, CURR, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY)
+VALUES (1, 38.95, TIMESTAMP '2025-06-15 16:00:00', 'EUR', TIMESTAMP '2025-12-31 23:59:59', 4, 35455, 1);
+
+INSERT INTO EXCHANGE_RATES(VERSION, CURR, RATE)
+VALUES (1, 'USD', 1.0842);
+INSERT INTO EXCHANGE_RATES(VERSION, CURR, RATE)
+VALUES (1, 'GBP', 0.8571);
+INSERT INTO EXCHANGE_RATES(VERSION, CURR, RATE)
+VALUES (1, 'CHF', 0.9412);
+INSERT INTO EXCHANGE_RATES(VERSION, CURR, RATE)
+VALUES (1, 'SEK', 11.4730);
+INSERT INTO EXCHANGE_RATES(VERSION, CURR, RATE)
+VALUES (1, 'PLN', 4.2650);
+INSERT INTO EXCHANGE_RATES(VERSION, CURR, RATE)
+VALUES (1, 'MXN', 21.7500);
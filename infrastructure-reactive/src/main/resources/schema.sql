@@ -0,0 +1,25 @@
+CREATE TABLE BRAND (
+    ID INTEGER NOT NULL PRIMARY KEY,
+    NAME VARCHAR(255)
+);
+
+CREATE TABLE PRICES (
+    PRICE_LIST INTEGER NOT NULL PRIMARY KEY,
+    BRAND_ID INTEGER REFERENCES BRAND (ID),
+    CURR VARCHAR(255),
+    END_DATE TIMESTAMP(6),
+    PRICE NUMERIC(38, 2),
+    PRIORITY INTEGER,
+    PRODUCT_ID INTEGER,
+    START_DATE TIMESTAMP(6)
+);
+
+CREATE INDEX PRICES_LOOKUP_IDX ON PRICES (PRODUCT_ID, BRAND_ID, START_DATE, END_DATE, PRIORITY DESC);
+
+CREATE TABLE EXCHANGE_RATES (
+    ID BIGINT AUTO_INCREMENT PRIMARY KEY,
+    CURR VARCHAR(255),
+    RATE NUMERIC(19, 6),
+    VERSION BIGINT,
+    UNIQUE (VERSION, CURR)
+);
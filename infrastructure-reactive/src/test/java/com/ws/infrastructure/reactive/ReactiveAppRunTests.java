@@ -0,0 +1,129 @@
+package com.ws.infrastructure.reactive;
+
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+class ReactiveAppRunTests {
+
+    private static final int PRODUCT_ID = 35455;
+    private static final int BRAND_ID = 1;
+    @Autowired
+    private WebTestClient webTestClient;
+
+    static Stream<Arguments> priceTestCases() {
+        return Stream.of(
+                arguments(new BigDecimal("35.50"), "2025-06-14T10:00:00.000"),
+                arguments(new BigDecimal("25.45"), "2025-06-14T16:00:00.000"),
+                arguments(new BigDecimal("35.50"), "2025-06-14T21:00:00.000"),
+                arguments(new BigDecimal("30.50"), "2025-06-15T10:00:00.000"),
+                arguments(new BigDecimal("38.95"), "2025-06-16T21:00:00.000")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("priceTestCases")
+    @DisplayName("Should return correct price for given application date")
+    void shouldReturnCorrectPriceForGivenApplicationDate(BigDecimal expectedPrice, String applicationDate) {
+        webTestClient.get()
+                .uri(uri -> uri.path("/prices")
+                        .queryParam("applicationDate", applicationDate)
+                        .queryParam("productId", PRODUCT_ID)
+                        .queryParam("brandId", BRAND_ID)
+                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.price").isEqualTo(expectedPrice.doubleValue())
+                .jsonPath("$.productId").isEqualTo(PRODUCT_ID)
+                .jsonPath("$.brandId").isEqualTo(BRAND_ID)
+                .jsonPath("$.currency").isEqualTo("EUR");
+    }
+
+    @Test
+    @DisplayName("Should return the price converted into the requested currency")
+    void shouldReturnPriceInRequestedCurrency() {
+        webTestClient.get()
+                .uri("/prices?applicationDate=2025-06-14T16:00:00.000&productId=35455&brandId=1&currency=USD")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.priceList").isEqualTo(2)
+                .jsonPath("$.price").isEqualTo(27.59)
+                .jsonPath("$.currency").isEqualTo("USD");
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when the currency is unknown")
+    void shouldReturnBadRequestWhenCurrencyIsUnknown() {
+        webTestClient.get()
+                .uri("/prices?applicationDate=2025-06-14T16:00:00.000&productId=35455&brandId=1&currency=XYZ")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Should return 404 Not Found when no price applies")
+    void shouldReturnNotFoundWhenNoPriceApplies() {
+        webTestClient.get()
+                .uri("/prices?applicationDate=2025-06-14T10:00:00.000&productId=35455&brandId=2")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("No price available.");
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when applicationDate is malformed")
+    void shouldReturnBadRequestWhenApplicationDateIsMalformed() {
+        webTestClient.get()
+                .uri("/prices?applicationDate=2025-00:00:00.000&productId=35455&brandId=1")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when brandId parameter is missing")
+    void shouldReturnBadRequestWhenBrandIdIsMissing() {
+        webTestClient.get()
+                .uri("/prices?applicationDate=2025-06-14T10:00:00.000&productId=35455")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Should answer every item of a batch in request order")
+    void shouldAnswerEveryItemOfBatchInRequestOrder() {
+        webTestClient.post()
+                .uri("/prices/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"items":[
+                          {"applicationDate":"2025-06-14T16:00:00","productId":35455,"brandId":1},
+                          {"applicationDate":"2025-06-14T16:00:00","productId":35455,"brandId":2}
+                        ]}
+                        """)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items[0].found").isEqualTo(true)
+                .jsonPath("$.items[0].price.price").isEqualTo(25.45)
+                .jsonPath("$.items[1].found").isEqualTo(false);
+    }
+}
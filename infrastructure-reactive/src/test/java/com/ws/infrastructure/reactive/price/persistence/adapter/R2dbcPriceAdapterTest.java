@@ -0,0 +1,48 @@
+package com.ws.infrastructure.reactive.price.persistence.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.ws.domain.price.model.Brand;
+import com.ws.domain.price.model.Currency;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.test.StepVerifier;
+
+@SpringBootTest
+class R2dbcPriceAdapterTest {
+
+    @Autowired
+    private R2dbcPriceAdapter r2dbcPriceAdapter;
+
+    @Test
+    void getPreferredPrice_ShouldReturnHighestPriority_WhenPricesOverlap() {
+        var date = LocalDateTime.parse("2025-06-14T16:00:00");
+
+        StepVerifier.create(r2dbcPriceAdapter.getPreferredPrice(date, 35455, 1))
+                .assertNext(price -> {
+                    assertEquals(2, price.priceList());
+                    assertEquals(1, price.priority());
+                    assertEquals(Currency.EUR, price.currency());
+                    assertEquals(new BigDecimal("25.45"), price.price());
+                    assertEquals(LocalDateTime.parse("2025-06-14T15:00:00"), price.startDate());
+                    assertEquals(new Brand(1, "ZARA"), price.brand());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getPreferredPrice_ShouldIncludeBothBounds() {
+        StepVerifier.create(r2dbcPriceAdapter.getPreferredPrice(LocalDateTime.parse("2025-06-14T18:30:00"), 35455, 1))
+                .assertNext(price -> assertEquals(2, price.priceList()))
+                .verifyComplete();
+    }
+
+    @Test
+    void getPreferredPrice_ShouldCompleteEmpty_WhenNoPriceApplies() {
+        StepVerifier.create(r2dbcPriceAdapter.getPreferredPrice(LocalDateTime.parse("2025-06-14T10:00:00"), 35455, 2))
+                .verifyComplete();
+    }
+}
@@ -1,14 +1,18 @@
 package com.ws;
 
+import com.ws.infrastructure.price.config.PriceRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 /**
  * Main entry point for the Spring Boot application.
  *
- * <p>This class bootstraps the application using {@link SpringApplication}.</p>
+ * <p>This class bootstraps the application using {@link SpringApplication}. The
+ * {@link PriceRuntimeHints} are used when the application is compiled ahead of time.</p>
  */
 @SpringBootApplication
+@ImportRuntimeHints(PriceRuntimeHints.class)
 public class AppRun {
 
     /**
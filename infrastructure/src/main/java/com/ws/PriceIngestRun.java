@@ -0,0 +1,40 @@
+package com.ws;
+
+import com.ws.application.price.port.in.PriceAdminInboundPort;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * Command-line entry point that bulk loads a price file and exits.
+ *
+ * <p>It starts the {@link AppRun} context without a web server, loads the file through
+ * {@link PriceAdminInboundPort#ingestPrices(Path, boolean)} and prints the report. Usage:
+ * {@code --file=<path> [--replace]}, together with any regular Spring property such as the datasource.</p>
+ */
+public class PriceIngestRun {
+
+    /**
+     * Loads the price file given as argument.
+     *
+     * @param args command-line arguments: {@code --file=<path>} and optionally {@code --replace}
+     */
+    public static void main(String[] args) {
+        var file = Arrays.stream(args)
+                .filter(arg -> arg.startsWith("--file="))
+                .map(arg -> Path.of(arg.substring("--file=".length())))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("usage: --file=<path> [--replace]"));
+        boolean replace = Arrays.asList(args).contains("--replace");
+
+        var context = new SpringApplicationBuilder(AppRun.class)
+                .web(WebApplicationType.NONE)
+                .run(args);
+        var report = context.getBean(PriceAdminInboundPort.class).ingestPrices(file, replace);
+        System.out.printf("%d rows, %d chunks, %d ms, %d rows/s%n",
+                report.rows(), report.chunks(), report.elapsedMillis(), report.rowsPerSecond());
+        System.exit(SpringApplication.exit(context));
+    }
+}
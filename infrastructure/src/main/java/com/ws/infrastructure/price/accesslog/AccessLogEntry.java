@@ -0,0 +1,29 @@
+package com.ws.infrastructure.price.accesslog;
+
+/**
+ * Preallocated slot of the {@link AccessLogRingBuffer}.
+ *
+ * <p>Slots are created once and refilled for every request, so recording an access does not allocate.
+ * The fields only hold references to strings the request already owns, such as its URI and query
+ * string. {@link #sequence} tells producers and the consumer whose turn it is to use the slot.</p>
+ */
+final class AccessLogEntry {
+
+    volatile long sequence;
+    long startMillis;
+    String method;
+    String path;
+    String query;
+    int status;
+    long durationNanos;
+
+    AccessLogEntry(long sequence) {
+        this.sequence = sequence;
+    }
+
+    void clear() {
+        method = null;
+        path = null;
+        query = null;
+    }
+}
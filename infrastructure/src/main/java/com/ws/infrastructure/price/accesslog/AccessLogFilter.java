@@ -0,0 +1,51 @@
+package com.ws.infrastructure.price.accesslog;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Filter that records every request in the access log once its response status is known.
+ *
+ * <p>It only reads values the request and response already hold, such as the URI, the raw query string
+ * and the status, and hands them to the {@link AccessLogWriter}, which samples and writes them in the
+ * background.</p>
+ *
+ * @see AccessLogWriter
+ */
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private final AccessLogWriter accessLogWriter;
+
+    /**
+     * Continues the filter chain and records the request afterwards, even when the chain fails.
+     *
+     * @param request the current HTTP request
+     * @param response the current HTTP response
+     * @param filterChain the remaining filter chain
+     * @throws ServletException if the chain fails
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long startMillis = System.currentTimeMillis();
+        long started = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            accessLogWriter.record(startMillis, request.getMethod(), request.getRequestURI(),
+                    request.getQueryString(), response.getStatus(), System.nanoTime() - started);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.ws.infrastructure.price.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Bounded, lock-free ring buffer of access log entries with many producers and a single consumer.
+ *
+ * <p>Each slot carries a sequence number. A producer claims the next position with a compare-and-set on
+ * the tail, fills the slot and publishes it by advancing the slot sequence. The consumer reads the
+ * published slots in order and hands them back by advancing their sequence by the capacity. A request
+ * thread never blocks or waits for the consumer: when every slot is taken, {@link #offer} fails at once
+ * and the caller counts the line as dropped.</p>
+ */
+final class AccessLogRingBuffer {
+
+    private final AccessLogEntry[] slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    /**
+     * Constructor to allocate every slot of the buffer.
+     *
+     * @param capacity the minimum number of slots, rounded up to a power of two
+     */
+    AccessLogRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new AccessLogEntry[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            slots[i] = new AccessLogEntry(i);
+        }
+    }
+
+    /**
+     * Publishes an entry, unless every slot is taken.
+     *
+     * @param startMillis   the wall-clock time at which the request started
+     * @param method        the HTTP method
+     * @param path          the request URI, without query string
+     * @param query         the query string, or {@code null}
+     * @param status        the response status
+     * @param durationNanos the time spent serving the request
+     * @return {@code true} if the entry was published, {@code false} if the buffer is full
+     */
+    boolean offer(long startMillis, String method, String path, String query, int status, long durationNanos) {
+        long position = tail.get();
+        while (true) {
+            var slot = slots[(int) position & mask];
+            long difference = slot.sequence - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slot.startMillis = startMillis;
+                    slot.method = method;
+                    slot.path = path;
+                    slot.query = query;
+                    slot.status = status;
+                    slot.durationNanos = durationNanos;
+                    slot.sequence = position + 1;
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Passes the published entries to the consumer, in publication order, and frees their slots.
+     *
+     * <p>It must only be called by a single thread. The entry is only valid during the call to the consumer.</p>
+     *
+     * @param consumer   the consumer of each entry
+     * @param maxEntries the maximum number of entries to drain
+     * @return the number of entries drained
+     */
+    int drain(Consumer<AccessLogEntry> consumer, int maxEntries) {
+        int drained = 0;
+        while (drained < maxEntries) {
+            var slot = slots[(int) head & mask];
+            if (slot.sequence != head + 1) {
+                break;
+            }
+            consumer.accept(slot);
+            slot.clear();
+            slot.sequence = head + slots.length;
+            head++;
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Returns the number of slots of the buffer.
+     *
+     * @return the capacity
+     */
+    int capacity() {
+        return slots.length;
+    }
+}
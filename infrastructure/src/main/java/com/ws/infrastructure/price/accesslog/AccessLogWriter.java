@@ -0,0 +1,170 @@
+package com.ws.infrastructure.price.accesslog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Asynchronous, sampled writer of the access log.
+ *
+ * <p>Request threads call {@link #record}, which decides whether the request is sampled and, if so, copies
+ * its fields into a preallocated slot of an {@link AccessLogRingBuffer}. No string is built and no logger
+ * is called on the request thread. A single background thread drains the buffer, formats each entry as
+ * {@code key=value} pairs into one reused {@link StringBuilder} and writes it to the {@code access}
+ * logger.</p>
+ *
+ * <p>The sampling rate is set per status class with {@code price.access-log.sample-rate.2xx},
+ * {@code 3xx}, {@code 4xx} and {@code 5xx}, from {@code 0} (never logged) to {@code 1} (always logged).
+ * Informational responses use the {@code 2xx} rate. When the buffer, sized with
+ * {@code price.access-log.capacity}, is full, the line is dropped instead of slowing the request down.
+ * Written and dropped lines are exported as {@code price.access.log.written} and
+ * {@code price.access.log.dropped}.</p>
+ *
+ * @see AccessLogFilter
+ * @see AccessLogRingBuffer
+ */
+@Component
+public class AccessLogWriter implements SmartLifecycle {
+
+    private static final Logger ACCESS = LoggerFactory.getLogger("access");
+    private static final int DRAIN_BATCH = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final AccessLogRingBuffer buffer;
+    private final double[] sampleRates;
+    private final Counter written;
+    private final Counter dropped;
+    private final StringBuilder line = new StringBuilder(256);
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * Constructor to initialize the writer with its buffer and sampling rates.
+     *
+     * @param capacity      the number of entries the buffer holds before lines are dropped
+     * @param successRate   the sampling rate of {@code 1xx} and {@code 2xx} responses
+     * @param redirectRate  the sampling rate of {@code 3xx} responses
+     * @param clientErrorRate the sampling rate of {@code 4xx} responses
+     * @param serverErrorRate the sampling rate of {@code 5xx} responses
+     * @param meterRegistry the registry of the written and dropped counters
+     */
+    public AccessLogWriter(@Value("${price.access-log.capacity:8192}") int capacity,
+                           @Value("${price.access-log.sample-rate.2xx:0.01}") double successRate,
+                           @Value("${price.access-log.sample-rate.3xx:0.01}") double redirectRate,
+                           @Value("${price.access-log.sample-rate.4xx:0.1}") double clientErrorRate,
+                           @Value("${price.access-log.sample-rate.5xx:1.0}") double serverErrorRate,
+                           MeterRegistry meterRegistry) {
+        this.buffer = new AccessLogRingBuffer(capacity);
+        this.sampleRates = new double[]{successRate, successRate, successRate, redirectRate, clientErrorRate,
+                serverErrorRate};
+        this.written = meterRegistry.counter("price.access.log.written");
+        this.dropped = meterRegistry.counter("price.access.log.dropped");
+    }
+
+    /**
+     * Records a served request, if it is sampled.
+     *
+     * @param startMillis   the wall-clock time at which the request started
+     * @param method        the HTTP method
+     * @param path          the request URI, without query string
+     * @param query         the query string, or {@code null}
+     * @param status        the response status
+     * @param durationNanos the time spent serving the request
+     */
+    public void record(long startMillis, String method, String path, String query, int status, long durationNanos) {
+        double rate = sampleRates[Math.min(Math.max(status / 100, 0), sampleRates.length - 1)];
+        if (rate <= 0 || (rate < 1 && ThreadLocalRandom.current().nextDouble() >= rate)) {
+            return;
+        }
+        if (!buffer.offer(startMillis, method, path, query, status, durationNanos)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Writes every entry currently in the buffer.
+     *
+     * <p>It is called by the background thread, and must not be called concurrently with it.</p>
+     *
+     * @return the number of lines written
+     */
+    int flush() {
+        int total = 0;
+        int drained;
+        do {
+            drained = buffer.drain(this::write, DRAIN_BATCH);
+            total += drained;
+        } while (drained == DRAIN_BATCH);
+        if (total > 0) {
+            written.increment(total);
+        }
+        return total;
+    }
+
+    /**
+     * Starts the background thread that drains the buffer.
+     */
+    @Override
+    public void start() {
+        running = true;
+        thread = Thread.ofPlatform().daemon().name("access-log-writer").start(this::run);
+    }
+
+    /**
+     * Stops the background thread once it has written the remaining entries.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Returns whether the background thread is running.
+     *
+     * @return {@code true} between {@link #start()} and {@link #stop()}
+     */
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            if (flush() == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        flush();
+    }
+
+    private void write(AccessLogEntry entry) {
+        if (!ACCESS.isInfoEnabled()) {
+            return;
+        }
+        line.setLength(0);
+        line.append("start=").append(entry.startMillis)
+                .append(" method=").append(entry.method)
+                .append(" path=").append(entry.path);
+        if (entry.query != null) {
+            line.append(" query=\"").append(entry.query).append('"');
+        }
+        line.append(" status=").append(entry.status)
+                .append(" durationMicros=").append(TimeUnit.NANOSECONDS.toMicros(entry.durationNanos));
+        ACCESS.info("{}", line);
+    }
+}
@@ -0,0 +1,87 @@
+package com.ws.infrastructure.price.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ws.infrastructure.price.rest.dto.ErrorResponseDTO;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pre-encoded JSON bodies of the {@link ErrorResponseDTO}s returned by {@link GlobalExceptionHandler}.
+ *
+ * <p>Error bodies only differ by their status, their message and their timestamp, so each status and message
+ * is encoded once and reused until the second of its timestamp changes. Timestamps are therefore truncated to
+ * the second. At most {@value #MAXIMUM_SIZE} bodies are kept, and bodies beyond that are encoded on every
+ * call.</p>
+ *
+ * @see GlobalExceptionHandler
+ */
+@Component
+public class ErrorResponseBodies {
+
+    static final int MAXIMUM_SIZE = 256;
+
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final Map<BodyKey, EncodedBody> bodies = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor to initialize the bodies with the application {@link ObjectMapper}.
+     *
+     * @param objectMapper the mapper used to encode the bodies
+     */
+    @Autowired
+    public ErrorResponseBodies(ObjectMapper objectMapper) {
+        this(objectMapper, Clock.systemDefaultZone());
+    }
+
+    ErrorResponseBodies(ObjectMapper objectMapper, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the encoded body of an error.
+     *
+     * @param status  the HTTP status of the error
+     * @param message the message of the error
+     * @return the JSON body, which must not be modified
+     */
+    public byte[] body(HttpStatus status, String message) {
+        long second = Math.floorDiv(clock.millis(), 1000);
+        var key = new BodyKey(status, message);
+        var encoded = bodies.get(key);
+        if (encoded == null || encoded.second() != second) {
+            encoded = new EncodedBody(second, encode(status, message));
+            if (bodies.size() < MAXIMUM_SIZE || bodies.containsKey(key)) {
+                bodies.put(key, encoded);
+            }
+        }
+        return encoded.json();
+    }
+
+    private byte[] encode(HttpStatus status, String message) {
+        var body = new ErrorResponseDTO();
+        body.setTimestamp(LocalDateTime.now(clock).truncatedTo(ChronoUnit.SECONDS));
+        body.setStatus(status.value());
+        body.setError(status.getReasonPhrase());
+        body.setMessage(message);
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("error response not encoded : " + e.getMessage(), e);
+        }
+    }
+
+    private record BodyKey(HttpStatus status, String message) {
+    }
+
+    private record EncodedBody(long second, byte[] json) {
+    }
+}
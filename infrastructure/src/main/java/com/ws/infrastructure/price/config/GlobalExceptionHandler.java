@@ -1,12 +1,20 @@
 package com.ws.infrastructure.price.config;
 
 
+import com.ws.domain.price.exception.ConflictException;
 import com.ws.domain.price.exception.NotFoundException;
+import com.ws.infrastructure.price.partition.PriceNodeUnavailableException;
 import com.ws.infrastructure.price.rest.dto.ErrorResponseDTO;
-import java.time.LocalDateTime;
+import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -23,24 +31,57 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
  * <p>The following exceptions are handled:
  * <ul>
  *   <li>{@link NotFoundException} - Returns a 404 Not Found response.</li>
- *   <li>{@link IllegalArgumentException} and {@link MethodArgumentTypeMismatchException} -
- *   Returns a 400 Bad Request response.</li>
+ *   <li>{@link ConflictException} - Returns a 409 Conflict response.</li>
+ *   <li>{@link IllegalArgumentException}, {@link MethodArgumentTypeMismatchException} and invalid request
+ *   bodies ({@link MethodArgumentNotValidException}, {@link ConstraintViolationException},
+ *   {@link HttpMessageNotReadableException}) - Returns a 400 Bad Request response.</li>
+ *   <li>{@link CannotCreateTransactionException} and {@link DataAccessResourceFailureException} - Returns a
+ *   503 Service Unavailable response when no database connection can be obtained, for instance when the
+ *   database bulkhead rejects the request, and {@link PriceNodeUnavailableException} when the node owning the
+ *   brand of a batch query does not answer.</li>
  *   <li>{@link Exception} - Catches all other exceptions and returns a 500 Internal Server Error response.</li>
  *   <li>{@link MissingServletRequestParameterException} - Returns a 400 Bad Request response when
  *   a required query parameter is missing.</li>
  * </ul>
  * </p>
  *
+ * <p>Client errors are expected under normal operation and are already recorded by the access log, so
+ * they are only logged at debug level. Server errors are logged with their stack trace, and unavailable
+ * databases and nodes with their message, each at most {@code price.error-log.max-per-second} times per second. The
+ * occurrences left out in between are counted in the next line.</p>
+ *
+ * <p>Bodies are taken already encoded from {@link ErrorResponseBodies}, so an expected miss or bad request
+ * neither builds nor serializes an {@link ErrorResponseDTO}.</p>
+ *
  * @see NotFoundException
+ * @see ConflictException
  * @see IllegalArgumentException
  * @see MethodArgumentTypeMismatchException
  * @see MissingServletRequestParameterException
  * @see ErrorResponseDTO
+ * @see ErrorResponseBodies
  */
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final ErrorResponseBodies errorBodies;
+    private final LogRateLimiter unavailableLog;
+    private final LogRateLimiter errorLog;
+
+    /**
+     * Constructor to initialize the handler with its pre-encoded bodies and log rate.
+     *
+     * @param errorBodies           the pre-encoded error bodies
+     * @param maxLogLinesPerSecond  the maximum number of lines per second logged for each kind of server error
+     */
+    public GlobalExceptionHandler(ErrorResponseBodies errorBodies,
+                                  @Value("${price.error-log.max-per-second:10}") int maxLogLinesPerSecond) {
+        this.errorBodies = errorBodies;
+        this.unavailableLog = new LogRateLimiter(maxLogLinesPerSecond);
+        this.errorLog = new LogRateLimiter(maxLogLinesPerSecond);
+    }
+
     /**
      * Handles {@link NotFoundException} and returns a 404 Not Found response.
      *
@@ -54,21 +95,54 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * Handles {@link IllegalArgumentException} and {@link MethodArgumentTypeMismatchException}
-     * and returns a 400 Bad Request response.
+     * Handles {@link ConflictException} and returns a 409 Conflict response.
      *
      * @param ex the exception thrown
      * @param request the current web request
      * @return a {@link ResponseEntity} containing the error details
      */
-    @ExceptionHandler({IllegalArgumentException.class, MethodArgumentTypeMismatchException.class})
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<Object> handleConflict(ConflictException ex, WebRequest request) {
+        log.debug("exception - {} : {}", HttpStatus.CONFLICT.value(), ex.getMessage());
+        return buildErrorResponse(HttpStatus.CONFLICT,
+                "The resource was changed at the same time, read it and try again.");
+    }
+
+    /**
+     * Handles {@link IllegalArgumentException}, {@link MethodArgumentTypeMismatchException} and invalid
+     * request bodies and returns a 400 Bad Request response.
+     *
+     * @param ex the exception thrown
+     * @param request the current web request
+     * @return a {@link ResponseEntity} containing the error details
+     */
+    @ExceptionHandler({IllegalArgumentException.class, MethodArgumentTypeMismatchException.class,
+            MethodArgumentNotValidException.class, ConstraintViolationException.class,
+            HttpMessageNotReadableException.class})
     public ResponseEntity<Object> handleIllegalArgument(Exception ex, WebRequest request) {
 
         var badRequest = HttpStatus.BAD_REQUEST;
-        log.error("exception - {} : {}",badRequest.value(), ex.getMessage());
+        log.debug("exception - {} : {}", badRequest.value(), ex.getMessage());
         return buildErrorResponse(badRequest, badRequest.getReasonPhrase());
     }
 
+    /**
+     * Handles the failures to obtain a database connection or an answer from another price node, and returns
+     * a 503 Service Unavailable response.
+     *
+     * @param ex the exception thrown
+     * @param request the current web request
+     * @return a {@link ResponseEntity} containing the error details
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class,
+            PriceNodeUnavailableException.class})
+    public ResponseEntity<Object> handleUnavailable(Exception ex, WebRequest request) {
+        long suppressed = unavailableLog.tryAcquire();
+        if (suppressed != LogRateLimiter.SUPPRESSED) {
+            log.warn("unavailable : {} ({} similar suppressed)", ex.getMessage(), suppressed);
+        }
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, "The service is temporarily unavailable.");
+    }
 
     /**
      * Handles any other {@link Exception} and returns a 500 Internal Server Error response.
@@ -79,7 +153,10 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleGeneralException(Exception ex, WebRequest request) {
-        log.error("exception : {}",ex.getMessage());
+        long suppressed = errorLog.tryAcquire();
+        if (suppressed != LogRateLimiter.SUPPRESSED) {
+            log.error("exception : {} ({} similar suppressed)", ex.getMessage(), suppressed, ex);
+        }
         return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred.");
     }
 
@@ -101,16 +178,11 @@ public class GlobalExceptionHandler {
      *
      * @param status the HTTP status code to return
      * @param message the error message to include in the response
-     * @return a {@link ResponseEntity} containing the error details
+     * @return a {@link ResponseEntity} containing the encoded error details
      */
     private ResponseEntity<Object> buildErrorResponse(HttpStatus status, String message) {
-
-        log.error("exception - {} : {}", status, message);
-        var body = new ErrorResponseDTO();
-        body.setTimestamp(LocalDateTime.now());
-        body.setStatus(status.value());
-        body.setError(status.getReasonPhrase());
-        body.setMessage(message);
-        return new ResponseEntity<>(body, status);
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorBodies.body(status, message));
     }
 }
@@ -0,0 +1,60 @@
+package com.ws.infrastructure.price.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Fixed-window limiter of the log lines written for a recurring error.
+ *
+ * <p>At most {@code permitsPerSecond} lines are allowed per second. The calls refused in between are only
+ * counted, and the count is handed to the next allowed call, so the log still tells how many occurrences
+ * it left out.</p>
+ *
+ * @see GlobalExceptionHandler
+ */
+public class LogRateLimiter {
+
+    /** Returned by {@link #tryAcquire()} when the line must not be written. */
+    public static final long SUPPRESSED = -1;
+
+    private final int permitsPerSecond;
+    private final LongSupplier nanoTime;
+    private final AtomicLong window = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicInteger used = new AtomicInteger();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    /**
+     * Constructor to initialize the limiter.
+     *
+     * @param permitsPerSecond the maximum number of lines per second
+     */
+    public LogRateLimiter(int permitsPerSecond) {
+        this(permitsPerSecond, System::nanoTime);
+    }
+
+    LogRateLimiter(int permitsPerSecond, LongSupplier nanoTime) {
+        this.permitsPerSecond = Math.max(1, permitsPerSecond);
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Takes a permit for one log line.
+     *
+     * @return the number of lines suppressed since the previous allowed one, or {@link #SUPPRESSED} if this
+     *         line must not be written
+     */
+    public long tryAcquire() {
+        long current = nanoTime.getAsLong() / TimeUnit.SECONDS.toNanos(1);
+        long previous = window.get();
+        if (previous != current && window.compareAndSet(previous, current)) {
+            used.set(0);
+        }
+        if (used.incrementAndGet() <= permitsPerSecond) {
+            return suppressed.getAndSet(0);
+        }
+        suppressed.incrementAndGet();
+        return SUPPRESSED;
+    }
+}
@@ -0,0 +1,52 @@
+package com.ws.infrastructure.price.config;
+
+import com.ws.infrastructure.price.partition.PriceBatchRouter;
+import com.ws.infrastructure.price.persistence.filter.PriceKey;
+import com.ws.infrastructure.price.persistence.projection.PriceAmount;
+import com.ws.infrastructure.price.persistence.projection.PriceFingerprint;
+import com.ws.infrastructure.price.persistence.projection.PriceView;
+import com.ws.infrastructure.price.rest.cache.PriceResponseCache;
+import com.ws.infrastructure.price.rest.dto.ErrorResponseDTO;
+import com.ws.infrastructure.price.rest.dto.PriceBatchItemDTO;
+import com.ws.infrastructure.price.rest.dto.PriceBatchRequestDTO;
+import com.ws.infrastructure.price.rest.dto.PriceBatchResponseDTO;
+import com.ws.infrastructure.price.rest.dto.PriceQueryDTO;
+import com.ws.infrastructure.price.rest.dto.PriceResponseDTO;
+import com.ws.infrastructure.price.rest.dto.PriceTimelineSegmentDTO;
+import com.ws.infrastructure.price.rest.export.PriceCatalogExportHttpMessageConverter;
+import com.ws.infrastructure.price.rest.timeline.PriceTimelineResponseBody;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Reflection hints the native image needs on top of the ones Spring AOT infers.
+ *
+ * <p>AOT processing already registers the JPA entities, their listener and the DTOs that the controllers
+ * read and write. It cannot see the DTOs that are encoded outside of a controller, by
+ * {@link ErrorResponseBodies}, {@link PriceResponseCache}, {@link PriceBatchRouter},
+ * {@link PriceTimelineResponseBody} and {@link PriceCatalogExportHttpMessageConverter}, nor the projections
+ * that Hibernate builds from the constructor expressions of the JPQL queries.</p>
+ */
+public class PriceRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                ErrorResponseDTO.class,
+                PriceResponseDTO.class,
+                PriceQueryDTO.class,
+                PriceBatchRequestDTO.class,
+                PriceBatchResponseDTO.class,
+                PriceBatchItemDTO.class,
+                PriceTimelineSegmentDTO.class);
+        hints.reflection()
+                .registerType(PriceView.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                .registerType(PriceKey.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                .registerType(PriceAmount.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                .registerType(PriceFingerprint.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+    }
+}
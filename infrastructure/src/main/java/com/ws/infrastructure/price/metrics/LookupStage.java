@@ -0,0 +1,42 @@
+package com.ws.infrastructure.price.metrics;
+
+/**
+ * Stages of the price lookup path timed by {@link PriceLookupTimers}.
+ *
+ * <p>Stages nest: {@link #SERVICE} includes {@link #DTO_MAPPING} and the outbound adapter, and
+ * {@link #ADAPTER} includes {@link #DB} and {@link #ENTITY_MAPPING}.</p>
+ */
+public enum LookupStage {
+
+    /** Argument binding and validation, from the handler interceptor to the controller method. */
+    BINDING("binding"),
+    /** The call to the inbound port, {@code PriceService}. */
+    SERVICE("service"),
+    /** The call to {@code PriceRepositoryAdapter}. */
+    ADAPTER("adapter"),
+    /** The lookup query, including the connection checkout and the JPA overhead. */
+    DB("db"),
+    /** The mapping from {@code PriceEntity} or {@code PriceView} to the domain {@code Price}. */
+    ENTITY_MAPPING("mapping.entity"),
+    /** The mapping from the domain {@code Price} to {@code PriceDto}. */
+    DTO_MAPPING("mapping.dto"),
+    /** The mapping from {@code PriceDto} to {@code PriceResponseDTO}. */
+    RESPONSE_MAPPING("mapping.response"),
+    /** The JSON writing of {@code PriceResponseDTO}. */
+    SERIALIZATION("serialization");
+
+    private final String tag;
+
+    LookupStage(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * Returns the value of the {@code stage} tag of the stage.
+     *
+     * @return the tag value
+     */
+    public String tag() {
+        return tag;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ws.infrastructure.price.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Interceptor that marks the time at which the handler of a lookup is about to run.
+ *
+ * <p>The handler arguments are bound and validated after {@link #preHandle} returns, so the time between
+ * this mark and the start of the controller method is the {@link LookupStage#BINDING} stage, recorded with
+ * {@link PriceLookupTimers#recordBinding()}.</p>
+ *
+ * @see PriceLookupTimers
+ */
+public class LookupTimingInterceptor implements HandlerInterceptor {
+
+    /**
+     * Request attribute holding the {@link System#nanoTime()} at which the handler is about to run.
+     */
+    public static final String HANDLER_START = LookupTimingInterceptor.class.getName() + ".HANDLER_START";
+
+    /**
+     * Marks the time at which the handler is about to run.
+     *
+     * @param request the current HTTP request
+     * @param response the current HTTP response
+     * @param handler the handler to execute
+     * @return always {@code true}
+     */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(HANDLER_START, System.nanoTime());
+        return true;
+    }
+}
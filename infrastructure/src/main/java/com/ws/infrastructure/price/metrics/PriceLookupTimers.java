@@ -0,0 +1,79 @@
+package com.ws.infrastructure.price.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Timers of each {@link LookupStage} of the price lookup path.
+ *
+ * <p>Every stage is exported as {@code price.lookup.stage} with a {@code stage} tag, together with a
+ * percentile histogram from 1 µs to 1 s, so the latency percentiles of each layer can be computed and
+ * compared on the server side. Stages that take less than 1 µs fall into the lowest bucket.</p>
+ *
+ * @see LookupStage
+ * @see LookupTimingInterceptor
+ */
+@Component
+public class PriceLookupTimers {
+
+    private final Map<LookupStage, Timer> timers = new EnumMap<>(LookupStage.class);
+
+    /**
+     * Constructor to register a timer per stage.
+     *
+     * @param meterRegistry the registry of the timers
+     */
+    public PriceLookupTimers(MeterRegistry meterRegistry) {
+        for (LookupStage stage : LookupStage.values()) {
+            timers.put(stage, Timer.builder("price.lookup.stage")
+                    .description("Time spent in each stage of the price lookup path")
+                    .tag("stage", stage.tag())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(1_000))
+                    .maximumExpectedValue(Duration.ofSeconds(1))
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Runs a stage and records its duration.
+     *
+     * @param stage    the stage being run
+     * @param supplier the code of the stage
+     * @param <T>      the type of the result
+     * @return the result of the stage
+     */
+    public <T> T record(LookupStage stage, Supplier<T> supplier) {
+        return timers.get(stage).record(supplier);
+    }
+
+    /**
+     * Records the duration of a stage that started at the given time.
+     *
+     * @param stage       the stage that ended
+     * @param startNanos  the {@link System#nanoTime()} at which the stage started
+     */
+    public void recordSince(LookupStage stage, long startNanos) {
+        timers.get(stage).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the {@link LookupStage#BINDING} stage of the current request, if
+     * {@link LookupTimingInterceptor} marked its start.
+     */
+    public void recordBinding() {
+        var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null && attributes.getAttribute(LookupTimingInterceptor.HANDLER_START,
+                RequestAttributes.SCOPE_REQUEST) instanceof Long start) {
+            recordSince(LookupStage.BINDING, start);
+        }
+    }
+}
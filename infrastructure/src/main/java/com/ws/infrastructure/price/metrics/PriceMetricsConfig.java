@@ -0,0 +1,60 @@
+package com.ws.infrastructure.price.metrics;
+
+import com.ws.application.price.mapper.PriceDtoMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration class that hooks the {@link PriceLookupTimers} into the stages of the lookup path that the
+ * controller and the adapter cannot time themselves.
+ *
+ * <p>It registers the {@link LookupTimingInterceptor} on {@code /prices} and wraps the {@link PriceDtoMapper}
+ * in a {@link TimedPriceDtoMapper}. Serialization is timed by the JSON converter that writes the response,
+ * {@link com.ws.infrastructure.price.rest.cache.PriceResponseHttpMessageConverter}.</p>
+ *
+ * @see PriceLookupTimers
+ */
+@Configuration
+@RequiredArgsConstructor
+public class PriceMetricsConfig implements WebMvcConfigurer {
+
+    private final PriceLookupTimers timers;
+
+    /**
+     * Creates the post-processor that wraps the {@link PriceDtoMapper}.
+     *
+     * <p>It is static so that it is registered before the mapper is created, and it only resolves the
+     * timers when the mapper is wrapped.</p>
+     *
+     * @param timers the provider of the lookup timers
+     * @return the {@link BeanPostProcessor}
+     */
+    @Bean
+    public static BeanPostProcessor timedPriceDtoMapperPostProcessor(ObjectProvider<PriceLookupTimers> timers) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof PriceDtoMapper mapper) || bean instanceof TimedPriceDtoMapper) {
+                    return bean;
+                }
+                return new TimedPriceDtoMapper(mapper, timers.getObject());
+            }
+        };
+    }
+
+    /**
+     * Adds the {@link LookupTimingInterceptor} to the lookup endpoint.
+     *
+     * @param registry the interceptor registry to which the interceptor is added
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new LookupTimingInterceptor())
+                .addPathPatterns("/prices");
+    }
+}
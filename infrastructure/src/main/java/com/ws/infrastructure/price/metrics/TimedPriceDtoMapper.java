@@ -0,0 +1,45 @@
+package com.ws.infrastructure.price.metrics;
+
+import com.ws.application.price.mapper.PriceDtoMapper;
+import com.ws.application.price.model.PriceDto;
+import com.ws.application.price.model.PriceSegmentDto;
+import com.ws.domain.price.model.Price;
+import com.ws.domain.price.model.PriceSegment;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link PriceDtoMapper} that records the {@link LookupStage#DTO_MAPPING} stage around another mapper.
+ *
+ * <p>The mapper is called by {@code PriceService} in the application module, which does not depend on
+ * Micrometer, so it is timed by decorating the generated mapper instead.</p>
+ *
+ * @see PriceMetricsConfig
+ */
+@RequiredArgsConstructor
+public class TimedPriceDtoMapper implements PriceDtoMapper {
+
+    private final PriceDtoMapper delegate;
+    private final PriceLookupTimers timers;
+
+    /**
+     * Converts a {@link Price} into a {@link PriceDto}, recording the duration of the mapping.
+     *
+     * @param price the domain model to convert
+     * @return the corresponding {@link PriceDto}
+     */
+    @Override
+    public PriceDto toDto(Price price) {
+        return timers.record(LookupStage.DTO_MAPPING, () -> delegate.toDto(price));
+    }
+
+    /**
+     * Converts a {@link PriceSegment} into a {@link PriceSegmentDto}, recording the duration of the mapping.
+     *
+     * @param segment the segment to convert
+     * @return the corresponding {@link PriceSegmentDto}
+     */
+    @Override
+    public PriceSegmentDto toSegmentDto(PriceSegment segment) {
+        return timers.record(LookupStage.DTO_MAPPING, () -> delegate.toSegmentDto(segment));
+    }
+}
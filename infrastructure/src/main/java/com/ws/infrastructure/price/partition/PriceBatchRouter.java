@@ -0,0 +1,130 @@
+package com.ws.infrastructure.price.partition;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ws.infrastructure.price.rest.dto.PriceBatchItemDTO;
+import com.ws.infrastructure.price.rest.dto.PriceBatchRequestDTO;
+import com.ws.infrastructure.price.rest.dto.PriceBatchResponseDTO;
+import com.ws.infrastructure.price.rest.dto.PriceQueryDTO;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Splits a batch lookup between this node and the nodes owning the other brands of the batch.
+ *
+ * <p>The queries of each remote node are sent to it as a batch of their own with
+ * {@link PriceNodeClient#postAsync}, while the local queries are resolved, and the answers are put back in
+ * the order of the request. A batch that has already been forwarded, or that only holds brands answered
+ * locally, is resolved locally as a whole.</p>
+ *
+ * @see PricePartition
+ * @see PriceNodeClient
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceBatchRouter {
+
+    private static final String BATCH_PATH = "/prices/batch";
+
+    private final PricePartition partition;
+    private final PriceNodeClient nodeClient;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Resolves the queries of a batch, each on the node owning its brand.
+     *
+     * @param queries the queries of the batch
+     * @param local   the lookup of the queries answered by this node
+     * @return one item per query, in the same order as {@code queries}
+     * @throws PriceNodeUnavailableException if a node does not answer its part of the batch
+     */
+    public List<PriceBatchItemDTO> route(List<PriceQueryDTO> queries,
+                                         Function<List<PriceQueryDTO>, List<PriceBatchItemDTO>> local) {
+        if (!partition.isPartitioned() || isForwarded()) {
+            return local.apply(queries);
+        }
+        var localIndexes = new ArrayList<Integer>();
+        var remoteIndexes = new HashMap<URI, List<Integer>>();
+        for (int i = 0; i < queries.size(); i++) {
+            var owner = partition.remoteOwner(queries.get(i).getBrandId());
+            if (owner.isPresent()) {
+                remoteIndexes.computeIfAbsent(owner.get(), node -> new ArrayList<>()).add(i);
+            } else {
+                localIndexes.add(i);
+            }
+        }
+        if (remoteIndexes.isEmpty()) {
+            return local.apply(queries);
+        }
+
+        var remote = new HashMap<URI, CompletableFuture<HttpResponse<byte[]>>>();
+        remoteIndexes.forEach((node, indexes) -> remote.put(node,
+                nodeClient.postAsync(node, BATCH_PATH, encode(select(queries, indexes)))));
+
+        var items = new PriceBatchItemDTO[queries.size()];
+        if (!localIndexes.isEmpty()) {
+            place(items, localIndexes, local.apply(select(queries, localIndexes)));
+        }
+        for (Map.Entry<URI, List<Integer>> entry : remoteIndexes.entrySet()) {
+            place(items, entry.getValue(), decode(entry.getKey(), join(remote.get(entry.getKey()))));
+        }
+        return Arrays.asList(items);
+    }
+
+    private static boolean isForwarded() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                && attributes.getRequest().getHeader(PriceNodeClient.ROUTED_HEADER) != null;
+    }
+
+    private static List<PriceQueryDTO> select(List<PriceQueryDTO> queries, List<Integer> indexes) {
+        return indexes.stream().map(queries::get).toList();
+    }
+
+    private static void place(PriceBatchItemDTO[] items, List<Integer> indexes, List<PriceBatchItemDTO> answers) {
+        for (int i = 0; i < indexes.size(); i++) {
+            items[indexes.get(i)] = answers.get(i);
+        }
+    }
+
+    private byte[] encode(List<PriceQueryDTO> queries) {
+        try {
+            return objectMapper.writeValueAsBytes(new PriceBatchRequestDTO(queries));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("batch request not encoded : " + e.getMessage(), e);
+        }
+    }
+
+    private static HttpResponse<byte[]> join(CompletableFuture<HttpResponse<byte[]>> response) {
+        try {
+            return response.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof PriceNodeUnavailableException unavailable ? unavailable : e;
+        }
+    }
+
+    private List<PriceBatchItemDTO> decode(URI node, HttpResponse<byte[]> response) {
+        if (response.statusCode() != HttpStatus.OK.value()) {
+            throw new PriceNodeUnavailableException(
+                    "price node " + node + " answered " + response.statusCode() + " to a batch", null);
+        }
+        try {
+            return objectMapper.readValue(response.body(), PriceBatchResponseDTO.class).getItems();
+        } catch (IOException e) {
+            throw new PriceNodeUnavailableException("price node " + node + " answered an unreadable batch", e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.ws.infrastructure.price.partition;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * HTTP client that forwards lookups to the node owning their brand.
+ *
+ * <p>A single {@link HttpClient} speaking HTTP/1.1 is shared by every forwarded request, so connections to
+ * each node are kept alive and reused from its pool. Every forwarded request carries the
+ * {@value #ROUTED_HEADER} header, and a node never forwards a request that carries it, so a
+ * misconfigured partition cannot make two nodes forward a lookup to each other forever.</p>
+ *
+ * @see PricePartition
+ */
+@Component
+public class PriceNodeClient {
+
+    /** Header set on every forwarded request. */
+    public static final String ROUTED_HEADER = "X-Price-Routed";
+
+    private final HttpClient httpClient;
+    private final PricePartition partition;
+
+    /**
+     * Constructor to initialize the client with the timeouts of the partition.
+     *
+     * @param partition the partition of this node
+     */
+    public PriceNodeClient(PricePartition partition) {
+        this.partition = partition;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(partition.timeout())
+                .build();
+    }
+
+    /**
+     * Forwards a lookup and waits for its answer.
+     *
+     * @param node          the base URL of the owning node
+     * @param pathAndQuery  the path and raw query string of the lookup
+     * @param accept        the {@code Accept} header of the lookup, or {@code null}
+     * @param ifNoneMatch   the {@code If-None-Match} header of the lookup, or {@code null}
+     * @return the response of the owning node, whatever its status
+     * @throws PriceNodeUnavailableException if the node cannot be reached in time
+     */
+    public HttpResponse<byte[]> get(URI node, String pathAndQuery, String accept, String ifNoneMatch) {
+        var request = request(node, pathAndQuery);
+        if (accept != null) {
+            request.header(HttpHeaders.ACCEPT, accept);
+        }
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        try {
+            return httpClient.send(request.GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw unavailable(node, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw unavailable(node, e);
+        }
+    }
+
+    /**
+     * Forwards a JSON request without waiting for its answer.
+     *
+     * @param node the base URL of the owning node
+     * @param path the path of the request
+     * @param json the JSON body of the request
+     * @return the response of the owning node, whatever its status, completed exceptionally with a
+     *         {@link PriceNodeUnavailableException} if the node cannot be reached in time
+     */
+    public CompletableFuture<HttpResponse<byte[]>> postAsync(URI node, String path, byte[] json) {
+        var request = request(node, path)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(json))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .exceptionally(failure -> {
+                    throw unavailable(node, failure instanceof CompletionException ? failure.getCause() : failure);
+                });
+    }
+
+    private HttpRequest.Builder request(URI node, String pathAndQuery) {
+        return HttpRequest.newBuilder(URI.create(node.toString().replaceAll("/+$", "") + pathAndQuery))
+                .timeout(partition.timeout())
+                .header(ROUTED_HEADER, "true");
+    }
+
+    private static PriceNodeUnavailableException unavailable(URI node, Throwable cause) {
+        return new PriceNodeUnavailableException("price node " + node + " unavailable : " + cause, cause);
+    }
+}
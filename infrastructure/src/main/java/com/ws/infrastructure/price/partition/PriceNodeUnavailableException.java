@@ -0,0 +1,19 @@
+package com.ws.infrastructure.price.partition;
+
+/**
+ * Exception thrown when a lookup forwarded to the node owning its brand gets no usable answer.
+ *
+ * @see PriceNodeClient
+ */
+public class PriceNodeUnavailableException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code PriceNodeUnavailableException} with the specified detail message and cause.
+     *
+     * @param message the detail message explaining why the node is unavailable
+     * @param cause   the failure of the forwarded request, or {@code null}
+     */
+    public PriceNodeUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
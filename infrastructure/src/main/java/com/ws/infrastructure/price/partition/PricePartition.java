@@ -0,0 +1,62 @@
+package com.ws.infrastructure.price.partition;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Brands owned by this node when prices are partitioned by brand across several nodes.
+ *
+ * <p>A node owns the brands listed in {@code price.partition.brands} and only loads their rows into its
+ * in-memory read models. Lookups of any other brand are forwarded to the node given for it in
+ * {@code price.partition.owners}, and answered locally when no owner is configured. With an empty
+ * {@code brands}, the default, the node owns every brand and nothing is forwarded.</p>
+ *
+ * @param brands  the identifiers of the brands owned by this node, empty to own every brand
+ * @param owners  the base URL of the node owning each brand that is not owned by this node
+ * @param timeout the time allowed for a forwarded request, including the connection
+ */
+@ConfigurationProperties(prefix = "price.partition")
+public record PricePartition(Set<Integer> brands, Map<Integer, URI> owners, @DefaultValue("2s") Duration timeout) {
+
+    /**
+     * Canonical constructor, which treats missing sets and maps as empty.
+     */
+    public PricePartition {
+        brands = brands == null ? Set.of() : Set.copyOf(brands);
+        owners = owners == null ? Map.of() : Map.copyOf(owners);
+    }
+
+    /**
+     * Tells whether this node only owns some of the brands.
+     *
+     * @return {@code true} if {@code price.partition.brands} is set
+     */
+    public boolean isPartitioned() {
+        return !brands.isEmpty();
+    }
+
+    /**
+     * Tells whether the prices of a brand are loaded by this node.
+     *
+     * @param brandId the identifier of the brand
+     * @return {@code true} if the node is not partitioned or owns the brand
+     */
+    public boolean owns(Integer brandId) {
+        return brands.isEmpty() || brands.contains(brandId);
+    }
+
+    /**
+     * Returns the node to which the lookups of a brand are forwarded.
+     *
+     * @param brandId the identifier of the brand
+     * @return the base URL of the owning node, or an empty {@link Optional} if the brand is answered locally
+     */
+    public Optional<URI> remoteOwner(Integer brandId) {
+        return owns(brandId) ? Optional.empty() : Optional.ofNullable(owners.get(brandId));
+    }
+}
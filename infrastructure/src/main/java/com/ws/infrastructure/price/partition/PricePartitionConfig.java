@@ -0,0 +1,14 @@
+package com.ws.infrastructure.price.partition;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class that binds the {@link PricePartition} of this node from {@code price.partition}.
+ *
+ * @see PricePartition
+ */
+@Configuration
+@EnableConfigurationProperties(PricePartition.class)
+public class PricePartitionConfig {
+}
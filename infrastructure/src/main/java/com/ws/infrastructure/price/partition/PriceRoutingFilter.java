@@ -0,0 +1,131 @@
+package com.ws.infrastructure.price.partition;
+
+import com.ws.infrastructure.price.config.ErrorResponseBodies;
+import com.ws.infrastructure.price.config.LogRateLimiter;
+import com.ws.infrastructure.price.rest.controller.PriceSnapshotVersionAdvice;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Filter that forwards {@code GET /prices} and {@code GET /prices/timeline}, and redirects
+ * {@code GET /prices/export}, to the node owning the requested brand.
+ *
+ * <p>It only acts when this node is partitioned, the brand is owned by another node and the request has not
+ * been forwarded already. The request goes through {@link PriceNodeClient} with its {@code Accept} and
+ * {@code If-None-Match} headers, and the status, the caching headers and the body of the owning node are
+ * copied as they are, so a forwarded lookup answers exactly like a local one, {@code 304} included. A
+ * forwarded timeline is received whole before it is copied, so it is only streamed by the owning node. An
+ * export, which may be too large to hold, is not forwarded: it is answered with a
+ * {@code 307 Temporary Redirect} to the owning node. Every other request continues down the filter chain.
+ * When the owning node cannot be reached, the lookup is answered with {@code 503 Service Unavailable}.</p>
+ *
+ * <p>It runs right after the access log, so forwarded lookups are logged but never reach Spring MVC.</p>
+ *
+ * @see PricePartition
+ * @see PriceNodeClient
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class PriceRoutingFilter extends OncePerRequestFilter {
+
+    private static final String EXPORT_PATH = "/prices/export";
+    private static final Set<String> ROUTED_PATHS = Set.of("/prices", "/prices/timeline", EXPORT_PATH);
+    private static final String UNAVAILABLE_MESSAGE = "The service is temporarily unavailable.";
+    private static final List<String> FORWARDED_RESPONSE_HEADERS = List.of(HttpHeaders.CONTENT_TYPE,
+            HttpHeaders.ETAG, HttpHeaders.CACHE_CONTROL, PriceSnapshotVersionAdvice.HEADER);
+
+    private final PricePartition partition;
+    private final PriceNodeClient nodeClient;
+    private final ErrorResponseBodies errorBodies;
+    private final LogRateLimiter unavailableLog;
+
+    /**
+     * Constructor to initialize the filter.
+     *
+     * @param partition            the partition of this node
+     * @param nodeClient           the client used to forward lookups
+     * @param errorBodies          the pre-encoded error bodies
+     * @param maxLogLinesPerSecond the maximum number of lines per second logged for unreachable nodes
+     */
+    public PriceRoutingFilter(PricePartition partition, PriceNodeClient nodeClient, ErrorResponseBodies errorBodies,
+                              @Value("${price.error-log.max-per-second:10}") int maxLogLinesPerSecond) {
+        this.partition = partition;
+        this.nodeClient = nodeClient;
+        this.errorBodies = errorBodies;
+        this.unavailableLog = new LogRateLimiter(maxLogLinesPerSecond);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !partition.isPartitioned()
+                || !HttpMethod.GET.matches(request.getMethod())
+                || !ROUTED_PATHS.contains(request.getRequestURI())
+                || request.getHeader(PriceNodeClient.ROUTED_HEADER) != null;
+    }
+
+    /**
+     * Forwards the lookup to the owning node, or continues the filter chain if the brand is answered locally.
+     *
+     * @param request the current HTTP request
+     * @param response the current HTTP response
+     * @param filterChain the remaining filter chain
+     * @throws ServletException if the chain fails
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        var owner = brandId(request).flatMap(partition::remoteOwner);
+        if (owner.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (EXPORT_PATH.equals(request.getRequestURI())) {
+            response.setStatus(HttpStatus.TEMPORARY_REDIRECT.value());
+            response.setHeader(HttpHeaders.LOCATION, owner.get().toString().replaceAll("/+$", "")
+                    + request.getRequestURI() + "?" + request.getQueryString());
+            return;
+        }
+        try {
+            var forwarded = nodeClient.get(owner.get(), request.getRequestURI() + "?" + request.getQueryString(),
+                    request.getHeader(HttpHeaders.ACCEPT), request.getHeader(HttpHeaders.IF_NONE_MATCH));
+            response.setStatus(forwarded.statusCode());
+            FORWARDED_RESPONSE_HEADERS.forEach(name ->
+                    forwarded.headers().firstValue(name).ifPresent(value -> response.setHeader(name, value)));
+            response.getOutputStream().write(forwarded.body());
+        } catch (PriceNodeUnavailableException e) {
+            long suppressed = unavailableLog.tryAcquire();
+            if (suppressed != LogRateLimiter.SUPPRESSED) {
+                log.warn("{} ({} similar suppressed)", e.getMessage(), suppressed);
+            }
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write(errorBodies.body(HttpStatus.SERVICE_UNAVAILABLE, UNAVAILABLE_MESSAGE));
+        }
+    }
+
+    private static Optional<Integer> brandId(HttpServletRequest request) {
+        try {
+            return Optional.ofNullable(request.getParameter("brandId")).map(Integer::valueOf);
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.ws.infrastructure.price.persistence;
+
+import com.ws.infrastructure.price.persistence.entity.BrandEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for {@link BrandEntity}.
+ *
+ * <p>Used to resolve the brand of a price list when it is written.</p>
+ *
+ * @see BrandEntity
+ * @see JpaRepository
+ */
+@Repository
+public interface BrandJpaRepository extends JpaRepository<BrandEntity, Integer> {
+}
@@ -0,0 +1,121 @@
+package com.ws.infrastructure.price.persistence;
+
+
+import com.ws.infrastructure.price.persistence.entity.EffectivePriceEntity;
+import com.ws.infrastructure.price.persistence.entity.PriceEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for {@link EffectivePriceEntity}.
+ *
+ * <p>This interface gives access to the materialized {@code EFFECTIVE_PRICES} table. Reads are
+ * point lookups on the non-overlapping segments of a product and brand; writes replace every
+ * segment of a single product and brand at once.</p>
+ *
+ * @see EffectivePriceEntity
+ * @see JpaRepository
+ */
+@Repository
+public interface EffectivePriceJpaRepository extends JpaRepository<EffectivePriceEntity, Long> {
+
+    /**
+     * Finds the price of the segment that contains the given date.
+     *
+     * <p>Segments of a product and brand never overlap, so at most one row matches and no
+     * ordering by priority is needed.</p>
+     *
+     * @param productId the ID of the product
+     * @param brandId the ID of the brand
+     * @param date the date for which the price needs to be valid
+     * @return an {@link Optional} containing the winning {@link PriceEntity}, or an empty {@link Optional}
+     * if no segment contains the date
+     */
+    @Query("""
+                SELECT e.price FROM EffectivePriceEntity e
+                WHERE e.productId = :productId
+                AND e.brandId = :brandId
+                AND e.startDate <= :date
+                AND e.endDate > :date
+            """)
+    Optional<PriceEntity> findEffectivePrice(@Param("productId") Integer productId,
+                                             @Param("brandId") Integer brandId,
+                                             @Param("date") LocalDateTime date);
+
+    /**
+     * Finds the segment that contains the given date, with its price and brand.
+     *
+     * @param productId the ID of the product
+     * @param brandId the ID of the brand
+     * @param date the date for which the segment needs to be valid
+     * @return an {@link Optional} containing the {@link EffectivePriceEntity}, or an empty {@link Optional}
+     * if no segment contains the date
+     */
+    @Query("""
+                SELECT e FROM EffectivePriceEntity e
+                JOIN FETCH e.price p
+                JOIN FETCH p.brand
+                WHERE e.productId = :productId
+                AND e.brandId = :brandId
+                AND e.startDate <= :date
+                AND e.endDate > :date
+            """)
+    Optional<EffectivePriceEntity> findEffectiveSegment(@Param("productId") Integer productId,
+                                                        @Param("brandId") Integer brandId,
+                                                        @Param("date") LocalDateTime date);
+
+    /**
+     * Finds every segment of a product and brand, ordered by start date.
+     *
+     * @param productId the ID of the product
+     * @param brandId the ID of the brand
+     * @return the segments of the product and brand
+     */
+    @Query("""
+                SELECT e FROM EffectivePriceEntity e
+                WHERE e.productId = :productId
+                AND e.brandId = :brandId
+                ORDER BY e.startDate
+            """)
+    List<EffectivePriceEntity> findSegments(@Param("productId") Integer productId,
+                                            @Param("brandId") Integer brandId);
+
+    /**
+     * Deletes every segment of a product and brand.
+     *
+     * @param productId the ID of the product
+     * @param brandId the ID of the brand
+     * @return the number of deleted segments
+     */
+    @Modifying
+    @Query("""
+                DELETE FROM EffectivePriceEntity e
+                WHERE e.productId = :productId
+                AND e.brandId = :brandId
+            """)
+    int deleteSegments(@Param("productId") Integer productId,
+                       @Param("brandId") Integer brandId);
+
+    /**
+     * Deletes every segment won by a price list.
+     *
+     * <p>Segments reference their price through a foreign key, so they are deleted in the same transaction
+     * as the price list. The other segments of its product and brand are rebuilt once the delete has
+     * committed.</p>
+     *
+     * @param priceList the identifier of the price list
+     * @return the number of deleted segments
+     */
+    @Modifying
+    @Query("""
+                DELETE FROM EffectivePriceEntity e
+                WHERE e.price.priceList = :priceList
+            """)
+    int deleteSegmentsOfPriceList(@Param("priceList") Integer priceList);
+}
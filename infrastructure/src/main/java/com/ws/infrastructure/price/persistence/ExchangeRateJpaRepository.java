@@ -0,0 +1,39 @@
+package com.ws.infrastructure.price.persistence;
+
+import com.ws.infrastructure.price.persistence.entity.ExchangeRateEntity;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for {@link ExchangeRateEntity}.
+ *
+ * <p>Used to publish new versions of the exchange rates table and to read back the latest one.</p>
+ *
+ * @see ExchangeRateEntity
+ * @see JpaRepository
+ */
+@Repository
+public interface ExchangeRateJpaRepository extends JpaRepository<ExchangeRateEntity, Long> {
+
+    /**
+     * Finds the latest published version of the exchange rates table.
+     *
+     * @return an {@link Optional} containing the latest version, or an empty {@link Optional} if no rates have
+     * been published
+     */
+    @Query("SELECT MAX(r.version) FROM ExchangeRateEntity r")
+    Optional<Long> findLatestVersion();
+
+    /**
+     * Finds the rates of a version of the exchange rates table.
+     *
+     * @param version the version of the table
+     * @return the list of {@link ExchangeRateEntity} of the version
+     */
+    @Query("SELECT r FROM ExchangeRateEntity r WHERE r.version = :version")
+    List<ExchangeRateEntity> findByVersion(@Param("version") Long version);
+}
@@ -2,12 +2,20 @@ package com.ws.infrastructure.price.persistence;
 
 
 import com.ws.infrastructure.price.persistence.entity.PriceEntity;
+import com.ws.infrastructure.price.persistence.filter.PriceKey;
+import com.ws.infrastructure.price.persistence.projection.PriceAmount;
+import com.ws.infrastructure.price.persistence.projection.PriceFingerprint;
+import com.ws.infrastructure.price.persistence.projection.PriceView;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Repository interface for {@link PriceEntity}.
@@ -17,6 +25,10 @@ import org.springframework.stereotype.Repository;
  * and brand, valid at a given date. The repository uses Spring Data JPA to handle data access operations
  * without the need for boilerplate code.</p>
  *
+ * <p>The lookup queries also exist as {@link PriceView} projections, which run in read-only transactions and
+ * build the result straight from the columns of the row, without hydrating {@link PriceEntity} or joining
+ * its brand.</p>
+ *
  * @see PriceEntity
  * @see JpaRepository
  */
@@ -49,4 +61,313 @@ public interface PriceJpaRepository extends JpaRepository<PriceEntity, Integer>
                                        @Param("brandId") Integer brandId,
                                        @Param("date") LocalDateTime date);
 
+    /**
+     * Finds every price of a specific product and brand, regardless of its validity dates.
+     *
+     * @param productId the ID of the product
+     * @param brandId the ID of the brand
+     * @return the list of {@link PriceEntity} of the product and brand
+     */
+    @Query("""
+                SELECT p FROM PriceEntity p
+                WHERE p.productId = :productId
+                AND p.brand.id = :brandId
+            """)
+    List<PriceEntity> findPrices(@Param("productId") Integer productId,
+                                 @Param("brandId") Integer brandId);
+
+    /**
+     * Finds the top (highest-priority) price for a specific product and brand, valid at a given date, as a
+     * {@link PriceView}, the highest price list winning ties.
+     *
+     * @param productId the ID of the product
+     * @param brandId the ID of the brand
+     * @param date the date for which the price needs to be valid
+     * @return an {@link Optional} containing the {@link PriceView} if a price is found, or an empty
+     * {@link Optional} if no price matches the criteria
+     * @see #findTopPrice
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+                SELECT new com.ws.infrastructure.price.persistence.projection.PriceView(
+                    p.priceList, p.productId, p.brand.id, p.priority, p.currency, p.price, p.startDate, p.endDate)
+                FROM PriceEntity p
+                WHERE p.productId = :productId
+                AND p.brand.id = :brandId
+                AND p.startDate <= :date
+                AND p.endDate >= :date
+                ORDER BY p.priority DESC, p.priceList DESC LIMIT 1
+            """)
+    Optional<PriceView> findTopPriceView(@Param("productId") Integer productId,
+                                         @Param("brandId") Integer brandId,
+                                         @Param("date") LocalDateTime date);
+
+    /**
+     * Finds every price of a specific product and brand, regardless of its validity dates, as
+     * {@link PriceView}s.
+     *
+     * @param productId the ID of the product
+     * @param brandId the ID of the brand
+     * @return the list of {@link PriceView} of the product and brand
+     * @see #findPrices
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+                SELECT new com.ws.infrastructure.price.persistence.projection.PriceView(
+                    p.priceList, p.productId, p.brand.id, p.priority, p.currency, p.price, p.startDate, p.endDate)
+                FROM PriceEntity p
+                WHERE p.productId = :productId
+                AND p.brand.id = :brandId
+            """)
+    List<PriceView> findPriceViews(@Param("productId") Integer productId,
+                                   @Param("brandId") Integer brandId);
+
+    /**
+     * Finds the prices that may end the segments won by the top prices of one or more lookups, as
+     * {@link PriceView}s.
+     *
+     * <p>The result contains the prices of any of the given products and brands that start in the
+     * {@code (from, to]} interval. The caller passes the earliest application date and the latest end date of
+     * the winning prices, so only the prices that start while a winner is still valid are read, whatever the
+     * number of prices of the product and brand. The priority is left to the caller: a range on it would lead
+     * H2 to the brand and priority index instead of the product one.</p>
+     *
+     * @param productIds the IDs of the products
+     * @param brandIds the IDs of the brands
+     * @param from the earliest application date (exclusive)
+     * @param to the latest end date of the winning prices (inclusive)
+     * @return the list of {@link PriceView} starting in the interval
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+                SELECT new com.ws.infrastructure.price.persistence.projection.PriceView(
+                    p.priceList, p.productId, p.brand.id, p.priority, p.currency, p.price, p.startDate, p.endDate)
+                FROM PriceEntity p
+                WHERE p.productId IN :productIds
+                AND p.brand.id IN :brandIds
+                AND p.startDate > :from
+                AND p.startDate <= :to
+            """)
+    List<PriceView> findSuccessorPriceViews(@Param("productIds") Collection<Integer> productIds,
+                                            @Param("brandIds") Collection<Integer> brandIds,
+                                            @Param("from") LocalDateTime from,
+                                            @Param("to") LocalDateTime to);
+
+    /**
+     * Finds the first page of the prices of a specific product and brand that are valid at some point of the
+     * {@code [from, to)} interval, sorted by start date and price list, as {@link PriceView}s.
+     *
+     * @param productId the ID of the product
+     * @param brandId the ID of the brand
+     * @param from the start (inclusive) of the interval
+     * @param to the end (exclusive) of the interval
+     * @param limit the size of the page
+     * @return the first {@code limit} {@link PriceView}s, sorted by start date and price list
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+                SELECT new com.ws.infrastructure.price.persistence.projection.PriceView(
+                    p.priceList, p.productId, p.brand.id, p.priority, p.currency, p.price, p.startDate, p.endDate)
+                FROM PriceEntity p
+                WHERE p.productId = :productId
+                AND p.brand.id = :brandId
+                AND p.startDate < :to
+                AND p.endDate >= :from
+                ORDER BY p.startDate, p.priceList
+            """)
+    List<PriceView> findTimelinePage(@Param("productId") Integer productId,
+                                     @Param("brandId") Integer brandId,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to,
+                                     Limit limit);
+
+    /**
+     * Finds the next page of the prices of {@link #findTimelinePage}, the ones sorted after the last price of
+     * the previous page.
+     *
+     * <p>The page is found by its key rather than by an offset, so each page is read from the index wherever it
+     * falls in the interval.</p>
+     *
+     * @param productId the ID of the product
+     * @param brandId the ID of the brand
+     * @param from the start (inclusive) of the interval
+     * @param to the end (exclusive) of the interval
+     * @param afterStart the start date of the last price of the previous page
+     * @param afterPriceList the price list of the last price of the previous page
+     * @param limit the size of the page
+     * @return the next {@code limit} {@link PriceView}s, sorted by start date and price list
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+                SELECT new com.ws.infrastructure.price.persistence.projection.PriceView(
+                    p.priceList, p.productId, p.brand.id, p.priority, p.currency, p.price, p.startDate, p.endDate)
+                FROM PriceEntity p
+                WHERE p.productId = :productId
+                AND p.brand.id = :brandId
+                AND p.startDate < :to
+                AND p.endDate >= :from
+                AND (p.startDate > :afterStart OR (p.startDate = :afterStart AND p.priceList > :afterPriceList))
+                ORDER BY p.startDate, p.priceList
+            """)
+    List<PriceView> findTimelinePageAfter(@Param("productId") Integer productId,
+                                          @Param("brandId") Integer brandId,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to,
+                                          @Param("afterStart") LocalDateTime afterStart,
+                                          @Param("afterPriceList") Integer afterPriceList,
+                                          Limit limit);
+
+    /**
+     * Finds, in a single query, every price that may answer a batch of lookups, as {@link PriceView}s.
+     *
+     * <p>The result contains the prices of any of the given products and brands that are valid at some
+     * point of the {@code [from, to]} interval. The caller is expected to pick, for each lookup, the
+     * highest-priority price of its own product and brand that is valid at its own date.</p>
+     *
+     * @param productIds the IDs of the products
+     * @param brandIds the IDs of the brands
+     * @param from the earliest date of the batch
+     * @param to the latest date of the batch
+     * @return the list of candidate {@link PriceView}
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+                SELECT new com.ws.infrastructure.price.persistence.projection.PriceView(
+                    p.priceList, p.productId, p.brand.id, p.priority, p.currency, p.price, p.startDate, p.endDate)
+                FROM PriceEntity p
+                WHERE p.productId IN :productIds
+                AND p.brand.id IN :brandIds
+                AND p.startDate <= :to
+                AND p.endDate >= :from
+            """)
+    List<PriceView> findCandidatePriceViews(@Param("productIds") Collection<Integer> productIds,
+                                            @Param("brandIds") Collection<Integer> brandIds,
+                                            @Param("from") LocalDateTime from,
+                                            @Param("to") LocalDateTime to);
+
+    /**
+     * Finds every distinct product and brand that has at least one price.
+     *
+     * @return the list of {@link PriceKey}
+     */
+    @Query("""
+                SELECT DISTINCT new com.ws.infrastructure.price.persistence.filter.PriceKey(p.productId, p.brand.id)
+                FROM PriceEntity p
+            """)
+    List<PriceKey> findKeys();
+
+    /**
+     * Finds every price of the given brands, with its brand.
+     *
+     * @param brandIds the IDs of the brands
+     * @return the list of {@link PriceEntity} of the brands
+     */
+    @Query("""
+                SELECT p FROM PriceEntity p
+                JOIN FETCH p.brand b
+                WHERE b.id IN :brandIds
+            """)
+    List<PriceEntity> findByBrandIds(@Param("brandIds") Collection<Integer> brandIds);
+
+    /**
+     * Finds every distinct product and brand of the given brands that has at least one price.
+     *
+     * @param brandIds the IDs of the brands
+     * @return the list of {@link PriceKey}
+     */
+    @Query("""
+                SELECT DISTINCT new com.ws.infrastructure.price.persistence.filter.PriceKey(p.productId, p.brand.id)
+                FROM PriceEntity p
+                WHERE p.brand.id IN :brandIds
+            """)
+    List<PriceKey> findKeysByBrandIds(@Param("brandIds") Collection<Integer> brandIds);
+
+    /**
+     * Finds every distinct amount and currency of the {@code PRICES} table.
+     *
+     * @return the list of {@link PriceAmount}
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+                SELECT DISTINCT new com.ws.infrastructure.price.persistence.projection.PriceAmount(p.currency, p.price)
+                FROM PriceEntity p
+            """)
+    List<PriceAmount> findAmounts();
+
+    /**
+     * Finds every distinct amount and currency of the prices of the given brands.
+     *
+     * @param brandIds the IDs of the brands
+     * @return the list of {@link PriceAmount}
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+                SELECT DISTINCT new com.ws.infrastructure.price.persistence.projection.PriceAmount(p.currency, p.price)
+                FROM PriceEntity p
+                WHERE p.brand.id IN :brandIds
+            """)
+    List<PriceAmount> findAmountsByBrandIds(@Param("brandIds") Collection<Integer> brandIds);
+
+    /**
+     * Finds every distinct amount and currency of the prices of a specific product and brand.
+     *
+     * @param productId the ID of the product
+     * @param brandId the ID of the brand
+     * @return the list of {@link PriceAmount}
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+                SELECT DISTINCT new com.ws.infrastructure.price.persistence.projection.PriceAmount(p.currency, p.price)
+                FROM PriceEntity p
+                WHERE p.productId = :productId
+                AND p.brand.id = :brandId
+            """)
+    List<PriceAmount> findAmounts(@Param("productId") Integer productId,
+                                  @Param("brandId") Integer brandId);
+
+    /**
+     * Computes the {@link PriceFingerprint} of the {@code PRICES} table.
+     *
+     * <p>Each row is hashed with {@code ORA_HASH}, which H2 provides, over all of its columns.</p>
+     *
+     * @return the {@link PriceFingerprint}
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+                SELECT new com.ws.infrastructure.price.persistence.projection.PriceFingerprint(
+                    COUNT(p),
+                    SUM(CAST(FUNCTION('ORA_HASH', CONCAT(
+                            STR(p.priceList), '|', STR(p.productId), '|', STR(p.brand.id), '|', STR(p.priority),
+                            '|', STR(p.currency), '|', STR(p.price), '|', STR(p.startDate), '|', STR(p.endDate)),
+                        4294967295L, 0) AS Long)),
+                    SUM(CAST(FUNCTION('ORA_HASH', CONCAT(
+                            STR(p.priceList), '|', STR(p.productId), '|', STR(p.brand.id), '|', STR(p.priority),
+                            '|', STR(p.currency), '|', STR(p.price), '|', STR(p.startDate), '|', STR(p.endDate)),
+                        4294967295L, 1) AS Long)))
+                FROM PriceEntity p
+            """)
+    PriceFingerprint fingerprint();
+
+    /**
+     * Computes the {@link PriceFingerprint} of the prices of the given brands.
+     *
+     * @param brandIds the IDs of the brands
+     * @return the {@link PriceFingerprint}
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+                SELECT new com.ws.infrastructure.price.persistence.projection.PriceFingerprint(
+                    COUNT(p),
+                    SUM(CAST(FUNCTION('ORA_HASH', CONCAT(
+                            STR(p.priceList), '|', STR(p.productId), '|', STR(p.brand.id), '|', STR(p.priority),
+                            '|', STR(p.currency), '|', STR(p.price), '|', STR(p.startDate), '|', STR(p.endDate)),
+                        4294967295L, 0) AS Long)),
+                    SUM(CAST(FUNCTION('ORA_HASH', CONCAT(
+                            STR(p.priceList), '|', STR(p.productId), '|', STR(p.brand.id), '|', STR(p.priority),
+                            '|', STR(p.currency), '|', STR(p.price), '|', STR(p.startDate), '|', STR(p.endDate)),
+                        4294967295L, 1) AS Long)))
+                FROM PriceEntity p
+                WHERE p.brand.id IN :brandIds
+            """)
+    PriceFingerprint fingerprintByBrandIds(@Param("brandIds") Collection<Integer> brandIds);
 }
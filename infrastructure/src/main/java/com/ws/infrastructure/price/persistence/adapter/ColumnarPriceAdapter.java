@@ -0,0 +1,112 @@
+package com.ws.infrastructure.price.persistence.adapter;
+
+import com.ws.application.price.port.out.PriceOutboundPort;
+import com.ws.domain.price.model.Price;
+import com.ws.domain.price.model.PriceSegment;
+import com.ws.domain.price.model.PriceTimeline;
+import com.ws.infrastructure.price.partition.PricePartition;
+import com.ws.infrastructure.price.persistence.columnar.ColumnarPriceLoader;
+import com.ws.infrastructure.price.persistence.columnar.ColumnarPriceStore;
+import com.ws.infrastructure.price.persistence.event.PricesReloadedEvent;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Adapter class that implements the {@link PriceOutboundPort} interface on top of a
+ * {@link ColumnarPriceStore}.
+ *
+ * <p>The {@code PRICES} table is streamed once into primitive column arrays after every singleton has
+ * been created. Lookups never reach the database and only the winning row is turned into a
+ * {@link Price}, which keeps the heap and the GC work independent of boxed per-row objects. When the node is
+ * partitioned, only the rows of the brands of its {@link PricePartition} are streamed.</p>
+ *
+ * <p>This adapter is enabled with {@code price.outbound.adapter=columnar}.</p>
+ *
+ * @see PriceOutboundPort
+ * @see ColumnarPriceStore
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(prefix = "price.outbound", name = "adapter", havingValue = "columnar")
+public class ColumnarPriceAdapter implements PriceOutboundPort, SmartInitializingSingleton {
+
+    private final ColumnarPriceLoader loader;
+
+    private volatile ColumnarPriceStore store = ColumnarPriceStore.builder(0).build();
+
+    /**
+     * Constructor to initialize the loader used to read {@code PRICES}.
+     *
+     * @param jdbcTemplate the {@link JdbcTemplate} used to stream the rows
+     * @param partition    the partition of this node
+     */
+    public ColumnarPriceAdapter(JdbcTemplate jdbcTemplate, PricePartition partition) {
+        this.loader = new ColumnarPriceLoader(jdbcTemplate, partition.brands());
+    }
+
+    /**
+     * Loads the store once the application context has been fully initialized.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    /**
+     * Rebuilds the whole {@link ColumnarPriceStore} from the {@code PRICES} table and publishes it.
+     */
+    public void reload() {
+        store = loader.load();
+        log.info("columnar price store loaded : {} rows, {} bytes", store.size(), store.footprintBytes());
+    }
+
+    /**
+     * Rebuilds the whole store once a bulk load has committed.
+     *
+     * @param event the reload notification
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricesReloaded(PricesReloadedEvent event) {
+        reload();
+    }
+
+    /**
+     * Retrieves the preferred price for a given product and brand at a specified application date.
+     *
+     * @param applicationDate the date for which the price is being retrieved
+     * @param productId the identifier of the product
+     * @param brandId the identifier of the brand
+     * @return an {@link Optional} containing the preferred {@link Price}, or an empty {@link Optional}
+     *         if no price is found
+     */
+    @Override
+    public Optional<Price> getPreferredPrice(LocalDateTime applicationDate, Integer productId, Integer brandId) {
+        return store.priceAt(applicationDate, productId, brandId);
+    }
+
+    /**
+     * Retrieves the resolved segment that contains the given application date.
+     *
+     * <p>Only the rows of the product and brand are materialized and resolved with {@link PriceTimeline}.</p>
+     *
+     * @param applicationDate the date for which the segment is being retrieved
+     * @param productId the identifier of the product
+     * @param brandId the identifier of the brand
+     * @return an {@link Optional} containing the {@link PriceSegment}, or an empty {@link Optional}
+     *         if no price is found
+     */
+    @Override
+    public Optional<PriceSegment> getPreferredSegment(LocalDateTime applicationDate, Integer productId,
+                                                      Integer brandId) {
+        return PriceTimeline.of(store.pricesOf(productId, brandId)).segmentAt(applicationDate);
+    }
+}
@@ -0,0 +1,67 @@
+package com.ws.infrastructure.price.persistence.adapter;
+
+
+import com.ws.application.price.port.out.PriceOutboundPort;
+import com.ws.domain.price.model.Price;
+import com.ws.domain.price.model.PriceSegment;
+import com.ws.infrastructure.price.persistence.EffectivePriceJpaRepository;
+import com.ws.infrastructure.price.persistence.mapper.PriceEntityMapper;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Adapter class that implements the {@link PriceOutboundPort} interface on top of the materialized
+ * {@code EFFECTIVE_PRICES} table.
+ *
+ * <p>The database stays the only source of truth, but the priority resolution has already been
+ * done at write time by {@link com.ws.infrastructure.price.persistence.effective.EffectivePriceMaintainer},
+ * so a lookup is a point query on non-overlapping segments with no priority sort.</p>
+ *
+ * <p>This adapter is enabled with {@code price.outbound.adapter=effective}.</p>
+ *
+ * @see PriceOutboundPort
+ * @see EffectivePriceJpaRepository
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "price.outbound", name = "adapter", havingValue = "effective")
+public class EffectivePriceRepositoryAdapter implements PriceOutboundPort {
+
+    private final EffectivePriceJpaRepository effectivePriceJPARepository;
+    private final PriceEntityMapper mapper;
+
+    /**
+     * Retrieves the preferred price for a given product and brand at a specified application date.
+     *
+     * @param applicationDate the date for which the price is being retrieved
+     * @param productId the identifier of the product
+     * @param brandId the identifier of the brand
+     * @return an {@link Optional} containing the preferred {@link Price}, or an empty {@link Optional}
+     *         if no price is found
+     */
+    @Override
+    public Optional<Price> getPreferredPrice(LocalDateTime applicationDate, Integer productId, Integer brandId) {
+        return effectivePriceJPARepository.findEffectivePrice(productId, brandId, applicationDate)
+                .map(mapper::toDomain);
+    }
+
+    /**
+     * Retrieves the materialized segment that contains the given application date.
+     *
+     * @param applicationDate the date for which the segment is being retrieved
+     * @param productId the identifier of the product
+     * @param brandId the identifier of the brand
+     * @return an {@link Optional} containing the {@link PriceSegment}, or an empty {@link Optional}
+     *         if no segment contains the date
+     */
+    @Override
+    public Optional<PriceSegment> getPreferredSegment(LocalDateTime applicationDate, Integer productId,
+                                                      Integer brandId) {
+        return effectivePriceJPARepository.findEffectiveSegment(productId, brandId, applicationDate)
+                .map(segment -> new PriceSegment(segment.getStartDate(), segment.getEndDate(),
+                        mapper.toDomain(segment.getPrice())));
+    }
+}
@@ -0,0 +1,100 @@
+package com.ws.infrastructure.price.persistence.adapter;
+
+import com.ws.application.price.port.out.ExchangeRateOutboundPort;
+import com.ws.domain.price.exception.ConflictException;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.ExchangeRates;
+import com.ws.infrastructure.price.persistence.ExchangeRateJpaRepository;
+import com.ws.infrastructure.price.persistence.entity.ExchangeRateEntity;
+import com.ws.infrastructure.price.persistence.event.ExchangeRatesPublishedEvent;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Adapter class that implements the {@link ExchangeRateOutboundPort} interface on top of the
+ * {@code EXCHANGE_RATES} table.
+ *
+ * <p>Every published table is written as a new version, one above the latest one, and announced with an
+ * {@link ExchangeRatesPublishedEvent}, so the converted prices are computed again once the transaction has
+ * committed. Unless it replaces the latest table, the new version also copies the rates of the latest one for
+ * the currencies it leaves out, so a partial table never stops a currency from being served. Two tables
+ * published at the same time get the same version, and the unique key of the table rejects the second one,
+ * which is reported as a {@link ConflictException} so that its caller can read the new current table and
+ * publish again.</p>
+ *
+ * @see ExchangeRateOutboundPort
+ * @see ExchangeRatesPublishedEvent
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExchangeRateRepositoryAdapter implements ExchangeRateOutboundPort {
+
+    private final ExchangeRateJpaRepository exchangeRateJPARepository;
+    private final ApplicationEventPublisher publisher;
+
+    /**
+     * Stores a new exchange rate table, with the version following the latest one.
+     *
+     * @param rates   the rate of each currency against {@link ExchangeRates#BASE}
+     * @param replace whether the currencies missing from {@code rates} are left out of the new table
+     * @return the stored {@link ExchangeRates}
+     * @throws ConflictException if another table has been published with the same version meanwhile
+     */
+    @Override
+    @Transactional
+    public ExchangeRates publish(Map<Currency, BigDecimal> rates, boolean replace) {
+        var latest = exchangeRateJPARepository.findLatestVersion();
+        var version = latest.orElse(0L) + 1;
+        var merged = new EnumMap<Currency, BigDecimal>(Currency.class);
+        if (!replace) {
+            latest.ifPresent(previous -> merged.putAll(findVersion(previous).rates()));
+        }
+        merged.putAll(rates);
+        var entities = new ArrayList<ExchangeRateEntity>(merged.size());
+        merged.forEach((currency, rate) -> {
+            if (currency != ExchangeRates.BASE) {
+                var entity = new ExchangeRateEntity();
+                entity.setVersion(version);
+                entity.setCurrency(com.ws.infrastructure.price.persistence.entity.Currency.valueOf(currency.name()));
+                entity.setRate(rate);
+                entities.add(entity);
+            }
+        });
+        try {
+            // flushed here rather than at commit, so that the unique key is checked inside this method
+            exchangeRateJPARepository.saveAllAndFlush(entities);
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException("Exchange rates version " + version + " has already been published.", e);
+        }
+        var published = new ExchangeRates(version, merged);
+        publisher.publishEvent(new ExchangeRatesPublishedEvent(published));
+        return published;
+    }
+
+    /**
+     * Retrieves the exchange rate table with the highest version.
+     *
+     * @return the latest {@link ExchangeRates}, or {@link ExchangeRates#empty()} if none has been published
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ExchangeRates findCurrent() {
+        return exchangeRateJPARepository.findLatestVersion()
+                .map(this::findVersion)
+                .orElseGet(ExchangeRates::empty);
+    }
+
+    private ExchangeRates findVersion(Long version) {
+        var rates = new EnumMap<Currency, BigDecimal>(Currency.class);
+        exchangeRateJPARepository.findByVersion(version)
+                .forEach(entity -> rates.put(Currency.valueOf(entity.getCurrency().name()), entity.getRate()));
+        return new ExchangeRates(version, rates);
+    }
+}
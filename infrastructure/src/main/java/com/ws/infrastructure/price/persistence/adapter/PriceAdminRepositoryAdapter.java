@@ -0,0 +1,80 @@
+package com.ws.infrastructure.price.persistence.adapter;
+
+import com.ws.application.price.model.PriceCommand;
+import com.ws.application.price.port.out.PriceAdminOutboundPort;
+import com.ws.domain.price.model.Price;
+import com.ws.infrastructure.price.persistence.BrandJpaRepository;
+import com.ws.infrastructure.price.persistence.EffectivePriceJpaRepository;
+import com.ws.infrastructure.price.persistence.PriceJpaRepository;
+import com.ws.infrastructure.price.persistence.entity.Currency;
+import com.ws.infrastructure.price.persistence.entity.PriceEntity;
+import com.ws.infrastructure.price.persistence.event.PriceChangedEvent;
+import com.ws.infrastructure.price.persistence.mapper.PriceEntityMapper;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Adapter class that implements the {@link PriceAdminOutboundPort} interface on top of the {@code PRICES} table.
+ *
+ * <p>Writes go through JPA, so every change publishes a {@link PriceChangedEvent} for the product and brand
+ * it affects. The read models derived from {@code PRICES} (the timeline snapshot, the effective prices table
+ * and the segment cache) rebuild only that pair once the transaction has committed.</p>
+ *
+ * @see PriceAdminOutboundPort
+ * @see PriceChangedEvent
+ */
+@Repository
+@RequiredArgsConstructor
+public class PriceAdminRepositoryAdapter implements PriceAdminOutboundPort {
+
+    private final PriceJpaRepository priceJPARepository;
+    private final BrandJpaRepository brandJPARepository;
+    private final EffectivePriceJpaRepository effectivePriceJPARepository;
+    private final PriceEntityMapper mapper;
+
+    /**
+     * Creates the price list or replaces it if it already exists.
+     *
+     * @param command the values of the price list
+     * @return an {@link Optional} containing the stored {@link Price}, or an empty {@link Optional}
+     *         if the brand does not exist
+     */
+    @Override
+    @Transactional
+    public Optional<Price> savePrice(PriceCommand command) {
+        var brand = brandJPARepository.findById(command.brandId());
+        if (brand.isEmpty()) {
+            return Optional.empty();
+        }
+        var entity = priceJPARepository.findById(command.priceList()).orElseGet(PriceEntity::new);
+        entity.setPriceList(command.priceList());
+        entity.setProductId(command.productId());
+        entity.setPriority(command.priority());
+        entity.setCurrency(Currency.valueOf(command.currency().name()));
+        entity.setPrice(command.price());
+        entity.setStartDate(command.startDate());
+        entity.setEndDate(command.endDate());
+        entity.setBrand(brand.get());
+        return Optional.of(mapper.toDomain(priceJPARepository.save(entity)));
+    }
+
+    /**
+     * Deletes a price list, together with the {@code EFFECTIVE_PRICES} segments it wins, which would
+     * otherwise block the delete through their foreign key.
+     *
+     * @param priceList the identifier of the price list
+     * @return {@code true} if the price list existed and was deleted
+     */
+    @Override
+    @Transactional
+    public boolean deletePrice(Integer priceList) {
+        var entity = priceJPARepository.findById(priceList);
+        entity.ifPresent(price -> {
+            effectivePriceJPARepository.deleteSegmentsOfPriceList(priceList);
+            priceJPARepository.delete(price);
+        });
+        return entity.isPresent();
+    }
+}
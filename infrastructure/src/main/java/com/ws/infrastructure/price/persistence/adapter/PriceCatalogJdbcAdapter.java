@@ -0,0 +1,122 @@
+package com.ws.infrastructure.price.persistence.adapter;
+
+import com.ws.application.price.port.out.PriceCatalogOutboundPort;
+import com.ws.domain.price.model.Brand;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.Price;
+import com.ws.infrastructure.price.persistence.projection.BrandRegistry;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Adapter class that implements the {@link PriceCatalogOutboundPort} interface with a JDBC cursor over the
+ * {@code PRICES} table.
+ *
+ * <p>The prices of the brand valid at the application date are read in product order and, within a product,
+ * in order of preference, so the first row of each product is its preferred price and the others are
+ * skipped. Only the current row is held in memory, whatever the size of the catalog. The statement is run
+ * with the fetch size of {@code price.export.fetch-size} in a read-only transaction, which is what makes
+ * drivers such as PostgreSQL's read the rows through a server-side cursor instead of all at once.</p>
+ *
+ * <p>It always reads {@code PRICES}, whatever the adapter selected with {@code price.outbound.adapter}.</p>
+ *
+ * @see PriceCatalogOutboundPort
+ */
+@Repository
+public class PriceCatalogJdbcAdapter implements PriceCatalogOutboundPort {
+
+    private static final String SELECT_PREFERRED = """
+            SELECT PRICE_LIST, PRODUCT_ID, PRIORITY, START_DATE, END_DATE, PRICE, CURR
+            FROM PRICES
+            WHERE BRAND_ID = ? AND START_DATE <= ? AND END_DATE >= ? AND PRODUCT_ID > ?
+            ORDER BY PRODUCT_ID, PRIORITY DESC, PRICE_LIST DESC
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BrandRegistry brandRegistry;
+    private final int fetchSize;
+
+    /**
+     * Constructor to initialize the adapter.
+     *
+     * @param jdbcTemplate  the template used to run the query
+     * @param brandRegistry the registry of the brands
+     * @param fetchSize     the number of rows fetched from the database at a time
+     */
+    public PriceCatalogJdbcAdapter(JdbcTemplate jdbcTemplate, BrandRegistry brandRegistry,
+                                   @Value("${price.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.brandRegistry = brandRegistry;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Resolves the preferred price of every product of the brand at the application date, after
+     * {@code afterProductId}, in a single read-only transaction.
+     *
+     * @param brandId         the identifier of the brand
+     * @param applicationDate the date on which the prices are applied
+     * @param afterProductId  the identifier after which products are read, or {@code null} to read them all
+     * @param action          the action run for each preferred {@link Price}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachPreferredPrice(Integer brandId, LocalDateTime applicationDate, Integer afterProductId,
+                                      Consumer<Price> action) {
+        var date = Timestamp.valueOf(applicationDate);
+        var handler = new PreferredPriceHandler(brandId, action);
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(SELECT_PREFERRED);
+            statement.setFetchSize(fetchSize);
+            statement.setInt(1, brandId);
+            statement.setTimestamp(2, date);
+            statement.setTimestamp(3, date);
+            statement.setInt(4, afterProductId == null ? Integer.MIN_VALUE : afterProductId);
+            return statement;
+        }, handler);
+    }
+
+    private final class PreferredPriceHandler implements RowCallbackHandler {
+
+        private final Integer brandId;
+        private final Consumer<Price> action;
+        private Brand brand;
+        private int lastProductId;
+        private boolean started;
+
+        private PreferredPriceHandler(Integer brandId, Consumer<Price> action) {
+            this.brandId = brandId;
+            this.action = action;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            int productId = rs.getInt(2);
+            if (started && productId == lastProductId) {
+                return;
+            }
+            started = true;
+            lastProductId = productId;
+            if (brand == null) {
+                brand = brandRegistry.brand(brandId);
+            }
+            action.accept(new Price(
+                    rs.getInt(1),
+                    productId,
+                    rs.getInt(3),
+                    Currency.valueOf(rs.getString(7)),
+                    rs.getBigDecimal(6),
+                    rs.getObject(4, LocalDateTime.class),
+                    rs.getObject(5, LocalDateTime.class),
+                    brand));
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.ws.infrastructure.price.persistence.adapter;
+
+import com.ws.application.price.model.PriceIngestionReport;
+import com.ws.application.price.port.out.PriceIngestionOutboundPort;
+import com.ws.infrastructure.price.persistence.event.PricesReloadedEvent;
+import com.ws.infrastructure.price.persistence.ingest.PriceChunkWriter;
+import com.ws.infrastructure.price.persistence.ingest.PriceFileChunk;
+import com.ws.infrastructure.price.persistence.ingest.PriceFileFormat;
+import com.ws.infrastructure.price.persistence.ingest.PriceStagingTable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Adapter class that implements the {@link PriceIngestionOutboundPort} interface by streaming a CSV or
+ * NDJSON file into the {@code PRICES} table.
+ *
+ * <p>The file is split into chunks that end on a line boundary. Each chunk is memory-mapped and parsed at
+ * byte level, without decoding lines into strings, by a {@link PriceChunkWriter} running on its own thread
+ * and connection, which writes the rows to {@code PRICES_STAGING} with JDBC batch inserts. Once every chunk
+ * has been written, the staged rows are merged into {@code PRICES} in a single transaction, so lookups
+ * see either none of the file or all of it. A failure discards the staged rows and leaves {@code PRICES}
+ * untouched.</p>
+ *
+ * <p>The load bypasses JPA, so a single {@link PricesReloadedEvent} is published afterwards for the read
+ * models derived from {@code PRICES} to rebuild themselves. The parallelism, the batch size and the chunk
+ * size are set with {@code price.ingest.parallelism}, {@code price.ingest.batch-size} and
+ * {@code price.ingest.chunk-size}.</p>
+ *
+ * <p>It is a plain component rather than a repository, so that a malformed row or an unknown brand reaches
+ * the caller as an {@link IllegalArgumentException} instead of being translated into a data access
+ * exception.</p>
+ *
+ * @see PriceIngestionOutboundPort
+ * @see PriceStagingTable
+ */
+@Slf4j
+@Component
+public class PriceIngestionAdapter implements PriceIngestionOutboundPort, SmartInitializingSingleton {
+
+    private final DataSource dataSource;
+    private final PriceStagingTable stagingTable;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int parallelism;
+    private final int batchSize;
+    private final long chunkSize;
+
+    /**
+     * Constructor to initialize the adapter with its data source and tuning parameters.
+     *
+     * @param dataSource          the {@link DataSource} the chunk writers take their connections from
+     * @param jdbcTemplate        the {@link JdbcTemplate} used to publish the staged rows
+     * @param transactionTemplate the {@link TransactionTemplate} in which the staged rows are published
+     * @param eventPublisher      the publisher of the {@link PricesReloadedEvent}
+     * @param parallelism         the maximum number of chunks written at the same time
+     * @param batchSize           the number of rows sent in a single JDBC batch
+     * @param chunkSize           the target size of a chunk
+     */
+    public PriceIngestionAdapter(DataSource dataSource,
+                                 JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${price.ingest.parallelism:4}") int parallelism,
+                                 @Value("${price.ingest.batch-size:5000}") int batchSize,
+                                 @Value("${price.ingest.chunk-size:64MB}") DataSize chunkSize) {
+        this.dataSource = dataSource;
+        this.stagingTable = new PriceStagingTable(jdbcTemplate);
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.parallelism = Math.max(1, parallelism);
+        this.batchSize = Math.max(1, batchSize);
+        this.chunkSize = chunkSize.toBytes();
+    }
+
+    /**
+     * Creates the staging table once the application context has been fully initialized.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        stagingTable.create();
+    }
+
+    /**
+     * Loads every price list of a file and publishes them at once.
+     *
+     * @param file    the CSV or NDJSON file to load
+     * @param replace whether the prices of the brands present in the file that are missing from it are deleted
+     * @return the {@link PriceIngestionReport} of the load
+     * @throws IllegalArgumentException if the format is not supported, a row is malformed or a brand does not exist
+     */
+    @Override
+    public PriceIngestionReport ingest(Path file, boolean replace) {
+        var format = PriceFileFormat.of(file);
+        var ingestionId = UUID.randomUUID().toString();
+        long started = System.nanoTime();
+        long rows;
+        int chunks;
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var plan = PriceFileChunk.plan(channel, chunkSize);
+            chunks = plan.size();
+            rows = stage(channel, plan, format, ingestionId);
+            var unknownBrands = stagingTable.unknownBrands(ingestionId);
+            if (!unknownBrands.isEmpty()) {
+                throw new IllegalArgumentException("unknown brands : " + unknownBrands);
+            }
+            transactionTemplate.executeWithoutResult(status -> stagingTable.publish(ingestionId, replace));
+        } catch (IOException e) {
+            stagingTable.discard(ingestionId);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            stagingTable.discard(ingestionId);
+            throw e;
+        }
+        eventPublisher.publishEvent(new PricesReloadedEvent(rows));
+
+        long elapsedNanos = Math.max(1, System.nanoTime() - started);
+        var report = new PriceIngestionReport(rows, chunks, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                rows * TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+        log.info("prices ingested from {} : {} rows, {} chunks, {} ms, {} rows/s",
+                file, report.rows(), report.chunks(), report.elapsedMillis(), report.rowsPerSecond());
+        return report;
+    }
+
+    private long stage(FileChannel channel, List<PriceFileChunk> plan, PriceFileFormat format, String ingestionId) {
+        if (plan.isEmpty()) {
+            return 0;
+        }
+        var writer = new PriceChunkWriter(dataSource, batchSize);
+        try (var executor = Executors.newFixedThreadPool(Math.min(parallelism, plan.size()))) {
+            var futures = new ArrayList<Future<Long>>(plan.size());
+            plan.forEach(chunk -> futures.add(executor.submit(() -> writer.write(channel, chunk, format, ingestionId))));
+            long rows = 0;
+            try {
+                for (Future<Long> future : futures) {
+                    rows += future.get();
+                }
+            } catch (ExecutionException e) {
+                futures.forEach(future -> future.cancel(false));
+                throw unwrap(e.getCause());
+            } catch (InterruptedException e) {
+                futures.forEach(future -> future.cancel(false));
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("price ingestion interrupted", e);
+            }
+            return rows;
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof IOException ioException) {
+            return new UncheckedIOException(ioException);
+        }
+        return new IllegalStateException("price ingestion failed : " + cause.getMessage(), cause);
+    }
+}
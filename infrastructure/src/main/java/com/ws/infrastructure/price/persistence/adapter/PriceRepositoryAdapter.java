@@ -1,13 +1,24 @@
 package com.ws.infrastructure.price.persistence.adapter;
 
 
+import com.ws.application.price.model.PriceQuery;
 import com.ws.application.price.port.out.PriceOutboundPort;
 import com.ws.domain.price.model.Price;
+import com.ws.domain.price.model.PriceSegment;
+import com.ws.infrastructure.price.metrics.LookupStage;
+import com.ws.infrastructure.price.metrics.PriceLookupTimers;
 import com.ws.infrastructure.price.persistence.PriceJpaRepository;
+import com.ws.infrastructure.price.persistence.batch.PriceLookupBatcher;
+import com.ws.infrastructure.price.persistence.coalesce.PriceLookupCoalescer;
 import com.ws.infrastructure.price.persistence.mapper.PriceEntityMapper;
+import com.ws.infrastructure.price.persistence.projection.BrandRegistry;
+import com.ws.infrastructure.price.persistence.projection.PreferredPriceViews;
+import com.ws.infrastructure.price.persistence.projection.PriceView;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -15,26 +26,43 @@ import org.springframework.stereotype.Repository;
  *
  * <p>This class acts as a bridge between the domain layer and the data layer, implementing the
  * {@link PriceOutboundPort} interface to provide the necessary functionality for retrieving price information
- * from the database. It uses {@link PriceJpaRepository} to query the database and maps the
- * {@link com.ws.infrastructure.price.persistence.entity.PriceEntity} to the domain model {@link Price} using {@link PriceEntityMapper}.</p>
+ * from the database. It uses {@link PriceJpaRepository} to query the database and maps each
+ * {@link PriceView} to the domain model {@link Price} using {@link PriceEntityMapper}.</p>
+ *
+ * <p>Lookups only read {@link PriceView} projections in read-only transactions, so no
+ * {@link com.ws.infrastructure.price.persistence.entity.PriceEntity} is hydrated or tracked by the
+ * persistence context, and the brand comes from {@link BrandRegistry} instead of a join. Identical lookups of
+ * concurrent requests share a single query through the {@link PriceLookupCoalescer}, and the
+ * {@link PriceLookupBatcher} may resolve the other ones together.</p>
+ *
+ * <p>This adapter is the default one and is enabled with {@code price.outbound.adapter=jpa}.</p>
  *
  * @see PriceOutboundPort
  * @see PriceJpaRepository
  * @see PriceEntityMapper
+ * @see BrandRegistry
  */
 @Repository
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "price.outbound", name = "adapter", havingValue = "jpa", matchIfMissing = true)
 public class PriceRepositoryAdapter implements PriceOutboundPort {
 
     private final PriceJpaRepository priceJPARepository;
     private final PriceEntityMapper mapper;
+    private final BrandRegistry brandRegistry;
+    private final PriceLookupTimers timers;
+    private final PriceLookupCoalescer coalescer;
+    private final PriceLookupBatcher batcher;
 
     /**
      * Retrieves the preferred price for a given product and brand at a specified application date.
      *
-     * <p>This method queries the {@link PriceJpaRepository} to find the price based on the given
-     * product ID, brand ID, and application date. If a price is found, it is mapped to the
-     * domain model {@link Price} using the {@link PriceEntityMapper}.</p>
+     * <p>This method queries the {@link PriceJpaRepository}, through the {@link PriceLookupBatcher}, to find
+     * the price based on the given product ID, brand ID, and application date. If a price is found, its
+     * {@link PriceView} is mapped to the domain model {@link Price} using the {@link PriceEntityMapper}. A
+     * caller asking for a price that is already being looked up waits for that query instead of running its
+     * own. The whole call, the query and the mapping are recorded as separate stages with
+     * {@link PriceLookupTimers}.</p>
      *
      * @param applicationDate the date for which the price is being retrieved
      * @param productId the identifier of the product
@@ -44,7 +72,64 @@ public class PriceRepositoryAdapter implements PriceOutboundPort {
      */
     @Override
     public Optional<Price> getPreferredPrice(LocalDateTime applicationDate, Integer productId, Integer brandId) {
-        return priceJPARepository.findTopPrice(productId, brandId, applicationDate)
-                .map(mapper::toDomain);
+        long started = System.nanoTime();
+        var price = coalescer.price(applicationDate, productId, brandId, () -> {
+            var view = timers.record(LookupStage.DB,
+                    () -> batcher.findTopPriceView(productId, brandId, applicationDate));
+            return view.map(found -> timers.record(LookupStage.ENTITY_MAPPING, () -> toDomain(found)));
+        });
+        timers.recordSince(LookupStage.ADAPTER, started);
+        return price;
+    }
+
+    /**
+     * Retrieves the segment, starting at the given application date, during which the preferred price wins.
+     *
+     * <p>The winning price is read as in {@link #getPreferredPrice}, with the single-row
+     * {@link PriceJpaRepository#findTopPriceView} query. The end of the segment is then read with
+     * {@link PriceJpaRepository#findSuccessorPriceViews}, which is bounded by the validity of the winner and
+     * only returns the prices that start before it ends, and resolved with
+     * {@link PreferredPriceViews}. Concurrent callers asking for the same segment share the same queries, and
+     * with batching enabled both queries are run once for the whole batch.</p>
+     *
+     * @param applicationDate the date for which the segment is being retrieved
+     * @param productId the identifier of the product
+     * @param brandId the identifier of the brand
+     * @return an {@link Optional} containing the {@link PriceSegment}, or an empty {@link Optional}
+     *         if no price is found
+     */
+    @Override
+    public Optional<PriceSegment> getPreferredSegment(LocalDateTime applicationDate, Integer productId,
+                                                      Integer brandId) {
+        long started = System.nanoTime();
+        var segment = coalescer.segment(applicationDate, productId, brandId, () -> {
+            var view = timers.record(LookupStage.DB,
+                    () -> batcher.findSegmentView(productId, brandId, applicationDate));
+            return view.map(found -> timers.record(LookupStage.ENTITY_MAPPING,
+                    () -> new PriceSegment(found.from(), found.to(), toDomain(found.price()))));
+        });
+        timers.recordSince(LookupStage.ADAPTER, started);
+        return segment;
+    }
+
+    /**
+     * Retrieves the preferred price of several products with a single set-based query.
+     *
+     * <p>Every price of the requested products and brands that overlaps the date range of the batch is
+     * fetched at once with {@link PriceJpaRepository#findCandidatePriceViews}, and each query picks its own
+     * with {@link PreferredPriceViews}.</p>
+     *
+     * @param queries the product, brand and application date of each price to retrieve
+     * @return one {@link Optional} per query, in the same order as {@code queries}
+     */
+    @Override
+    public List<Optional<Price>> getPreferredPrices(List<PriceQuery> queries) {
+        return PreferredPriceViews.resolve(queries, priceJPARepository::findCandidatePriceViews).stream()
+                .map(view -> view.map(this::toDomain))
+                .toList();
+    }
+
+    private Price toDomain(PriceView view) {
+        return mapper.toDomain(view, brandRegistry.brand(view.brandId()));
     }
 }
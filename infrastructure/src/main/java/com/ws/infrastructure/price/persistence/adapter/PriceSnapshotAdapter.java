@@ -0,0 +1,336 @@
+package com.ws.infrastructure.price.persistence.adapter;
+
+import com.ws.application.price.model.PriceQuery;
+import com.ws.application.price.port.out.PriceOutboundPort;
+import com.ws.domain.price.model.Price;
+import com.ws.domain.price.model.PriceSegment;
+import com.ws.domain.price.model.PriceTimeline;
+import com.ws.infrastructure.price.partition.PricePartition;
+import com.ws.infrastructure.price.persistence.PriceJpaRepository;
+import com.ws.infrastructure.price.persistence.event.PriceChangedEvent;
+import com.ws.infrastructure.price.persistence.event.PricesReloadedEvent;
+import com.ws.infrastructure.price.persistence.mapper.PriceEntityMapper;
+import com.ws.infrastructure.price.persistence.projection.PriceFingerprint;
+import com.ws.infrastructure.price.persistence.snapshot.MappedPriceSnapshot;
+import com.ws.infrastructure.price.persistence.snapshot.PriceSnapshotException;
+import com.ws.infrastructure.price.persistence.snapshot.PriceSnapshotWriter;
+import com.ws.infrastructure.price.persistence.timeline.PriceSnapshotVersion;
+import com.ws.infrastructure.price.persistence.timeline.PriceTimelineIndex;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Adapter class that implements the {@link PriceOutboundPort} interface on top of a memory-mapped
+ * {@link MappedPriceSnapshot} of the resolved price timelines.
+ *
+ * <p>At startup the snapshot file set with {@code price.snapshot.file} is mapped and only its header is
+ * checked, so the node serves lookups without reading the rows of {@code PRICES}, whatever its size. Blocks
+ * of the file are checked the first time a lookup reads them. Every snapshot records the
+ * {@link PriceFingerprint} of the rows it was exported from, and the file is only reused when
+ * {@code PRICES} still has the same one, which the database computes in a single aggregate query. When the
+ * file is missing, is not a valid snapshot, was exported for other brands than the {@link PricePartition} of
+ * the node or from other prices, such as those of a previous run against an in-memory database, it is
+ * exported from {@code PRICES} first, which costs the same as loading the {@code timeline} adapter.</p>
+ *
+ * <p>The snapshot never changes once mapped. When a {@link PriceChangedEvent} reports a change, the timeline
+ * of that product and brand is rebuilt from {@code PRICES} and published in a small override map in front
+ * of the snapshot, and a new snapshot is exported in the background so that nodes started later see the
+ * change; exports requested while one is running are coalesced into the next one. A
+ * {@link PricesReloadedEvent} exports and maps a new snapshot and drops the overrides. A block that fails
+ * its checksum is handled the same way, and the lookup that found it is retried once on the new snapshot.</p>
+ *
+ * <p>This adapter is enabled with {@code price.outbound.adapter=snapshot}.</p>
+ *
+ * @see PriceOutboundPort
+ * @see MappedPriceSnapshot
+ * @see PriceSnapshotWriter
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(prefix = "price.outbound", name = "adapter", havingValue = "snapshot")
+public class PriceSnapshotAdapter implements PriceOutboundPort, SmartInitializingSingleton, DisposableBean {
+
+    private final PriceJpaRepository priceJPARepository;
+    private final PriceEntityMapper mapper;
+    private final PricePartition partition;
+    private final Path file;
+    private final ExecutorService exporter = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().daemon().name("price-snapshot-export").factory());
+    private final AtomicBoolean exportPending = new AtomicBoolean();
+
+    private final Object writeLock = new Object();
+    private final Object exportLock = new Object();
+
+    private volatile View view;
+
+    /**
+     * Constructor to initialize the adapter with its repository and snapshot file.
+     *
+     * @param priceJPARepository the repository snapshots are exported from
+     * @param mapper             the mapper from entities to domain prices
+     * @param partition          the partition of this node
+     * @param file               the snapshot file mapped at startup
+     */
+    public PriceSnapshotAdapter(PriceJpaRepository priceJPARepository,
+                                PriceEntityMapper mapper,
+                                PricePartition partition,
+                                @Value("${price.snapshot.file:price-snapshot.bin}") Path file) {
+        this.priceJPARepository = priceJPARepository;
+        this.mapper = mapper;
+        this.partition = partition;
+        this.file = file;
+    }
+
+    /**
+     * Maps the snapshot file, exporting it first if it cannot be used, once the application context has
+     * been fully initialized.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        synchronized (writeLock) {
+            long started = System.nanoTime();
+            try {
+                var snapshot = MappedPriceSnapshot.open(file);
+                if (!snapshot.scope().equals(partition.brands())) {
+                    log.warn("price snapshot {} was exported for brands {}, exporting it again",
+                            file, snapshot.scope());
+                } else if (snapshot.fingerprint() != fingerprint()) {
+                    log.warn("price snapshot {} was exported from other prices, exporting it again", file);
+                } else {
+                    publish(snapshot, snapshot.version(), started);
+                    return;
+                }
+            } catch (PriceSnapshotException | UncheckedIOException e) {
+                log.warn("price snapshot not usable, exporting it again : {}", e.getMessage());
+            }
+            publish(export(1), 1, started);
+        }
+    }
+
+    /**
+     * Exports a new snapshot from the {@code PRICES} table, maps it and drops every override.
+     */
+    public void reload() {
+        synchronized (writeLock) {
+            long started = System.nanoTime();
+            long version = view == null ? 1 : view.version() + 1;
+            publish(export(version), version, started);
+        }
+    }
+
+    /**
+     * Rebuilds the timeline of a single product and brand in front of the snapshot, and schedules the
+     * export of a new snapshot.
+     *
+     * @param productId the identifier of the product
+     * @param brandId   the identifier of the brand
+     */
+    public void refresh(Integer productId, Integer brandId) {
+        if (!partition.owns(brandId) || view == null) {
+            return;
+        }
+        synchronized (writeLock) {
+            var prices = priceJPARepository.findPrices(productId, brandId).stream()
+                    .map(mapper::toDomain)
+                    .toList();
+            var current = view;
+            var overrides = new HashMap<>(current.overrides());
+            overrides.put(PriceTimelineIndex.key(productId, brandId), PriceTimeline.of(prices));
+            view = new View(current.snapshot(), Map.copyOf(overrides), current.version() + 1);
+            log.debug("price snapshot override {}-{} published, version {}", productId, brandId, view.version());
+        }
+        scheduleExport();
+    }
+
+    /**
+     * Rebuilds the timeline of the product and brand whose prices changed, once the change has committed.
+     *
+     * <p>It runs before any other listener so that caches dropping the pair afterwards reload it from the
+     * new view.</p>
+     *
+     * @param event the change notification
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPriceChanged(PriceChangedEvent event) {
+        refresh(event.productId(), event.brandId());
+    }
+
+    /**
+     * Exports and maps a new snapshot once a bulk load has committed.
+     *
+     * @param event the reload notification
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricesReloaded(PricesReloadedEvent event) {
+        reload();
+    }
+
+    /**
+     * Stops the background export.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        exporter.shutdown();
+        exporter.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Returns the version of the published view, incremented by every change.
+     *
+     * @return the snapshot version
+     */
+    public long snapshotVersion() {
+        return view.version();
+    }
+
+    /**
+     * Retrieves the preferred price for a given product and brand at a specified application date.
+     *
+     * @param applicationDate the date for which the price is being retrieved
+     * @param productId the identifier of the product
+     * @param brandId the identifier of the brand
+     * @return an {@link Optional} containing the preferred {@link Price}, or an empty {@link Optional}
+     *         if no price is found
+     */
+    @Override
+    public Optional<Price> getPreferredPrice(LocalDateTime applicationDate, Integer productId, Integer brandId) {
+        return read(snapshot -> snapshot.segmentAt(applicationDate, productId, brandId).map(PriceSegment::price));
+    }
+
+    /**
+     * Retrieves the resolved segment that contains the given application date.
+     *
+     * @param applicationDate the date for which the segment is being retrieved
+     * @param productId the identifier of the product
+     * @param brandId the identifier of the brand
+     * @return an {@link Optional} containing the {@link PriceSegment}, or an empty {@link Optional}
+     *         if no price is found
+     */
+    @Override
+    public Optional<PriceSegment> getPreferredSegment(LocalDateTime applicationDate, Integer productId,
+                                                      Integer brandId) {
+        return read(snapshot -> snapshot.segmentAt(applicationDate, productId, brandId));
+    }
+
+    /**
+     * Retrieves the preferred price of several products from a single view.
+     *
+     * @param queries the product, brand and application date of each price to retrieve
+     * @return one {@link Optional} per query, in the same order as {@code queries}
+     */
+    @Override
+    public List<Optional<Price>> getPreferredPrices(List<PriceQuery> queries) {
+        return read(snapshot -> {
+            var prices = new ArrayList<Optional<Price>>(queries.size());
+            for (PriceQuery query : queries) {
+                prices.add(snapshot.segmentAt(query.applicationDate(), query.productId(), query.brandId())
+                        .map(PriceSegment::price));
+            }
+            return prices;
+        });
+    }
+
+    private <T> T read(Function<View, T> lookup) {
+        var snapshot = view;
+        try {
+            PriceSnapshotVersion.recordRead(snapshot.version());
+            return lookup.apply(snapshot);
+        } catch (PriceSnapshotException e) {
+            log.error("price snapshot corrupted, exporting it again : {}", e.getMessage());
+            synchronized (writeLock) {
+                if (view == snapshot) {
+                    reload();
+                }
+            }
+            snapshot = view;
+            PriceSnapshotVersion.recordRead(snapshot.version());
+            return lookup.apply(snapshot);
+        }
+    }
+
+    private MappedPriceSnapshot export(long version) {
+        // exports are serialized, so the last file written is always the one read last from PRICES
+        synchronized (exportLock) {
+            // taken before the rows, so a change committed in between leaves a stale fingerprint, and the
+            // snapshot is exported again at the next startup instead of being trusted
+            long fingerprint = fingerprint();
+            var entities = partition.isPartitioned()
+                    ? priceJPARepository.findByBrandIds(partition.brands())
+                    : priceJPARepository.findAll();
+            var prices = entities.stream()
+                    .map(mapper::toDomain)
+                    .toList();
+            PriceSnapshotWriter.write(file, prices, partition.brands(), version, fingerprint);
+            return MappedPriceSnapshot.open(file);
+        }
+    }
+
+    private long fingerprint() {
+        var fingerprint = partition.isPartitioned()
+                ? priceJPARepository.fingerprintByBrandIds(partition.brands())
+                : priceJPARepository.fingerprint();
+        return fingerprint.value();
+    }
+
+    private void publish(MappedPriceSnapshot snapshot, long version, long started) {
+        view = new View(snapshot, Map.of(), version);
+        log.info("price snapshot {} mapped : {} timelines, {} segments, {} bytes, version {}, in {} ms",
+                file, snapshot.size(), snapshot.segmentCount(), snapshot.sizeInBytes(), version,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private void scheduleExport() {
+        if (!exportPending.compareAndSet(false, true)) {
+            return;
+        }
+        exporter.execute(() -> {
+            exportPending.set(false);
+            try {
+                long version = view.version();
+                export(version);
+                log.info("price snapshot {} exported in the background, version {}", file, version);
+            } catch (RuntimeException e) {
+                log.warn("price snapshot {} not exported : {}", file, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Published state of the adapter: the mapped snapshot and the timelines rebuilt since it was mapped.
+     *
+     * @param snapshot  the mapped snapshot
+     * @param overrides the rebuilt timelines by product and brand key, an empty one hiding the snapshot
+     * @param version   the version reported to clients
+     */
+    private record View(MappedPriceSnapshot snapshot, Map<Long, PriceTimeline> overrides, long version) {
+
+        Optional<PriceSegment> segmentAt(LocalDateTime applicationDate, Integer productId, Integer brandId) {
+            var override = overrides.get(PriceTimelineIndex.key(productId, brandId));
+            return override != null
+                    ? override.segmentAt(applicationDate)
+                    : snapshot.segmentAt(applicationDate, productId, brandId);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.ws.infrastructure.price.persistence.adapter;
+
+import com.ws.application.price.model.PriceQuery;
+import com.ws.application.price.port.out.PriceOutboundPort;
+import com.ws.domain.price.model.Price;
+import com.ws.domain.price.model.PriceSegment;
+import com.ws.domain.price.model.PriceTimeline;
+import com.ws.infrastructure.price.partition.PricePartition;
+import com.ws.infrastructure.price.persistence.PriceJpaRepository;
+import com.ws.infrastructure.price.persistence.event.PriceChangedEvent;
+import com.ws.infrastructure.price.persistence.event.PricesReloadedEvent;
+import com.ws.infrastructure.price.persistence.mapper.PriceEntityMapper;
+import com.ws.infrastructure.price.persistence.timeline.PriceSnapshotVersion;
+import com.ws.infrastructure.price.persistence.timeline.PriceTimelineIndex;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Adapter class that implements the {@link PriceOutboundPort} interface on top of an in-memory
+ * {@link PriceTimelineIndex}.
+ *
+ * <p>The whole {@code PRICES} table is loaded once, after every singleton has been created (and
+ * therefore after {@code data.sql} has been applied), and resolved into non-overlapping segments
+ * per product and brand. Lookups never reach the database: they are a hash probe followed by a
+ * binary search by application date. When the node is partitioned, only the prices of the brands of its
+ * {@link PricePartition} are loaded, and changes to other brands are ignored.</p>
+ *
+ * <p>The index is an immutable snapshot published through a single volatile reference. Readers never
+ * lock: each lookup reads the reference once and works on that snapshot. When a {@link PriceChangedEvent}
+ * reports a change, only the timeline of that product and brand is rebuilt and a new snapshot, with the
+ * next version, replaces the previous one in a single swap. A {@link PricesReloadedEvent} rebuilds the whole
+ * index the same way. Writers are serialized among themselves.</p>
+ *
+ * <p>This adapter is enabled with {@code price.outbound.adapter=timeline}.</p>
+ *
+ * @see PriceOutboundPort
+ * @see PriceTimelineIndex
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "price.outbound", name = "adapter", havingValue = "timeline")
+public class PriceTimelineAdapter implements PriceOutboundPort, SmartInitializingSingleton {
+
+    private final PriceJpaRepository priceJPARepository;
+    private final PriceEntityMapper mapper;
+    private final PricePartition partition;
+
+    private final Object writeLock = new Object();
+
+    private volatile PriceTimelineIndex index = PriceTimelineIndex.empty();
+
+    /**
+     * Loads the index once the application context has been fully initialized.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    /**
+     * Rebuilds the whole {@link PriceTimelineIndex} from the {@code PRICES} table and publishes it.
+     */
+    public void reload() {
+        synchronized (writeLock) {
+            var entities = partition.isPartitioned()
+                    ? priceJPARepository.findByBrandIds(partition.brands())
+                    : priceJPARepository.findAll();
+            var prices = entities.stream()
+                    .map(mapper::toDomain)
+                    .toList();
+            index = PriceTimelineIndex.of(prices, index.version() + 1);
+            log.info("price timeline index loaded : {} prices, {} timelines, version {}",
+                    prices.size(), index.size(), index.version());
+        }
+    }
+
+    /**
+     * Rebuilds the timeline of a single product and brand and publishes a new snapshot.
+     *
+     * @param productId the identifier of the product
+     * @param brandId   the identifier of the brand
+     */
+    public void refresh(Integer productId, Integer brandId) {
+        if (!partition.owns(brandId)) {
+            return;
+        }
+        synchronized (writeLock) {
+            var prices = priceJPARepository.findPrices(productId, brandId).stream()
+                    .map(mapper::toDomain)
+                    .toList();
+            index = index.with(productId, brandId, PriceTimeline.of(prices));
+            log.debug("price timeline {}-{} refreshed, version {}", productId, brandId, index.version());
+        }
+    }
+
+    /**
+     * Rebuilds the timeline of the product and brand whose prices changed, once the change has committed.
+     *
+     * <p>It runs before any other listener so that caches dropping the pair afterwards reload it from the
+     * new snapshot.</p>
+     *
+     * @param event the change notification
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPriceChanged(PriceChangedEvent event) {
+        refresh(event.productId(), event.brandId());
+    }
+
+    /**
+     * Rebuilds the whole index once a bulk load has committed.
+     *
+     * @param event the reload notification
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricesReloaded(PricesReloadedEvent event) {
+        reload();
+    }
+
+    /**
+     * Returns the version of the published snapshot.
+     *
+     * @return the snapshot version
+     */
+    public long snapshotVersion() {
+        return index.version();
+    }
+
+    /**
+     * Retrieves the preferred price for a given product and brand at a specified application date.
+     *
+     * @param applicationDate the date for which the price is being retrieved
+     * @param productId the identifier of the product
+     * @param brandId the identifier of the brand
+     * @return an {@link Optional} containing the preferred {@link Price}, or an empty {@link Optional}
+     *         if no price is found
+     */
+    @Override
+    public Optional<Price> getPreferredPrice(LocalDateTime applicationDate, Integer productId, Integer brandId) {
+        var snapshot = index;
+        PriceSnapshotVersion.recordRead(snapshot.version());
+        return snapshot.priceAt(applicationDate, productId, brandId);
+    }
+
+    /**
+     * Retrieves the resolved segment that contains the given application date.
+     *
+     * @param applicationDate the date for which the segment is being retrieved
+     * @param productId the identifier of the product
+     * @param brandId the identifier of the brand
+     * @return an {@link Optional} containing the {@link PriceSegment}, or an empty {@link Optional}
+     *         if no price is found
+     */
+    @Override
+    public Optional<PriceSegment> getPreferredSegment(LocalDateTime applicationDate, Integer productId,
+                                                      Integer brandId) {
+        var snapshot = index;
+        PriceSnapshotVersion.recordRead(snapshot.version());
+        return snapshot.timeline(productId, brandId).segmentAt(applicationDate);
+    }
+
+    /**
+     * Retrieves the preferred price of several products from a single snapshot.
+     *
+     * @param queries the product, brand and application date of each price to retrieve
+     * @return one {@link Optional} per query, in the same order as {@code queries}
+     */
+    @Override
+    public List<Optional<Price>> getPreferredPrices(List<PriceQuery> queries) {
+        var snapshot = index;
+        PriceSnapshotVersion.recordRead(snapshot.version());
+        var prices = new ArrayList<Optional<Price>>(queries.size());
+        for (PriceQuery query : queries) {
+            prices.add(snapshot.priceAt(query.applicationDate(), query.productId(), query.brandId()));
+        }
+        return prices;
+    }
+}
@@ -0,0 +1,121 @@
+package com.ws.infrastructure.price.persistence.adapter;
+
+import com.ws.application.price.port.out.PriceTimelineOutboundPort;
+import com.ws.domain.price.model.Price;
+import com.ws.domain.price.model.PriceSegment;
+import com.ws.domain.price.model.PriceTimeline;
+import com.ws.infrastructure.price.persistence.PriceJpaRepository;
+import com.ws.infrastructure.price.persistence.mapper.PriceEntityMapper;
+import com.ws.infrastructure.price.persistence.projection.BrandRegistry;
+import com.ws.infrastructure.price.persistence.projection.PriceView;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Adapter class that implements the {@link PriceTimelineOutboundPort} interface on top of the {@code PRICES}
+ * table.
+ *
+ * <p>The prices of the interval are read in pages of {@code price.timeline.page-size} rows, sorted by start
+ * date, with the keyset queries {@link PriceJpaRepository#findTimelinePage} and
+ * {@link PriceJpaRepository#findTimelinePageAfter}, and resolved with {@link PriceTimeline#resolve} as they
+ * arrive. Each page is read in its own short read-only transaction, and the segments it closes are passed on
+ * before the next page is read, so only the prices valid at the current date and one page are held in memory,
+ * and no connection is held while the caller writes the segments to a client.</p>
+ *
+ * <p>It always reads {@code PRICES}, whatever the adapter selected with {@code price.outbound.adapter}.</p>
+ *
+ * @see PriceTimelineOutboundPort
+ * @see PriceTimeline
+ */
+@Repository
+public class PriceTimelineRepositoryAdapter implements PriceTimelineOutboundPort {
+
+    private final PriceJpaRepository priceJPARepository;
+    private final PriceEntityMapper mapper;
+    private final BrandRegistry brandRegistry;
+    private final Limit pageSize;
+
+    /**
+     * Constructor to initialize the adapter.
+     *
+     * @param priceJPARepository the repository the prices are read from
+     * @param mapper             the mapper from each price view to its domain model
+     * @param brandRegistry      the registry of the brands
+     * @param pageSize           the number of prices read by each query
+     */
+    public PriceTimelineRepositoryAdapter(PriceJpaRepository priceJPARepository, PriceEntityMapper mapper,
+                                          BrandRegistry brandRegistry,
+                                          @Value("${price.timeline.page-size:256}") int pageSize) {
+        this.priceJPARepository = priceJPARepository;
+        this.mapper = mapper;
+        this.brandRegistry = brandRegistry;
+        this.pageSize = Limit.of(pageSize);
+    }
+
+    /**
+     * Resolves the segments of the price timeline of a product and brand that overlap the {@code [from, to)}
+     * interval, reading the prices one page at a time.
+     *
+     * @param productId the identifier of the product
+     * @param brandId   the identifier of the brand
+     * @param from      the start (inclusive) of the interval
+     * @param to        the end (exclusive) of the interval
+     * @param action    the action run for each {@link PriceSegment}
+     */
+    @Override
+    public void forEachSegment(Integer productId, Integer brandId, LocalDateTime from, LocalDateTime to,
+                               Consumer<PriceSegment> action) {
+        PriceTimeline.resolve(new PagedPrices(productId, brandId, from, to), from, to, action);
+    }
+
+    private Price toDomain(PriceView view) {
+        return mapper.toDomain(view, brandRegistry.brand(view.brandId()));
+    }
+
+    /**
+     * Prices of an interval, sorted by start date, read one page at a time when the previous one is used up.
+     */
+    private final class PagedPrices implements Iterator<Price> {
+
+        private final Integer productId;
+        private final Integer brandId;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private List<PriceView> page;
+        private int next;
+
+        private PagedPrices(Integer productId, Integer brandId, LocalDateTime from, LocalDateTime to) {
+            this.productId = productId;
+            this.brandId = brandId;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (page == null) {
+                page = priceJPARepository.findTimelinePage(productId, brandId, from, to, pageSize);
+            } else if (next == page.size() && page.size() == pageSize.max()) {
+                var last = page.get(page.size() - 1);
+                page = priceJPARepository.findTimelinePageAfter(productId, brandId, from, to, last.startDate(),
+                        last.priceList(), pageSize);
+                next = 0;
+            }
+            return next < page.size();
+        }
+
+        @Override
+        public Price next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return toDomain(page.get(next++));
+        }
+    }
+}
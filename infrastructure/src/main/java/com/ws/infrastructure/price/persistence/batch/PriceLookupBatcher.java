@@ -0,0 +1,321 @@
+package com.ws.infrastructure.price.persistence.batch;
+
+import com.ws.application.price.model.PriceQuery;
+import com.ws.infrastructure.price.persistence.PriceJpaRepository;
+import com.ws.infrastructure.price.persistence.projection.PreferredPriceViews;
+import com.ws.infrastructure.price.persistence.projection.PriceSegmentView;
+import com.ws.infrastructure.price.persistence.projection.PriceView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gathers the {@code findTopPrice} and segment lookups of concurrent requests into batches resolved with
+ * set-based queries.
+ *
+ * <p>Lookups are queued, and a dispatcher thread takes the first one waiting and keeps gathering for
+ * {@code price.db.batching.window} or until {@code price.db.batching.max-batch-size} lookups are gathered. The
+ * batch is then resolved by a worker with {@link PriceJpaRepository#findCandidatePriceViews} and
+ * {@link PreferredPriceViews}, and the future of each caller is completed with its own price, or with the
+ * failure of the query. The segments asked for in the batch are then bounded with one
+ * {@link PriceJpaRepository#findSuccessorPriceViews} query. At most
+ * {@code price.db.batching.max-concurrent-batches} batches run at a time; while they all run, lookups keep
+ * queueing and the next batch is larger. A lookup arriving when
+ * {@code price.db.batching.queue-capacity} lookups are already queued is rejected with a
+ * {@link DataAccessResourceFailureException}, answered with {@code 503}.</p>
+ *
+ * <p>It is enabled with {@code price.db.batching.enabled=true}. Otherwise, and while the application is not
+ * running, every lookup runs its own {@link PriceJpaRepository#findTopPriceView} query, followed by its own
+ * successor query for a segment.</p>
+ *
+ * <p>The size of each batch is exported as {@code price.db.batching.batch.size}, the time spent gathering it as
+ * {@code price.db.batching.window}, the lookups waiting as {@code price.db.batching.queue.depth} and the
+ * rejected ones as {@code price.db.batching.rejected}.</p>
+ */
+@Slf4j
+@Component
+public class PriceLookupBatcher implements SmartLifecycle {
+
+    private final PriceJpaRepository priceJPARepository;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final int maxConcurrentBatches;
+    private final BlockingQueue<PendingLookup> queue;
+    private final Semaphore batches;
+    private final DistributionSummary batchSize;
+    private final Timer window;
+    private final Counter rejected;
+    private volatile boolean running;
+    private Thread dispatcher;
+    private ExecutorService workers;
+
+    /**
+     * Constructor to initialize the batcher and register its metrics.
+     *
+     * @param priceJPARepository   the repository running the queries
+     * @param enabled              whether lookups are batched
+     * @param window               the longest time spent gathering a batch
+     * @param maxBatchSize         the largest number of lookups in a batch
+     * @param queueCapacity        the largest number of lookups waiting for a batch
+     * @param maxConcurrentBatches the largest number of batches resolved at a time
+     * @param meterRegistry        the registry of the batching metrics
+     */
+    public PriceLookupBatcher(PriceJpaRepository priceJPARepository,
+                              @Value("${price.db.batching.enabled:false}") boolean enabled,
+                              @Value("${price.db.batching.window:1ms}") Duration window,
+                              @Value("${price.db.batching.max-batch-size:64}") int maxBatchSize,
+                              @Value("${price.db.batching.queue-capacity:4096}") int queueCapacity,
+                              @Value("${price.db.batching.max-concurrent-batches:4}") int maxConcurrentBatches,
+                              MeterRegistry meterRegistry) {
+        this.priceJPARepository = priceJPARepository;
+        this.enabled = enabled;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.maxConcurrentBatches = maxConcurrentBatches;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batches = new Semaphore(maxConcurrentBatches);
+        this.batchSize = DistributionSummary.builder("price.db.batching.batch.size")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.window = Timer.builder("price.db.batching.window")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = meterRegistry.counter("price.db.batching.rejected");
+        Gauge.builder("price.db.batching.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    /**
+     * Finds the highest-priority price of a product and brand at a date, in the next batch when batching is
+     * running.
+     *
+     * @param productId the ID of the product
+     * @param brandId   the ID of the brand
+     * @param date      the application date
+     * @return an {@link Optional} containing the {@link PriceView}, or an empty {@link Optional} if no price applies
+     * @throws DataAccessResourceFailureException if the queue of lookups is full
+     */
+    public Optional<PriceView> findTopPriceView(Integer productId, Integer brandId, LocalDateTime date) {
+        if (!running) {
+            return priceJPARepository.findTopPriceView(productId, brandId, date);
+        }
+        var lookup = PendingLookup.price(new PriceQuery(date, productId, brandId, null));
+        if (!enqueue(lookup)) {
+            return priceJPARepository.findTopPriceView(productId, brandId, date);
+        }
+        return await(lookup.price());
+    }
+
+    /**
+     * Finds the highest-priority price of a product and brand at a date and the interval during which it keeps
+     * winning, in the next batch when batching is running.
+     *
+     * @param productId the ID of the product
+     * @param brandId   the ID of the brand
+     * @param date      the application date
+     * @return an {@link Optional} containing the {@link PriceSegmentView} starting at {@code date}, or an empty
+     *         {@link Optional} if no price applies
+     * @throws DataAccessResourceFailureException if the queue of lookups is full
+     */
+    public Optional<PriceSegmentView> findSegmentView(Integer productId, Integer brandId, LocalDateTime date) {
+        var query = new PriceQuery(date, productId, brandId, null);
+        if (!running) {
+            return findSegmentViewDirectly(query);
+        }
+        var lookup = PendingLookup.segment(query);
+        if (!enqueue(lookup)) {
+            return findSegmentViewDirectly(query);
+        }
+        return await(lookup.segment());
+    }
+
+    /**
+     * Starts the dispatcher thread and the workers, if batching is enabled.
+     */
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        workers = Executors.newFixedThreadPool(maxConcurrentBatches,
+                Thread.ofPlatform().daemon().name("price-lookup-batch-", 0).factory());
+        running = true;
+        dispatcher = Thread.ofPlatform().daemon().name("price-lookup-dispatcher").start(this::dispatch);
+    }
+
+    /**
+     * Stops the dispatcher, lets the running batches finish and fails the lookups still queued.
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        dispatcher.interrupt();
+        try {
+            dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+            workers.shutdown();
+            workers.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        var stranded = new ArrayList<PendingLookup>();
+        queue.drainTo(stranded);
+        stranded.forEach(lookup -> lookup.fail(
+                new DataAccessResourceFailureException("price lookup batching stopped")));
+    }
+
+    /**
+     * Returns whether lookups are being batched.
+     *
+     * @return {@code true} between {@link #start()} and {@link #stop()} when batching is enabled
+     */
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private Optional<PriceSegmentView> findSegmentViewDirectly(PriceQuery query) {
+        return priceJPARepository.findTopPriceView(query.productId(), query.brandId(), query.applicationDate())
+                .map(winner -> PreferredPriceViews.resolveSegments(List.of(query), List.of(winner),
+                        priceJPARepository::findSuccessorPriceViews).get(0));
+    }
+
+    private boolean enqueue(PendingLookup lookup) {
+        if (!queue.offer(lookup)) {
+            rejected.increment();
+            throw new DataAccessResourceFailureException("price lookup queue full");
+        }
+        return running || !queue.remove(lookup);
+    }
+
+    private static <T> T await(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    private void dispatch() {
+        while (running) {
+            try {
+                batches.acquire();
+                var batch = gather();
+                workers.execute(() -> {
+                    try {
+                        resolve(batch);
+                    } finally {
+                        batches.release();
+                    }
+                });
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private List<PendingLookup> gather() throws InterruptedException {
+        var batch = new ArrayList<PendingLookup>(maxBatchSize);
+        batch.add(queue.take());
+        long started = System.nanoTime();
+        long deadline = started + windowNanos;
+        try {
+            while (batch.size() < maxBatchSize) {
+                queue.drainTo(batch, maxBatchSize - batch.size());
+                long remaining = deadline - System.nanoTime();
+                if (batch.size() >= maxBatchSize || remaining <= 0) {
+                    break;
+                }
+                var next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    break;
+                }
+                batch.add(next);
+            }
+        } catch (InterruptedException e) {
+            batch.forEach(lookup -> lookup.fail(
+                    new DataAccessResourceFailureException("price lookup batching stopped")));
+            throw e;
+        }
+        window.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        batchSize.record(batch.size());
+        return batch;
+    }
+
+    private void resolve(List<PendingLookup> batch) {
+        try {
+            var views = PreferredPriceViews.resolve(batch.stream().map(PendingLookup::query).toList(),
+                    priceJPARepository::findCandidatePriceViews);
+            var segmentLookups = new ArrayList<PendingLookup>();
+            var winners = new ArrayList<PriceView>();
+            for (int i = 0; i < batch.size(); i++) {
+                var lookup = batch.get(i);
+                if (lookup.price() != null) {
+                    lookup.price().complete(views.get(i));
+                } else if (views.get(i).isPresent()) {
+                    segmentLookups.add(lookup);
+                    winners.add(views.get(i).get());
+                } else {
+                    lookup.segment().complete(Optional.empty());
+                }
+            }
+            var segments = PreferredPriceViews.resolveSegments(
+                    segmentLookups.stream().map(PendingLookup::query).toList(), winners,
+                    priceJPARepository::findSuccessorPriceViews);
+            for (int i = 0; i < segmentLookups.size(); i++) {
+                segmentLookups.get(i).segment().complete(Optional.of(segments.get(i)));
+            }
+        } catch (RuntimeException | Error e) {
+            log.debug("batch of {} lookups failed", batch.size(), e);
+            batch.forEach(lookup -> lookup.fail(e));
+        }
+    }
+
+    /**
+     * A queued lookup, completed either with a price or with a segment, the other future being {@code null}.
+     */
+    private record PendingLookup(PriceQuery query, CompletableFuture<Optional<PriceView>> price,
+                                 CompletableFuture<Optional<PriceSegmentView>> segment) {
+
+        static PendingLookup price(PriceQuery query) {
+            return new PendingLookup(query, new CompletableFuture<>(), null);
+        }
+
+        static PendingLookup segment(PriceQuery query) {
+            return new PendingLookup(query, null, new CompletableFuture<>());
+        }
+
+        void fail(Throwable failure) {
+            if (price != null) {
+                price.completeExceptionally(failure);
+            } else {
+                segment.completeExceptionally(failure);
+            }
+        }
+    }
+}
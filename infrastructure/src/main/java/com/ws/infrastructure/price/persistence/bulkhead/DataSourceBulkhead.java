@@ -0,0 +1,164 @@
+package com.ws.infrastructure.price.persistence.bulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * {@link DataSource} that bounds how many callers may hold, and wait for, a connection of the pool behind it.
+ *
+ * <p>With virtual threads, every request gets its own thread, so the number of threads no longer limits
+ * the number of callers blocked on the connection pool: thousands of them would queue inside the pool
+ * until its connection timeout. This bulkhead lets at most {@code maxConcurrent} callers hold a connection
+ * and at most {@code maxWaiting} wait for one, each one for at most {@code acquireTimeout}. Any other
+ * caller is rejected at once with a {@link SQLTransientConnectionException}, which surfaces as a
+ * {@code 503 Service Unavailable}. Waiting callers park on a fair {@link Semaphore}, which suspends a
+ * virtual thread without blocking its carrier.</p>
+ *
+ * <p>A permit is released when the connection is closed, that is when it is returned to the pool.
+ * Rejections are exported as {@code price.db.bulkhead.rejected}, and the callers holding and waiting for
+ * a connection as {@code price.db.bulkhead.active} and {@code price.db.bulkhead.waiting}.</p>
+ *
+ * @see DataSourceBulkheadConfig
+ */
+public class DataSourceBulkhead extends DelegatingDataSource implements MeterBinder {
+
+    private final int maxConcurrent;
+    private final int maxWaiting;
+    private final long acquireTimeoutNanos;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private volatile Counter rejected;
+
+    /**
+     * Constructor to initialize the bulkhead in front of the given pool.
+     *
+     * @param target         the pooled {@link DataSource}
+     * @param maxConcurrent  the maximum number of connections held at the same time
+     * @param maxWaiting     the maximum number of callers waiting for a connection
+     * @param acquireTimeout the maximum time a caller waits for a connection
+     */
+    public DataSourceBulkhead(DataSource target, int maxConcurrent, int maxWaiting, Duration acquireTimeout) {
+        super(target);
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaiting = maxWaiting;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Registers the bulkhead metrics.
+     *
+     * @param registry the registry of the metrics
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        rejected = registry.counter("price.db.bulkhead.rejected");
+        Gauge.builder("price.db.bulkhead.active", this, bulkhead -> bulkhead.active()).register(registry);
+        Gauge.builder("price.db.bulkhead.waiting", waiting, AtomicInteger::get).register(registry);
+    }
+
+    /**
+     * Returns the number of callers holding a connection.
+     *
+     * @return the active count
+     */
+    public int active() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of callers waiting for a connection.
+     *
+     * @return the waiting count
+     */
+    public int waiting() {
+        return waiting.get();
+    }
+
+    private void acquire() throws SQLException {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            throw reject("too many callers waiting for a connection");
+        }
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw reject("no connection available within the acquire timeout");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("interrupted while waiting for a connection", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private SQLTransientConnectionException reject(String reason) {
+        var counter = rejected;
+        if (counter != null) {
+            counter.increment();
+        }
+        return new SQLTransientConnectionException("database bulkhead full : " + reason);
+    }
+
+    private Connection guard(Connection connection) {
+        var released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        if (released.compareAndSet(false, true)) {
+                            try {
+                                connection.close();
+                            } finally {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
@@ -0,0 +1,51 @@
+package com.ws.infrastructure.price.persistence.bulkhead;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Configuration class that places a {@link DataSourceBulkhead} in front of the connection pool.
+ *
+ * <p>The pooled {@link DataSource} created by Spring Boot is wrapped as soon as it is initialized, so every
+ * user of the data source (JPA, {@code JdbcTemplate} and the bulk ingestion) goes through the bulkhead. It
+ * is enabled with {@code price.db.bulkhead.enabled=true}, which the {@code virtual} profile sets, and sized
+ * with {@code price.db.bulkhead.max-concurrent}, {@code price.db.bulkhead.max-waiting} and
+ * {@code price.db.bulkhead.acquire-timeout}.</p>
+ *
+ * @see DataSourceBulkhead
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "price.db.bulkhead", name = "enabled", havingValue = "true")
+public class DataSourceBulkheadConfig {
+
+    /**
+     * Creates the post-processor that wraps the data source.
+     *
+     * <p>It is static so that it is registered before the data source is created, and it reads its
+     * settings from the {@link Environment} so that it does not initialize any other bean early.</p>
+     *
+     * @param environment the environment holding the bulkhead settings
+     * @return the {@link BeanPostProcessor}
+     */
+    @Bean
+    public static BeanPostProcessor dataSourceBulkheadPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof DataSourceBulkhead) {
+                    return bean;
+                }
+                return new DataSourceBulkhead(dataSource,
+                        environment.getProperty("price.db.bulkhead.max-concurrent", Integer.class, 10),
+                        environment.getProperty("price.db.bulkhead.max-waiting", Integer.class, 500),
+                        environment.getProperty("price.db.bulkhead.acquire-timeout", Duration.class,
+                                Duration.ofSeconds(1)));
+            }
+        };
+    }
+}
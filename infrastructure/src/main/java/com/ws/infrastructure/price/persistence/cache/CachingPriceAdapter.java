@@ -0,0 +1,278 @@
+package com.ws.infrastructure.price.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.ws.application.price.model.PriceQuery;
+import com.ws.application.price.port.out.PriceOutboundPort;
+import com.ws.domain.price.model.Price;
+import com.ws.domain.price.model.PriceSegment;
+import com.ws.infrastructure.price.persistence.event.PriceChangedEvent;
+import com.ws.infrastructure.price.persistence.event.PricesReloadedEvent;
+import com.ws.infrastructure.price.persistence.timeline.PriceTimelineIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Bounded read-through cache of resolved {@link PriceSegment}s in front of another {@link PriceOutboundPort}.
+ *
+ * <p>A cached entry is the segment returned by {@link PriceOutboundPort#getPreferredSegment}, so it answers
+ * every application date inside {@code [from, to)} and not only the timestamp that loaded it. The start dates
+ * of the cached segments of each product and brand are kept sorted, and a lookup is a floor search followed
+ * by a single cache probe.</p>
+ *
+ * <p>An entry expires when its segment ends. Segments that have already ended, which only answer historical
+ * lookups, expire after a fixed time to live instead. The cache is bounded by the number of segments, and the
+ * segments of a product and brand are dropped as soon as a {@link PriceChangedEvent} reports a change, and
+ * every segment is dropped after a {@link PricesReloadedEvent}.
+ * Lookups without any price are not cached.</p>
+ *
+ * <p>Hits and misses are exported as {@code price.cache.gets}, evictions as {@code price.cache.evictions}
+ * and the number of entries as {@code price.cache.size}.</p>
+ *
+ * @see PriceCacheConfig
+ * @see PriceSegment
+ */
+public class CachingPriceAdapter implements PriceOutboundPort {
+
+    private static final Duration MAX_NANOS = Duration.ofNanos(Long.MAX_VALUE);
+
+    private final PriceOutboundPort delegate;
+    private final Duration endedSegmentTtl;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final Cache<SegmentKey, PriceSegment> segments;
+    private final Map<Long, ConcurrentSkipListSet<LocalDateTime>> starts = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Constructor to initialize the cache in front of the given port.
+     *
+     * @param delegate        the port that resolves the segments missing from the cache
+     * @param maximumSize     the maximum number of cached segments
+     * @param endedSegmentTtl the time to live of segments that have already ended
+     * @param clock           the clock used to compare segment ends with the current time
+     * @param meterRegistry   the registry of the cache metrics
+     */
+    public CachingPriceAdapter(PriceOutboundPort delegate, long maximumSize, Duration endedSegmentTtl,
+                               Clock clock, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.endedSegmentTtl = endedSegmentTtl;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.segments = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new SegmentExpiry())
+                .removalListener(this::onRemoval)
+                .executor(Runnable::run)
+                .build();
+        this.hits = meterRegistry.counter("price.cache.gets", "result", "hit");
+        this.misses = meterRegistry.counter("price.cache.gets", "result", "miss");
+        Gauge.builder("price.cache.size", segments, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    /**
+     * Retrieves the preferred price from the cached segment containing the application date, loading it on a miss.
+     *
+     * @param applicationDate the date for which the price is being retrieved
+     * @param productId the identifier of the product
+     * @param brandId the identifier of the brand
+     * @return an {@link Optional} containing the preferred {@link Price}, or an empty {@link Optional}
+     *         if no price is found
+     */
+    @Override
+    public Optional<Price> getPreferredPrice(LocalDateTime applicationDate, Integer productId, Integer brandId) {
+        return getPreferredSegment(applicationDate, productId, brandId).map(PriceSegment::price);
+    }
+
+    /**
+     * Retrieves the cached segment containing the application date, loading it from the delegate on a miss.
+     *
+     * @param applicationDate the date for which the segment is being retrieved
+     * @param productId the identifier of the product
+     * @param brandId the identifier of the brand
+     * @return an {@link Optional} containing the {@link PriceSegment}, or an empty {@link Optional}
+     *         if no price is found
+     */
+    @Override
+    public Optional<PriceSegment> getPreferredSegment(LocalDateTime applicationDate, Integer productId,
+                                                      Integer brandId) {
+        long key = PriceTimelineIndex.key(productId, brandId);
+        var cached = lookup(key, applicationDate);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+        long loadedGeneration = generation.get();
+        var segment = delegate.getPreferredSegment(applicationDate, productId, brandId);
+        segment.ifPresent(loaded -> put(key, loaded, loadedGeneration));
+        return segment;
+    }
+
+    /**
+     * Retrieves the preferred price of several products, resolving only the cache misses through the delegate.
+     *
+     * <p>Misses are resolved with a single {@link PriceOutboundPort#getPreferredPrices} call, which only
+     * returns prices, so they are not added to the cache.</p>
+     *
+     * @param queries the product, brand and application date of each price to retrieve
+     * @return one {@link Optional} per query, in the same order as {@code queries}
+     */
+    @Override
+    public List<Optional<Price>> getPreferredPrices(List<PriceQuery> queries) {
+        var prices = new ArrayList<Optional<Price>>(queries.size());
+        var missed = new ArrayList<Integer>();
+        for (PriceQuery query : queries) {
+            var cached = lookup(PriceTimelineIndex.key(query.productId(), query.brandId()), query.applicationDate());
+            if (cached == null) {
+                missed.add(prices.size());
+            }
+            prices.add(cached == null ? Optional.empty() : Optional.of(cached.price()));
+        }
+        hits.increment(queries.size() - missed.size());
+        misses.increment(missed.size());
+        if (!missed.isEmpty()) {
+            var loaded = delegate.getPreferredPrices(missed.stream().map(queries::get).toList());
+            for (int i = 0; i < missed.size(); i++) {
+                prices.set(missed.get(i), loaded.get(i));
+            }
+        }
+        return prices;
+    }
+
+    /**
+     * Drops every cached segment of the product and brand whose prices changed.
+     *
+     * <p>It runs after the listeners that rebuild the delegate, so a miss following the drop loads the
+     * rebuilt data.</p>
+     *
+     * @param event the change notification
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPriceChanged(PriceChangedEvent event) {
+        invalidate(event.productId(), event.brandId());
+    }
+
+    /**
+     * Drops every cached segment once a bulk load has committed and the delegate has been rebuilt.
+     *
+     * @param event the reload notification
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricesReloaded(PricesReloadedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * Drops every cached segment.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        segments.invalidateAll();
+        starts.clear();
+    }
+
+    /**
+     * Drops every cached segment of a product and brand.
+     *
+     * @param productId the identifier of the product
+     * @param brandId   the identifier of the brand
+     */
+    public void invalidate(Integer productId, Integer brandId) {
+        generation.incrementAndGet();
+        long key = PriceTimelineIndex.key(productId, brandId);
+        var froms = starts.remove(key);
+        if (froms != null) {
+            froms.forEach(from -> segments.invalidate(new SegmentKey(key, from)));
+        }
+    }
+
+    private PriceSegment lookup(long key, LocalDateTime applicationDate) {
+        var froms = starts.get(key);
+        var from = froms == null ? null : froms.floor(applicationDate);
+        if (from == null) {
+            return null;
+        }
+        var segment = segments.getIfPresent(new SegmentKey(key, from));
+        return segment != null && segment.contains(applicationDate) ? segment : null;
+    }
+
+    private void put(long key, PriceSegment segment, long loadedGeneration) {
+        starts.compute(key, (k, froms) -> {
+            var updated = froms == null ? new ConcurrentSkipListSet<LocalDateTime>() : froms;
+            updated.add(segment.from());
+            return updated;
+        });
+        segments.put(new SegmentKey(key, segment.from()), segment);
+        if (generation.get() != loadedGeneration) {
+            segments.invalidate(new SegmentKey(key, segment.from()));
+        }
+    }
+
+    private void onRemoval(SegmentKey key, PriceSegment segment, RemovalCause cause) {
+        if (cause == RemovalCause.REPLACED) {
+            return;
+        }
+        if (cause.wasEvicted()) {
+            meterRegistry.counter("price.cache.evictions", "cause", cause.name().toLowerCase(Locale.ROOT)).increment();
+        }
+        if (key != null) {
+            starts.computeIfPresent(key.key(), (k, froms) -> {
+                froms.remove(key.from());
+                return froms.isEmpty() ? null : froms;
+            });
+        }
+    }
+
+    private long nanosToLive(PriceSegment segment) {
+        var remaining = Duration.between(LocalDateTime.now(clock), segment.to());
+        if (remaining.isNegative() || remaining.isZero()) {
+            return endedSegmentTtl.toNanos();
+        }
+        return remaining.compareTo(MAX_NANOS) >= 0 ? Long.MAX_VALUE : remaining.toNanos();
+    }
+
+    private record SegmentKey(long key, LocalDateTime from) {
+    }
+
+    private final class SegmentExpiry implements Expiry<SegmentKey, PriceSegment> {
+
+        @Override
+        public long expireAfterCreate(SegmentKey key, PriceSegment segment, long currentTime) {
+            return nanosToLive(segment);
+        }
+
+        @Override
+        public long expireAfterUpdate(SegmentKey key, PriceSegment segment, long currentTime,
+                                      long currentDuration) {
+            return nanosToLive(segment);
+        }
+
+        @Override
+        public long expireAfterRead(SegmentKey key, PriceSegment segment, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.ws.infrastructure.price.persistence.cache;
+
+import com.ws.application.price.port.out.PriceOutboundPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Configuration class that places a {@link CachingPriceAdapter} in front of the selected price adapter.
+ *
+ * <p>The cache is registered as the {@link Primary} {@link PriceOutboundPort}, so it is the port injected
+ * into the application services, and it receives the adapter selected with {@code price.outbound.adapter}
+ * as its delegate. It is enabled with {@code price.cache.enabled=true} and sized with
+ * {@code price.cache.maximum-size} and {@code price.cache.ended-segment-ttl}.</p>
+ *
+ * @see CachingPriceAdapter
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "price.cache", name = "enabled", havingValue = "true")
+public class PriceCacheConfig {
+
+    /**
+     * Creates the cache in front of the selected adapter.
+     *
+     * <p>The bean being created is never a candidate for its own {@code priceOutboundPort} parameter,
+     * so the only candidate left is the adapter selected with {@code price.outbound.adapter}.</p>
+     *
+     * @param priceOutboundPort the adapter selected with {@code price.outbound.adapter}
+     * @param maximumSize       the maximum number of cached segments
+     * @param endedSegmentTtl   the time to live of segments that have already ended
+     * @param meterRegistry     the registry of the cache metrics
+     * @return the {@link CachingPriceAdapter}
+     */
+    @Bean
+    @Primary
+    public CachingPriceAdapter cachingPriceAdapter(PriceOutboundPort priceOutboundPort,
+                                                   @Value("${price.cache.maximum-size:10000}") long maximumSize,
+                                                   @Value("${price.cache.ended-segment-ttl:10m}") Duration endedSegmentTtl,
+                                                   MeterRegistry meterRegistry) {
+        return new CachingPriceAdapter(priceOutboundPort, maximumSize, endedSegmentTtl,
+                Clock.systemDefaultZone(), meterRegistry);
+    }
+}
@@ -0,0 +1,93 @@
+package com.ws.infrastructure.price.persistence.coalesce;
+
+import com.ws.domain.price.model.Price;
+import com.ws.domain.price.model.PriceSegment;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coalesces the identical database lookups of concurrent requests, so a burst of requests for the same price
+ * runs a single query.
+ *
+ * <p>Price lookups and segment lookups are both coalesced by product, brand and application date, each with
+ * its own set of running lookups. Callers that wait hold no connection, and a failed
+ * query is thrown to the callers that were waiting for it but not to the next ones. Coalescing is enabled
+ * with {@code price.coalescing.enabled}, and is on by default.</p>
+ *
+ * <p>Queries run and callers served by another caller's query are exported as
+ * {@code price.coalescing.calls}, tagged with the {@code lookup} and a {@code result} of {@code executed} or
+ * {@code coalesced}, and the queries running as {@code price.coalescing.in-flight}.</p>
+ *
+ * @see SingleFlight
+ */
+@Component
+public class PriceLookupCoalescer {
+
+    private final boolean enabled;
+    private final SingleFlight<PriceKey, Optional<Price>> prices = new SingleFlight<>();
+    private final SingleFlight<PriceKey, Optional<PriceSegment>> segments = new SingleFlight<>();
+
+    /**
+     * Constructor to initialize the coalescer and register its metrics.
+     *
+     * @param enabled       whether identical lookups are coalesced
+     * @param meterRegistry the registry of the coalescing metrics
+     */
+    public PriceLookupCoalescer(@Value("${price.coalescing.enabled:true}") boolean enabled,
+                                MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        register(meterRegistry, "price", prices);
+        register(meterRegistry, "segment", segments);
+    }
+
+    /**
+     * Returns the preferred price of a product and brand at a date, running {@code lookup} unless the same
+     * lookup is already running.
+     *
+     * @param applicationDate the date on which the price is applied
+     * @param productId       the identifier of the product
+     * @param brandId         the identifier of the brand
+     * @param lookup          the database lookup of the price
+     * @return the result of the lookup
+     */
+    public Optional<Price> price(LocalDateTime applicationDate, Integer productId, Integer brandId,
+                                 Supplier<Optional<Price>> lookup) {
+        return enabled ? prices.execute(new PriceKey(applicationDate, productId, brandId), lookup) : lookup.get();
+    }
+
+    /**
+     * Returns the segment in which the preferred price of a product and brand at a date wins, running
+     * {@code lookup} unless the same lookup is already running.
+     *
+     * @param applicationDate the date on which the price is applied
+     * @param productId       the identifier of the product
+     * @param brandId         the identifier of the brand
+     * @param lookup          the database lookup of the segment
+     * @return the result of the lookup
+     */
+    public Optional<PriceSegment> segment(LocalDateTime applicationDate, Integer productId, Integer brandId,
+                                          Supplier<Optional<PriceSegment>> lookup) {
+        return enabled ? segments.execute(new PriceKey(applicationDate, productId, brandId), lookup) : lookup.get();
+    }
+
+    private static void register(MeterRegistry meterRegistry, String lookup, SingleFlight<?, ?> flights) {
+        FunctionCounter.builder("price.coalescing.calls", flights, SingleFlight::calls)
+                .tags("lookup", lookup, "result", "executed")
+                .register(meterRegistry);
+        FunctionCounter.builder("price.coalescing.calls", flights, SingleFlight::coalesced)
+                .tags("lookup", lookup, "result", "coalesced")
+                .register(meterRegistry);
+        Gauge.builder("price.coalescing.in-flight", flights, SingleFlight::inFlight)
+                .tag("lookup", lookup)
+                .register(meterRegistry);
+    }
+
+    private record PriceKey(LocalDateTime applicationDate, Integer productId, Integer brandId) {
+    }
+}
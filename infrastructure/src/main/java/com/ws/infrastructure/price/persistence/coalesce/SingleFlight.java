@@ -0,0 +1,98 @@
+package com.ws.infrastructure.price.persistence.coalesce;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one call per key at a time and hands its result to every caller of the same key that arrives
+ * while it is running.
+ *
+ * <p>The first caller of a key becomes the leader and runs the call on its own thread. The others wait for
+ * the leader and receive the same value, or the same exception. The key is released before the leader
+ * completes, so a caller arriving afterwards starts a new call: a failure is never returned to later callers
+ * and nothing is cached.</p>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @see PriceLookupCoalescer
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Returns the result of the call of the given key, running {@code call} unless another caller is already
+     * running it.
+     *
+     * @param key  the key of the call
+     * @param call the call run by the leader
+     * @return the result of the call
+     */
+    public V execute(K key, Supplier<V> call) {
+        var flight = new CompletableFuture<V>();
+        var running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+        calls.increment();
+        V value;
+        try {
+            value = call.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        inFlight.remove(key, flight);
+        flight.complete(value);
+        return value;
+    }
+
+    /**
+     * Returns the number of calls run so far.
+     *
+     * @return the number of calls run by a leader
+     */
+    public long calls() {
+        return calls.sum();
+    }
+
+    /**
+     * Returns the number of callers that received the result of a call run by another caller.
+     *
+     * @return the number of coalesced callers
+     */
+    public long coalesced() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Returns the number of keys whose call is running.
+     *
+     * @return the number of calls running
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.ws.infrastructure.price.persistence.columnar;
+
+import com.ws.domain.price.model.Brand;
+import com.ws.domain.price.model.Currency;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Streams the {@code PRICES} table into a {@link ColumnarPriceStore} with plain JDBC.
+ *
+ * <p>Rows are read in product, brand and start date order and appended straight to the primitive
+ * columns, so no entity or domain object is kept per row while loading. When brands are given, only their
+ * rows are counted and read.</p>
+ *
+ * @see ColumnarPriceStore
+ */
+@RequiredArgsConstructor
+public class ColumnarPriceLoader {
+
+    private static final int FETCH_SIZE = 10_000;
+
+    private static final String SELECT_PRICES = """
+            SELECT PRICE_LIST, PRODUCT_ID, BRAND_ID, PRIORITY, START_DATE, END_DATE, PRICE, CURR
+            FROM PRICES%s
+            ORDER BY PRODUCT_ID, BRAND_ID, START_DATE
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Set<Integer> brandIds;
+
+    /**
+     * Loads every brand, and the price rows of the given brands or of every brand, into a new
+     * {@link ColumnarPriceStore}.
+     *
+     * @return the loaded store
+     */
+    public ColumnarPriceStore load() {
+        var brandFilter = brandIds.isEmpty() ? "" : brandIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(", ", " WHERE BRAND_ID IN (", ")"));
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM PRICES" + brandFilter, Integer.class);
+        var builder = ColumnarPriceStore.builder(rows == null ? 0 : rows);
+        jdbcTemplate.query("SELECT ID, NAME FROM BRAND",
+                rs -> {
+                    builder.brand(new Brand(rs.getInt(1), rs.getString(2)));
+                });
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(SELECT_PRICES.formatted(brandFilter));
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, rs -> {
+            builder.add(
+                    rs.getInt(1),
+                    rs.getInt(2),
+                    rs.getInt(3),
+                    rs.getInt(4),
+                    rs.getObject(5, LocalDateTime.class).toEpochSecond(ZoneOffset.UTC),
+                    rs.getObject(6, LocalDateTime.class).toEpochSecond(ZoneOffset.UTC),
+                    ColumnarPriceStore.Builder.toMinor(rs.getBigDecimal(7)),
+                    Currency.valueOf(rs.getString(8)));
+        });
+        return builder.build();
+    }
+}
@@ -0,0 +1,359 @@
+package com.ws.infrastructure.price.persistence.columnar;
+
+import com.ws.domain.price.model.Brand;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.Price;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable, column-oriented store of every price row, kept in primitive arrays.
+ *
+ * <p>Instead of one {@code PriceEntity} graph per row (boxed integers, {@link BigDecimal} and two
+ * {@link LocalDateTime}), each column is a single primitive array: {@code int} product and price list,
+ * {@code short} brand, {@code int} priority, {@code long} epoch-second start and end (UTC), {@code long}
+ * price in minor units and a {@code byte} currency ordinal. Rows are sorted by product, brand and start
+ * date, so the rows of a product and brand are contiguous and found with a binary search.</p>
+ *
+ * <p>A {@link Price} is only materialized for the winning row of a lookup. Dates are stored with
+ * second precision, which is the precision of the price data; the application date of a lookup keeps
+ * its full precision, so an inclusive end date stops matching one nanosecond after it.</p>
+ *
+ * @see Builder
+ */
+public final class ColumnarPriceStore {
+
+    /**
+     * Number of decimal digits of the minor unit of every supported currency.
+     */
+    static final int PRICE_SCALE = 2;
+
+    private static final Currency[] CURRENCIES = Currency.values();
+
+    private final int size;
+    private final int[] priceLists;
+    private final int[] productIds;
+    private final short[] brandIds;
+    private final int[] priorities;
+    private final long[] startSeconds;
+    private final long[] endSeconds;
+    private final long[] minorPrices;
+    private final byte[] currencies;
+    private final Map<Integer, Brand> brands;
+
+    private ColumnarPriceStore(Builder builder) {
+        this.size = builder.size;
+        this.priceLists = Arrays.copyOf(builder.priceLists, size);
+        this.productIds = Arrays.copyOf(builder.productIds, size);
+        this.brandIds = Arrays.copyOf(builder.brandIds, size);
+        this.priorities = Arrays.copyOf(builder.priorities, size);
+        this.startSeconds = Arrays.copyOf(builder.startSeconds, size);
+        this.endSeconds = Arrays.copyOf(builder.endSeconds, size);
+        this.minorPrices = Arrays.copyOf(builder.minorPrices, size);
+        this.currencies = Arrays.copyOf(builder.currencies, size);
+        this.brands = Map.copyOf(builder.brands);
+    }
+
+    /**
+     * Creates a builder for a new store.
+     *
+     * @param expectedRows the expected number of rows, used as initial capacity
+     * @return a new {@link Builder}
+     */
+    public static Builder builder(int expectedRows) {
+        return new Builder(expectedRows);
+    }
+
+    /**
+     * Finds the preferred price of a product and brand at the given date.
+     *
+     * <p>The rows of the product and brand are located with a binary search and scanned for the valid
+     * row with the highest priority, ties being broken by the highest price list.</p>
+     *
+     * @param applicationDate the date on which the price is being applied
+     * @param productId       the identifier of the product
+     * @param brandId         the identifier of the brand
+     * @return an {@link Optional} with the winning {@link Price}, or empty if none applies
+     */
+    public Optional<Price> priceAt(LocalDateTime applicationDate, int productId, int brandId) {
+        if (brandId < Short.MIN_VALUE || brandId > Short.MAX_VALUE) {
+            return Optional.empty();
+        }
+        long second = applicationDate.toEpochSecond(ZoneOffset.UTC);
+        boolean wholeSecond = applicationDate.getNano() == 0;
+        int best = -1;
+        for (int row = firstRow(productId, (short) brandId);
+             row < size && productIds[row] == productId && brandIds[row] == brandId && startSeconds[row] <= second;
+             row++) {
+            boolean valid = endSeconds[row] > second || (endSeconds[row] == second && wholeSecond);
+            if (valid && (best < 0 || priorities[row] > priorities[best]
+                    || (priorities[row] == priorities[best] && priceLists[row] > priceLists[best]))) {
+                best = row;
+            }
+        }
+        return best < 0 ? Optional.empty() : Optional.of(materialize(best));
+    }
+
+    /**
+     * Materializes every row of a product and brand.
+     *
+     * @param productId the identifier of the product
+     * @param brandId   the identifier of the brand
+     * @return the list of {@link Price} of the product and brand, sorted by start date
+     */
+    public List<Price> pricesOf(int productId, int brandId) {
+        var prices = new ArrayList<Price>();
+        if (brandId < Short.MIN_VALUE || brandId > Short.MAX_VALUE) {
+            return prices;
+        }
+        for (int row = firstRow(productId, (short) brandId);
+             row < size && productIds[row] == productId && brandIds[row] == brandId;
+             row++) {
+            prices.add(materialize(row));
+        }
+        return prices;
+    }
+
+    /**
+     * Returns the number of rows of the store.
+     *
+     * @return the row count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the heap used by the column arrays, excluding the small brand dictionary.
+     *
+     * @return the footprint in bytes
+     */
+    public long footprintBytes() {
+        return arrayBytes(size, Integer.BYTES) * 3
+                + arrayBytes(size, Short.BYTES)
+                + arrayBytes(size, Long.BYTES) * 3
+                + arrayBytes(size, Byte.BYTES);
+    }
+
+    private int firstRow(int productId, short brandId) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int compare = productIds[mid] != productId
+                    ? Integer.compare(productIds[mid], productId)
+                    : Short.compare(brandIds[mid], brandId);
+            if (compare < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private Price materialize(int row) {
+        return new Price(
+                priceLists[row],
+                productIds[row],
+                priorities[row],
+                CURRENCIES[currencies[row]],
+                BigDecimal.valueOf(minorPrices[row], PRICE_SCALE),
+                LocalDateTime.ofEpochSecond(startSeconds[row], 0, ZoneOffset.UTC),
+                LocalDateTime.ofEpochSecond(endSeconds[row], 0, ZoneOffset.UTC),
+                brands.get((int) brandIds[row]));
+    }
+
+    private static long arrayBytes(int length, int elementBytes) {
+        return 16L + (long) length * elementBytes;
+    }
+
+    /**
+     * Accumulates rows in growable primitive arrays and sorts them into a {@link ColumnarPriceStore}.
+     */
+    public static final class Builder {
+
+        private int size;
+        private int[] priceLists;
+        private int[] productIds;
+        private short[] brandIds;
+        private int[] priorities;
+        private long[] startSeconds;
+        private long[] endSeconds;
+        private long[] minorPrices;
+        private byte[] currencies;
+        private final Map<Integer, Brand> brands = new HashMap<>();
+
+        private Builder(int expectedRows) {
+            int capacity = Math.max(expectedRows, 16);
+            priceLists = new int[capacity];
+            productIds = new int[capacity];
+            brandIds = new short[capacity];
+            priorities = new int[capacity];
+            startSeconds = new long[capacity];
+            endSeconds = new long[capacity];
+            minorPrices = new long[capacity];
+            currencies = new byte[capacity];
+        }
+
+        /**
+         * Registers the name of a brand, used when materializing its prices.
+         *
+         * @param brand the brand
+         * @return this builder
+         */
+        public Builder brand(Brand brand) {
+            brands.putIfAbsent(brand.id(), brand);
+            return this;
+        }
+
+        /**
+         * Appends a row from its primitive values.
+         *
+         * @param priceList     the identifier of the price list
+         * @param productId     the identifier of the product
+         * @param brandId       the identifier of the brand
+         * @param priority      the priority of the price
+         * @param startSecond   the epoch second (UTC) at which the price starts
+         * @param endSecond     the epoch second (UTC) at which the price ends, inclusive
+         * @param minorPrice    the price in minor units
+         * @param currency      the currency of the price
+         * @return this builder
+         */
+        public Builder add(int priceList, int productId, int brandId, int priority,
+                           long startSecond, long endSecond, long minorPrice, Currency currency) {
+            if (brandId < Short.MIN_VALUE || brandId > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("brandId out of range : " + brandId);
+            }
+            ensureCapacity();
+            priceLists[size] = priceList;
+            productIds[size] = productId;
+            brandIds[size] = (short) brandId;
+            priorities[size] = priority;
+            startSeconds[size] = startSecond;
+            endSeconds[size] = endSecond;
+            minorPrices[size] = minorPrice;
+            currencies[size] = (byte) currency.ordinal();
+            size++;
+            return this;
+        }
+
+        /**
+         * Appends a row from a domain {@link Price}.
+         *
+         * @param price the price to append
+         * @return this builder
+         */
+        public Builder add(Price price) {
+            brand(price.brand());
+            return add(price.priceList(), price.productId(), price.brand().id(), price.priority(),
+                    price.startDate().toEpochSecond(ZoneOffset.UTC),
+                    price.endDate().toEpochSecond(ZoneOffset.UTC),
+                    toMinor(price.price()), price.currency());
+        }
+
+        /**
+         * Sorts the rows by product, brand and start date and builds the immutable store.
+         *
+         * @return the built {@link ColumnarPriceStore}
+         */
+        public ColumnarPriceStore build() {
+            sort();
+            return new ColumnarPriceStore(this);
+        }
+
+        /**
+         * Converts an amount into minor units.
+         *
+         * @param amount the amount
+         * @return the amount in minor units
+         */
+        public static long toMinor(BigDecimal amount) {
+            return amount.movePointRight(PRICE_SCALE).longValueExact();
+        }
+
+        private void ensureCapacity() {
+            if (size < priceLists.length) {
+                return;
+            }
+            int capacity = priceLists.length + (priceLists.length >> 1);
+            priceLists = Arrays.copyOf(priceLists, capacity);
+            productIds = Arrays.copyOf(productIds, capacity);
+            brandIds = Arrays.copyOf(brandIds, capacity);
+            priorities = Arrays.copyOf(priorities, capacity);
+            startSeconds = Arrays.copyOf(startSeconds, capacity);
+            endSeconds = Arrays.copyOf(endSeconds, capacity);
+            minorPrices = Arrays.copyOf(minorPrices, capacity);
+            currencies = Arrays.copyOf(currencies, capacity);
+        }
+
+        private void sort() {
+            if (isSorted()) {
+                return;
+            }
+            var order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, this::compare);
+            var permutation = new int[size];
+            for (int i = 0; i < size; i++) {
+                permutation[i] = order[i];
+            }
+            priceLists = permute(priceLists, permutation);
+            productIds = permute(productIds, permutation);
+            priorities = permute(priorities, permutation);
+            startSeconds = permute(startSeconds, permutation);
+            endSeconds = permute(endSeconds, permutation);
+            minorPrices = permute(minorPrices, permutation);
+            var sortedBrands = new short[size];
+            var sortedCurrencies = new byte[size];
+            for (int i = 0; i < size; i++) {
+                sortedBrands[i] = brandIds[permutation[i]];
+                sortedCurrencies[i] = currencies[permutation[i]];
+            }
+            brandIds = sortedBrands;
+            currencies = sortedCurrencies;
+        }
+
+        private boolean isSorted() {
+            for (int i = 1; i < size; i++) {
+                if (compare(i - 1, i) > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int compare(int a, int b) {
+            int compare = Integer.compare(productIds[a], productIds[b]);
+            if (compare == 0) {
+                compare = Short.compare(brandIds[a], brandIds[b]);
+            }
+            return compare != 0 ? compare : Long.compare(startSeconds[a], startSeconds[b]);
+        }
+
+        private static int[] permute(int[] values, int[] permutation) {
+            var sorted = new int[permutation.length];
+            for (int i = 0; i < permutation.length; i++) {
+                sorted[i] = values[permutation[i]];
+            }
+            return sorted;
+        }
+
+        private static long[] permute(long[] values, int[] permutation) {
+            var sorted = new long[permutation.length];
+            for (int i = 0; i < permutation.length; i++) {
+                sorted[i] = values[permutation[i]];
+            }
+            return sorted;
+        }
+    }
+}
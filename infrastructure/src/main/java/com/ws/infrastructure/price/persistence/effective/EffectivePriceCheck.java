@@ -0,0 +1,31 @@
+package com.ws.infrastructure.price.persistence.effective;
+
+import java.util.List;
+
+/**
+ * Result of the consistency check between {@code EFFECTIVE_PRICES} and the raw {@code PRICES} table.
+ *
+ * @param checkedKeys  the number of product and brand pairs found in {@code PRICES}
+ * @param segments     the number of segments expected from {@code PRICES}
+ * @param inconsistent the product and brand pairs whose stored segments differ from the expected ones
+ */
+public record EffectivePriceCheck(int checkedKeys, int segments, List<Key> inconsistent) {
+
+    /**
+     * Returns whether every stored segment matches {@code PRICES}.
+     *
+     * @return {@code true} if no inconsistency was found
+     */
+    public boolean isConsistent() {
+        return inconsistent.isEmpty();
+    }
+
+    /**
+     * Identifies the segments of a single product and brand.
+     *
+     * @param productId the identifier of the product
+     * @param brandId   the identifier of the brand
+     */
+    public record Key(Integer productId, Integer brandId) {
+    }
+}
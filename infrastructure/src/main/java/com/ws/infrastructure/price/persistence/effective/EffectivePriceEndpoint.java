@@ -0,0 +1,55 @@
+package com.ws.infrastructure.price.persistence.effective;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint to operate the materialized {@code EFFECTIVE_PRICES} table.
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/effectiveprices} - checks the stored segments against {@code PRICES}.</li>
+ *   <li>{@code POST /actuator/effectiveprices} - rebuilds the whole table, or a single product and
+ *   brand when {@code productId} and {@code brandId} are given.</li>
+ * </ul>
+ *
+ * @see EffectivePriceMaintainer
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "effectiveprices")
+@ConditionalOnProperty(prefix = "price.outbound", name = "adapter", havingValue = "effective")
+public class EffectivePriceEndpoint {
+
+    private final EffectivePriceMaintainer maintainer;
+
+    /**
+     * Checks the consistency of {@code EFFECTIVE_PRICES} against {@code PRICES}.
+     *
+     * @return the {@link EffectivePriceCheck} report
+     */
+    @ReadOperation
+    public EffectivePriceCheck check() {
+        return maintainer.check();
+    }
+
+    /**
+     * Rebuilds the segments of a product and brand, or the whole table when no key is given.
+     *
+     * @param productId the identifier of the product, optional
+     * @param brandId   the identifier of the brand, optional
+     * @return the number of segments written
+     */
+    @WriteOperation
+    public Map<String, Integer> rebuild(@Nullable Integer productId, @Nullable Integer brandId) {
+        if (productId != null && brandId != null) {
+            return Map.of("segments", maintainer.rebuild(productId, brandId));
+        }
+        return Map.of("segments", maintainer.rebuildAll());
+    }
+}
@@ -0,0 +1,193 @@
+package com.ws.infrastructure.price.persistence.effective;
+
+import com.ws.domain.price.model.PriceSegment;
+import com.ws.domain.price.model.PriceTimeline;
+import com.ws.infrastructure.price.persistence.EffectivePriceJpaRepository;
+import com.ws.infrastructure.price.persistence.PriceJpaRepository;
+import com.ws.infrastructure.price.persistence.entity.EffectivePriceEntity;
+import com.ws.infrastructure.price.persistence.entity.PriceEntity;
+import com.ws.infrastructure.price.persistence.event.PriceChangedEvent;
+import com.ws.infrastructure.price.persistence.event.PricesReloadedEvent;
+import com.ws.infrastructure.price.persistence.mapper.PriceEntityMapper;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps the materialized {@code EFFECTIVE_PRICES} table in sync with {@code PRICES}.
+ *
+ * <p>The segments of a product and brand are resolved with {@link PriceTimeline} and written as
+ * non-overlapping rows. The whole table is rebuilt once at startup, since {@code data.sql} bypasses
+ * JPA, and afterwards only the pair reported by a {@link PriceChangedEvent} is rebuilt, once the
+ * transaction that changed it has committed. A {@link PricesReloadedEvent} rebuilds the whole table again.</p>
+ *
+ * <p>This component is enabled with {@code price.outbound.adapter=effective}.</p>
+ *
+ * @see EffectivePriceEntity
+ * @see PriceChangedEvent
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "price.outbound", name = "adapter", havingValue = "effective")
+public class EffectivePriceMaintainer implements SmartInitializingSingleton {
+
+    private final PriceJpaRepository priceJPARepository;
+    private final EffectivePriceJpaRepository effectivePriceJPARepository;
+    private final PriceEntityMapper mapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Rebuilds the whole table once the application context has been fully initialized.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> rebuildAll());
+    }
+
+    /**
+     * Rebuilds the segments of the product and brand whose prices changed.
+     *
+     * @param event the change notification
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPriceChanged(PriceChangedEvent event) {
+        rebuild(event.productId(), event.brandId());
+    }
+
+    /**
+     * Rebuilds the whole table once a bulk load has committed.
+     *
+     * @param event the reload notification
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPricesReloaded(PricesReloadedEvent event) {
+        rebuildAll();
+    }
+
+    /**
+     * Replaces every segment of a product and brand with the ones resolved from {@code PRICES}.
+     *
+     * @param productId the identifier of the product
+     * @param brandId   the identifier of the brand
+     * @return the number of segments written
+     */
+    @Transactional
+    public int rebuild(Integer productId, Integer brandId) {
+        effectivePriceJPARepository.deleteSegments(productId, brandId);
+        var segments = toEntities(productId, brandId, priceJPARepository.findPrices(productId, brandId));
+        effectivePriceJPARepository.saveAll(segments);
+        return segments.size();
+    }
+
+    /**
+     * Replaces the whole {@code EFFECTIVE_PRICES} table with the segments resolved from {@code PRICES}.
+     *
+     * @return the number of segments written
+     */
+    @Transactional
+    public int rebuildAll() {
+        effectivePriceJPARepository.deleteAllInBatch();
+        var segments = new ArrayList<EffectivePriceEntity>();
+        groupByKey(priceJPARepository.findAll())
+                .forEach((key, prices) -> segments.addAll(toEntities(key.productId(), key.brandId(), prices)));
+        effectivePriceJPARepository.saveAll(segments);
+        log.info("effective prices rebuilt : {} segments", segments.size());
+        return segments.size();
+    }
+
+    /**
+     * Compares the stored segments of every product and brand with the ones resolved from {@code PRICES}.
+     *
+     * @return the {@link EffectivePriceCheck} report
+     */
+    @Transactional(readOnly = true)
+    public EffectivePriceCheck check() {
+        var expected = groupByKey(priceJPARepository.findAll());
+        var stored = new HashMap<EffectivePriceCheck.Key, List<EffectivePriceEntity>>();
+        for (EffectivePriceEntity segment : effectivePriceJPARepository.findAll()) {
+            stored.computeIfAbsent(new EffectivePriceCheck.Key(segment.getProductId(), segment.getBrandId()),
+                    k -> new ArrayList<>()).add(segment);
+        }
+
+        var inconsistent = new ArrayList<EffectivePriceCheck.Key>();
+        int segments = 0;
+        for (var entry : expected.entrySet()) {
+            var resolved = resolve(entry.getValue());
+            var actual = stored.getOrDefault(entry.getKey(), List.of()).stream()
+                    .sorted(Comparator.comparing(EffectivePriceEntity::getStartDate))
+                    .toList();
+            segments += resolved.size();
+            if (!sameSegments(resolved, actual)) {
+                inconsistent.add(entry.getKey());
+            }
+        }
+        stored.keySet().stream()
+                .filter(key -> !expected.containsKey(key))
+                .forEach(inconsistent::add);
+        return new EffectivePriceCheck(expected.size(), segments, inconsistent);
+    }
+
+    private List<EffectivePriceEntity> toEntities(Integer productId, Integer brandId, Collection<PriceEntity> prices) {
+        var byPriceList = new HashMap<Integer, PriceEntity>();
+        prices.forEach(price -> byPriceList.put(price.getPriceList(), price));
+        return resolve(prices).stream()
+                .map(segment -> {
+                    var entity = new EffectivePriceEntity();
+                    entity.setProductId(productId);
+                    entity.setBrandId(brandId);
+                    entity.setStartDate(segment.from());
+                    entity.setEndDate(segment.to());
+                    entity.setPrice(byPriceList.get(segment.price().priceList()));
+                    return entity;
+                })
+                .toList();
+    }
+
+    private List<PriceSegment> resolve(Collection<PriceEntity> prices) {
+        return PriceTimeline.of(prices.stream().map(mapper::toDomain).toList()).segments();
+    }
+
+    private static Map<EffectivePriceCheck.Key, List<PriceEntity>> groupByKey(List<PriceEntity> prices) {
+        var grouped = new LinkedHashMap<EffectivePriceCheck.Key, List<PriceEntity>>();
+        prices.forEach(price -> grouped.computeIfAbsent(
+                new EffectivePriceCheck.Key(price.getProductId(), price.getBrand().getId()),
+                k -> new ArrayList<>()).add(price));
+        return grouped;
+    }
+
+    private static boolean sameSegments(List<PriceSegment> expected, List<EffectivePriceEntity> actual) {
+        if (expected.size() != actual.size()) {
+            return false;
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            var segment = expected.get(i);
+            var row = actual.get(i);
+            if (!segment.from().equals(row.getStartDate())
+                    || !segment.to().equals(row.getEndDate())
+                    || !Objects.equals(segment.price().priceList(), row.getPrice().getPriceList())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
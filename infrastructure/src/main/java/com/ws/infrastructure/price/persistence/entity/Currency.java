@@ -4,9 +4,17 @@ package com.ws.infrastructure.price.persistence.entity;
 /**
  * Enum representing the supported currencies.
  *
- * <p>This enum defines the currency types used in the application. Currently, only the {@link Currency#EUR}
- * (Euro) is defined as a supported currency. More currencies can be added in the future as required.</p>
+ * <p>This enum defines the currency types a price can be stored in, named after their ISO 4217 codes and
+ * mirroring {@link com.ws.domain.price.model.Currency}. Read models such as the snapshot file and the columnar
+ * store keep the ordinal of the currency, so new currencies are appended at the end, and each of them has two
+ * decimal digits, the scale those read models store prices with.</p>
  */
 public enum Currency {
-    EUR;
+    EUR,
+    USD,
+    GBP,
+    CHF,
+    SEK,
+    PLN,
+    MXN;
 }
@@ -0,0 +1,50 @@
+package com.ws.infrastructure.price.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Entity class representing a materialized effective-price segment in the database.
+ *
+ * <p>This class maps to the {@code EFFECTIVE_PRICES} table. Each row is a non-overlapping
+ * {@code [startDate, endDate)} interval of a product and brand, pointing to the {@link PriceEntity}
+ * that wins the priority resolution for the whole interval. Because the segments of a key never
+ * overlap, finding the preferred price is a point lookup on the narrow
+ * {@code (productId, brandId, startDate)} index, without any priority sort.</p>
+ *
+ * <p>Both dates are stored with nanosecond precision because {@link #endDate} is exclusive and is
+ * one nanosecond after the inclusive end date of the winning price.</p>
+ *
+ * @see PriceEntity
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "EFFECTIVE_PRICES", indexes = @Index(columnList = "productId, brandId, startDate"))
+public class EffectivePriceEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Integer productId;
+    private Integer brandId;
+    @Column(columnDefinition = "TIMESTAMP(9)")
+    private LocalDateTime startDate;
+    @Column(columnDefinition = "TIMESTAMP(9)")
+    private LocalDateTime endDate;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "PRICE_LIST")
+    private PriceEntity price;
+}
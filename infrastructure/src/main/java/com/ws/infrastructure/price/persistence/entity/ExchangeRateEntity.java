@@ -0,0 +1,41 @@
+package com.ws.infrastructure.price.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Entity class representing the exchange rate of a currency in a version of the exchange rates table.
+ *
+ * <p>This class maps to the {@code EXCHANGE_RATES} table. Each published table of rates is stored as a new
+ * {@link #version}, with one row per currency holding the amount of that currency worth one Euro. Older
+ * versions are kept, so the rates a price was served with can still be read back. The base currency itself
+ * is never stored, its rate is always one.</p>
+ *
+ * @see com.ws.domain.price.model.ExchangeRates
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "EXCHANGE_RATES", uniqueConstraints = @UniqueConstraint(columnNames = {"VERSION", "CURR"}))
+public class ExchangeRateEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long version;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "CURR")
+    private Currency currency;
+    @Column(precision = 19, scale = 6)
+    private BigDecimal rate;
+}
@@ -1,13 +1,16 @@
 package com.ws.infrastructure.price.persistence.entity;
 
+import com.ws.infrastructure.price.persistence.event.PriceEntityListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import lombok.Getter;
@@ -20,7 +23,10 @@ import lombok.Setter;
  * including its price list identifier {@link #priceList}, associated product {@link #productId},
  * brand {@link #brand}, priority {@link #priority}, currency {@link #currency}, and the effective
  * time range for the price {@link #startDate} and {@link #endDate}. The entity is also indexed to optimize
- * queries based on the product ID, brand ID, start date, end date, and priority.</p>
+ * queries based on the product ID, brand ID, start date, end date, and priority, and a second index serves
+ * the catalog export of a brand in product and preference order.</p>
+ *
+ * <p>Every change is reported by {@link PriceEntityListener} so derived read models can be rebuilt.</p>
  *
  * @see Entity
  * @see Table
@@ -29,7 +35,10 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
-@Table(name = "PRICES", indexes = @Index(columnList = "productId, brandId, startDate, endDate, priority DESC"))
+@Table(name = "PRICES", indexes = {
+        @Index(columnList = "productId, brandId, startDate, endDate, priority DESC"),
+        @Index(columnList = "brandId, productId, priority DESC, priceList DESC")})
+@EntityListeners(PriceEntityListener.class)
 public class PriceEntity {
 
     @Id
@@ -45,4 +54,9 @@ public class PriceEntity {
 
     @ManyToOne
     private BrandEntity brand;
+
+    @Transient
+    private Integer loadedProductId;
+    @Transient
+    private Integer loadedBrandId;
 }
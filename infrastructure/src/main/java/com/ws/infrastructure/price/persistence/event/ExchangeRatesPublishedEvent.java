@@ -0,0 +1,14 @@
+package com.ws.infrastructure.price.persistence.event;
+
+import com.ws.domain.price.model.ExchangeRates;
+
+/**
+ * Application event published once a new version of the exchange rates table has been written to
+ * {@code EXCHANGE_RATES}.
+ *
+ * <p>Read models holding converted prices listen to this event to convert them again with the new rates.</p>
+ *
+ * @param rates the published rates
+ */
+public record ExchangeRatesPublishedEvent(ExchangeRates rates) {
+}
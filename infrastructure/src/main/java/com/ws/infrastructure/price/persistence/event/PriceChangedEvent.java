@@ -0,0 +1,15 @@
+package com.ws.infrastructure.price.persistence.event;
+
+/**
+ * Application event published whenever a {@code PRICES} row of a product and brand is
+ * inserted, updated or deleted through JPA.
+ *
+ * <p>Read models derived from {@code PRICES} listen to this event to rebuild only the
+ * {@code (productId, brandId)} pair that changed.</p>
+ *
+ * @param productId the identifier of the product whose prices changed
+ * @param brandId   the identifier of the brand whose prices changed
+ * @see PriceEntityListener
+ */
+public record PriceChangedEvent(Integer productId, Integer brandId) {
+}
@@ -0,0 +1,60 @@
+package com.ws.infrastructure.price.persistence.event;
+
+import com.ws.infrastructure.price.persistence.entity.PriceEntity;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * JPA entity listener that turns every change of a {@link PriceEntity} into a {@link PriceChangedEvent}.
+ *
+ * <p>The listener is instantiated by Spring through Hibernate's bean container, so the
+ * {@link ApplicationEventPublisher} is injected like in any other bean. The key a row had when it
+ * was loaded is remembered, so moving a price to another product or brand notifies both pairs.</p>
+ *
+ * @see PriceChangedEvent
+ */
+@RequiredArgsConstructor
+public class PriceEntityListener {
+
+    private final ApplicationEventPublisher publisher;
+
+    /**
+     * Remembers the product and brand the entity belonged to when it was loaded.
+     *
+     * @param entity the loaded entity
+     */
+    @PostLoad
+    void onLoad(PriceEntity entity) {
+        entity.setLoadedProductId(entity.getProductId());
+        entity.setLoadedBrandId(brandId(entity));
+    }
+
+    /**
+     * Publishes a {@link PriceChangedEvent} for the current key of the entity and, if it moved,
+     * for the key it had when it was loaded.
+     *
+     * @param entity the changed entity
+     */
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(PriceEntity entity) {
+        var brandId = brandId(entity);
+        publisher.publishEvent(new PriceChangedEvent(entity.getProductId(), brandId));
+        if (entity.getLoadedProductId() != null
+                && (!Objects.equals(entity.getLoadedProductId(), entity.getProductId())
+                || !Objects.equals(entity.getLoadedBrandId(), brandId))) {
+            publisher.publishEvent(new PriceChangedEvent(entity.getLoadedProductId(), entity.getLoadedBrandId()));
+        }
+        onLoad(entity);
+    }
+
+    private static Integer brandId(PriceEntity entity) {
+        return entity.getBrand() == null ? null : entity.getBrand().getId();
+    }
+}
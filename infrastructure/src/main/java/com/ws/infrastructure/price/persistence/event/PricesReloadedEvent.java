@@ -0,0 +1,13 @@
+package com.ws.infrastructure.price.persistence.event;
+
+/**
+ * Application event published once a bulk load has replaced an arbitrary part of the {@code PRICES} table.
+ *
+ * <p>Bulk loads bypass JPA, so no {@link PriceChangedEvent} is published for the rows they write. Read
+ * models derived from {@code PRICES} listen to this event to rebuild themselves entirely.</p>
+ *
+ * @param rows the number of rows written by the load
+ * @see PriceChangedEvent
+ */
+public record PricesReloadedEvent(long rows) {
+}
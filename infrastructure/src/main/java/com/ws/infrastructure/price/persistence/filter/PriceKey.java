@@ -0,0 +1,10 @@
+package com.ws.infrastructure.price.persistence.filter;
+
+/**
+ * Product and brand pair that has at least one row in {@code PRICES}.
+ *
+ * @param productId the identifier of the product
+ * @param brandId   the identifier of the brand
+ */
+public record PriceKey(Integer productId, Integer brandId) {
+}
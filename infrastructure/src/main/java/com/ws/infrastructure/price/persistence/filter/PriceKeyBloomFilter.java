@@ -0,0 +1,163 @@
+package com.ws.infrastructure.price.persistence.filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of the {@code long} keys of product and brand pairs.
+ *
+ * <p>The number of bits and of hash functions are derived from the expected number of keys and the target
+ * false-positive rate. Each key is mixed once into a 64-bit hash, from which the bit positions are derived
+ * by double hashing. A key that has been added is always reported as present, and a key that has not is
+ * reported as present with roughly the target probability, as long as no more keys than the capacity have
+ * been added.</p>
+ *
+ * <p>Keys can be added while other threads read the filter: bits are only ever set, so a concurrent reader
+ * sees the key either entirely absent or present. Adds must be serialized by the caller. Keys cannot be
+ * removed, so the filter is rebuilt from scratch once stale keys have accumulated.</p>
+ *
+ * @see PriceKeyFilterAdapter
+ */
+public final class PriceKeyBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+    private final long capacity;
+    private final AtomicLong keys = new AtomicLong();
+
+    private PriceKeyBloomFilter(long bits, int hashes, long capacity) {
+        this.words = new AtomicLongArray(Math.toIntExact((bits + 63) / 64));
+        this.bits = bits;
+        this.hashes = hashes;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Creates an empty filter sized for the given number of keys.
+     *
+     * @param capacity          the number of keys the filter is sized for
+     * @param falsePositiveRate the target false-positive rate once {@code capacity} keys have been added
+     * @return the empty {@link PriceKeyBloomFilter}
+     * @throws IllegalArgumentException if the false-positive rate is not strictly between 0 and 1
+     */
+    public static PriceKeyBloomFilter create(long capacity, double falsePositiveRate) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("false-positive rate must be between 0 and 1 : " + falsePositiveRate);
+        }
+        long expected = Math.max(1, capacity);
+        long bits = Math.max(64, (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (LN2 * LN2)));
+        int hashes = Math.max(1, (int) Math.round((double) bits / expected * LN2));
+        return new PriceKeyBloomFilter(bits, hashes, expected);
+    }
+
+    /**
+     * Adds a key to the filter.
+     *
+     * @param key the packed product and brand key
+     * @return {@code true} if the key was not already reported as present
+     */
+    public boolean add(long key) {
+        long hash = mix(key);
+        long step = Long.rotateLeft(hash, 32) | 1;
+        boolean added = false;
+        for (int i = 0; i < hashes; i++) {
+            long bit = position(hash + i * step);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((words.get(word) & mask) == 0) {
+                words.getAndAccumulate(word, mask, (current, set) -> current | set);
+                added = true;
+            }
+        }
+        if (added) {
+            keys.incrementAndGet();
+        }
+        return added;
+    }
+
+    /**
+     * Checks whether a key may have been added to the filter.
+     *
+     * @param key the packed product and brand key
+     * @return {@code false} if the key has certainly not been added, {@code true} if it may have been
+     */
+    public boolean mightContain(long key) {
+        long hash = mix(key);
+        long step = Long.rotateLeft(hash, 32) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = position(hash + i * step);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of distinct keys added so far, as far as the filter can tell them apart.
+     *
+     * @return the number of added keys
+     */
+    public long keys() {
+        return keys.get();
+    }
+
+    /**
+     * Returns the number of keys the filter is sized for.
+     *
+     * @return the capacity
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of hash functions.
+     *
+     * @return the number of bits set per key
+     */
+    public int hashes() {
+        return hashes;
+    }
+
+    /**
+     * Returns the memory used by the bits of the filter.
+     *
+     * @return the size of the bit array in bytes
+     */
+    public long sizeInBytes() {
+        return words.length() * (long) Long.BYTES;
+    }
+
+    /**
+     * Estimates the current false-positive rate from the fraction of bits that are set.
+     *
+     * <p>It scans the whole bit array, so it is meant for metrics rather than for the lookup path.</p>
+     *
+     * @return the probability that a key that has not been added is reported as present
+     */
+    public double expectedFalsePositiveRate() {
+        long set = 0;
+        for (int i = 0; i < words.length(); i++) {
+            set += Long.bitCount(words.get(i));
+        }
+        return Math.pow((double) set / bits, hashes);
+    }
+
+    private long position(long hash) {
+        return (hash >>> 1) % bits;
+    }
+
+    private static long mix(long key) {
+        long hash = key;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
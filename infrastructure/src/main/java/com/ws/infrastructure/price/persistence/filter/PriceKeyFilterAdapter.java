@@ -0,0 +1,178 @@
+package com.ws.infrastructure.price.persistence.filter;
+
+import com.ws.application.price.port.out.PriceKeyFilterOutboundPort;
+import com.ws.infrastructure.price.partition.PricePartition;
+import com.ws.infrastructure.price.persistence.PriceJpaRepository;
+import com.ws.infrastructure.price.persistence.event.PriceChangedEvent;
+import com.ws.infrastructure.price.persistence.event.PricesReloadedEvent;
+import com.ws.infrastructure.price.persistence.timeline.PriceTimelineIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import java.util.function.ToDoubleFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Adapter class that implements the {@link PriceKeyFilterOutboundPort} interface with a
+ * {@link PriceKeyBloomFilter} of every product and brand present in {@code PRICES}.
+ *
+ * <p>The filter is built once, after every singleton has been created (and therefore after {@code data.sql}
+ * has been applied), from the distinct pairs of the table, and sized for a quarter more pairs than it holds.
+ * Until then every pair passes. A {@link PriceChangedEvent} adds its pair in place, and a
+ * {@link PricesReloadedEvent} rebuilds the filter, as does an add that takes it past its capacity. Removed
+ * pairs stay in the filter until the next rebuild, which only makes them false positives. A partitioned node
+ * only holds the pairs of the brands of its {@link PricePartition}.</p>
+ *
+ * <p>The target false-positive rate is set with {@code price.key-filter.false-positive-rate}, and the filter
+ * is turned off with {@code price.key-filter.enabled=false}, in which case every pair passes. Checks are
+ * exported as {@code price.key.filter.checks} tagged with the result, and the filter itself as
+ * {@code price.key.filter.keys}, {@code price.key.filter.memory} and
+ * {@code price.key.filter.false.positive.rate}, estimated from the bits that are set.</p>
+ *
+ * @see PriceKeyFilterOutboundPort
+ * @see PriceKeyBloomFilter
+ */
+@Slf4j
+@Component
+public class PriceKeyFilterAdapter implements PriceKeyFilterOutboundPort, SmartInitializingSingleton {
+
+    private static final long MINIMUM_CAPACITY = 1024;
+
+    private final PriceJpaRepository priceJPARepository;
+    private final PricePartition partition;
+    private final boolean enabled;
+    private final double falsePositiveRate;
+    private final Counter passed;
+    private final Counter rejected;
+
+    private final Object writeLock = new Object();
+
+    private volatile PriceKeyBloomFilter filter;
+
+    /**
+     * Constructor to initialize the adapter with its repository and tuning parameters.
+     *
+     * @param priceJPARepository the repository the pairs are read from
+     * @param partition          the partition of this node
+     * @param enabled            whether lookups are filtered at all
+     * @param falsePositiveRate  the target false-positive rate of the filter
+     * @param meterRegistry      the registry of the filter metrics
+     */
+    public PriceKeyFilterAdapter(PriceJpaRepository priceJPARepository,
+                                 PricePartition partition,
+                                 @Value("${price.key-filter.enabled:true}") boolean enabled,
+                                 @Value("${price.key-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                 MeterRegistry meterRegistry) {
+        this.priceJPARepository = priceJPARepository;
+        this.partition = partition;
+        this.enabled = enabled;
+        this.falsePositiveRate = falsePositiveRate;
+        this.passed = meterRegistry.counter("price.key.filter.checks", "result", "passed");
+        this.rejected = meterRegistry.counter("price.key.filter.checks", "result", "rejected");
+        Gauge.builder("price.key.filter.keys", this, adapter -> adapter.measure(PriceKeyBloomFilter::keys))
+                .register(meterRegistry);
+        Gauge.builder("price.key.filter.memory", this, adapter -> adapter.measure(PriceKeyBloomFilter::sizeInBytes))
+                .baseUnit(BaseUnits.BYTES)
+                .register(meterRegistry);
+        Gauge.builder("price.key.filter.false.positive.rate", this,
+                        adapter -> adapter.measure(PriceKeyBloomFilter::expectedFalsePositiveRate))
+                .register(meterRegistry);
+    }
+
+    /**
+     * Builds the filter once the application context has been fully initialized.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (enabled) {
+            reload();
+        }
+    }
+
+    /**
+     * Rebuilds the filter from the distinct pairs of the {@code PRICES} table and publishes it.
+     */
+    public void reload() {
+        synchronized (writeLock) {
+            var keys = partition.isPartitioned()
+                    ? priceJPARepository.findKeysByBrandIds(partition.brands())
+                    : priceJPARepository.findKeys();
+            var rebuilt = PriceKeyBloomFilter.create(
+                    Math.max(MINIMUM_CAPACITY, keys.size() + keys.size() / 4), falsePositiveRate);
+            keys.forEach(key -> rebuilt.add(PriceTimelineIndex.key(key.productId(), key.brandId())));
+            filter = rebuilt;
+            log.info("price key filter loaded : {} keys, {} bytes, {} hashes",
+                    rebuilt.keys(), rebuilt.sizeInBytes(), rebuilt.hashes());
+        }
+    }
+
+    /**
+     * Adds the pair whose prices changed, once the change has committed.
+     *
+     * <p>It runs before any other listener, so a lookup triggered by another listener already passes the
+     * filter.</p>
+     *
+     * @param event the change notification
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPriceChanged(PriceChangedEvent event) {
+        if (!enabled || event.productId() == null || event.brandId() == null || !partition.owns(event.brandId())) {
+            return;
+        }
+        synchronized (writeLock) {
+            var current = filter;
+            if (current == null) {
+                return;
+            }
+            current.add(PriceTimelineIndex.key(event.productId(), event.brandId()));
+            if (current.keys() > current.capacity()) {
+                reload();
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the filter once a bulk load has committed.
+     *
+     * @param event the reload notification
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricesReloaded(PricesReloadedEvent event) {
+        if (enabled) {
+            reload();
+        }
+    }
+
+    /**
+     * Checks whether the product and brand may have a price.
+     *
+     * @param productId the identifier of the product
+     * @param brandId   the identifier of the brand
+     * @return {@code false} if the pair is not in the filter, {@code true} otherwise
+     */
+    @Override
+    public boolean mightContain(Integer productId, Integer brandId) {
+        var current = filter;
+        if (current == null || productId == null || brandId == null
+                || current.mightContain(PriceTimelineIndex.key(productId, brandId))) {
+            passed.increment();
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    private double measure(ToDoubleFunction<PriceKeyBloomFilter> metric) {
+        var current = filter;
+        return current == null ? 0 : metric.applyAsDouble(current);
+    }
+}
@@ -0,0 +1,212 @@
+package com.ws.infrastructure.price.persistence.fx;
+
+import com.ws.application.price.port.out.ExchangeRateOutboundPort;
+import com.ws.application.price.port.out.PriceConversionOutboundPort;
+import com.ws.domain.price.model.ConvertedPriceTable;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.ExchangeRates;
+import com.ws.domain.price.model.Price;
+import com.ws.infrastructure.price.partition.PricePartition;
+import com.ws.infrastructure.price.persistence.PriceJpaRepository;
+import com.ws.infrastructure.price.persistence.event.ExchangeRatesPublishedEvent;
+import com.ws.infrastructure.price.persistence.event.PriceChangedEvent;
+import com.ws.infrastructure.price.persistence.event.PricesReloadedEvent;
+import com.ws.infrastructure.price.persistence.projection.PriceAmount;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Adapter class that implements the {@link PriceConversionOutboundPort} interface with a
+ * {@link ConvertedPriceTable} of every distinct amount of {@code PRICES}.
+ *
+ * <p>The table is built once, after every singleton has been created (and therefore after {@code data.sql}
+ * has been applied), from the latest version of {@code EXCHANGE_RATES} and the distinct amounts of the prices,
+ * so a conversion is a hash probe that returns an amount computed in advance. An
+ * {@link ExchangeRatesPublishedEvent} or a {@link PricesReloadedEvent} rebuilds the table, and a
+ * {@link PriceChangedEvent} only converts the amounts of its pair that are not in the table yet. Amounts that
+ * are no longer used stay in the table until the next rebuild. A partitioned node only holds the amounts of the
+ * brands of its {@link PricePartition}.</p>
+ *
+ * <p>A price whose amount is missing, such as one read before its change event has been handled, is converted
+ * on the spot with the same rates. Conversions are exported as {@code price.conversion.lookups} tagged with
+ * whether the amount was {@code precomputed} or {@code computed}, the table as {@code price.conversion.amounts}
+ * and the version of its rates as {@code price.conversion.rates.version}.</p>
+ *
+ * @see PriceConversionOutboundPort
+ * @see ConvertedPriceTable
+ */
+@Slf4j
+@Component
+public class PriceConversionAdapter implements PriceConversionOutboundPort, SmartInitializingSingleton {
+
+    private final PriceJpaRepository priceJPARepository;
+    private final ExchangeRateOutboundPort exchangeRateOutboundPort;
+    private final PricePartition partition;
+    private final Counter precomputed;
+    private final Counter computed;
+
+    private final Object writeLock = new Object();
+
+    private volatile ConvertedPriceTable table = ConvertedPriceTable.empty();
+
+    /**
+     * Constructor to initialize the adapter with its repositories.
+     *
+     * @param priceJPARepository       the repository the amounts are read from
+     * @param exchangeRateOutboundPort the port the current rates are read from
+     * @param partition                the partition of this node
+     * @param meterRegistry            the registry of the conversion metrics
+     */
+    public PriceConversionAdapter(PriceJpaRepository priceJPARepository,
+                                  ExchangeRateOutboundPort exchangeRateOutboundPort,
+                                  PricePartition partition,
+                                  MeterRegistry meterRegistry) {
+        this.priceJPARepository = priceJPARepository;
+        this.exchangeRateOutboundPort = exchangeRateOutboundPort;
+        this.partition = partition;
+        this.precomputed = meterRegistry.counter("price.conversion.lookups", "result", "precomputed");
+        this.computed = meterRegistry.counter("price.conversion.lookups", "result", "computed");
+        Gauge.builder("price.conversion.amounts", this, adapter -> adapter.table.size())
+                .register(meterRegistry);
+        Gauge.builder("price.conversion.rates.version", this, adapter -> adapter.table.rates().version())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Builds the table once the application context has been fully initialized.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload(exchangeRateOutboundPort.findCurrent());
+    }
+
+    /**
+     * Rebuilds the table from the given rates and the distinct amounts of the {@code PRICES} table, and
+     * publishes it.
+     *
+     * @param rates the rates the amounts are converted with
+     */
+    public void reload(ExchangeRates rates) {
+        synchronized (writeLock) {
+            var amounts = partition.isPartitioned()
+                    ? priceJPARepository.findAmountsByBrandIds(partition.brands())
+                    : priceJPARepository.findAmounts();
+            var rebuilt = with(ConvertedPriceTable.of(rates), amounts);
+            table = rebuilt;
+            log.info("converted prices loaded : rates version {}, {} currencies, {} amounts",
+                    rates.version(), rates.rates().size(), rebuilt.size());
+        }
+    }
+
+    /**
+     * Converts the prices again once a new version of the rates has committed.
+     *
+     * <p>Older versions, which may be delivered late, are ignored.</p>
+     *
+     * @param event the publication notification
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRatesPublished(ExchangeRatesPublishedEvent event) {
+        synchronized (writeLock) {
+            if (event.rates().version() > table.rates().version()) {
+                reload(event.rates());
+            }
+        }
+    }
+
+    /**
+     * Converts the new amounts of the pair whose prices changed, once the change has committed.
+     *
+     * <p>It runs before any other listener, so a lookup triggered by another listener already finds the
+     * converted amount.</p>
+     *
+     * @param event the change notification
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPriceChanged(PriceChangedEvent event) {
+        if (event.productId() == null || event.brandId() == null || !partition.owns(event.brandId())) {
+            return;
+        }
+        synchronized (writeLock) {
+            table = with(table, priceJPARepository.findAmounts(event.productId(), event.brandId()));
+        }
+    }
+
+    /**
+     * Rebuilds the table with the current rates once a bulk load has committed.
+     *
+     * <p>The rates are read again rather than reused, so a partitioned node also picks up the versions
+     * published through other nodes.</p>
+     *
+     * @param event the reload notification
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricesReloaded(PricesReloadedEvent event) {
+        synchronized (writeLock) {
+            reload(exchangeRateOutboundPort.findCurrent());
+        }
+    }
+
+    /**
+     * Checks whether prices can be converted into the given currency with the current rates.
+     *
+     * @param currency the currency to check
+     * @return {@code true} if the current rates have a rate for {@code currency}
+     */
+    @Override
+    public boolean supports(Currency currency) {
+        return table.rates().supports(currency);
+    }
+
+    /**
+     * Converts a price into the given currency, with the amount precomputed for its own amount when there is
+     * one.
+     *
+     * @param price    the price to convert
+     * @param currency the currency to convert to
+     * @return the {@link Price} in {@code currency}, or {@code price} itself if it is already in it
+     * @throws IllegalArgumentException if there is no exchange rate for {@code currency} or for the currency
+     *                                  of the price
+     */
+    @Override
+    public Price convert(Price price, Currency currency) {
+        if (price.currency() == currency) {
+            return price;
+        }
+        var current = table;
+        var amount = current.amount(price.price(), price.currency(), currency);
+        if (amount != null) {
+            precomputed.increment();
+        } else {
+            amount = current.rates().convert(price.price(), price.currency(), currency);
+            computed.increment();
+        }
+        return price.withPrice(currency, amount);
+    }
+
+    private static ConvertedPriceTable with(ConvertedPriceTable table, List<PriceAmount> amounts) {
+        var byCurrency = new EnumMap<Currency, List<BigDecimal>>(Currency.class);
+        amounts.forEach(amount -> byCurrency
+                .computeIfAbsent(Currency.valueOf(amount.currency().name()), currency -> new ArrayList<>())
+                .add(amount.price()));
+        var extended = table;
+        for (var entry : byCurrency.entrySet()) {
+            extended = extended.with(entry.getKey(), entry.getValue());
+        }
+        return extended;
+    }
+}
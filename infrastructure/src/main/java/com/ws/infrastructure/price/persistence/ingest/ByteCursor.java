@@ -0,0 +1,261 @@
+package com.ws.infrastructure.price.persistence.ingest;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Reusable cursor over the bytes of a single row of a mapped price file.
+ *
+ * <p>Numbers, decimals, dates and enum constants are decoded straight from the bytes, so parsing a row
+ * never allocates an intermediate {@link String} per field. A cursor is reset for every row and is not
+ * thread-safe: each chunk writer owns its own instance.</p>
+ */
+final class ByteCursor {
+
+    private ByteBuffer buffer;
+    private int position;
+    private int limit;
+    private long baseOffset;
+
+    /**
+     * Points the cursor at the bytes {@code [from, to)} of the buffer.
+     *
+     * @param buffer     the mapped chunk
+     * @param from       the index of the first byte of the row
+     * @param to         the index after the last byte of the row
+     * @param baseOffset the offset of the chunk in the file, used in error messages
+     */
+    void reset(ByteBuffer buffer, int from, int to, long baseOffset) {
+        this.buffer = buffer;
+        this.position = from;
+        this.limit = to;
+        this.baseOffset = baseOffset;
+    }
+
+    boolean atEnd() {
+        return position >= limit;
+    }
+
+    boolean consume(char expected) {
+        if (position < limit && buffer.get(position) == expected) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    void expect(char expected) {
+        if (!consume(expected)) {
+            throw error("expected '" + expected + "'");
+        }
+    }
+
+    void skipWhitespace() {
+        while (position < limit) {
+            byte b = buffer.get(position);
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return;
+            }
+            position++;
+        }
+    }
+
+    /**
+     * Consumes the given bytes if the cursor is positioned on them.
+     *
+     * @param literal the expected bytes
+     * @return {@code true} if the bytes matched and were consumed
+     */
+    boolean consume(byte[] literal) {
+        if (limit - position < literal.length) {
+            return false;
+        }
+        for (int i = 0; i < literal.length; i++) {
+            if (buffer.get(position + i) != literal[i]) {
+                return false;
+            }
+        }
+        position += literal.length;
+        return true;
+    }
+
+    int nextInt() {
+        long value = nextLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw error("integer out of range");
+        }
+        return (int) value;
+    }
+
+    long nextLong() {
+        boolean negative = consume('-');
+        int start = position;
+        long value = 0;
+        while (position < limit && isDigit(buffer.get(position))) {
+            value = Math.multiplyExact(value, 10) + (buffer.get(position++) - '0');
+        }
+        if (position == start) {
+            throw error("expected a number");
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Decodes a decimal number into an unscaled value with the given scale.
+     *
+     * @param scale the number of decimal digits of the result
+     * @return the decimal multiplied by {@code 10^scale}
+     */
+    long nextDecimal(int scale) {
+        boolean negative = consume('-');
+        long value = nextLong();
+        int digits = 0;
+        if (consume('.')) {
+            while (position < limit && isDigit(buffer.get(position))) {
+                int digit = buffer.get(position++) - '0';
+                if (digits < scale) {
+                    value = value * 10 + digit;
+                    digits++;
+                } else if (digit != 0) {
+                    throw error("more than " + scale + " decimal digits");
+                }
+            }
+        }
+        for (; digits < scale; digits++) {
+            value *= 10;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Decodes a {@code yyyy-MM-dd'T'HH:mm:ss[.fraction]} date, also accepting a space instead of {@code T}.
+     *
+     * @return the decoded date
+     */
+    LocalDateTime nextDateTime() {
+        int year = fixedDigits(4);
+        expect('-');
+        int month = fixedDigits(2);
+        expect('-');
+        int day = fixedDigits(2);
+        if (!consume('T') && !consume(' ')) {
+            throw error("expected 'T'");
+        }
+        int hour = fixedDigits(2);
+        expect(':');
+        int minute = fixedDigits(2);
+        expect(':');
+        int second = fixedDigits(2);
+        int nanos = 0;
+        if (consume('.')) {
+            int digits = 0;
+            while (position < limit && isDigit(buffer.get(position))) {
+                if (digits++ < 9) {
+                    nanos = nanos * 10 + (buffer.get(position) - '0');
+                }
+                position++;
+            }
+            for (; digits < 9; digits++) {
+                nanos *= 10;
+            }
+        }
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute, second, nanos);
+        } catch (RuntimeException e) {
+            throw error("invalid date");
+        }
+    }
+
+    /**
+     * Decodes an enum constant by comparing the bytes with the pre-encoded constant names.
+     *
+     * @param constants the enum constants
+     * @param names     the ASCII bytes of the name of each constant
+     * @param <E>       the enum type
+     * @return the matching constant
+     */
+    <E extends Enum<E>> E nextEnum(E[] constants, byte[][] names) {
+        for (int i = 0; i < constants.length; i++) {
+            if (consume(names[i])) {
+                return constants[i];
+            }
+        }
+        throw error("unknown constant");
+    }
+
+    /**
+     * Skips a JSON value: a string, an object or array, or a bare literal.
+     */
+    void skipJsonValue() {
+        int depth = 0;
+        while (position < limit) {
+            byte b = buffer.get(position);
+            if (b == '"') {
+                skipJsonString();
+                continue;
+            }
+            if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                if (depth == 0) {
+                    return;
+                }
+                depth--;
+            } else if (b == ',' && depth == 0) {
+                return;
+            }
+            position++;
+        }
+    }
+
+    /**
+     * Skips the rest of a JSON string whose opening quote the cursor is positioned on, or has consumed.
+     */
+    void skipJsonString() {
+        consume('"');
+        while (position < limit) {
+            byte b = buffer.get(position++);
+            if (b == '\\') {
+                position++;
+            } else if (b == '"') {
+                return;
+            }
+        }
+        throw error("unterminated string");
+    }
+
+    IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("malformed price row at byte " + (baseOffset + position) + ": " + message);
+    }
+
+    /**
+     * Encodes the names of enum constants once, for {@link #nextEnum(Enum[], byte[][])}.
+     *
+     * @param constants the enum constants
+     * @param <E>       the enum type
+     * @return the ASCII bytes of the name of each constant
+     */
+    static <E extends Enum<E>> byte[][] names(E[] constants) {
+        var names = new byte[constants.length][];
+        for (int i = 0; i < constants.length; i++) {
+            names[i] = constants[i].name().getBytes(StandardCharsets.US_ASCII);
+        }
+        return names;
+    }
+
+    private int fixedDigits(int count) {
+        int value = 0;
+        for (int i = 0; i < count; i++) {
+            if (position >= limit || !isDigit(buffer.get(position))) {
+                throw error("expected " + count + " digits");
+            }
+            value = value * 10 + (buffer.get(position++) - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+}
@@ -0,0 +1,50 @@
+package com.ws.infrastructure.price.persistence.ingest;
+
+import com.ws.domain.price.model.Currency;
+
+/**
+ * Parses CSV price rows with the columns
+ * {@code priceList,productId,brandId,priority,currency,price,startDate,endDate}.
+ *
+ * <p>The first line of the file is skipped when it does not start with a digit, so a header line is
+ * optional. Fields are not quoted.</p>
+ */
+final class CsvPriceRowParser implements PriceRowParser {
+
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final byte[][] CURRENCY_NAMES = ByteCursor.names(CURRENCIES);
+
+    @Override
+    public void parse(ByteCursor cursor, PriceRow row) {
+        row.priceList = cursor.nextInt();
+        separator(cursor);
+        row.productId = cursor.nextInt();
+        separator(cursor);
+        row.brandId = cursor.nextInt();
+        separator(cursor);
+        row.priority = cursor.nextInt();
+        separator(cursor);
+        row.currency = cursor.nextEnum(CURRENCIES, CURRENCY_NAMES);
+        separator(cursor);
+        row.minorPrice = cursor.nextDecimal(PriceRow.PRICE_SCALE);
+        separator(cursor);
+        row.startDate = cursor.nextDateTime();
+        separator(cursor);
+        row.endDate = cursor.nextDateTime();
+        cursor.skipWhitespace();
+        if (!cursor.atEnd()) {
+            throw cursor.error("unexpected trailing bytes");
+        }
+    }
+
+    @Override
+    public boolean hasHeader() {
+        return true;
+    }
+
+    private static void separator(ByteCursor cursor) {
+        cursor.skipWhitespace();
+        cursor.expect(',');
+        cursor.skipWhitespace();
+    }
+}
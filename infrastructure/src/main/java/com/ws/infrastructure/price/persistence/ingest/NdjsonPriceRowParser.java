@@ -0,0 +1,83 @@
+package com.ws.infrastructure.price.persistence.ingest;
+
+import com.ws.domain.price.model.Currency;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Parses NDJSON price rows, one flat JSON object per line.
+ *
+ * <p>Every object must have the {@code priceList}, {@code productId}, {@code brandId}, {@code priority},
+ * {@code currency}, {@code price}, {@code startDate} and {@code endDate} members, in any order. Keys are
+ * matched against their pre-encoded bytes and unknown members are skipped.</p>
+ */
+final class NdjsonPriceRowParser implements PriceRowParser {
+
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final byte[][] CURRENCY_NAMES = ByteCursor.names(CURRENCIES);
+
+    private static final byte[][] KEYS = {
+            key("priceList"), key("productId"), key("brandId"), key("priority"),
+            key("currency"), key("price"), key("startDate"), key("endDate")
+    };
+    private static final int ALL_KEYS = (1 << KEYS.length) - 1;
+
+    @Override
+    public void parse(ByteCursor cursor, PriceRow row) {
+        cursor.skipWhitespace();
+        cursor.expect('{');
+        int seen = 0;
+        do {
+            cursor.skipWhitespace();
+            cursor.expect('"');
+            int member = member(cursor);
+            cursor.skipWhitespace();
+            cursor.expect(':');
+            cursor.skipWhitespace();
+            switch (member) {
+                case 0 -> row.priceList = cursor.nextInt();
+                case 1 -> row.productId = cursor.nextInt();
+                case 2 -> row.brandId = cursor.nextInt();
+                case 3 -> row.priority = cursor.nextInt();
+                case 4 -> {
+                    cursor.expect('"');
+                    row.currency = cursor.nextEnum(CURRENCIES, CURRENCY_NAMES);
+                    cursor.expect('"');
+                }
+                case 5 -> row.minorPrice = cursor.nextDecimal(PriceRow.PRICE_SCALE);
+                case 6 -> row.startDate = quotedDateTime(cursor);
+                case 7 -> row.endDate = quotedDateTime(cursor);
+                default -> cursor.skipJsonValue();
+            }
+            if (member >= 0) {
+                seen |= 1 << member;
+            }
+            cursor.skipWhitespace();
+        } while (cursor.consume(','));
+        cursor.expect('}');
+        if (seen != ALL_KEYS) {
+            throw cursor.error("missing members");
+        }
+    }
+
+    private static int member(ByteCursor cursor) {
+        for (int i = 0; i < KEYS.length; i++) {
+            if (cursor.consume(KEYS[i])) {
+                return i;
+            }
+        }
+        cursor.skipJsonString();
+        return -1;
+    }
+
+    private static LocalDateTime quotedDateTime(ByteCursor cursor) {
+        cursor.expect('"');
+        var date = cursor.nextDateTime();
+        cursor.expect('"');
+        return date;
+    }
+
+    private static byte[] key(String name) {
+        return (name + '"').getBytes(StandardCharsets.US_ASCII);
+    }
+}
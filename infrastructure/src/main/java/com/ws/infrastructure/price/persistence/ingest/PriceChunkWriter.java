@@ -0,0 +1,110 @@
+package com.ws.infrastructure.price.persistence.ingest;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Parses one {@link PriceFileChunk} of a mapped price file and writes its rows to the staging table.
+ *
+ * <p>The chunk is memory-mapped and scanned line by line with a reusable {@link ByteCursor} and
+ * {@link PriceRow}. Rows are sent with JDBC batch inserts on a connection of its own, committed once the
+ * whole chunk has been written, so several chunks can be written in parallel. Staged rows stay invisible
+ * to lookups until {@link PriceStagingTable#publish(String, boolean)}.</p>
+ *
+ * @see PriceStagingTable
+ */
+@RequiredArgsConstructor
+public final class PriceChunkWriter {
+
+    private final DataSource dataSource;
+    private final int batchSize;
+
+    /**
+     * Writes every row of a chunk to the staging table.
+     *
+     * @param channel     the channel of the price file
+     * @param chunk       the chunk to write
+     * @param format      the format of the file
+     * @param ingestionId the identifier of the ingestion the rows belong to
+     * @return the number of rows written
+     * @throws IOException              if the file cannot be mapped
+     * @throws SQLException             if the rows cannot be written
+     * @throws IllegalArgumentException if a row is malformed
+     */
+    public long write(FileChannel channel, PriceFileChunk chunk, PriceFileFormat format, String ingestionId)
+            throws IOException, SQLException {
+        var buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunk.start(), chunk.length());
+        var parser = format.parser();
+        var cursor = new ByteCursor();
+        var row = new PriceRow();
+        int size = buffer.limit();
+        int lineStart = 0;
+        if (chunk.start() == 0 && parser.hasHeader() && size > 0 && !startsRow(buffer.get(0))) {
+            lineStart = nextLine(buffer, 0, size);
+        }
+
+        long rows = 0;
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (var statement = connection.prepareStatement(PriceStagingTable.INSERT)) {
+                int pending = 0;
+                while (lineStart < size) {
+                    int lineEnd = lineEnd(buffer, lineStart, size);
+                    cursor.reset(buffer, lineStart, lineEnd, chunk.start());
+                    cursor.skipWhitespace();
+                    if (!cursor.atEnd()) {
+                        parser.parse(cursor, row);
+                        if (row.endDate.isBefore(row.startDate)) {
+                            throw cursor.error("endDate must not be before startDate");
+                        }
+                        statement.setString(1, ingestionId);
+                        statement.setInt(2, row.priceList);
+                        statement.setInt(3, row.productId);
+                        statement.setInt(4, row.brandId);
+                        statement.setInt(5, row.priority);
+                        statement.setString(6, row.currency.name());
+                        statement.setBigDecimal(7, BigDecimal.valueOf(row.minorPrice, PriceRow.PRICE_SCALE));
+                        statement.setObject(8, row.startDate);
+                        statement.setObject(9, row.endDate);
+                        statement.addBatch();
+                        rows++;
+                        if (++pending == batchSize) {
+                            statement.executeBatch();
+                            pending = 0;
+                        }
+                    }
+                    lineStart = lineEnd + 1;
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+        return rows;
+    }
+
+    private static boolean startsRow(byte b) {
+        return (b >= '0' && b <= '9') || b == '-';
+    }
+
+    private static int lineEnd(ByteBuffer buffer, int from, int size) {
+        int index = from;
+        while (index < size && buffer.get(index) != '\n') {
+            index++;
+        }
+        return index;
+    }
+
+    private static int nextLine(ByteBuffer buffer, int from, int size) {
+        return Math.min(size, lineEnd(buffer, from, size) + 1);
+    }
+}
@@ -0,0 +1,68 @@
+package com.ws.infrastructure.price.persistence.ingest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Byte range {@code [start, end)} of a price file that holds whole lines only.
+ *
+ * @param start the offset of the first byte of the chunk
+ * @param end   the offset after the last byte of the chunk
+ */
+public record PriceFileChunk(long start, long end) {
+
+    private static final int SCAN_BUFFER = 8 * 1024;
+
+    /**
+     * Splits a file into chunks of about {@code chunkSize} bytes, each one ending after a line feed.
+     *
+     * @param channel   the channel of the file
+     * @param chunkSize the target size of a chunk, at most {@link Integer#MAX_VALUE} bytes
+     * @return the chunks, in file order
+     * @throws IOException if the file cannot be read
+     */
+    public static List<PriceFileChunk> plan(FileChannel channel, long chunkSize) throws IOException {
+        long size = channel.size();
+        long step = Math.max(1, Math.min(chunkSize, Integer.MAX_VALUE / 2));
+        var chunks = new ArrayList<PriceFileChunk>();
+        var scan = ByteBuffer.allocate(SCAN_BUFFER);
+        long start = 0;
+        while (start < size) {
+            long end = nextLineStart(channel, Math.min(size, start + step), size, scan);
+            chunks.add(new PriceFileChunk(start, end));
+            start = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * Returns the length of the chunk in bytes.
+     *
+     * @return the length
+     */
+    public int length() {
+        return Math.toIntExact(end - start);
+    }
+
+    private static long nextLineStart(FileChannel channel, long position, long size, ByteBuffer scan)
+            throws IOException {
+        long offset = position;
+        while (offset < size) {
+            scan.clear();
+            int read = channel.read(scan, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+}
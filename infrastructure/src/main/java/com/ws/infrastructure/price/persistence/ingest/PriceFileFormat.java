@@ -0,0 +1,48 @@
+package com.ws.infrastructure.price.persistence.ingest;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Supported formats of a price file, detected from the file extension.
+ */
+public enum PriceFileFormat {
+
+    /**
+     * Comma-separated values, {@code .csv}.
+     */
+    CSV(new CsvPriceRowParser()),
+
+    /**
+     * One JSON object per line, {@code .ndjson} or {@code .jsonl}.
+     */
+    NDJSON(new NdjsonPriceRowParser());
+
+    private final PriceRowParser parser;
+
+    PriceFileFormat(PriceRowParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Detects the format of a file from its extension.
+     *
+     * @param file the price file
+     * @return the detected {@link PriceFileFormat}
+     * @throws IllegalArgumentException if the extension is not supported
+     */
+    public static PriceFileFormat of(Path file) {
+        var name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("unsupported price file : " + file.getFileName());
+    }
+
+    PriceRowParser parser() {
+        return parser;
+    }
+}
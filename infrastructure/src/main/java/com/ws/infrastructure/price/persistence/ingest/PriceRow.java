@@ -0,0 +1,24 @@
+package com.ws.infrastructure.price.persistence.ingest;
+
+import com.ws.domain.price.model.Currency;
+import java.time.LocalDateTime;
+
+/**
+ * Mutable holder of the values of one parsed price row.
+ *
+ * <p>A single instance is reused for every row of a chunk, so parsing does not allocate a row object
+ * per line. The price is kept in minor units with a scale of {@value #PRICE_SCALE}.</p>
+ */
+final class PriceRow {
+
+    static final int PRICE_SCALE = 2;
+
+    int priceList;
+    int productId;
+    int brandId;
+    int priority;
+    Currency currency;
+    long minorPrice;
+    LocalDateTime startDate;
+    LocalDateTime endDate;
+}
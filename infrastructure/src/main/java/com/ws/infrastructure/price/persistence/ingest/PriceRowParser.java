@@ -0,0 +1,28 @@
+package com.ws.infrastructure.price.persistence.ingest;
+
+/**
+ * Parses one row of a price file into a reusable {@link PriceRow}.
+ *
+ * @see CsvPriceRowParser
+ * @see NdjsonPriceRowParser
+ */
+interface PriceRowParser {
+
+    /**
+     * Parses the row the cursor points at.
+     *
+     * @param cursor the cursor over the bytes of the row
+     * @param row    the holder that receives the values
+     * @throws IllegalArgumentException if the row is malformed
+     */
+    void parse(ByteCursor cursor, PriceRow row);
+
+    /**
+     * Returns whether the first line of the file may be a header to skip.
+     *
+     * @return {@code true} for formats with an optional header line
+     */
+    default boolean hasHeader() {
+        return false;
+    }
+}
@@ -0,0 +1,122 @@
+package com.ws.infrastructure.price.persistence.ingest;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * SQL access to {@code PRICES_STAGING}, where an ingestion writes its rows before they are published.
+ *
+ * <p>Rows are tagged with the identifier of their ingestion, so parallel chunk writers and concurrent
+ * ingestions never see each other's rows. Publishing merges the rows of one ingestion into {@code PRICES}
+ * by price list in a single statement, which makes the whole load visible at once when the surrounding
+ * transaction commits.</p>
+ */
+@RequiredArgsConstructor
+public final class PriceStagingTable {
+
+    static final String INSERT = """
+            INSERT INTO PRICES_STAGING
+                (INGESTION_ID, PRICE_LIST, PRODUCT_ID, BRAND_ID, PRIORITY, CURR, PRICE, START_DATE, END_DATE)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String CREATE = """
+            CREATE TABLE IF NOT EXISTS PRICES_STAGING (
+                INGESTION_ID VARCHAR(36) NOT NULL,
+                PRICE_LIST INTEGER NOT NULL,
+                PRODUCT_ID INTEGER NOT NULL,
+                BRAND_ID INTEGER NOT NULL,
+                PRIORITY INTEGER NOT NULL,
+                CURR VARCHAR(3) NOT NULL,
+                PRICE NUMERIC(38, 2) NOT NULL,
+                START_DATE TIMESTAMP(6) NOT NULL,
+                END_DATE TIMESTAMP(6) NOT NULL
+            )
+            """;
+
+    private static final String STAGED_BRANDS = """
+            SELECT DISTINCT BRAND_ID FROM PRICES_STAGING WHERE INGESTION_ID = ?
+            """;
+
+    private static final String UNKNOWN_BRANDS = """
+            SELECT DISTINCT s.BRAND_ID FROM PRICES_STAGING s
+            WHERE s.INGESTION_ID = ? AND NOT EXISTS (SELECT 1 FROM BRAND b WHERE b.ID = s.BRAND_ID)
+            ORDER BY s.BRAND_ID
+            """;
+
+    private static final String DELETE_EFFECTIVE_OF_BRANDS = """
+            DELETE FROM EFFECTIVE_PRICES WHERE BRAND_ID IN (%s)
+            """.formatted(STAGED_BRANDS);
+
+    private static final String DELETE_MISSING_OF_BRANDS = """
+            DELETE FROM PRICES
+            WHERE BRAND_ID IN (%s)
+            AND PRICE_LIST NOT IN (SELECT PRICE_LIST FROM PRICES_STAGING WHERE INGESTION_ID = ?)
+            """.formatted(STAGED_BRANDS);
+
+    private static final String MERGE = """
+            MERGE INTO PRICES p
+            USING (SELECT PRICE_LIST, PRODUCT_ID, BRAND_ID, PRIORITY, CURR, PRICE, START_DATE, END_DATE
+                   FROM PRICES_STAGING WHERE INGESTION_ID = ?) s
+            ON p.PRICE_LIST = s.PRICE_LIST
+            WHEN MATCHED THEN UPDATE SET
+                PRODUCT_ID = s.PRODUCT_ID, BRAND_ID = s.BRAND_ID, PRIORITY = s.PRIORITY, CURR = s.CURR,
+                PRICE = s.PRICE, START_DATE = s.START_DATE, END_DATE = s.END_DATE
+            WHEN NOT MATCHED THEN INSERT
+                (PRICE_LIST, PRODUCT_ID, BRAND_ID, PRIORITY, CURR, PRICE, START_DATE, END_DATE)
+                VALUES (s.PRICE_LIST, s.PRODUCT_ID, s.BRAND_ID, s.PRIORITY, s.CURR, s.PRICE, s.START_DATE, s.END_DATE)
+            """;
+
+    private static final String DISCARD = "DELETE FROM PRICES_STAGING WHERE INGESTION_ID = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates the staging table if it does not exist yet.
+     */
+    public void create() {
+        jdbcTemplate.execute(CREATE);
+    }
+
+    /**
+     * Lists the staged brands of an ingestion that do not exist in {@code BRAND}.
+     *
+     * @param ingestionId the identifier of the ingestion
+     * @return the identifiers of the unknown brands, sorted
+     */
+    public List<Integer> unknownBrands(String ingestionId) {
+        return jdbcTemplate.queryForList(UNKNOWN_BRANDS, Integer.class, ingestionId);
+    }
+
+    /**
+     * Merges the staged rows of an ingestion into {@code PRICES} and removes them from the staging table.
+     *
+     * <p>With {@code replace}, the prices of the staged brands that are missing from the ingestion are
+     * deleted first. The materialized {@code EFFECTIVE_PRICES} of those brands are deleted too, so the
+     * foreign key does not block the delete; they are rebuilt once the load is published. This method
+     * must run inside a transaction.</p>
+     *
+     * @param ingestionId the identifier of the ingestion
+     * @param replace     whether the ingestion replaces every price of its brands
+     * @return the number of merged rows
+     */
+    public int publish(String ingestionId, boolean replace) {
+        if (replace) {
+            jdbcTemplate.update(DELETE_EFFECTIVE_OF_BRANDS, ingestionId);
+            jdbcTemplate.update(DELETE_MISSING_OF_BRANDS, ingestionId, ingestionId);
+        }
+        int merged = jdbcTemplate.update(MERGE, ingestionId);
+        discard(ingestionId);
+        return merged;
+    }
+
+    /**
+     * Removes the staged rows of an ingestion.
+     *
+     * @param ingestionId the identifier of the ingestion
+     */
+    public void discard(String ingestionId) {
+        jdbcTemplate.update(DISCARD, ingestionId);
+    }
+}
@@ -1,8 +1,11 @@
 package com.ws.infrastructure.price.persistence.mapper;
 
+import com.ws.domain.price.model.Brand;
 import com.ws.domain.price.model.Price;
 import com.ws.infrastructure.price.persistence.entity.PriceEntity;
+import com.ws.infrastructure.price.persistence.projection.PriceView;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 
 /**
@@ -27,4 +30,14 @@ public interface PriceEntityMapper {
      * @return the corresponding {@link Price} domain object
      */
     Price toDomain(PriceEntity entity);
+
+    /**
+     * Maps a {@link PriceView} and its brand to a {@link Price} domain object.
+     *
+     * @param view  the {@link PriceView} to map
+     * @param brand the {@link Brand} of the price, resolved from {@link PriceView#brandId()}
+     * @return the corresponding {@link Price} domain object
+     */
+    @Mapping(target = "brand", source = "brand")
+    Price toDomain(PriceView view, Brand brand);
 }
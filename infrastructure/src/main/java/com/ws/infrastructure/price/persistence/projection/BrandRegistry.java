@@ -0,0 +1,58 @@
+package com.ws.infrastructure.price.persistence.projection;
+
+import com.ws.domain.price.model.Brand;
+import com.ws.infrastructure.price.persistence.BrandJpaRepository;
+import com.ws.infrastructure.price.persistence.entity.BrandEntity;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory registry of the {@code BRAND} table, used to attach the {@link Brand} to a {@link PriceView}
+ * instead of joining it in every lookup.
+ *
+ * <p>Every brand is loaded once, after every singleton has been created (and therefore after {@code data.sql}
+ * has been applied). The application never writes brands, so entries are never invalidated, and a brand
+ * added to the table afterwards is loaded on its first lookup.</p>
+ *
+ * @see PriceView
+ */
+@Component
+@RequiredArgsConstructor
+public class BrandRegistry implements SmartInitializingSingleton {
+
+    private final BrandJpaRepository brandJPARepository;
+    private final Map<Integer, Brand> brands = new ConcurrentHashMap<>();
+
+    /**
+     * Loads every brand once the application context has been fully initialized.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        brandJPARepository.findAll().forEach(entity -> brands.put(entity.getId(), toDomain(entity)));
+    }
+
+    /**
+     * Returns the brand with the given identifier, loading it from the database if it is not registered yet.
+     *
+     * @param brandId the identifier of the brand
+     * @return the {@link Brand}
+     * @throws IllegalStateException if the brand does not exist
+     */
+    public Brand brand(Integer brandId) {
+        var brand = brands.get(brandId);
+        return brand != null ? brand : brands.computeIfAbsent(brandId, this::load);
+    }
+
+    private Brand load(Integer brandId) {
+        return brandJPARepository.findById(brandId)
+                .map(BrandRegistry::toDomain)
+                .orElseThrow(() -> new IllegalStateException("unknown brand : " + brandId));
+    }
+
+    private static Brand toDomain(BrandEntity entity) {
+        return new Brand(entity.getId(), entity.getName());
+    }
+}
@@ -0,0 +1,164 @@
+package com.ws.infrastructure.price.persistence.projection;
+
+import com.ws.application.price.model.PriceQuery;
+import com.ws.infrastructure.price.persistence.timeline.PriceTimelineIndex;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Resolves the preferred price of several lookups from the candidates returned by a single set-based query.
+ *
+ * <p>The candidate query receives every product and brand of the lookups and the range of their dates. Each
+ * lookup then picks, among the candidates of its own product and brand, the highest-priority price valid at
+ * its own date, the highest price list winning ties.</p>
+ *
+ * <p>The interval during which each winner keeps winning is resolved the same way, with a single successor
+ * query: a winner stops winning when it ends, or when a price it loses against starts.</p>
+ */
+public final class PreferredPriceViews {
+
+    private static final Comparator<PriceView> PREFERENCE = Comparator
+            .comparing(PriceView::priority)
+            .thenComparing(PriceView::priceList);
+
+    private PreferredPriceViews() {
+    }
+
+    /**
+     * Query returning the prices of any of the given products and brands valid at some point of
+     * {@code [from, to]}.
+     */
+    @FunctionalInterface
+    public interface CandidateQuery {
+
+        /**
+         * Finds the candidate prices.
+         *
+         * @param productIds the IDs of the products
+         * @param brandIds   the IDs of the brands
+         * @param from       the earliest date of the lookups
+         * @param to         the latest date of the lookups
+         * @return the candidate {@link PriceView}s
+         */
+        List<PriceView> find(Collection<Integer> productIds, Collection<Integer> brandIds, LocalDateTime from,
+                             LocalDateTime to);
+    }
+
+    /**
+     * Query returning the prices of any of the given products and brands that start in {@code (from, to]}.
+     */
+    @FunctionalInterface
+    public interface SuccessorQuery {
+
+        /**
+         * Finds the successor prices.
+         *
+         * @param productIds the IDs of the products
+         * @param brandIds   the IDs of the brands
+         * @param from       the earliest date of the lookups (exclusive)
+         * @param to         the latest end date of the winners (inclusive)
+         * @return the successor {@link PriceView}s
+         */
+        List<PriceView> find(Collection<Integer> productIds, Collection<Integer> brandIds, LocalDateTime from,
+                             LocalDateTime to);
+    }
+
+    /**
+     * Resolves the preferred price of each lookup with a single call to the candidate query.
+     *
+     * @param queries    the product, brand and application date of each lookup
+     * @param candidates the set-based query of the candidate prices
+     * @return one {@link Optional} per query, in the same order as {@code queries}
+     */
+    public static List<Optional<PriceView>> resolve(List<PriceQuery> queries, CandidateQuery candidates) {
+        if (queries.isEmpty()) {
+            return List.of();
+        }
+        var productIds = new HashSet<Integer>();
+        var brandIds = new HashSet<Integer>();
+        var from = queries.get(0).applicationDate();
+        var to = from;
+        for (PriceQuery query : queries) {
+            productIds.add(query.productId());
+            brandIds.add(query.brandId());
+            from = query.applicationDate().isBefore(from) ? query.applicationDate() : from;
+            to = query.applicationDate().isAfter(to) ? query.applicationDate() : to;
+        }
+
+        var byKey = new HashMap<Long, List<PriceView>>();
+        for (PriceView view : candidates.find(productIds, brandIds, from, to)) {
+            byKey.computeIfAbsent(PriceTimelineIndex.key(view.productId(), view.brandId()),
+                    k -> new ArrayList<>()).add(view);
+        }
+
+        var views = new ArrayList<Optional<PriceView>>(queries.size());
+        for (PriceQuery query : queries) {
+            views.add(byKey.getOrDefault(PriceTimelineIndex.key(query.productId(), query.brandId()), List.of())
+                    .stream()
+                    .filter(view -> !view.startDate().isAfter(query.applicationDate())
+                            && !view.endDate().isBefore(query.applicationDate()))
+                    .max(PREFERENCE));
+        }
+        return views;
+    }
+
+    /**
+     * Resolves the interval during which the winner of each lookup keeps winning, with a single call to the
+     * successor query.
+     *
+     * <p>Each interval starts at the application date of its lookup, since the winner is only known to win from
+     * there. It ends one nanosecond after the end date of the winner, or earlier at the start of the first
+     * price of the same product and brand that the winner loses against.</p>
+     *
+     * @param queries    the product, brand and application date of each lookup
+     * @param winners    the winning price of each lookup, in the same order as {@code queries}
+     * @param successors the set-based query of the successor prices
+     * @return one {@link PriceSegmentView} per query, in the same order as {@code queries}
+     */
+    public static List<PriceSegmentView> resolveSegments(List<PriceQuery> queries, List<PriceView> winners,
+                                                         SuccessorQuery successors) {
+        if (queries.isEmpty()) {
+            return List.of();
+        }
+        var productIds = new HashSet<Integer>();
+        var brandIds = new HashSet<Integer>();
+        var from = queries.get(0).applicationDate();
+        var to = winners.get(0).endDate();
+        for (int i = 0; i < queries.size(); i++) {
+            var query = queries.get(i);
+            var winner = winners.get(i);
+            productIds.add(query.productId());
+            brandIds.add(query.brandId());
+            from = query.applicationDate().isBefore(from) ? query.applicationDate() : from;
+            to = winner.endDate().isAfter(to) ? winner.endDate() : to;
+        }
+
+        var byKey = new HashMap<Long, List<PriceView>>();
+        for (PriceView view : successors.find(productIds, brandIds, from, to)) {
+            byKey.computeIfAbsent(PriceTimelineIndex.key(view.productId(), view.brandId()),
+                    k -> new ArrayList<>()).add(view);
+        }
+
+        var segments = new ArrayList<PriceSegmentView>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            var query = queries.get(i);
+            var winner = winners.get(i);
+            var end = winner.endDate().plusNanos(1);
+            for (PriceView successor : byKey.getOrDefault(
+                    PriceTimelineIndex.key(query.productId(), query.brandId()), List.of())) {
+                if (successor.startDate().isAfter(query.applicationDate()) && successor.startDate().isBefore(end)
+                        && PREFERENCE.compare(successor, winner) > 0) {
+                    end = successor.startDate();
+                }
+            }
+            segments.add(new PriceSegmentView(query.applicationDate(), end, winner));
+        }
+        return segments;
+    }
+}
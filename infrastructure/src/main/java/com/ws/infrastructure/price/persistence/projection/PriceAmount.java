@@ -0,0 +1,13 @@
+package com.ws.infrastructure.price.persistence.projection;
+
+import com.ws.infrastructure.price.persistence.entity.Currency;
+import java.math.BigDecimal;
+
+/**
+ * Distinct amount and currency of one or more {@code PRICES} rows.
+ *
+ * @param currency the currency of the price
+ * @param price    the price value
+ */
+public record PriceAmount(Currency currency, BigDecimal price) {
+}
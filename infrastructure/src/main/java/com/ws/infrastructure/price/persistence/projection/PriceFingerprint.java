@@ -0,0 +1,36 @@
+package com.ws.infrastructure.price.persistence.projection;
+
+import java.util.Objects;
+
+/**
+ * Order-independent aggregate of a hash of every {@code PRICES} row a price snapshot was exported from,
+ * computed by the database in a single pass without reading the rows.
+ *
+ * <p>Each row is hashed over all of its columns with {@code ORA_HASH}, twice with different seeds, and the
+ * hashes are summed. Any change to any column of a row changes its hashes, and since they are not linear in
+ * the column values, edits to several rows do not cancel each other out the way column sums do. Every sum
+ * is {@code null} when there is no row.</p>
+ *
+ * @param rows            the number of rows
+ * @param rowHashes       the sum of the hashes of the rows
+ * @param seededRowHashes the sum of the hashes of the rows with a second seed
+ */
+public record PriceFingerprint(
+        Long rows,
+        Long rowHashes,
+        Long seededRowHashes
+) {
+
+    /**
+     * Folds the aggregates into the value recorded in a snapshot.
+     *
+     * @return the fingerprint value
+     */
+    public long value() {
+        long value = 17;
+        for (Long aggregate : new Long[]{rows, rowHashes, seededRowHashes}) {
+            value = 31 * value + Objects.hashCode(aggregate);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,18 @@
+package com.ws.infrastructure.price.persistence.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Winning {@link PriceView} of a lookup together with the {@code [from, to)} interval during which it keeps
+ * winning.
+ *
+ * @param from  the start (inclusive) of the interval
+ * @param to    the end (exclusive) of the interval
+ * @param price the winning price
+ */
+public record PriceSegmentView(
+        LocalDateTime from,
+        LocalDateTime to,
+        PriceView price
+) {
+}
@@ -0,0 +1,33 @@
+package com.ws.infrastructure.price.persistence.projection;
+
+import com.ws.infrastructure.price.persistence.entity.Currency;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a {@code PRICES} row.
+ *
+ * <p>It is built by the query itself from the columns of the row, so reading it creates no managed entity,
+ * no dirty-checking snapshot and no join with {@code BRAND}: the brand is kept as its foreign key and
+ * resolved with {@link BrandRegistry}.</p>
+ *
+ * @param priceList the identifier of the price list
+ * @param productId the identifier of the product
+ * @param brandId   the identifier of the brand
+ * @param priority  the priority of the price
+ * @param currency  the currency of the price
+ * @param price     the price value of the product
+ * @param startDate the date and time when the price starts being valid
+ * @param endDate   the date and time when the price stops being valid
+ */
+public record PriceView(
+        Integer priceList,
+        Integer productId,
+        Integer brandId,
+        Integer priority,
+        Currency currency,
+        BigDecimal price,
+        LocalDateTime startDate,
+        LocalDateTime endDate
+) {
+}
@@ -0,0 +1,338 @@
+package com.ws.infrastructure.price.persistence.snapshot;
+
+import static com.ws.infrastructure.price.persistence.snapshot.PriceSnapshotLayout.BLOCK_SIZE;
+import static com.ws.infrastructure.price.persistence.snapshot.PriceSnapshotLayout.HEADER_SIZE;
+import static com.ws.infrastructure.price.persistence.snapshot.PriceSnapshotLayout.SEGMENT_SIZE;
+
+import com.ws.domain.price.model.Brand;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.Price;
+import com.ws.domain.price.model.PriceSegment;
+import com.ws.infrastructure.price.persistence.timeline.PriceTimelineIndex;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.CRC32C;
+
+/**
+ * Read-only view of a price snapshot file written by {@link PriceSnapshotWriter}, memory-mapped as a whole.
+ *
+ * <p>Opening a snapshot only reads and checks its header, its block checksums and its small brand
+ * dictionary, so it takes the same time whatever the number of prices. The rest of the file is validated
+ * lazily: the first read of each {@link PriceSnapshotLayout#BLOCK_SIZE}-byte block of the body checks its
+ * CRC32C, and a mismatch throws a {@link PriceSnapshotException}. Pages are loaded by the operating system
+ * as lookups touch them and are shared with every other process mapping the same file.</p>
+ *
+ * <p>A lookup is a binary search of the sorted product and brand keys, then of the start dates of the
+ * segments of the key, and materializes a {@link Price} only for the segment found. Dates keep their
+ * nanoseconds, so segments end exactly where the {@code PriceTimelineIndex} they mirror ends them.</p>
+ *
+ * @see PriceSnapshotLayout
+ */
+public final class MappedPriceSnapshot {
+
+    private static final Currency[] CURRENCIES = Currency.values();
+
+    private final Path file;
+    private final ByteBuffer buffer;
+    private final long version;
+    private final long fingerprint;
+    private final Instant created;
+    private final int keyCount;
+    private final int segmentCount;
+    private final int bodyOffset;
+    private final int[] checksums;
+    // a block may be checked by two threads at once, which is harmless because the file never changes
+    private final boolean[] verified;
+    private final Set<Integer> scope;
+    private final Map<Integer, Brand> brands;
+    private final int keysOffset;
+    private final int firstSegmentsOffset;
+    private final int segmentsOffset;
+
+    private MappedPriceSnapshot(Path file, ByteBuffer buffer) {
+        this.file = file;
+        this.buffer = buffer;
+        if (buffer.getInt(0) != PriceSnapshotLayout.MAGIC) {
+            throw new PriceSnapshotException(file + " is not a price snapshot");
+        }
+        if (buffer.getInt(4) != PriceSnapshotLayout.FORMAT_VERSION) {
+            throw new PriceSnapshotException(file + " has unsupported format " + buffer.getInt(4));
+        }
+        int blockCount = buffer.getInt(PriceSnapshotLayout.BLOCK_COUNT_OFFSET);
+        long bodyLength = buffer.getLong(PriceSnapshotLayout.BODY_LENGTH_OFFSET);
+        if (bodyLength < 0 || blockCount != PriceSnapshotLayout.blockCount(bodyLength)
+                || PriceSnapshotLayout.bodyOffset(blockCount) + bodyLength != buffer.capacity()) {
+            throw new PriceSnapshotException(file + " does not match the size of its header");
+        }
+        if (PriceSnapshotWriter.headerChecksum(buffer, blockCount)
+                != buffer.getInt(PriceSnapshotLayout.HEADER_CHECKSUM_OFFSET)) {
+            throw new PriceSnapshotException(file + " fails its header checksum");
+        }
+        this.version = buffer.getLong(PriceSnapshotLayout.VERSION_OFFSET);
+        this.fingerprint = buffer.getLong(PriceSnapshotLayout.FINGERPRINT_OFFSET);
+        this.created = Instant.ofEpochMilli(buffer.getLong(PriceSnapshotLayout.CREATED_OFFSET));
+        this.keyCount = buffer.getInt(PriceSnapshotLayout.KEY_COUNT_OFFSET);
+        this.segmentCount = buffer.getInt(PriceSnapshotLayout.SEGMENT_COUNT_OFFSET);
+        this.bodyOffset = (int) PriceSnapshotLayout.bodyOffset(blockCount);
+        this.checksums = new int[blockCount];
+        for (int block = 0; block < blockCount; block++) {
+            checksums[block] = buffer.getInt(HEADER_SIZE + Integer.BYTES * block);
+        }
+        this.verified = new boolean[blockCount];
+
+        int position = bodyOffset;
+        var scopeBrands = new HashSet<Integer>();
+        for (int i = buffer.getInt(PriceSnapshotLayout.SCOPE_COUNT_OFFSET); i > 0; i--) {
+            scopeBrands.add(intAt(position));
+            position += Integer.BYTES;
+        }
+        var dictionary = new HashMap<Integer, Brand>();
+        for (int i = buffer.getInt(PriceSnapshotLayout.BRAND_COUNT_OFFSET); i > 0; i--) {
+            verify(position, Integer.BYTES + Short.BYTES);
+            int id = buffer.getInt(position);
+            int length = buffer.getShort(position + Integer.BYTES);
+            position += Integer.BYTES + Short.BYTES;
+            verify(position, length);
+            var name = new byte[length];
+            buffer.get(position, name);
+            dictionary.put(id, new Brand(id, new String(name, StandardCharsets.UTF_8)));
+            position += length;
+        }
+        this.scope = Set.copyOf(scopeBrands);
+        this.brands = Map.copyOf(dictionary);
+        this.keysOffset = position;
+        this.firstSegmentsOffset = keysOffset + keyCount * Long.BYTES;
+        this.segmentsOffset = firstSegmentsOffset + (keyCount + 1) * Integer.BYTES;
+        if ((long) segmentsOffset + (long) segmentCount * SEGMENT_SIZE != buffer.capacity()) {
+            throw new PriceSnapshotException(file + " does not match the counts of its header");
+        }
+    }
+
+    /**
+     * Maps a snapshot file and checks its header.
+     *
+     * @param file the snapshot file
+     * @return the {@link MappedPriceSnapshot}
+     * @throws PriceSnapshotException if the file is not a valid snapshot of the supported format
+     * @throws UncheckedIOException   if the file cannot be read
+     */
+    public static MappedPriceSnapshot open(Path file) {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new PriceSnapshotException(file + " is too short to be a price snapshot");
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new PriceSnapshotException(file + " is larger than 2 GB");
+            }
+            return new MappedPriceSnapshot(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        } catch (IOException e) {
+            throw new UncheckedIOException("price snapshot not readable : " + file, e);
+        }
+    }
+
+    /**
+     * Finds the segment of a product and brand that contains the given date.
+     *
+     * @param applicationDate the date to look up
+     * @param productId       the identifier of the product
+     * @param brandId         the identifier of the brand
+     * @return an {@link Optional} with the matching {@link PriceSegment}, or empty if no price applies
+     * @throws PriceSnapshotException if a block read by the lookup fails its checksum
+     */
+    public Optional<PriceSegment> segmentAt(LocalDateTime applicationDate, int productId, int brandId) {
+        int keyIndex = keyIndex(PriceTimelineIndex.key(productId, brandId));
+        if (keyIndex < 0) {
+            return Optional.empty();
+        }
+        long second = applicationDate.toEpochSecond(ZoneOffset.UTC);
+        int nano = applicationDate.getNano();
+        int low = intAt(firstSegmentsOffset + keyIndex * Integer.BYTES);
+        int high = intAt(firstSegmentsOffset + (keyIndex + 1) * Integer.BYTES) - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int offset = segmentOffset(mid);
+            if (compare(offset + PriceSnapshotLayout.SEGMENT_FROM, second, nano) > 0) {
+                high = mid - 1;
+            } else {
+                candidate = mid;
+                low = mid + 1;
+            }
+        }
+        if (candidate < 0 || compare(segmentOffset(candidate) + PriceSnapshotLayout.SEGMENT_TO, second, nano) <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(segment(segmentOffset(candidate), productId, brandId));
+    }
+
+    /**
+     * Finds the preferred price of a product and brand at the given date.
+     *
+     * @param applicationDate the date to look up
+     * @param productId       the identifier of the product
+     * @param brandId         the identifier of the brand
+     * @return an {@link Optional} with the winning {@link Price}, or empty if none applies
+     * @throws PriceSnapshotException if a block read by the lookup fails its checksum
+     */
+    public Optional<Price> priceAt(LocalDateTime applicationDate, int productId, int brandId) {
+        return segmentAt(applicationDate, productId, brandId).map(PriceSegment::price);
+    }
+
+    /**
+     * Returns the version recorded when the snapshot was written.
+     *
+     * @return the snapshot version
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Returns the fingerprint of the rows the snapshot was exported from.
+     *
+     * @return the fingerprint recorded when the snapshot was written
+     */
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns when the snapshot was written.
+     *
+     * @return the creation instant
+     */
+    public Instant created() {
+        return created;
+    }
+
+    /**
+     * Returns the brands the snapshot was exported for.
+     *
+     * @return the brand identifiers, empty if every brand was exported
+     */
+    public Set<Integer> scope() {
+        return scope;
+    }
+
+    /**
+     * Returns the number of product and brand pairs of the snapshot.
+     *
+     * @return the number of timelines
+     */
+    public int size() {
+        return keyCount;
+    }
+
+    /**
+     * Returns the number of resolved segments of the snapshot.
+     *
+     * @return the segment count
+     */
+    public int segmentCount() {
+        return segmentCount;
+    }
+
+    /**
+     * Returns the size of the mapped file.
+     *
+     * @return the size in bytes
+     */
+    public long sizeInBytes() {
+        return buffer.capacity();
+    }
+
+    private int keyIndex(long key) {
+        int low = 0;
+        int high = keyCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int position = keysOffset + mid * Long.BYTES;
+            verify(position, Long.BYTES);
+            long candidate = buffer.getLong(position);
+            if (candidate < key) {
+                low = mid + 1;
+            } else if (candidate > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int segmentOffset(int segment) {
+        int offset = segmentsOffset + segment * SEGMENT_SIZE;
+        verify(offset, SEGMENT_SIZE);
+        return offset;
+    }
+
+    private int compare(int offset, long second, int nano) {
+        int bySecond = Long.compare(buffer.getLong(offset), second);
+        return bySecond != 0 ? bySecond : Integer.compare(buffer.getInt(offset + Long.BYTES), nano);
+    }
+
+    private PriceSegment segment(int offset, int productId, int brandId) {
+        var brand = brands.get(brandId);
+        if (brand == null) {
+            throw new PriceSnapshotException(file + " has no brand " + brandId);
+        }
+        var price = new Price(
+                buffer.getInt(offset + PriceSnapshotLayout.SEGMENT_PRICE_LIST),
+                productId,
+                buffer.getInt(offset + PriceSnapshotLayout.SEGMENT_PRIORITY),
+                CURRENCIES[buffer.get(offset + PriceSnapshotLayout.SEGMENT_CURRENCY)],
+                BigDecimal.valueOf(buffer.getLong(offset + PriceSnapshotLayout.SEGMENT_UNSCALED_PRICE),
+                        buffer.get(offset + PriceSnapshotLayout.SEGMENT_PRICE_SCALE)),
+                dateAt(offset + PriceSnapshotLayout.SEGMENT_START_DATE),
+                dateAt(offset + PriceSnapshotLayout.SEGMENT_END_DATE),
+                brand);
+        return new PriceSegment(dateAt(offset + PriceSnapshotLayout.SEGMENT_FROM),
+                dateAt(offset + PriceSnapshotLayout.SEGMENT_TO), price);
+    }
+
+    private LocalDateTime dateAt(int offset) {
+        return LocalDateTime.ofEpochSecond(buffer.getLong(offset), buffer.getInt(offset + Long.BYTES), ZoneOffset.UTC);
+    }
+
+    private int intAt(int position) {
+        verify(position, Integer.BYTES);
+        return buffer.getInt(position);
+    }
+
+    private void verify(int position, int length) {
+        if (length == 0) {
+            return;
+        }
+        int last = (position + length - 1 - bodyOffset) / BLOCK_SIZE;
+        for (int block = (position - bodyOffset) / BLOCK_SIZE; block <= last; block++) {
+            if (!verified[block]) {
+                verifyBlock(block);
+            }
+        }
+    }
+
+    private void verifyBlock(int block) {
+        int start = bodyOffset + block * BLOCK_SIZE;
+        var crc = new CRC32C();
+        crc.update(buffer.slice(start, Math.min(BLOCK_SIZE, buffer.capacity() - start)));
+        if ((int) crc.getValue() != checksums[block]) {
+            throw new PriceSnapshotException(file + " fails the checksum of block " + block);
+        }
+        verified[block] = true;
+    }
+}
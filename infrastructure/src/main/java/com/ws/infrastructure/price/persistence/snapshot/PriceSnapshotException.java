@@ -0,0 +1,29 @@
+package com.ws.infrastructure.price.persistence.snapshot;
+
+/**
+ * Exception thrown when a price snapshot file cannot be used: unknown format, header or block checksum
+ * mismatch, or a layout that does not match its header.
+ *
+ * @see MappedPriceSnapshot
+ */
+public class PriceSnapshotException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code PriceSnapshotException} with the specified detail message.
+     *
+     * @param message the detail message explaining why the snapshot is rejected
+     */
+    public PriceSnapshotException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new {@code PriceSnapshotException} with the specified detail message and cause.
+     *
+     * @param message the detail message explaining why the snapshot is rejected
+     * @param cause   the failure that made the snapshot unreadable
+     */
+    public PriceSnapshotException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,71 @@
+package com.ws.infrastructure.price.persistence.snapshot;
+
+/**
+ * Binary layout of a price snapshot file, shared by {@link PriceSnapshotWriter} and {@link MappedPriceSnapshot}.
+ *
+ * <p>Every value is big-endian. The file starts with a fixed {@value #HEADER_SIZE}-byte header, followed by
+ * one CRC32C per {@value #BLOCK_SIZE}-byte block of the body, followed by the body:</p>
+ *
+ * <ol>
+ *   <li>the brands the snapshot was exported for ({@code int} each, none for every brand),</li>
+ *   <li>the brand dictionary ({@code int} id, {@code short} length and UTF-8 name),</li>
+ *   <li>the product and brand keys of {@code PriceTimelineIndex#key}, sorted ({@code long} each),</li>
+ *   <li>the index of the first segment of each key, plus the total segment count ({@code int} each),</li>
+ *   <li>the resolved segments, {@value #SEGMENT_SIZE} bytes each, sorted by key and start date.</li>
+ * </ol>
+ *
+ * <p>The header checksum covers the header and the block checksums, so a reader trusts the layout after
+ * checking the header alone, and each block of the body is checked the first time it is read.</p>
+ */
+final class PriceSnapshotLayout {
+
+    static final int MAGIC = 0x57535053;
+    static final int FORMAT_VERSION = 2;
+    static final int BLOCK_SIZE = 64 * 1024;
+    static final int HEADER_SIZE = 72;
+
+    static final int VERSION_OFFSET = 8;
+    static final int CREATED_OFFSET = 16;
+    static final int BLOCK_COUNT_OFFSET = 24;
+    static final int SCOPE_COUNT_OFFSET = 28;
+    static final int BRAND_COUNT_OFFSET = 32;
+    static final int KEY_COUNT_OFFSET = 36;
+    static final int SEGMENT_COUNT_OFFSET = 40;
+    static final int BODY_LENGTH_OFFSET = 48;
+    static final int FINGERPRINT_OFFSET = 56;
+    static final int HEADER_CHECKSUM_OFFSET = 64;
+
+    static final int SEGMENT_SIZE = 66;
+    static final int SEGMENT_FROM = 0;
+    static final int SEGMENT_TO = 12;
+    static final int SEGMENT_PRICE_LIST = 24;
+    static final int SEGMENT_PRIORITY = 28;
+    static final int SEGMENT_START_DATE = 32;
+    static final int SEGMENT_END_DATE = 44;
+    static final int SEGMENT_UNSCALED_PRICE = 56;
+    static final int SEGMENT_PRICE_SCALE = 64;
+    static final int SEGMENT_CURRENCY = 65;
+
+    private PriceSnapshotLayout() {
+    }
+
+    /**
+     * Returns the number of checksum blocks of a body.
+     *
+     * @param bodyLength the length of the body in bytes
+     * @return the number of blocks
+     */
+    static int blockCount(long bodyLength) {
+        return (int) ((bodyLength + BLOCK_SIZE - 1) / BLOCK_SIZE);
+    }
+
+    /**
+     * Returns the offset of the body in the file.
+     *
+     * @param blockCount the number of checksum blocks
+     * @return the offset of the first byte of the body
+     */
+    static long bodyOffset(int blockCount) {
+        return HEADER_SIZE + (long) blockCount * Integer.BYTES;
+    }
+}
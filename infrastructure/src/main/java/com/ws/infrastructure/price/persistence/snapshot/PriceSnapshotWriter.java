@@ -0,0 +1,245 @@
+package com.ws.infrastructure.price.persistence.snapshot;
+
+import static com.ws.infrastructure.price.persistence.snapshot.PriceSnapshotLayout.BLOCK_SIZE;
+import static com.ws.infrastructure.price.persistence.snapshot.PriceSnapshotLayout.HEADER_SIZE;
+
+import com.ws.domain.price.model.Brand;
+import com.ws.domain.price.model.Price;
+import com.ws.domain.price.model.PriceSegment;
+import com.ws.domain.price.model.PriceTimeline;
+import com.ws.infrastructure.price.persistence.timeline.PriceTimelineIndex;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.CRC32C;
+
+/**
+ * Writes the resolved price timelines of a set of prices to a snapshot file in the
+ * {@link PriceSnapshotLayout} format.
+ *
+ * <p>The prices are grouped by product and brand and resolved with {@link PriceTimeline#of(Collection)}, so
+ * the file holds the same segments as a {@link PriceTimelineIndex} built from them. The body is streamed
+ * to a temporary file next to the target while its block checksums are computed, the header is written
+ * last, and the file is then moved over the target in a single step, so a reader never maps a partially
+ * written snapshot.</p>
+ *
+ * @see MappedPriceSnapshot
+ */
+public final class PriceSnapshotWriter {
+
+    private PriceSnapshotWriter() {
+    }
+
+    /**
+     * Resolves the given prices and writes them to a snapshot file, replacing any previous one.
+     *
+     * @param file        the snapshot file to write
+     * @param prices      every price of the snapshot
+     * @param scope       the brands the prices were selected for, empty for every brand
+     * @param version     the version recorded in the snapshot
+     * @param fingerprint the fingerprint of the rows the prices were read from, recorded in the snapshot
+     * @throws IllegalArgumentException if a price amount or brand name does not fit the format
+     * @throws UncheckedIOException     if the file cannot be written
+     */
+    public static void write(Path file, Collection<Price> prices, Set<Integer> scope, long version,
+                             long fingerprint) {
+        var grouped = new TreeMap<Long, List<Price>>();
+        var brands = new TreeMap<Integer, Brand>();
+        for (Price price : prices) {
+            grouped.computeIfAbsent(PriceTimelineIndex.key(price.productId(), price.brand().id()),
+                    key -> new ArrayList<>()).add(price);
+            brands.putIfAbsent(price.brand().id(), price.brand());
+        }
+        var keys = new long[grouped.size()];
+        var firstSegments = new int[grouped.size() + 1];
+        var segments = new ArrayList<PriceSegment>(prices.size());
+        int index = 0;
+        for (var entry : grouped.entrySet()) {
+            keys[index] = entry.getKey();
+            firstSegments[index++] = segments.size();
+            segments.addAll(PriceTimeline.of(entry.getValue()).segments());
+        }
+        firstSegments[index] = segments.size();
+
+        var names = new ArrayList<byte[]>(brands.size());
+        long bodyLength = (long) scope.size() * Integer.BYTES
+                + (long) keys.length * Long.BYTES
+                + (long) firstSegments.length * Integer.BYTES
+                + (long) segments.size() * PriceSnapshotLayout.SEGMENT_SIZE;
+        for (Brand brand : brands.values()) {
+            var name = brand.name() == null ? new byte[0] : brand.name().getBytes(StandardCharsets.UTF_8);
+            if (name.length > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("brand name too long : " + brand.id());
+            }
+            names.add(name);
+            bodyLength += Integer.BYTES + Short.BYTES + name.length;
+        }
+        int blockCount = PriceSnapshotLayout.blockCount(bodyLength);
+
+        try {
+            var directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            var temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                try (var channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                    channel.position(PriceSnapshotLayout.bodyOffset(blockCount));
+                    var body = new ChecksummedBody(Channels.newOutputStream(channel), blockCount);
+                    var out = new DataOutputStream(new BufferedOutputStream(body, BLOCK_SIZE));
+                    for (Integer brandId : scope.stream().sorted().toList()) {
+                        out.writeInt(brandId);
+                    }
+                    int name = 0;
+                    for (Brand brand : brands.values()) {
+                        out.writeInt(brand.id());
+                        out.writeShort(names.get(name).length);
+                        out.write(names.get(name++));
+                    }
+                    for (long key : keys) {
+                        out.writeLong(key);
+                    }
+                    for (int firstSegment : firstSegments) {
+                        out.writeInt(firstSegment);
+                    }
+                    for (PriceSegment segment : segments) {
+                        writeSegment(out, segment);
+                    }
+                    out.flush();
+
+                    var header = ByteBuffer.allocate((int) PriceSnapshotLayout.bodyOffset(blockCount))
+                            .putInt(PriceSnapshotLayout.MAGIC)
+                            .putInt(PriceSnapshotLayout.FORMAT_VERSION)
+                            .putLong(version)
+                            .putLong(System.currentTimeMillis())
+                            .putInt(blockCount)
+                            .putInt(scope.size())
+                            .putInt(brands.size())
+                            .putInt(keys.length)
+                            .putInt(segments.size())
+                            .putInt(0)
+                            .putLong(bodyLength)
+                            .putLong(fingerprint);
+                    var checksums = body.checksums();
+                    for (int block = 0; block < checksums.length; block++) {
+                        header.putInt(HEADER_SIZE + Integer.BYTES * block, checksums[block]);
+                    }
+                    header.putInt(PriceSnapshotLayout.HEADER_CHECKSUM_OFFSET, headerChecksum(header, blockCount));
+                    channel.write(header.clear(), 0);
+                    channel.force(false);
+                }
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("price snapshot not written : " + file, e);
+        }
+    }
+
+    /**
+     * Computes the checksum of the header and the block checksums of a snapshot.
+     *
+     * @param header     the header followed by the block checksums
+     * @param blockCount the number of block checksums
+     * @return the CRC32C of the header fields and block checksums
+     */
+    static int headerChecksum(ByteBuffer header, int blockCount) {
+        var crc = new CRC32C();
+        crc.update(header.slice(0, PriceSnapshotLayout.HEADER_CHECKSUM_OFFSET));
+        crc.update(header.slice(HEADER_SIZE, blockCount * Integer.BYTES));
+        return (int) crc.getValue();
+    }
+
+    private static void writeSegment(DataOutputStream out, PriceSegment segment) throws IOException {
+        var price = segment.price();
+        var amount = price.price();
+        if (amount.unscaledValue().bitLength() > Long.SIZE - 1 || amount.scale() != (byte) amount.scale()) {
+            throw new IllegalArgumentException("price amount out of range : " + amount);
+        }
+        writeDate(out, segment.from());
+        writeDate(out, segment.to());
+        out.writeInt(price.priceList());
+        out.writeInt(price.priority());
+        writeDate(out, price.startDate());
+        writeDate(out, price.endDate());
+        out.writeLong(amount.unscaledValue().longValue());
+        out.writeByte(amount.scale());
+        out.writeByte(price.currency().ordinal());
+    }
+
+    private static void writeDate(DataOutputStream out, LocalDateTime date) throws IOException {
+        out.writeLong(date.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(date.getNano());
+    }
+
+    /**
+     * Output stream that computes the CRC32C of every {@link PriceSnapshotLayout#BLOCK_SIZE} bytes written.
+     */
+    private static final class ChecksummedBody extends OutputStream {
+
+        private final OutputStream out;
+        private final int[] checksums;
+        private final CRC32C crc = new CRC32C();
+        private int inBlock;
+        private int blocks;
+
+        private ChecksummedBody(OutputStream out, int blockCount) {
+            this.out = out;
+            this.checksums = new int[blockCount];
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+            while (length > 0) {
+                int chunk = Math.min(length, BLOCK_SIZE - inBlock);
+                crc.update(bytes, offset, chunk);
+                offset += chunk;
+                length -= chunk;
+                inBlock += chunk;
+                if (inBlock == BLOCK_SIZE) {
+                    endBlock();
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        private int[] checksums() {
+            if (inBlock > 0) {
+                endBlock();
+            }
+            return checksums;
+        }
+
+        private void endBlock() {
+            checksums[blocks++] = (int) crc.getValue();
+            crc.reset();
+            inBlock = 0;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.ws.infrastructure.price.persistence.timeline;
+
+import java.util.OptionalLong;
+
+/**
+ * Records, per thread, the version of the {@link PriceTimelineIndex} snapshot a lookup was served from.
+ *
+ * <p>Lookups read the published snapshot once and record its version here, so the web layer can report
+ * the exact version that answered the request even if a writer has published a newer one in between.
+ * The recorded version is cleared when it is consumed, and at the end of every request, so that a pooled
+ * thread never carries it into the next request.</p>
+ *
+ * @see PriceTimelineIndex#version()
+ */
+public final class PriceSnapshotVersion {
+
+    private static final ThreadLocal<Long> LAST_READ = new ThreadLocal<>();
+
+    private PriceSnapshotVersion() {
+    }
+
+    /**
+     * Records the version of the snapshot used by a lookup on the current thread.
+     *
+     * @param version the version of the snapshot
+     */
+    public static void recordRead(long version) {
+        LAST_READ.set(version);
+    }
+
+    /**
+     * Returns and clears the version recorded on the current thread.
+     *
+     * @return the recorded version, or empty if no lookup recorded one
+     */
+    public static OptionalLong consumeRead() {
+        var version = LAST_READ.get();
+        LAST_READ.remove();
+        return version == null ? OptionalLong.empty() : OptionalLong.of(version);
+    }
+
+    /**
+     * Clears the version recorded on the current thread, if any.
+     */
+    public static void clear() {
+        LAST_READ.remove();
+    }
+}
@@ -0,0 +1,153 @@
+package com.ws.infrastructure.price.persistence.timeline;
+
+import com.ws.domain.price.model.Price;
+import com.ws.domain.price.model.PriceTimeline;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable, versioned in-memory index of the resolved {@link PriceTimeline} of every product and brand.
+ *
+ * <p>The index is built once from the whole {@code PRICES} table. Each {@code (productId, brandId)}
+ * pair is packed into a single {@code long} key so a lookup costs one hash probe followed by the
+ * binary search of {@link PriceTimeline#priceAt(LocalDateTime)}.</p>
+ *
+ * <p>A change is applied with {@link #with(int, int, PriceTimeline)}, which returns a new index with the
+ * next version and leaves this one untouched. Timelines are spread over a fixed number of shards, so only
+ * the shard of the changed pair is copied and every other shard is shared with the previous version.</p>
+ *
+ * @see PriceTimeline
+ */
+public final class PriceTimelineIndex {
+
+    private static final int SHARDS = 64;
+
+    private static final PriceTimelineIndex EMPTY = new PriceTimelineIndex(0, emptyShards(), 0);
+
+    private final long version;
+    private final Map<Long, PriceTimeline>[] shards;
+    private final int size;
+
+    private PriceTimelineIndex(long version, Map<Long, PriceTimeline>[] shards, int size) {
+        this.version = version;
+        this.shards = shards;
+        this.size = size;
+    }
+
+    /**
+     * Returns an index without any price.
+     *
+     * @return the empty index
+     */
+    public static PriceTimelineIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Groups the given prices by product and brand and resolves the timeline of each group.
+     *
+     * @param prices  every price to index
+     * @param version the version of the built index
+     * @return the built {@link PriceTimelineIndex}
+     */
+    public static PriceTimelineIndex of(Collection<Price> prices, long version) {
+        var grouped = new HashMap<Long, List<Price>>();
+        for (Price price : prices) {
+            grouped.computeIfAbsent(key(price.productId(), price.brand().id()), k -> new ArrayList<>()).add(price);
+        }
+        var shards = emptyShards();
+        grouped.forEach((key, group) -> shards[shard(key)].put(key, PriceTimeline.of(group)));
+        return new PriceTimelineIndex(version, shards, grouped.size());
+    }
+
+    /**
+     * Returns a copy of this index, with the next version, in which the timeline of a product and brand
+     * is replaced.
+     *
+     * @param productId the identifier of the product
+     * @param brandId   the identifier of the brand
+     * @param timeline  the new timeline of the pair, removed from the index if empty
+     * @return the new {@link PriceTimelineIndex}
+     */
+    public PriceTimelineIndex with(int productId, int brandId, PriceTimeline timeline) {
+        long key = key(productId, brandId);
+        int shard = shard(key);
+        var shards = this.shards.clone();
+        var copy = new HashMap<>(this.shards[shard]);
+        boolean existed = timeline.isEmpty() ? copy.remove(key) != null : copy.put(key, timeline) != null;
+        shards[shard] = copy;
+        int delta = timeline.isEmpty() ? (existed ? -1 : 0) : (existed ? 0 : 1);
+        return new PriceTimelineIndex(version + 1, shards, size + delta);
+    }
+
+    /**
+     * Returns the timeline of a product and brand.
+     *
+     * @param productId the identifier of the product
+     * @param brandId   the identifier of the brand
+     * @return the {@link PriceTimeline}, empty if the pair is unknown
+     */
+    public PriceTimeline timeline(Integer productId, Integer brandId) {
+        long key = key(productId, brandId);
+        return shards[shard(key)].getOrDefault(key, PriceTimeline.empty());
+    }
+
+    /**
+     * Finds the preferred price of a product and brand at the given date.
+     *
+     * @param applicationDate the date on which the price is being applied
+     * @param productId       the identifier of the product
+     * @param brandId         the identifier of the brand
+     * @return an {@link Optional} with the winning {@link Price}, or empty if none applies
+     */
+    public Optional<Price> priceAt(LocalDateTime applicationDate, Integer productId, Integer brandId) {
+        return timeline(productId, brandId).priceAt(applicationDate);
+    }
+
+    /**
+     * Returns the number of indexed product and brand pairs.
+     *
+     * @return the number of timelines
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the version of this index, incremented by every published change.
+     *
+     * @return the version
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Packs a product and brand identifier into a single key.
+     *
+     * @param productId the identifier of the product
+     * @param brandId   the identifier of the brand
+     * @return the packed key
+     */
+    public static long key(int productId, int brandId) {
+        return ((long) productId << 32) | (brandId & 0xFFFFFFFFL);
+    }
+
+    private static int shard(long key) {
+        return Long.hashCode(key * 0x9E3779B97F4A7C15L) & (SHARDS - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Long, PriceTimeline>[] emptyShards() {
+        Map<Long, PriceTimeline>[] shards = new Map[SHARDS];
+        for (int i = 0; i < SHARDS; i++) {
+            shards[i] = new HashMap<>();
+        }
+        return shards;
+    }
+}
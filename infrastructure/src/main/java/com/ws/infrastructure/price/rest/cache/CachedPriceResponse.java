@@ -0,0 +1,116 @@
+package com.ws.infrastructure.price.rest.cache;
+
+import com.ws.infrastructure.price.rest.dto.CurrencyDTO;
+import com.ws.infrastructure.price.rest.dto.PriceResponseDTO;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only {@link PriceResponseDTO} cached by {@link PriceResponseCache} together with its encoded JSON body.
+ *
+ * <p>The same instance answers every lookup of its price list and currency, so every setter throws an
+ * {@link UnsupportedOperationException} instead of changing the response of the other callers, and the
+ * encoded body always matches the fields.</p>
+ */
+final class CachedPriceResponse extends PriceResponseDTO {
+
+    private static final long serialVersionUID = 1L;
+    private static final String MSG_READ_ONLY = "cached price responses are read-only";
+    private final transient byte[] json;
+
+    /**
+     * Constructor to copy a mapped response and keep its encoded body.
+     *
+     * @param response the mapped response
+     * @param json     the JSON encoding of {@code response}
+     */
+    CachedPriceResponse(PriceResponseDTO response, byte[] json) {
+        super.setProductId(response.getProductId());
+        super.setBrandId(response.getBrandId());
+        super.setPriceList(response.getPriceList());
+        super.setStartDate(response.getStartDate());
+        super.setEndDate(response.getEndDate());
+        super.setPrice(response.getPrice());
+        super.setCurrency(response.getCurrency());
+        this.json = json;
+    }
+
+    /**
+     * Returns the encoded JSON body of the response.
+     *
+     * @return the encoded body, which must not be modified
+     */
+    byte[] json() {
+        return json;
+    }
+
+    @Override
+    public PriceResponseDTO productId(Integer productId) {
+        throw new UnsupportedOperationException(MSG_READ_ONLY);
+    }
+
+    @Override
+    public void setProductId(Integer productId) {
+        throw new UnsupportedOperationException(MSG_READ_ONLY);
+    }
+
+    @Override
+    public PriceResponseDTO brandId(Integer brandId) {
+        throw new UnsupportedOperationException(MSG_READ_ONLY);
+    }
+
+    @Override
+    public void setBrandId(Integer brandId) {
+        throw new UnsupportedOperationException(MSG_READ_ONLY);
+    }
+
+    @Override
+    public PriceResponseDTO priceList(Integer priceList) {
+        throw new UnsupportedOperationException(MSG_READ_ONLY);
+    }
+
+    @Override
+    public void setPriceList(Integer priceList) {
+        throw new UnsupportedOperationException(MSG_READ_ONLY);
+    }
+
+    @Override
+    public PriceResponseDTO startDate(LocalDateTime startDate) {
+        throw new UnsupportedOperationException(MSG_READ_ONLY);
+    }
+
+    @Override
+    public void setStartDate(LocalDateTime startDate) {
+        throw new UnsupportedOperationException(MSG_READ_ONLY);
+    }
+
+    @Override
+    public PriceResponseDTO endDate(LocalDateTime endDate) {
+        throw new UnsupportedOperationException(MSG_READ_ONLY);
+    }
+
+    @Override
+    public void setEndDate(LocalDateTime endDate) {
+        throw new UnsupportedOperationException(MSG_READ_ONLY);
+    }
+
+    @Override
+    public PriceResponseDTO price(BigDecimal price) {
+        throw new UnsupportedOperationException(MSG_READ_ONLY);
+    }
+
+    @Override
+    public void setPrice(BigDecimal price) {
+        throw new UnsupportedOperationException(MSG_READ_ONLY);
+    }
+
+    @Override
+    public PriceResponseDTO currency(CurrencyDTO currency) {
+        throw new UnsupportedOperationException(MSG_READ_ONLY);
+    }
+
+    @Override
+    public void setCurrency(CurrencyDTO currency) {
+        throw new UnsupportedOperationException(MSG_READ_ONLY);
+    }
+}
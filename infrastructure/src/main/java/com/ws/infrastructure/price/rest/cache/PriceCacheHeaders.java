@@ -0,0 +1,85 @@
+package com.ws.infrastructure.price.rest.cache;
+
+import com.ws.application.price.model.PriceDto;
+import com.ws.application.price.model.PriceSegmentDto;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+/**
+ * Derives the HTTP caching headers of a lookup response from the price it returns.
+ *
+ * <p>The {@code ETag} is strong and made of the price list and a version of its data, a 64-bit digest of
+ * every field written in the body, so it changes whenever the body does. The {@code Cache-Control} max-age
+ * is the time between the application date and the end of the segment in which the price wins, that is
+ * its end date or the start of a higher-priority price, whichever comes first. Prices can also change
+ * through the admin endpoints or a bulk load, which are not pushed to clients, so the max-age is capped at
+ * {@code price.http-cache.max-age-limit}.</p>
+ *
+ * <p>Spring MVC compares the {@code ETag} with the {@code If-None-Match} header of the request and answers
+ * {@code 304 Not Modified} without writing the body when they match.</p>
+ */
+@Component
+public class PriceCacheHeaders {
+
+    private final Duration maxAgeLimit;
+
+    /**
+     * Constructor to initialize the headers with the max-age cap.
+     *
+     * @param maxAgeLimit the longest max-age sent, whatever the validity of the price
+     */
+    public PriceCacheHeaders(@Value("${price.http-cache.max-age-limit:1h}") Duration maxAgeLimit) {
+        this.maxAgeLimit = maxAgeLimit;
+    }
+
+    /**
+     * Returns the strong entity tag of the body of a price.
+     *
+     * @param price the price written in the body
+     * @return the quoted entity tag
+     */
+    public String etag(PriceDto price) {
+        return "\"" + price.priceList() + "-" + Long.toHexString(version(price)) + "\"";
+    }
+
+    /**
+     * Returns the cache directives of a lookup answered by a segment.
+     *
+     * @param segment         the segment containing the application date
+     * @param applicationDate the application date of the lookup
+     * @return the {@link CacheControl} with the max-age the price keeps winning for
+     */
+    public CacheControl cacheControl(PriceSegmentDto segment, LocalDateTime applicationDate) {
+        var remaining = Duration.between(applicationDate, segment.to());
+        if (remaining.isNegative()) {
+            remaining = Duration.ZERO;
+        }
+        return CacheControl.maxAge(remaining.compareTo(maxAgeLimit) > 0 ? maxAgeLimit : remaining)
+                .cachePublic();
+    }
+
+    private static long version(PriceDto price) {
+        long hash = mix(Objects.hashCode(price.productId()));
+        hash = mix(hash ^ Objects.hashCode(price.brandId()));
+        hash = mix(hash ^ Objects.hashCode(price.price()));
+        hash = mix(hash ^ (price.currency() == null ? 0 : price.currency().name().hashCode()));
+        hash = mix(hash ^ epochNanos(price.startDate()));
+        return mix(hash ^ epochNanos(price.endDate()));
+    }
+
+    private static long epochNanos(LocalDateTime date) {
+        return date == null ? 0 : date.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + date.getNano();
+    }
+
+    private static long mix(long value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 32;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ hash >>> 29;
+    }
+}
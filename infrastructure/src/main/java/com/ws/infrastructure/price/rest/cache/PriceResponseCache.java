@@ -0,0 +1,152 @@
+package com.ws.infrastructure.price.rest.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ws.application.price.model.PriceDto;
+import com.ws.domain.price.model.Currency;
+import com.ws.infrastructure.price.persistence.event.PriceChangedEvent;
+import com.ws.infrastructure.price.persistence.event.PricesReloadedEvent;
+import com.ws.infrastructure.price.rest.dto.PriceResponseDTO;
+import com.ws.infrastructure.price.rest.mapper.PriceResponseMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Cache of the {@link PriceResponseDTO} of each price list and currency together with its encoded JSON body.
+ *
+ * <p>The body of a lookup only depends on the winning price list and the currency it is served in, and only a
+ * few price lists win the lookups that are actually made, so the response of each one is serialized once per
+ * currency. A lookup answered by a cached price list gets the cached response itself, without mapping it
+ * again. That response is read-only, so no caller can change the response of the others, and the
+ * {@link PriceResponseHttpMessageConverter} writes its bytes without going through Jackson.</p>
+ *
+ * <p>An entry is only used when the {@link PriceDto} it was built from is equal to the one being answered,
+ * so a price list that changed is never answered from a stale entry. On top of that, the entries of a
+ * product and brand are dropped when a {@link PriceChangedEvent} reports a change, and every entry is dropped
+ * after a {@link PricesReloadedEvent}. The cache holds at most {@code price.response-cache.maximum-size}
+ * price lists and is turned off with {@code price.response-cache.enabled=false}.</p>
+ *
+ * <p>Hits and misses are exported as {@code price.response.cache.gets} and the number of entries as
+ * {@code price.response.cache.size}.</p>
+ *
+ * @see PriceResponseHttpMessageConverter
+ */
+@Component
+public class PriceResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final PriceResponseMapper mapper;
+    private final boolean enabled;
+    private final Cache<Long, CachedResponse> responses;
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Constructor to initialize the cache with the mapper and the object mapper of the responses.
+     *
+     * @param objectMapper  the {@link ObjectMapper} of the JSON message converter
+     * @param mapper        the mapper of the responses
+     * @param enabled       whether responses are cached at all
+     * @param maximumSize   the maximum number of cached price lists
+     * @param meterRegistry the registry of the cache metrics
+     */
+    public PriceResponseCache(ObjectMapper objectMapper,
+                              PriceResponseMapper mapper,
+                              @Value("${price.response-cache.enabled:true}") boolean enabled,
+                              @Value("${price.response-cache.maximum-size:10000}") long maximumSize,
+                              MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.mapper = mapper;
+        this.enabled = enabled;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .executor(Runnable::run)
+                .build();
+        this.hits = meterRegistry.counter("price.response.cache.gets", "result", "hit");
+        this.misses = meterRegistry.counter("price.response.cache.gets", "result", "miss");
+        Gauge.builder("price.response.cache.size", responses, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    /**
+     * Returns the response of a price, mapping and encoding it only if its price list is not cached yet in its
+     * currency.
+     *
+     * @param price the {@link PriceDto} to answer
+     * @return the {@link PriceResponseDTO} of the price, read-only when it comes from the cache
+     */
+    public PriceResponseDTO toResponse(PriceDto price) {
+        if (!enabled || price.priceList() == null) {
+            return mapper.toResponse(price);
+        }
+        var key = key(price.priceList(), price.currency());
+        var cached = responses.getIfPresent(key);
+        if (cached != null && cached.source().equals(price)) {
+            hits.increment();
+            return cached.response();
+        }
+        misses.increment();
+        var mapped = mapper.toResponse(price);
+        var response = new CachedPriceResponse(mapped, encode(mapped));
+        responses.put(key, new CachedResponse(price, response));
+        return response;
+    }
+
+    /**
+     * Returns the encoded JSON body of a response returned by {@link #toResponse(PriceDto)}.
+     *
+     * @param response the response to write
+     * @return the encoded body, or {@code null} if the response does not come from the cache
+     */
+    public byte[] encoded(PriceResponseDTO response) {
+        return response instanceof CachedPriceResponse cached ? cached.json() : null;
+    }
+
+    /**
+     * Drops the cached price lists of the product and brand whose prices changed.
+     *
+     * @param event the change notification
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPriceChanged(PriceChangedEvent event) {
+        responses.asMap().values().removeIf(cached ->
+                Objects.equals(cached.source().productId(), event.productId())
+                        && Objects.equals(cached.source().brandId(), event.brandId()));
+    }
+
+    /**
+     * Drops every cached price list once a bulk load has committed.
+     *
+     * @param event the reload notification
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricesReloaded(PricesReloadedEvent event) {
+        responses.invalidateAll();
+    }
+
+    private static long key(Integer priceList, Currency currency) {
+        return (long) priceList << Byte.SIZE | (currency == null ? 0xFF : currency.ordinal());
+    }
+
+    private byte[] encode(PriceResponseDTO response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record CachedResponse(PriceDto source, CachedPriceResponse response) {
+    }
+}
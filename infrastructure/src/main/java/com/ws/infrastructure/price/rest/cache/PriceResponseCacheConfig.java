@@ -0,0 +1,36 @@
+package com.ws.infrastructure.price.rest.cache;
+
+import com.ws.infrastructure.price.metrics.PriceLookupTimers;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration class that replaces the JSON converter with a {@link PriceResponseHttpMessageConverter}
+ * using the same object mapper, so the bodies cached by the {@link PriceResponseCache} are written as is.
+ *
+ * @see PriceResponseCache
+ */
+@Configuration
+@RequiredArgsConstructor
+public class PriceResponseCacheConfig implements WebMvcConfigurer {
+
+    private final PriceResponseCache responseCache;
+    private final PriceLookupTimers timers;
+
+    /**
+     * Replaces the Jackson converter with a {@link PriceResponseHttpMessageConverter}.
+     *
+     * @param converters the converters configured so far
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> converter instanceof MappingJackson2HttpMessageConverter jackson
+                && !(converter instanceof PriceResponseHttpMessageConverter)
+                ? new PriceResponseHttpMessageConverter(jackson.getObjectMapper(), responseCache, timers)
+                : converter);
+    }
+}
@@ -0,0 +1,68 @@
+package com.ws.infrastructure.price.rest.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ws.infrastructure.price.metrics.LookupStage;
+import com.ws.infrastructure.price.metrics.PriceLookupTimers;
+import com.ws.infrastructure.price.rest.dto.PriceResponseDTO;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * JSON message converter that writes the cached body of a {@link PriceResponseDTO} as is.
+ *
+ * <p>A response taken from {@link PriceResponseCache#toResponse} is written straight from its encoded bytes.
+ * Any other body is serialized by Jackson as usual. Writing a {@link PriceResponseDTO} is recorded as the
+ * {@link LookupStage#SERIALIZATION} stage either way.</p>
+ *
+ * @see PriceResponseCache
+ * @see PriceResponseCacheConfig
+ */
+public class PriceResponseHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final PriceResponseCache responseCache;
+    private final PriceLookupTimers timers;
+
+    /**
+     * Constructor to initialize the converter with the object mapper of the converter it replaces.
+     *
+     * @param objectMapper  the {@link ObjectMapper} used to write JSON
+     * @param responseCache the cache holding the encoded responses
+     * @param timers        the lookup timers
+     */
+    public PriceResponseHttpMessageConverter(ObjectMapper objectMapper, PriceResponseCache responseCache,
+                                             PriceLookupTimers timers) {
+        super(objectMapper);
+        this.responseCache = responseCache;
+        this.timers = timers;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        if (!(object instanceof PriceResponseDTO response)) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            var encoded = isUtf8(outputMessage) ? responseCache.encoded(response) : null;
+            if (encoded == null) {
+                super.writeInternal(object, type, outputMessage);
+            } else {
+                outputMessage.getBody().write(encoded);
+            }
+        } finally {
+            timers.recordSince(LookupStage.SERIALIZATION, started);
+        }
+    }
+
+    private static boolean isUtf8(HttpOutputMessage outputMessage) {
+        var contentType = outputMessage.getHeaders().getContentType();
+        return contentType == null || contentType.getCharset() == null
+                || StandardCharsets.UTF_8.equals(contentType.getCharset());
+    }
+}
@@ -0,0 +1,56 @@
+package com.ws.infrastructure.price.rest.controller;
+
+import com.ws.application.price.port.in.ExchangeRateInboundPort;
+import com.ws.infrastructure.price.rest.dto.ExchangeRatesRequestDTO;
+import com.ws.infrastructure.price.rest.dto.ExchangeRatesResponseDTO;
+import com.ws.infrastructure.price.rest.mapper.PriceResponseMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller that handles the HTTP requests used to publish and read the exchange rates.
+ *
+ * <p>This controller implements the {@link AdminExchangeRatesApi} interface and delegates to the
+ * {@link ExchangeRateInboundPort}. Lookups served by {@link PriceController} keep converting prices with the
+ * previous rates until the prices converted with the published ones replace them.</p>
+ *
+ * @see AdminExchangeRatesApi
+ * @see ExchangeRateInboundPort
+ */
+@Slf4j
+@RestController
+@RequestMapping
+@RequiredArgsConstructor
+public class AdminExchangeRateController implements AdminExchangeRatesApi {
+
+    private final ExchangeRateInboundPort exchangeRateInboundPort;
+    private final PriceResponseMapper mapper;
+
+    /**
+     * Publishes a new version of the exchange rates.
+     *
+     * @param exchangeRatesRequestDTO the rate of each currency against the Euro, and whether the currencies
+     *                                missing from it stop being served
+     * @return a {@link ResponseEntity} containing the published rates and their version
+     */
+    @Override
+    public ResponseEntity<ExchangeRatesResponseDTO> publishExchangeRates(ExchangeRatesRequestDTO exchangeRatesRequestDTO) {
+        var rates = exchangeRateInboundPort.publishRates(mapper.toRates(exchangeRatesRequestDTO.getRates()),
+                Boolean.TRUE.equals(exchangeRatesRequestDTO.getReplace()));
+        log.info("exchange rates version {} published : {}", rates.version(), rates.rates());
+        return ResponseEntity.ok(mapper.toExchangeRatesResponse(rates));
+    }
+
+    /**
+     * Retrieves the exchange rates prices are currently converted with.
+     *
+     * @return a {@link ResponseEntity} containing the current rates and their version
+     */
+    @Override
+    public ResponseEntity<ExchangeRatesResponseDTO> getExchangeRates() {
+        return ResponseEntity.ok(mapper.toExchangeRatesResponse(exchangeRateInboundPort.getCurrentRates()));
+    }
+}
@@ -0,0 +1,117 @@
+package com.ws.infrastructure.price.rest.controller;
+
+import com.ws.application.price.port.in.PriceAdminInboundPort;
+import com.ws.infrastructure.price.rest.dto.PriceIngestionRequestDTO;
+import com.ws.infrastructure.price.rest.dto.PriceIngestionResponseDTO;
+import com.ws.infrastructure.price.rest.dto.PriceResponseDTO;
+import com.ws.infrastructure.price.rest.dto.PriceUpsertRequestDTO;
+import com.ws.infrastructure.price.rest.mapper.PriceResponseMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller that handles the HTTP requests used to write and bulk load price lists.
+ *
+ * <p>This controller implements the {@link AdminPricesApi} interface and delegates to the
+ * {@link PriceAdminInboundPort}. Lookups served by {@link PriceController} never wait for these writes:
+ * they keep reading the published snapshot until the rebuilt one replaces it.</p>
+ *
+ * <p>Bulk loads only read files of {@code price.ingest.directory}. The path of a request is resolved against
+ * that directory, and a path that leads outside of it, through {@code ..}, an absolute path or a symbolic
+ * link, is rejected before the file is even looked up.</p>
+ *
+ * @see AdminPricesApi
+ * @see PriceAdminInboundPort
+ */
+@Slf4j
+@RestController
+@RequestMapping
+public class AdminPriceController implements AdminPricesApi {
+
+    private static final String MSG_INGEST_PATH_ERROR = "The price file must be inside the ingest directory.";
+
+    private final PriceAdminInboundPort priceAdminInboundPort;
+    private final PriceResponseMapper mapper;
+    private final Path ingestDirectory;
+
+    /**
+     * Constructor to initialize the controller.
+     *
+     * @param priceAdminInboundPort the port the writes and loads are delegated to
+     * @param mapper                the mapper of the requests and responses
+     * @param ingestDirectory       the directory bulk loads read their files from
+     */
+    public AdminPriceController(PriceAdminInboundPort priceAdminInboundPort,
+                                PriceResponseMapper mapper,
+                                @Value("${price.ingest.directory:ingest}") Path ingestDirectory) {
+        this.priceAdminInboundPort = priceAdminInboundPort;
+        this.mapper = mapper;
+        this.ingestDirectory = ingestDirectory.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Creates the price list or replaces it if it already exists.
+     *
+     * @param priceList the identifier of the price list
+     * @param priceUpsertRequestDTO the values of the price list
+     * @return a {@link ResponseEntity} containing the stored price list
+     */
+    @Override
+    public ResponseEntity<PriceResponseDTO> upsertPrice(Integer priceList, PriceUpsertRequestDTO priceUpsertRequestDTO) {
+        var response = mapper.toResponse(priceAdminInboundPort.upsertPrice(mapper.toCommand(priceList, priceUpsertRequestDTO)));
+        log.info("price list {} stored", priceList);
+        log.debug("response 200 : {}", response);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Deletes a price list.
+     *
+     * @param priceList the identifier of the price list
+     * @return an empty {@link ResponseEntity} with status 204
+     */
+    @Override
+    public ResponseEntity<Void> deletePrice(Integer priceList) {
+        priceAdminInboundPort.deletePrice(priceList);
+        log.info("price list {} deleted", priceList);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Bulk loads the price lists of a file of the ingest directory.
+     *
+     * @param priceIngestionRequestDTO the path of the file, relative to the ingest directory, and whether it
+     *                                 replaces the prices of its brands
+     * @return a {@link ResponseEntity} containing the report of the load
+     * @throws IllegalArgumentException if the path leads outside the ingest directory
+     */
+    @Override
+    public ResponseEntity<PriceIngestionResponseDTO> ingestPrices(PriceIngestionRequestDTO priceIngestionRequestDTO) {
+        var report = priceAdminInboundPort.ingestPrices(resolveIngestFile(priceIngestionRequestDTO.getPath()),
+                Boolean.TRUE.equals(priceIngestionRequestDTO.getReplace()));
+        return ResponseEntity.ok(mapper.toIngestionResponse(report));
+    }
+
+    private Path resolveIngestFile(String path) {
+        var file = ingestDirectory.resolve(path).normalize();
+        if (!file.startsWith(ingestDirectory)) {
+            throw new IllegalArgumentException(MSG_INGEST_PATH_ERROR);
+        }
+        if (Files.exists(file)) {
+            try {
+                if (!file.toRealPath().startsWith(ingestDirectory.toRealPath())) {
+                    throw new IllegalArgumentException(MSG_INGEST_PATH_ERROR);
+                }
+            } catch (IOException e) {
+                throw new IllegalArgumentException(MSG_INGEST_PATH_ERROR, e);
+            }
+        }
+        return file;
+    }
+}
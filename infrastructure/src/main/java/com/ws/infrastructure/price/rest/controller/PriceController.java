@@ -1,11 +1,29 @@
 package com.ws.infrastructure.price.rest.controller;
 
+import com.ws.application.price.port.in.PriceCatalogInboundPort;
 import com.ws.application.price.port.in.PriceInboundPort;
+import com.ws.application.price.port.in.PriceTimelineInboundPort;
+import com.ws.infrastructure.price.metrics.LookupStage;
+import com.ws.infrastructure.price.metrics.PriceLookupTimers;
+import com.ws.infrastructure.price.partition.PriceBatchRouter;
+import com.ws.infrastructure.price.rest.cache.PriceCacheHeaders;
+import com.ws.infrastructure.price.rest.cache.PriceResponseCache;
+import com.ws.infrastructure.price.rest.dto.CurrencyDTO;
+import com.ws.infrastructure.price.rest.dto.PriceBatchItemDTO;
+import com.ws.infrastructure.price.rest.dto.PriceBatchRequestDTO;
+import com.ws.infrastructure.price.rest.dto.PriceBatchResponseDTO;
+import com.ws.infrastructure.price.rest.dto.PriceQueryDTO;
 import com.ws.infrastructure.price.rest.dto.PriceResponseDTO;
+import com.ws.infrastructure.price.rest.export.PriceCatalogExportBody;
 import com.ws.infrastructure.price.rest.mapper.PriceResponseMapper;
+import com.ws.infrastructure.price.rest.timeline.PriceTimelineResponseBody;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -18,6 +36,12 @@ import org.springframework.web.bind.annotation.RestController;
  * used to fetch the price information, and the response is mapped to a {@link PriceResponseDTO}
  * before being returned to the client.</p>
  *
+ * <p>The response of a lookup is taken from the {@link PriceResponseCache}, so each price list is only
+ * mapped and serialized once. It carries the {@code ETag} and {@code Cache-Control} headers built by
+ * {@link PriceCacheHeaders}, and a request whose {@code If-None-Match} matches is answered with
+ * {@code 304 Not Modified} without a body. The binding, service and response mapping stages of a lookup are recorded
+ * with {@link PriceLookupTimers}.</p>
+ *
  * @see PricesApi
  * @see PriceInboundPort
  * @see PriceResponseDTO
@@ -28,27 +52,128 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class PriceController implements PricesApi {
 
+    private static final Pattern DISABLED_QUALITY = Pattern.compile("q=0(\\.0*)?", Pattern.CASE_INSENSITIVE);
+
     private final PriceInboundPort priceInboundPort;
+    private final PriceTimelineInboundPort priceTimelineInboundPort;
+    private final PriceCatalogInboundPort priceCatalogInboundPort;
     private final PriceResponseMapper mapper;
+    private final PriceResponseCache responseCache;
+    private final PriceCacheHeaders cacheHeaders;
+    private final PriceBatchRouter batchRouter;
+    private final PriceLookupTimers timers;
 
 
     /**
      * Retrieves the preferred price for a given product, brand, and application date.
      *
-     * <p>This method interacts with the {@link PriceInboundPort} to get the preferred price based on the
-     * provided {@code applicationDate}, {@code productId}, and {@code brandId}. The resulting price is then
-     * mapped to a {@link PriceResponseDTO} and returned in the response body.</p>
+     * <p>This method interacts with the {@link PriceInboundPort} to get the preferred price, and the interval
+     * during which it wins, based on the provided {@code applicationDate}, {@code productId}, and
+     * {@code brandId}, converted into {@code currency} when one is given. The resulting price is then mapped to
+     * a {@link PriceResponseDTO}, or taken from the {@link PriceResponseCache} if its price list has already been
+     * answered in that currency, and returned in the response body with its caching headers.</p>
      *
      * @param applicationDate the date for which the price is requested
      * @param productId the ID of the product for which the price is requested
      * @param brandId the ID of the brand for which the price is requested
+     * @param currency the currency the price is requested in, or {@code null} for the currency it is stored in
      * @return a {@link ResponseEntity} containing the {@link PriceResponseDTO} with the preferred price
      */
     @Override
-    public ResponseEntity<PriceResponseDTO> getPrices(LocalDateTime applicationDate, Integer productId, Integer brandId) {
-        var response = mapper.toResponse(priceInboundPort.getPreferredPrice(applicationDate, productId, brandId));
-        log.info("response 200 : {}", response);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<PriceResponseDTO> getPrices(LocalDateTime applicationDate, Integer productId, Integer brandId,
+                                                      CurrencyDTO currency) {
+        timers.recordBinding();
+        var segment = timers.record(LookupStage.SERVICE, () -> priceInboundPort.getPreferredSegment(
+                applicationDate, productId, brandId, mapper.toCurrency(currency)));
+        var response = timers.record(LookupStage.RESPONSE_MAPPING, () -> responseCache.toResponse(segment.price()));
+        log.debug("response 200 : {}", response);
+        return ResponseEntity.ok()
+                .eTag(cacheHeaders.etag(segment.price()))
+                .cacheControl(cacheHeaders.cacheControl(segment, applicationDate))
+                .body(response);
+    }
+
+    /**
+     * Retrieves the preferred price of several products in a single call.
+     *
+     * <p>The queries answered by this node are resolved with one call to the {@link PriceInboundPort}, and
+     * the {@link PriceBatchRouter} sends the others to the nodes owning their brands. Queries without an
+     * available price are returned with {@code found = false} instead of failing the batch.</p>
+     *
+     * @param priceBatchRequestDTO the product, brand and application date of each price to retrieve
+     * @return a {@link ResponseEntity} containing one item per query, in the same order as the request
+     */
+    @Override
+    public ResponseEntity<PriceBatchResponseDTO> getPricesBatch(PriceBatchRequestDTO priceBatchRequestDTO) {
+        var items = batchRouter.route(priceBatchRequestDTO.getItems(), this::getLocalPrices);
+        return ResponseEntity.ok(new PriceBatchResponseDTO().items(items));
+    }
+
+    /**
+     * Retrieves the effective-price segments of a product and brand over the {@code [from, to)} interval.
+     *
+     * <p>The interval is checked by the {@link PriceTimelineInboundPort} before the response starts. The
+     * segments are then resolved while the {@link PriceTimelineResponseBody} is written, so the response is
+     * streamed whatever the length of the interval.</p>
+     *
+     * @param productId the ID of the product
+     * @param brandId the ID of the brand
+     * @param from the start (inclusive) of the interval
+     * @param to the end (exclusive) of the interval
+     * @param currency the currency the prices are requested in, or {@code null} for the currency they are stored in
+     * @return a {@link ResponseEntity} containing the {@link PriceTimelineResponseBody} of the interval
+     */
+    @Override
+    public ResponseEntity<PriceTimelineResponseBody> getPriceTimeline(Integer productId, Integer brandId,
+                                                                      LocalDateTime from, LocalDateTime to,
+                                                                      CurrencyDTO currency) {
+        var timeline = priceTimelineInboundPort.getTimeline(productId, brandId, from, to, mapper.toCurrency(currency));
+        return ResponseEntity.ok(new PriceTimelineResponseBody(timeline, mapper::toTimelineSegment));
+    }
+
+    /**
+     * Exports the preferred price of every product of a brand at the application date, one JSON line per
+     * product in ascending {@code productId} order.
+     *
+     * <p>The prices are read from the {@link PriceCatalogInboundPort} while the {@link PriceCatalogExportBody}
+     * is written, so the export is streamed whatever the size of the catalog. It is compressed with gzip when
+     * the {@code Accept-Encoding} header accepts it, and resumed after {@code afterProductId} when given.</p>
+     *
+     * @param brandId the ID of the brand
+     * @param applicationDate the date on which the prices are applied
+     * @param afterProductId the ID of the product after which the export starts, or {@code null}
+     * @param currency the currency the prices are requested in, or {@code null} for the currency they are stored in
+     * @param acceptEncoding the {@code Accept-Encoding} header of the request, or {@code null}
+     * @return a {@link ResponseEntity} containing the {@link PriceCatalogExportBody} of the brand
+     */
+    @Override
+    public ResponseEntity<PriceCatalogExportBody> exportPrices(Integer brandId, LocalDateTime applicationDate,
+                                                               Integer afterProductId, CurrencyDTO currency,
+                                                               String acceptEncoding) {
+        var catalog = priceCatalogInboundPort.getCatalog(brandId, applicationDate, afterProductId,
+                mapper.toCurrency(currency));
+        boolean gzip = acceptEncoding != null && acceptsGzip(acceptEncoding);
+        var response = ResponseEntity.ok().header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(new PriceCatalogExportBody(catalog, mapper::toResponse, gzip));
+    }
+
+    private List<PriceBatchItemDTO> getLocalPrices(List<PriceQueryDTO> queries) {
+        return mapper.toBatchItems(priceInboundPort.getPreferredPrices(mapper.toQueries(queries)));
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        for (var coding : acceptEncoding.split(",")) {
+            var parameters = coding.split(";");
+            var name = parameters[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+                return Arrays.stream(parameters).skip(1)
+                        .noneMatch(parameter -> DISABLED_QUALITY.matcher(parameter.trim()).matches());
+            }
+        }
+        return false;
     }
 
 }
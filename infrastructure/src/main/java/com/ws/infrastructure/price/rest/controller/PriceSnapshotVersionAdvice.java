@@ -0,0 +1,59 @@
+package com.ws.infrastructure.price.rest.controller;
+
+import com.ws.infrastructure.price.persistence.adapter.PriceTimelineAdapter;
+import com.ws.infrastructure.price.persistence.timeline.PriceSnapshotVersion;
+import com.ws.infrastructure.price.rest.export.PriceCatalogExportBody;
+import com.ws.infrastructure.price.rest.timeline.PriceTimelineResponseBody;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the version of the price snapshot that answered a request as the {@value #HEADER} response header.
+ *
+ * <p>The version recorded by the lookup itself is used when there is one, so the header matches the
+ * snapshot that was read even if a newer one has been published meanwhile. Lookups answered without
+ * reading the snapshot, such as cache hits, report the version currently published. The header is only
+ * added when prices are served by the {@code timeline} adapter, and never to a {@link PriceTimelineResponseBody}
+ * or a {@link PriceCatalogExportBody}, which are read from {@code PRICES}.</p>
+ *
+ * @see PriceSnapshotVersion
+ * @see PriceTimelineAdapter
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class PriceSnapshotVersionAdvice implements ResponseBodyAdvice<Object> {
+
+    /**
+     * Name of the response header holding the snapshot version.
+     */
+    public static final String HEADER = "X-Price-Snapshot-Version";
+
+    private final ObjectProvider<PriceTimelineAdapter> priceTimelineAdapter;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        var recorded = PriceSnapshotVersion.consumeRead();
+        if (recorded.isPresent()) {
+            response.getHeaders().set(HEADER, String.valueOf(recorded.getAsLong()));
+        } else if (returnType.getContainingClass() == PriceController.class
+                && !(body instanceof PriceTimelineResponseBody) && !(body instanceof PriceCatalogExportBody)) {
+            priceTimelineAdapter.ifAvailable(adapter ->
+                    response.getHeaders().set(HEADER, String.valueOf(adapter.snapshotVersion())));
+        }
+        return body;
+    }
+}
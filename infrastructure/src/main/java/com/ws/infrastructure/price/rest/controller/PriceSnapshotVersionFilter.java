@@ -0,0 +1,44 @@
+package com.ws.infrastructure.price.rest.controller;
+
+import com.ws.infrastructure.price.persistence.timeline.PriceSnapshotVersion;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Filter that clears the snapshot version recorded by the lookups of a request once the request completes.
+ *
+ * <p>{@link PriceSnapshotVersionAdvice} consumes the version when it writes a body, but a request may end
+ * without a body being written, for instance when it fails, or record a version after the body has been
+ * written. Clearing it here keeps a pooled thread from reporting the version of one request in the
+ * next one.</p>
+ *
+ * @see PriceSnapshotVersion
+ * @see PriceSnapshotVersionAdvice
+ */
+@Component
+public class PriceSnapshotVersionFilter extends OncePerRequestFilter {
+
+    /**
+     * Continues the filter chain and clears the recorded version afterwards, even when the chain fails.
+     *
+     * @param request the current HTTP request
+     * @param response the current HTTP response
+     * @param filterChain the remaining filter chain
+     * @throws ServletException if the chain fails
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            PriceSnapshotVersion.clear();
+        }
+    }
+}
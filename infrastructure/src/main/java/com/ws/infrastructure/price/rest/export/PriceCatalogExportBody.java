@@ -0,0 +1,22 @@
+package com.ws.infrastructure.price.rest.export;
+
+import com.ws.application.price.model.PriceCatalogDto;
+import com.ws.application.price.model.PriceDto;
+import com.ws.infrastructure.price.rest.dto.PriceResponseDTO;
+import java.util.function.Function;
+
+/**
+ * Body of {@code GET /prices/export}, written by the {@link PriceCatalogExportHttpMessageConverter} while the
+ * prices of its {@link PriceCatalogDto} are read.
+ *
+ * <p>The {@code PriceCatalogExport} schema of the API is mapped to this class instead of a generated DTO.
+ * Each price is mapped to a {@link PriceResponseDTO} and written as one JSON line.</p>
+ *
+ * @param catalog the catalog to write
+ * @param mapper  the mapper from each price to its DTO
+ * @param gzip    whether the lines are compressed with gzip
+ * @see PriceCatalogExportHttpMessageConverter
+ */
+public record PriceCatalogExportBody(PriceCatalogDto catalog, Function<PriceDto, PriceResponseDTO> mapper,
+                                     boolean gzip) {
+}
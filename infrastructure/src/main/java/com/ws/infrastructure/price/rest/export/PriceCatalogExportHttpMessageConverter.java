@@ -0,0 +1,101 @@
+package com.ws.infrastructure.price.rest.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ws.infrastructure.price.rest.dto.PriceResponseDTO;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * Message converter that writes a {@link PriceCatalogExportBody} as newline-delimited JSON, one
+ * {@link PriceResponseDTO} per line, while its prices are read.
+ *
+ * <p>Every line goes through a single {@link JsonGenerator} over the response stream, wrapped in a
+ * {@link GZIPOutputStream} when the body is compressed. The generator is flushed every {@code flushLines}
+ * lines, and the gzip stream is created with sync flush, so the client receives the lines read so far
+ * instead of waiting for the buffers to fill up. Writes to the response block while the client is not
+ * reading, which holds the database cursor where it is: the export never reads ahead of the client.</p>
+ *
+ * <p>The response is committed once the first buffer is flushed, so a failure in the middle of an export ends
+ * the connection with a truncated body instead of an error status. The client resumes it with the
+ * {@code productId} of its last complete line.</p>
+ *
+ * @see PriceCatalogExportBody
+ */
+public class PriceCatalogExportHttpMessageConverter extends AbstractHttpMessageConverter<PriceCatalogExportBody> {
+
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+    private final int flushLines;
+
+    /**
+     * Constructor to initialize the converter with the object mapper of the JSON converter.
+     *
+     * @param objectMapper the {@link ObjectMapper} used to write each line
+     * @param flushLines   the number of lines written between two flushes
+     */
+    public PriceCatalogExportHttpMessageConverter(ObjectMapper objectMapper, int flushLines) {
+        super(MediaType.APPLICATION_NDJSON);
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writerFor(PriceResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.flushLines = flushLines;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PriceCatalogExportBody.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected PriceCatalogExportBody readInternal(Class<? extends PriceCatalogExportBody> clazz,
+                                                  HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("The price export cannot be read.", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(PriceCatalogExportBody body, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream out = body.gzip()
+                ? new GZIPOutputStream(outputMessage.getBody(), GZIP_BUFFER_SIZE, true)
+                : outputMessage.getBody();
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        var lines = new int[1];
+        try {
+            body.catalog().forEachPrice(price -> {
+                try {
+                    writer.writeValue(generator, body.mapper().apply(price));
+                    generator.writeRaw('\n');
+                    if (++lines[0] % flushLines == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        generator.close();
+        if (out instanceof GZIPOutputStream gzip) {
+            gzip.finish();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.ws.infrastructure.price.rest.export;
+
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration class that adds a {@link PriceCatalogExportHttpMessageConverter} using the object mapper of the
+ * JSON converter, so the lines of an export are written like the body of a lookup.
+ *
+ * @see PriceCatalogExportBody
+ */
+@Configuration
+public class PriceExportConfig implements WebMvcConfigurer {
+
+    private final int flushLines;
+
+    /**
+     * Constructor to initialize the configuration.
+     *
+     * @param flushLines the number of lines of an export written between two flushes
+     */
+    public PriceExportConfig(@Value("${price.export.flush-lines:500}") int flushLines) {
+        this.flushLines = flushLines;
+    }
+
+    /**
+     * Adds a {@link PriceCatalogExportHttpMessageConverter} in front of the other converters.
+     *
+     * @param converters the converters configured so far
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.stream()
+                .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+                .map(MappingJackson2HttpMessageConverter.class::cast)
+                .findFirst()
+                .ifPresent(jackson -> converters.add(0,
+                        new PriceCatalogExportHttpMessageConverter(jackson.getObjectMapper(), flushLines)));
+    }
+}
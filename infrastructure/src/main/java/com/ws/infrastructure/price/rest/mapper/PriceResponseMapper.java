@@ -1,8 +1,27 @@
 package com.ws.infrastructure.price.rest.mapper;
 
+import com.ws.application.price.model.ExchangeRatesDto;
+import com.ws.application.price.model.PriceBatchItemDto;
+import com.ws.application.price.model.PriceCommand;
 import com.ws.application.price.model.PriceDto;
+import com.ws.application.price.model.PriceIngestionReport;
+import com.ws.application.price.model.PriceQuery;
+import com.ws.application.price.model.PriceSegmentDto;
+import com.ws.domain.price.model.Currency;
+import com.ws.infrastructure.price.rest.dto.CurrencyDTO;
+import com.ws.infrastructure.price.rest.dto.ExchangeRatesRequestDTO;
+import com.ws.infrastructure.price.rest.dto.ExchangeRatesResponseDTO;
+import com.ws.infrastructure.price.rest.dto.PriceBatchItemDTO;
+import com.ws.infrastructure.price.rest.dto.PriceIngestionResponseDTO;
+import com.ws.infrastructure.price.rest.dto.PriceQueryDTO;
 import com.ws.infrastructure.price.rest.dto.PriceResponseDTO;
+import com.ws.infrastructure.price.rest.dto.PriceTimelineSegmentDTO;
+import com.ws.infrastructure.price.rest.dto.PriceUpsertRequestDTO;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 
 /**
@@ -27,4 +46,83 @@ public interface PriceResponseMapper {
      * @return the corresponding {@link PriceResponseDTO}
      */
     PriceResponseDTO toResponse(PriceDto price);
+
+    /**
+     * Maps a segment of a price timeline to a {@link PriceTimelineSegmentDTO}.
+     *
+     * @param segment the {@link PriceSegmentDto} to map
+     * @return the corresponding {@link PriceTimelineSegmentDTO}
+     */
+    PriceTimelineSegmentDTO toTimelineSegment(PriceSegmentDto segment);
+
+    /**
+     * Maps the items of a batch request to {@link PriceQuery} objects.
+     *
+     * @param items the {@link PriceQueryDTO} items of the request
+     * @return the corresponding list of {@link PriceQuery}
+     */
+    List<PriceQuery> toQueries(List<PriceQueryDTO> items);
+
+    /**
+     * Maps the results of a batch lookup to {@link PriceBatchItemDTO} objects.
+     *
+     * @param items the {@link PriceBatchItemDto} results
+     * @return the corresponding list of {@link PriceBatchItemDTO}
+     */
+    List<PriceBatchItemDTO> toBatchItems(List<PriceBatchItemDto> items);
+
+    /**
+     * Maps a single batch result to a {@link PriceBatchItemDTO}, echoing the query it answers.
+     *
+     * @param item the {@link PriceBatchItemDto} to map
+     * @return the corresponding {@link PriceBatchItemDTO}
+     */
+    @Mapping(source = "query.applicationDate", target = "applicationDate")
+    @Mapping(source = "query.productId", target = "productId")
+    @Mapping(source = "query.brandId", target = "brandId")
+    @Mapping(target = "found", expression = "java(item.found())")
+    PriceBatchItemDTO toBatchItem(PriceBatchItemDto item);
+
+    /**
+     * Maps an upsert request to a {@link PriceCommand} for the given price list.
+     *
+     * @param priceList the identifier of the price list, taken from the path
+     * @param request   the {@link PriceUpsertRequestDTO} with the values of the price list
+     * @return the corresponding {@link PriceCommand}
+     */
+    @Mapping(source = "priceList", target = "priceList")
+    PriceCommand toCommand(Integer priceList, PriceUpsertRequestDTO request);
+
+    /**
+     * Maps the report of a bulk load to a {@link PriceIngestionResponseDTO}.
+     *
+     * @param report the {@link PriceIngestionReport} to map
+     * @return the corresponding {@link PriceIngestionResponseDTO}
+     */
+    PriceIngestionResponseDTO toIngestionResponse(PriceIngestionReport report);
+
+    /**
+     * Maps the currency of a request to the {@link Currency} of the domain.
+     *
+     * @param currency the {@link CurrencyDTO} of the request, or {@code null}
+     * @return the corresponding {@link Currency}, or {@code null}
+     */
+    Currency toCurrency(CurrencyDTO currency);
+
+    /**
+     * Maps the rates of a publication request, keyed by ISO 4217 code, to a map keyed by {@link Currency}.
+     *
+     * @param rates the rates of the {@link ExchangeRatesRequestDTO}
+     * @return the corresponding map of rates
+     * @throws IllegalArgumentException if a code is not a supported {@link Currency}
+     */
+    Map<Currency, BigDecimal> toRates(Map<String, BigDecimal> rates);
+
+    /**
+     * Maps an exchange rate table to an {@link ExchangeRatesResponseDTO}.
+     *
+     * @param rates the {@link ExchangeRatesDto} to map
+     * @return the corresponding {@link ExchangeRatesResponseDTO}
+     */
+    ExchangeRatesResponseDTO toExchangeRatesResponse(ExchangeRatesDto rates);
 }
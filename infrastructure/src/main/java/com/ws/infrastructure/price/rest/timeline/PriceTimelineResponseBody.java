@@ -0,0 +1,91 @@
+package com.ws.infrastructure.price.rest.timeline;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.ws.application.price.model.PriceSegmentDto;
+import com.ws.application.price.model.PriceTimelineDto;
+import com.ws.infrastructure.price.rest.dto.PriceTimelineSegmentDTO;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+
+/**
+ * Body of {@code GET /prices/timeline}, written while the segments of its {@link PriceTimelineDto} are
+ * resolved.
+ *
+ * <p>The {@code PriceTimelineResponse} schema of the API is mapped to this class instead of a generated DTO.
+ * Jackson hands it the generator of the response, and each segment is mapped to a
+ * {@link PriceTimelineSegmentDTO} and written as soon as it is resolved, so the segments of an interval are
+ * never held in a list. The generator and the servlet buffers flush to the client as they fill up.</p>
+ *
+ * <p>The response is committed once the first buffer is flushed, so a failure while reading a long interval
+ * ends the connection with a truncated body instead of an error status.</p>
+ *
+ * @see PriceTimelineDto
+ */
+public class PriceTimelineResponseBody implements JsonSerializable {
+
+    private final PriceTimelineDto timeline;
+    private final Function<PriceSegmentDto, PriceTimelineSegmentDTO> mapper;
+
+    /**
+     * Constructor to initialize the body with its timeline.
+     *
+     * @param timeline the timeline to write
+     * @param mapper   the mapper from each segment to its DTO
+     */
+    public PriceTimelineResponseBody(PriceTimelineDto timeline,
+                                     Function<PriceSegmentDto, PriceTimelineSegmentDTO> mapper) {
+        this.timeline = timeline;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Returns the timeline written by this body.
+     *
+     * @return the {@link PriceTimelineDto}
+     */
+    public PriceTimelineDto timeline() {
+        return timeline;
+    }
+
+    @Override
+    public void serialize(JsonGenerator generator, SerializerProvider serializers) throws IOException {
+        generator.writeStartObject(this);
+        writeFields(generator, serializers);
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator generator, SerializerProvider serializers,
+                                  TypeSerializer typeSerializer) throws IOException {
+        WritableTypeId typeId = typeSerializer.writeTypePrefix(generator,
+                typeSerializer.typeId(this, JsonToken.START_OBJECT));
+        writeFields(generator, serializers);
+        typeSerializer.writeTypeSuffix(generator, typeId);
+    }
+
+    private void writeFields(JsonGenerator generator, SerializerProvider serializers) throws IOException {
+        generator.writeNumberField("productId", timeline.productId());
+        generator.writeNumberField("brandId", timeline.brandId());
+        serializers.defaultSerializeField("from", timeline.from(), generator);
+        serializers.defaultSerializeField("to", timeline.to(), generator);
+        generator.writeArrayFieldStart("segments");
+        try {
+            timeline.forEachSegment(segment -> {
+                try {
+                    serializers.defaultSerializeValue(mapper.apply(segment), generator);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        generator.writeEndArray();
+    }
+}
@@ -8,4 +8,16 @@ VALUES (1, 25.45, {ts '2025-06-14 15.00.00'}, 'EUR', {ts '2025-06-14 18.30.00'},
 INSERT INTO PRICES(BRAND_ID, PRICE, START_DATE, CURR, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY)
 VALUES (1, 30.50, {ts '2025-06-15 00.00.00'}, 'EUR', {ts '2025-06-15 11.00.00'}, 3, 35455, 1);
 INSERT INTO PRICES(BRAND_ID, PRICE, START_DATE, CURR, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY)
-VALUES (1, 38.95, {ts '2025-06-15 16.00.00'}, 'EUR', {ts '2025-12-31 23.59.59'}, 4, 35455, 1);
\ No newline at end of file
+VALUES (1, 38.95, {ts '2025-06-15 16.00.00'}, 'EUR', {ts '2025-12-31 23.59.59'}, 4, 35455, 1);
+INSERT INTO EXCHANGE_RATES(VERSION, CURR, RATE)
+VALUES (1, 'USD', 1.0842);
+INSERT INTO EXCHANGE_RATES(VERSION, CURR, RATE)
+VALUES (1, 'GBP', 0.8571);
+INSERT INTO EXCHANGE_RATES(VERSION, CURR, RATE)
+VALUES (1, 'CHF', 0.9412);
+INSERT INTO EXCHANGE_RATES(VERSION, CURR, RATE)
+VALUES (1, 'SEK', 11.4730);
+INSERT INTO EXCHANGE_RATES(VERSION, CURR, RATE)
+VALUES (1, 'PLN', 4.2650);
+INSERT INTO EXCHANGE_RATES(VERSION, CURR, RATE)
+VALUES (1, 'MXN', 21.7500);
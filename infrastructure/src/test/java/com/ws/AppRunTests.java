@@ -2,24 +2,33 @@ package com.ws;
 
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import com.ws.infrastructure.price.rest.controller.PriceSnapshotVersionAdvice;
 import java.math.BigDecimal;
+import java.io.ByteArrayInputStream;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
 import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
-@SpringBootTest
+@SpringBootTest(properties = "price.timeline.page-size=3")
 @AutoConfigureMockMvc
 class AppRunTests {
 
@@ -52,7 +61,144 @@ class AppRunTests {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.price")
                         .value(expectedPrice.setScale(2, RoundingMode.HALF_UP).doubleValue()))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.productId").value(PRODUCT_ID))
-                .andExpect(MockMvcResultMatchers.jsonPath("$.brandId").value(BRAND_ID));
+                .andExpect(MockMvcResultMatchers.jsonPath("$.brandId").value(BRAND_ID))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.currency").value("EUR"));
+    }
+
+    @Test
+    @DisplayName("Should return the price converted into the requested currency")
+    void shouldReturnPriceInRequestedCurrency() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/prices")
+                        .param("applicationDate", "2025-06-14T16:00:00.000")
+                        .param("productId", String.valueOf(PRODUCT_ID))
+                        .param("brandId", String.valueOf(BRAND_ID))
+                        .param("currency", "USD")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.priceList").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.price").value(27.59))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.currency").value("USD"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when the currency is unknown")
+    void shouldReturnBadRequestWhenCurrencyIsUnknown() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/prices")
+                        .param("applicationDate", "2025-06-14T16:00:00.000")
+                        .param("productId", String.valueOf(PRODUCT_ID))
+                        .param("brandId", String.valueOf(BRAND_ID))
+                        .param("currency", "XYZ")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("Should convert prices with the exchange rates of the latest published version")
+    void shouldConvertPricesWithPublishedExchangeRates() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/admin/exchange-rates")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.version").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.rates.EUR").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.rates.USD").value(1.0842));
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/admin/exchange-rates")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"rates": {"USD": 1.2}}
+                                """)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.version").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.rates.USD").value(1.2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.rates.GBP").value(0.8571));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/prices")
+                        .param("applicationDate", "2025-06-14T16:00:00.000")
+                        .param("productId", String.valueOf(PRODUCT_ID))
+                        .param("brandId", String.valueOf(BRAND_ID))
+                        .param("currency", "USD")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.price").value(30.54));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/prices")
+                        .param("applicationDate", "2025-06-14T16:00:00.000")
+                        .param("productId", String.valueOf(PRODUCT_ID))
+                        .param("brandId", String.valueOf(BRAND_ID))
+                        .param("currency", "GBP")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.price").value(21.81));
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("Should stop serving the currencies missing from exchange rates published to replace the current ones")
+    void shouldStopServingCurrenciesMissingFromReplacingExchangeRates() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.put("/admin/exchange-rates")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"rates": {"USD": 1.2}, "replace": true}
+                                """)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.version").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.rates.GBP").doesNotExist());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/prices")
+                        .param("applicationDate", "2025-06-14T16:00:00.000")
+                        .param("productId", String.valueOf(PRODUCT_ID))
+                        .param("brandId", String.valueOf(BRAND_ID))
+                        .param("currency", "GBP")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when a published exchange rate is not positive")
+    void shouldReturnBadRequestWhenPublishedExchangeRateIsNotPositive() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.put("/admin/exchange-rates")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"rates": {"USD": 0}}
+                                """)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return caching headers and 304 Not Modified when If-None-Match matches the ETag")
+    void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+        var result = mockMvc.perform(MockMvcRequestBuilders.get("/prices")
+                        .param("applicationDate", "2025-06-14T18:00:00.000")
+                        .param("productId", String.valueOf(PRODUCT_ID))
+                        .param("brandId", String.valueOf(BRAND_ID)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CACHE_CONTROL, "max-age=1800, public"))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, Matchers.startsWith("\"2-")))
+                .andReturn();
+        var etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/prices")
+                        .param("applicationDate", "2025-06-14T16:00:00.000")
+                        .param("productId", String.valueOf(PRODUCT_ID))
+                        .param("brandId", String.valueOf(BRAND_ID))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, etag))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, public"))
+                .andExpect(MockMvcResultMatchers.content().string(""));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/prices")
+                        .param("applicationDate", "2025-06-14T10:00:00.000")
+                        .param("productId", String.valueOf(PRODUCT_ID))
+                        .param("brandId", String.valueOf(BRAND_ID))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.priceList").value(1));
     }
 
     @Test
@@ -91,4 +237,215 @@ class AppRunTests {
                 .andExpect(MockMvcResultMatchers.status().isNotFound())
                 .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("No price available."));
     }
+
+    @Test
+    @DisplayName("Should resolve a batch of prices and report misses per item")
+    void shouldResolveBatchOfPricesAndReportMissesPerItem() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"items": [
+                                  {"applicationDate": "2025-06-14T16:00:00", "productId": 35455, "brandId": 1},
+                                  {"applicationDate": "2025-06-15T10:00:00", "productId": 35455, "brandId": 1},
+                                  {"applicationDate": "2025-06-14T10:00:00", "productId": 35455, "brandId": 2}
+                                ]}
+                                """)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items.length()").value(3))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].found").value(true))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].price.priceList").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].price.price").value(30.50))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[2].found").value(false))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[2].brandId").value(2));
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when the batch is empty")
+    void shouldReturnBadRequestWhenBatchIsEmpty() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": []}")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("Should publish a new snapshot when a price list is written and deleted")
+    void shouldPublishNewSnapshotWhenPriceListIsWrittenAndDeleted() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.put("/admin/prices/99")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"productId": 35455, "brandId": 1, "priority": 5, "currency": "EUR", "price": 9.99,
+                                 "startDate": "2025-06-20T10:00:00", "endDate": "2025-06-20T12:00:00"}
+                                """)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.priceList").value(99));
+
+        var written = mockMvc.perform(MockMvcRequestBuilders.get("/prices")
+                        .param("applicationDate", "2025-06-20T11:00:00")
+                        .param("productId", String.valueOf(PRODUCT_ID))
+                        .param("brandId", String.valueOf(BRAND_ID))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.price").value(9.99))
+                .andExpect(MockMvcResultMatchers.header().exists(PriceSnapshotVersionAdvice.HEADER))
+                .andReturn().getResponse().getHeader(PriceSnapshotVersionAdvice.HEADER);
+
+        mockMvc.perform(MockMvcRequestBuilders.delete("/admin/prices/99"))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/prices")
+                        .param("applicationDate", "2025-06-20T11:00:00")
+                        .param("productId", String.valueOf(PRODUCT_ID))
+                        .param("brandId", String.valueOf(BRAND_ID))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.price").value(38.95))
+                .andExpect(MockMvcResultMatchers.header().longValue(PriceSnapshotVersionAdvice.HEADER,
+                        Long.parseLong(written) + 1));
+
+        mockMvc.perform(MockMvcRequestBuilders.delete("/admin/prices/99"))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should return 404 Not Found when the brand of a written price list does not exist")
+    void shouldReturnNotFoundWhenBrandOfWrittenPriceListDoesNotExist() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.put("/admin/prices/99")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"productId": 35455, "brandId": 42, "priority": 5, "currency": "EUR", "price": 9.99,
+                                 "startDate": "2025-06-20T10:00:00", "endDate": "2025-06-20T12:00:00"}
+                                """)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"../prices.csv", "data/../../prices.csv", "/data/prices.csv"})
+    @DisplayName("Should return 400 Bad Request when a bulk load path leads outside the ingest directory")
+    void shouldReturnBadRequestWhenIngestPathLeadsOutsideIngestDirectory(String path) throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/admin/prices/ingestions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"path\": \"" + path + "\"}")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should stream the price segments of an interval in ascending order")
+    void shouldStreamPriceSegmentsOfInterval() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/prices/timeline")
+                        .param("productId", String.valueOf(PRODUCT_ID))
+                        .param("brandId", String.valueOf(BRAND_ID))
+                        .param("from", "2025-06-14T00:00:00")
+                        .param("to", "2025-06-16T00:00:00")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.productId").value(PRODUCT_ID))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.segments[*].price.priceList")
+                        .value(Matchers.contains(1, 2, 1, 3, 1, 4)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.segments[1].from").value("2025-06-14T15:00:00"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.segments[1].price.price").value(25.45))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.segments[5].to").value("2025-06-16T00:00:00"));
+    }
+
+    @Test
+    @DisplayName("Should stream the price segments of an interval in the requested currency")
+    void shouldStreamPriceSegmentsInRequestedCurrency() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/prices/timeline")
+                        .param("productId", String.valueOf(PRODUCT_ID))
+                        .param("brandId", String.valueOf(BRAND_ID))
+                        .param("from", "2025-06-14T00:00:00")
+                        .param("to", "2025-06-16T00:00:00")
+                        .param("currency", "GBP")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.segments[*].price.currency")
+                        .value(Matchers.everyItem(Matchers.is("GBP"))))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.segments[1].price.price").value(21.81));
+    }
+
+    @Test
+    @DisplayName("Should return an empty timeline when no price applies in the interval")
+    void shouldReturnEmptyTimelineWhenNoPriceApplies() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/prices/timeline")
+                        .param("productId", String.valueOf(PRODUCT_ID))
+                        .param("brandId", String.valueOf(BRAND_ID))
+                        .param("from", "2024-01-01T00:00:00")
+                        .param("to", "2024-02-01T00:00:00")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.segments").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when the timeline interval is empty")
+    void shouldReturnBadRequestWhenTimelineIntervalIsEmpty() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/prices/timeline")
+                        .param("productId", String.valueOf(PRODUCT_ID))
+                        .param("brandId", String.valueOf(BRAND_ID))
+                        .param("from", "2025-06-16T00:00:00")
+                        .param("to", "2025-06-14T00:00:00")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should export the preferred price of every product of a brand as NDJSON")
+    void shouldExportPreferredPricesAsNdjson() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/prices/export")
+                        .param("brandId", String.valueOf(BRAND_ID))
+                        .param("applicationDate", "2025-06-14T16:00:00"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(MockMvcResultMatchers.content().string(Matchers.matchesPattern(
+                        "\\{[^\\n]*\"productId\":35455[^\\n]*\"priceList\":2[^\\n]*}\n")));
+    }
+
+    @Test
+    @DisplayName("Should resume an export after the given product")
+    void shouldResumeExportAfterGivenProduct() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/prices/export")
+                        .param("brandId", String.valueOf(BRAND_ID))
+                        .param("applicationDate", "2025-06-14T16:00:00")
+                        .param("afterProductId", String.valueOf(PRODUCT_ID)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should compress an export with gzip when the client accepts it")
+    void shouldCompressExportWhenGzipIsAccepted() throws Exception {
+        var body = mockMvc.perform(MockMvcRequestBuilders.get("/prices/export")
+                        .param("brandId", String.valueOf(BRAND_ID))
+                        .param("applicationDate", "2025-06-15T10:00:00")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (var lines = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            var export = new String(lines.readAllBytes(), StandardCharsets.UTF_8);
+            MatcherAssert.assertThat(export, Matchers.allOf(
+                    Matchers.containsString("\"priceList\":3"), Matchers.endsWith("}\n")));
+        }
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when the export date is missing")
+    void shouldReturnBadRequestWhenExportDateIsMissing() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/prices/export")
+                        .param("brandId", String.valueOf(BRAND_ID)))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
 }
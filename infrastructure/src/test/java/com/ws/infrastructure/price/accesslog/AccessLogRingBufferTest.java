@@ -0,0 +1,67 @@
+package com.ws.infrastructure.price.accesslog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class AccessLogRingBufferTest {
+
+    @Test
+    void offer_ShouldFail_WhenEverySlotIsTaken() {
+        var buffer = new AccessLogRingBuffer(3);
+
+        assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i, "GET", "/prices", null, 200, i));
+        }
+        assertFalse(buffer.offer(4, "GET", "/prices", null, 200, 4));
+    }
+
+    @Test
+    void drain_ShouldReturnEntriesInOrder_AndFreeTheirSlots() {
+        var buffer = new AccessLogRingBuffer(4);
+        var statuses = new ArrayList<Integer>();
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                buffer.offer(i, "GET", "/prices", "productId=" + i, 200 + i, i);
+            }
+            assertEquals(4, buffer.drain(entry -> statuses.add(entry.status), 10));
+        }
+
+        assertEquals(List.of(200, 201, 202, 203, 200, 201, 202, 203, 200, 201, 202, 203), statuses);
+        assertEquals(0, buffer.drain(entry -> statuses.add(entry.status), 10));
+    }
+
+    @Test
+    void offer_ShouldPublishEveryEntryOnce_WithConcurrentProducers() throws Exception {
+        var buffer = new AccessLogRingBuffer(1024);
+        var seen = new HashSet<Long>();
+        var rejected = new AtomicInteger();
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            for (int producer = 0; producer < 4; producer++) {
+                long base = producer * 1_000_000L;
+                executor.submit(() -> {
+                    for (long i = 0; i < 5_000; i++) {
+                        while (!buffer.offer(base + i, "GET", "/prices", null, 200, 0)) {
+                            rejected.incrementAndGet();
+                            Thread.onSpinWait();
+                        }
+                    }
+                });
+            }
+            while (seen.size() < 20_000) {
+                buffer.drain(entry -> assertTrue(seen.add(entry.startMillis)), 256);
+            }
+        }
+
+        assertEquals(20_000, seen.size());
+        assertEquals(0, buffer.drain(entry -> seen.add(entry.startMillis), 256));
+    }
+}
@@ -0,0 +1,55 @@
+package com.ws.infrastructure.price.accesslog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AccessLogWriterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void record_ShouldApplySampleRateOfStatusClass() {
+        var writer = new AccessLogWriter(64, 0.0, 0.0, 1.0, 1.0, meterRegistry);
+
+        writer.record(0, "GET", "/prices", "productId=1", 200, 1_000);
+        writer.record(0, "GET", "/prices", "productId=1", 404, 1_000);
+        writer.record(0, "GET", "/prices", "productId=1", 400, 1_000);
+        writer.record(0, "GET", "/prices", "productId=1", 500, 1_000);
+
+        assertEquals(3, writer.flush());
+        assertEquals(3, meterRegistry.counter("price.access.log.written").count());
+    }
+
+    @Test
+    void record_ShouldCountDroppedLines_WhenBufferIsFull() {
+        var writer = new AccessLogWriter(2, 1.0, 1.0, 1.0, 1.0, meterRegistry);
+
+        for (int i = 0; i < 5; i++) {
+            writer.record(0, "GET", "/prices", null, 200, 1_000);
+        }
+
+        assertEquals(3, meterRegistry.counter("price.access.log.dropped").count());
+        assertEquals(2, writer.flush());
+        writer.record(0, "GET", "/prices", null, 200, 1_000);
+        assertEquals(1, writer.flush());
+    }
+
+    @Test
+    void stop_ShouldWriteRemainingLines() {
+        var writer = new AccessLogWriter(64, 1.0, 1.0, 1.0, 1.0, meterRegistry);
+        writer.start();
+
+        writer.record(0, "POST", "/prices/batch", null, 200, 1_000);
+        writer.stop();
+
+        assertEquals(1, meterRegistry.counter("price.access.log.written").count());
+    }
+}
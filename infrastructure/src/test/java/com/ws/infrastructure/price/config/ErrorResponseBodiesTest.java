@@ -0,0 +1,74 @@
+package com.ws.infrastructure.price.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class ErrorResponseBodiesTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void body_ShouldEncodeStatusMessageAndTimestampTruncatedToTheSecond() {
+        var clock = Clock.fixed(Instant.parse("2025-06-14T16:00:05.355Z"), ZoneOffset.UTC);
+        var bodies = new ErrorResponseBodies(objectMapper, clock);
+
+        var json = new String(bodies.body(HttpStatus.NOT_FOUND, "No price available."), StandardCharsets.UTF_8);
+
+        assertEquals("{\"timestamp\":\"2025-06-14T16:00:05\",\"status\":404,\"error\":\"Not Found\","
+                + "\"message\":\"No price available.\"}", json);
+    }
+
+    @Test
+    void body_ShouldReuseEncodedBody_UntilTheSecondChanges() {
+        var clock = new AdjustableClock(Instant.parse("2025-06-14T16:00:05.100Z"));
+        var bodies = new ErrorResponseBodies(objectMapper, clock);
+        var first = bodies.body(HttpStatus.BAD_REQUEST, "Bad Request");
+
+        clock.instant = Instant.parse("2025-06-14T16:00:05.900Z");
+        assertSame(first, bodies.body(HttpStatus.BAD_REQUEST, "Bad Request"));
+
+        clock.instant = Instant.parse("2025-06-14T16:00:06.000Z");
+        var next = bodies.body(HttpStatus.BAD_REQUEST, "Bad Request");
+        assertNotSame(first, next);
+        assertTrue(new String(next, StandardCharsets.UTF_8).contains("2025-06-14T16:00:06"));
+    }
+
+    private static final class AdjustableClock extends Clock {
+
+        private Instant instant;
+
+        private AdjustableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
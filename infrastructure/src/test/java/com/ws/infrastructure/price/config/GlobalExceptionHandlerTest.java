@@ -0,0 +1,22 @@
+package com.ws.infrastructure.price.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ws.domain.price.exception.ConflictException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(
+            new ErrorResponseBodies(new ObjectMapper().registerModule(new JavaTimeModule())), 10);
+
+    @Test
+    void handleConflict_ShouldReturnConflict() {
+        var response = handler.handleConflict(new ConflictException("version 4 already published", null), null);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+}
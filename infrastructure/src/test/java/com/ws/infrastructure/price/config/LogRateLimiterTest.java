@@ -0,0 +1,25 @@
+package com.ws.infrastructure.price.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class LogRateLimiterTest {
+
+    @Test
+    void tryAcquire_ShouldSuppressLinesBeyondTheRate_AndReportThemInTheNextWindow() {
+        var now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+        var limiter = new LogRateLimiter(2, now::get);
+
+        assertEquals(0, limiter.tryAcquire());
+        assertEquals(0, limiter.tryAcquire());
+        assertEquals(LogRateLimiter.SUPPRESSED, limiter.tryAcquire());
+        assertEquals(LogRateLimiter.SUPPRESSED, limiter.tryAcquire());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(2, limiter.tryAcquire());
+        assertEquals(0, limiter.tryAcquire());
+    }
+}
@@ -0,0 +1,36 @@
+package com.ws.infrastructure.price.config;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ws.infrastructure.price.persistence.projection.PriceView;
+import com.ws.infrastructure.price.rest.dto.ErrorResponseDTO;
+import com.ws.infrastructure.price.rest.dto.PriceBatchResponseDTO;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+class PriceRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    void registerHints_ShouldRegisterTheDtosEncodedOutsideOfControllers() throws NoSuchMethodException {
+        new PriceRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(ErrorResponseDTO.class.getMethod("getMessage")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(PriceBatchResponseDTO.class.getMethod("setItems", List.class)).test(hints));
+    }
+
+    @Test
+    void registerHints_ShouldRegisterTheConstructorsOfTheJpqlProjections() {
+        new PriceRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(PriceView.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+    }
+}
@@ -0,0 +1,37 @@
+package com.ws.infrastructure.price.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+@SpringBootTest(properties = "price.outbound.adapter=jpa")
+@AutoConfigureMockMvc
+class PriceMetricsConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void getPrices_ShouldRecordEveryStageOfTheLookup() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/prices")
+                        .param("applicationDate", "2025-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.price").value(25.45));
+
+        for (LookupStage stage : LookupStage.values()) {
+            assertTrue(meterRegistry.get("price.lookup.stage").tag("stage", stage.tag()).timer().count() > 0,
+                    stage.tag());
+        }
+    }
+}
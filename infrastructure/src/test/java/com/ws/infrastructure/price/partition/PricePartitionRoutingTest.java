@@ -0,0 +1,161 @@
+package com.ws.infrastructure.price.partition;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ws.AppRun;
+import com.ws.application.price.port.out.PriceOutboundPort;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Runs two partitioned nodes on localhost, each with its own in-memory database: node A owns brand 1 and
+ * node B owns brand 2 and forwards the lookups of brand 1 to node A. Both nodes listen on a port picked by
+ * the server, so node A is started first and node B is given the port it got. Brand 3 is owned by a
+ * socket that accepts connections but never answers.
+ */
+class PricePartitionRoutingTest {
+
+    private static final String LOOKUP = "/prices?applicationDate=2025-06-14T16:00:00&productId=35455&brandId=";
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+    private static ServerSocket silentNode;
+    private static int portA;
+    private static int portB;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void startNodes() throws IOException {
+        silentNode = new ServerSocket(0);
+        nodeA = start("node-a", 1);
+        portA = port(nodeA);
+        nodeB = start("node-b", 2,
+                "--price.partition.owners.1=http://localhost:" + portA,
+                "--price.partition.owners.3=http://localhost:" + silentNode.getLocalPort(),
+                "--price.partition.timeout=500ms");
+        portB = port(nodeB);
+    }
+
+    @AfterAll
+    static void stopNodes() throws IOException {
+        nodeB.close();
+        nodeA.close();
+        silentNode.close();
+    }
+
+    @Test
+    void getPrices_ShouldBeAnsweredByOwningNode_WhenBrandIsOwnedElsewhere() throws Exception {
+        var date = LocalDateTime.parse("2025-06-14T16:00:00");
+        assertTrue(nodeB.getBean(PriceOutboundPort.class).getPreferredPrice(date, 35455, 1).isEmpty());
+
+        var response = get(portB, LOOKUP + 1, null);
+
+        assertEquals(200, response.statusCode());
+        assertEquals(2, objectMapper.readTree(response.body()).get("priceList").asInt());
+        var etag = response.headers().firstValue("ETag").orElseThrow();
+        assertTrue(response.headers().firstValue("Cache-Control").isPresent());
+
+        var revalidated = get(portB, LOOKUP + 1, etag);
+
+        assertEquals(304, revalidated.statusCode());
+        assertEquals(etag, revalidated.headers().firstValue("ETag").orElseThrow());
+    }
+
+    @Test
+    void getPrices_ShouldReturnOwningNodeNotFound_WhenOwnerHasNoPrice() throws Exception {
+        var response = get(portB, "/prices?applicationDate=2025-06-14T16:00:00&productId=99999&brandId=1", null);
+
+        assertEquals(404, response.statusCode());
+        assertEquals("No price available.", objectMapper.readTree(response.body()).get("message").asText());
+    }
+
+    @Test
+    void getPrices_ShouldReturnServiceUnavailable_WhenOwningNodeIsDown() throws Exception {
+        var response = get(portB, LOOKUP + 3, null);
+
+        assertEquals(503, response.statusCode());
+        assertEquals(503, objectMapper.readTree(response.body()).get("status").asInt());
+    }
+
+    @Test
+    void getPricesBatch_ShouldSplitQueriesBetweenNodes_AndKeepTheirOrder() throws Exception {
+        var body = """
+                {"items": [
+                  {"applicationDate": "2025-06-14T16:00:00", "productId": 35455, "brandId": 2},
+                  {"applicationDate": "2025-06-14T16:00:00", "productId": 35455, "brandId": 1},
+                  {"applicationDate": "2025-06-14T10:00:00", "productId": 35455, "brandId": 1}
+                ]}
+                """;
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:" + portB + "/prices/batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        JsonNode items = objectMapper.readTree(response.body()).get("items");
+        assertEquals(3, items.size());
+        assertEquals(2, items.get(0).get("brandId").asInt());
+        assertEquals(false, items.get(0).get("found").asBoolean());
+        assertEquals(2, items.get(1).get("price").get("priceList").asInt());
+        assertEquals(1, items.get(2).get("price").get("priceList").asInt());
+    }
+
+    @Test
+    void exportPrices_ShouldRedirectToOwningNode_WhenBrandIsOwnedElsewhere() throws Exception {
+        var export = "/prices/export?brandId=1&applicationDate=2025-06-14T16:00:00";
+
+        var response = get(portB, export, null);
+
+        assertEquals(307, response.statusCode());
+        assertEquals("http://localhost:" + portA + export, response.headers().firstValue("Location").orElseThrow());
+
+        var redirecting = HttpClient.newBuilder().followRedirects(HttpClient.Redirect.NORMAL).build();
+        var exported = redirecting.send(HttpRequest.newBuilder(URI.create("http://localhost:" + portB + export)).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, exported.statusCode());
+        assertEquals(2, objectMapper.readTree(exported.body()).get("priceList").asInt());
+        assertTrue(exported.body().endsWith("\n"));
+    }
+
+    private HttpResponse<String> get(int port, String pathAndQuery, String ifNoneMatch)
+            throws IOException, InterruptedException {
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + pathAndQuery));
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static ConfigurableApplicationContext start(String name, int brand, String... properties) {
+        var args = new String[properties.length + 4];
+        args[0] = "--server.port=0";
+        args[1] = "--spring.datasource.url=jdbc:h2:mem:" + name;
+        args[2] = "--price.partition.brands=" + brand;
+        args[3] = "--logging.level.root=WARN";
+        System.arraycopy(properties, 0, args, 4, properties.length);
+        return new SpringApplicationBuilder(AppRun.class).run(args);
+    }
+
+    private static int port(ConfigurableApplicationContext node) {
+        return ((ServletWebServerApplicationContext) node).getWebServer().getPort();
+    }
+}
@@ -0,0 +1,37 @@
+package com.ws.infrastructure.price.partition;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class PricePartitionTest {
+
+    private static final URI NODE_B = URI.create("http://localhost:8082");
+
+    @Test
+    void remoteOwner_ShouldBeEmpty_WhenNotPartitioned() {
+        var partition = new PricePartition(null, null, Duration.ofSeconds(2));
+
+        assertFalse(partition.isPartitioned());
+        assertTrue(partition.owns(2));
+        assertEquals(Optional.empty(), partition.remoteOwner(2));
+    }
+
+    @Test
+    void remoteOwner_ShouldReturnOwningNode_OnlyForBrandsOwnedElsewhere() {
+        var partition = new PricePartition(Set.of(1), Map.of(2, NODE_B), Duration.ofSeconds(2));
+
+        assertTrue(partition.isPartitioned());
+        assertEquals(Optional.empty(), partition.remoteOwner(1));
+        assertEquals(Optional.of(NODE_B), partition.remoteOwner(2));
+        assertEquals(Optional.empty(), partition.remoteOwner(3));
+        assertFalse(partition.owns(3));
+    }
+}
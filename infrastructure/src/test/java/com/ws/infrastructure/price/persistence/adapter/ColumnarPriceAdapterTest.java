@@ -0,0 +1,48 @@
+package com.ws.infrastructure.price.persistence.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import com.ws.application.price.port.out.PriceOutboundPort;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "price.outbound.adapter=columnar")
+class ColumnarPriceAdapterTest {
+
+    @Autowired
+    private PriceOutboundPort priceOutboundPort;
+
+    static Stream<Arguments> priceTestCases() {
+        return Stream.of(
+                arguments(new BigDecimal("35.50"), "2025-06-14T10:00:00.000"),
+                arguments(new BigDecimal("25.45"), "2025-06-14T16:00:00.000"),
+                arguments(new BigDecimal("35.50"), "2025-06-14T21:00:00.000"),
+                arguments(new BigDecimal("30.50"), "2025-06-15T10:00:00.000"),
+                arguments(new BigDecimal("38.95"), "2025-06-16T21:00:00.000")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("priceTestCases")
+    void getPreferredPrice_ShouldResolveFromColumnarStore(BigDecimal expectedPrice, String applicationDate) {
+        var price = priceOutboundPort.getPreferredPrice(LocalDateTime.parse(applicationDate), 35455, 1);
+
+        assertTrue(price.isPresent());
+        assertEquals(expectedPrice, price.get().price());
+        assertEquals("ZARA", price.get().brand().name());
+    }
+
+    @Test
+    void getPreferredPrice_ShouldReturnEmpty_WhenPriceDoesNotExist() {
+        assertTrue(priceOutboundPort.getPreferredPrice(LocalDateTime.parse("2025-06-14T10:00:00"), 35455, 2).isEmpty());
+    }
+}
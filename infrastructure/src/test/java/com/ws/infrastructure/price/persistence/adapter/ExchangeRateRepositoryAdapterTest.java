@@ -0,0 +1,93 @@
+package com.ws.infrastructure.price.persistence.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ws.domain.price.exception.ConflictException;
+import com.ws.domain.price.model.Currency;
+import com.ws.infrastructure.price.persistence.ExchangeRateJpaRepository;
+import com.ws.infrastructure.price.persistence.entity.ExchangeRateEntity;
+import com.ws.infrastructure.price.persistence.event.ExchangeRatesPublishedEvent;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class ExchangeRateRepositoryAdapterTest {
+
+    private static final Map<Currency, BigDecimal> RATES = Map.of(Currency.USD, new BigDecimal("1.0842"));
+
+    @Mock
+    private ExchangeRateJpaRepository exchangeRateJPARepository;
+    @Mock
+    private ApplicationEventPublisher publisher;
+
+    @InjectMocks
+    private ExchangeRateRepositoryAdapter adapter;
+
+    @Test
+    void publish_ShouldStoreNextVersion_AndAnnounceIt() {
+        when(exchangeRateJPARepository.findLatestVersion()).thenReturn(Optional.of(3L));
+
+        var published = adapter.publish(RATES, true);
+
+        assertEquals(4, published.version());
+        verify(exchangeRateJPARepository).saveAllAndFlush(anyList());
+        verify(publisher).publishEvent(new ExchangeRatesPublishedEvent(published));
+    }
+
+    @Test
+    void publish_ShouldKeepRatesOfCurrenciesMissingFromTable_WhenNotReplacing() {
+        when(exchangeRateJPARepository.findLatestVersion()).thenReturn(Optional.of(3L));
+        when(exchangeRateJPARepository.findByVersion(3L)).thenReturn(List.of(
+                rate(3L, "USD", "1.0500"), rate(3L, "GBP", "0.8571")));
+
+        var published = adapter.publish(RATES, false);
+
+        assertEquals(new BigDecimal("1.0842"), published.rates().get(Currency.USD));
+        assertEquals(new BigDecimal("0.8571"), published.rates().get(Currency.GBP));
+    }
+
+    @Test
+    void publish_ShouldLeaveOutCurrenciesMissingFromTable_WhenReplacing() {
+        when(exchangeRateJPARepository.findLatestVersion()).thenReturn(Optional.of(3L));
+
+        var published = adapter.publish(RATES, true);
+
+        assertFalse(published.rates().containsKey(Currency.GBP));
+        verify(exchangeRateJPARepository, never()).findByVersion(3L);
+    }
+
+    @Test
+    void publish_ShouldThrowConflict_WhenSameVersionWasPublishedMeanwhile() {
+        when(exchangeRateJPARepository.findLatestVersion()).thenReturn(Optional.of(3L));
+        when(exchangeRateJPARepository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate version 4"));
+        when(exchangeRateJPARepository.findByVersion(3L)).thenReturn(List.of());
+
+        assertThrows(ConflictException.class, () -> adapter.publish(RATES, false));
+        verify(publisher, never()).publishEvent(any(ExchangeRatesPublishedEvent.class));
+    }
+
+    private static ExchangeRateEntity rate(Long version, String currency, String rate) {
+        var entity = new ExchangeRateEntity();
+        entity.setVersion(version);
+        entity.setCurrency(com.ws.infrastructure.price.persistence.entity.Currency.valueOf(currency));
+        entity.setRate(new BigDecimal(rate));
+        return entity;
+    }
+}
@@ -0,0 +1,72 @@
+package com.ws.infrastructure.price.persistence.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.ws.domain.price.model.Price;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = "price.export.fetch-size=2")
+@Transactional
+class PriceCatalogJdbcAdapterTest {
+
+    private static final LocalDateTime JUNE_14_16H = LocalDateTime.parse("2025-06-14T16:00:00");
+
+    @Autowired
+    private PriceCatalogJdbcAdapter adapter;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void insertPrices() {
+        insert(10, 40000, 0, "2025-01-01 00:00:00", "2025-12-31 23:59:59");
+        insert(11, 10, 0, "2025-01-01 00:00:00", "2025-12-31 23:59:59");
+        insert(12, 10, 1, "2025-01-01 00:00:00", "2025-12-31 23:59:59");
+        insert(13, 10, 1, "2025-01-01 00:00:00", "2025-12-31 23:59:59");
+        insert(14, 20, 0, "2026-01-01 00:00:00", "2026-12-31 23:59:59");
+    }
+
+    private void insert(int priceList, int productId, int priority, String start, String end) {
+        jdbcTemplate.update("""
+                INSERT INTO PRICES(BRAND_ID, PRICE, START_DATE, CURR, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY)
+                VALUES (1, 1.00, CAST(? AS TIMESTAMP), 'EUR', CAST(? AS TIMESTAMP), ?, ?, ?)
+                """, start, end, priceList, productId, priority);
+    }
+
+    private List<Price> read(Integer afterProductId) {
+        var prices = new ArrayList<Price>();
+        adapter.forEachPreferredPrice(1, JUNE_14_16H, afterProductId, prices::add);
+        return prices;
+    }
+
+    @Test
+    void forEachPreferredPrice_ShouldPassThePreferredPriceOfEachProductInOrder() {
+        var prices = read(null);
+
+        assertEquals(List.of(10, 35455, 40000), prices.stream().map(Price::productId).toList());
+        assertEquals(List.of(13, 2, 10), prices.stream().map(Price::priceList).toList());
+        assertEquals("ZARA", prices.get(0).brand().name());
+    }
+
+    @Test
+    void forEachPreferredPrice_ShouldResumeAfterTheGivenProduct() {
+        var prices = read(10);
+
+        assertEquals(List.of(35455, 40000), prices.stream().map(Price::productId).toList());
+    }
+
+    @Test
+    void forEachPreferredPrice_ShouldPassNothing_WhenTheBrandHasNoPrices() {
+        var prices = new ArrayList<Price>();
+        adapter.forEachPreferredPrice(2, JUNE_14_16H, null, prices::add);
+
+        assertEquals(List.of(), prices);
+    }
+}
@@ -0,0 +1,98 @@
+package com.ws.infrastructure.price.persistence.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ws.application.price.port.out.PriceIngestionOutboundPort;
+import com.ws.application.price.port.out.PriceOutboundPort;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest(properties = {"price.outbound.adapter=timeline", "price.ingest.chunk-size=64B",
+        "price.ingest.batch-size=2"})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class PriceIngestionAdapterTest {
+
+    private static final LocalDateTime JUNE_20 = LocalDateTime.parse("2025-06-20T10:00:00");
+
+    @Autowired
+    private PriceIngestionOutboundPort priceIngestionOutboundPort;
+    @Autowired
+    private PriceOutboundPort priceOutboundPort;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path directory;
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    @Test
+    void ingest_ShouldPublishEveryChunk_WhenCsvIsValid() throws Exception {
+        var file = Files.writeString(directory.resolve("prices.csv"), """
+                priceList,productId,brandId,priority,currency,price,startDate,endDate
+                4,35455,1,1,EUR,40.00,2025-06-15T16:00:00,2025-12-31T23:59:59
+                10,10,1,0,EUR,1.00,2025-01-01T00:00:00,2025-12-31T23:59:59
+
+                11,11,1,0,EUR,2.00,2025-01-01T00:00:00,2025-12-31T23:59:59
+                12,12,1,0,EUR,3.00,2025-01-01T00:00:00,2025-12-31T23:59:59
+                """);
+
+        var report = priceIngestionOutboundPort.ingest(file, false);
+
+        assertEquals(4, report.rows());
+        assertTrue(report.chunks() > 1);
+        assertEquals(7, count("PRICES"));
+        assertEquals(0, count("PRICES_STAGING"));
+        assertEquals(new BigDecimal("40.00"), priceOutboundPort.getPreferredPrice(JUNE_20, 35455, 1).orElseThrow().price());
+        assertEquals(new BigDecimal("3.00"), priceOutboundPort.getPreferredPrice(JUNE_20, 12, 1).orElseThrow().price());
+    }
+
+    @Test
+    void ingest_ShouldDeleteMissingPricesOfBrand_WhenReplaceIsSet() throws Exception {
+        var file = Files.writeString(directory.resolve("prices.ndjson"), """
+                {"priceList":20,"productId":35455,"brandId":1,"priority":0,"currency":"EUR","price":9.99,\
+                "startDate":"2025-01-01T00:00:00","endDate":"2025-12-31T23:59:59"}
+                """);
+
+        priceIngestionOutboundPort.ingest(file, true);
+
+        assertEquals(1, count("PRICES"));
+        assertEquals(new BigDecimal("9.99"), priceOutboundPort.getPreferredPrice(JUNE_20, 35455, 1).orElseThrow().price());
+    }
+
+    @Test
+    void ingest_ShouldLeavePricesUntouched_WhenARowIsMalformed() throws Exception {
+        var file = Files.writeString(directory.resolve("prices.csv"), """
+                10,10,1,0,EUR,1.00,2025-01-01T00:00:00,2025-12-31T23:59:59
+                11,11,1,0,EUR,2.00,2025-01-01T00:00:00,2025-12-31T23:59:59
+                12,12,1,0,EUR,oops,2025-01-01T00:00:00,2025-12-31T23:59:59
+                """);
+
+        assertThrows(IllegalArgumentException.class, () -> priceIngestionOutboundPort.ingest(file, false));
+        assertEquals(4, count("PRICES"));
+        assertEquals(0, count("PRICES_STAGING"));
+        assertTrue(priceOutboundPort.getPreferredPrice(JUNE_20, 10, 1).isEmpty());
+    }
+
+    @Test
+    void ingest_ShouldRejectFile_WhenBrandDoesNotExist() throws Exception {
+        var file = Files.writeString(directory.resolve("prices.csv"),
+                "10,10,2,0,EUR,1.00,2025-01-01T00:00:00,2025-12-31T23:59:59\n");
+
+        var exception = assertThrows(IllegalArgumentException.class, () -> priceIngestionOutboundPort.ingest(file, false));
+        assertEquals("unknown brands : [2]", exception.getMessage());
+        assertEquals(4, count("PRICES"));
+    }
+}
@@ -0,0 +1,42 @@
+package com.ws.infrastructure.price.persistence.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.ws.domain.price.model.PriceTimeline;
+import com.ws.infrastructure.price.persistence.PriceJpaRepository;
+import com.ws.infrastructure.price.persistence.mapper.PriceEntityMapper;
+import java.time.LocalDateTime;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest(properties = "price.outbound.adapter=jpa")
+@DirtiesContext
+class PriceRepositoryAdapterSegmentTest {
+
+    @Autowired
+    private PriceRepositoryAdapter adapter;
+    @Autowired
+    private PriceJpaRepository priceJPARepository;
+    @Autowired
+    private PriceEntityMapper mapper;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2025-06-14T10:00:00", "2025-06-14T16:00:00", "2025-06-14T21:00:00",
+            "2025-06-15T10:00:00", "2025-06-15T13:00:00", "2025-06-16T21:00:00"})
+    void getPreferredSegment_ShouldEndWhereTheResolvedTimelineEnds(String date) {
+        var applicationDate = LocalDateTime.parse(date);
+        var timeline = PriceTimeline.of(priceJPARepository.findPrices(35455, 1).stream()
+                .map(mapper::toDomain)
+                .toList());
+        var expected = timeline.segmentAt(applicationDate).orElseThrow();
+
+        var segment = adapter.getPreferredSegment(applicationDate, 35455, 1).orElseThrow();
+
+        assertEquals(applicationDate, segment.from());
+        assertEquals(expected.to(), segment.to());
+        assertEquals(expected.price().priceList(), segment.price().priceList());
+    }
+}
@@ -4,21 +4,34 @@ package com.ws.infrastructure.price.persistence.adapter;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.ws.application.price.model.PriceQuery;
 import com.ws.domain.price.model.Brand;
 import com.ws.domain.price.model.Currency;
 import com.ws.domain.price.model.Price;
+import com.ws.infrastructure.price.metrics.PriceLookupTimers;
 import com.ws.infrastructure.price.persistence.PriceJpaRepository;
-import com.ws.infrastructure.price.persistence.entity.PriceEntity;
+import com.ws.infrastructure.price.persistence.batch.PriceLookupBatcher;
+import com.ws.infrastructure.price.persistence.coalesce.PriceLookupCoalescer;
 import com.ws.infrastructure.price.persistence.mapper.PriceEntityMapper;
+import com.ws.infrastructure.price.persistence.projection.BrandRegistry;
+import com.ws.infrastructure.price.persistence.projection.PriceView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,24 +41,38 @@ class PriceRepositoryAdapterTest {
     private PriceJpaRepository priceJPARepository;
     @Mock
     private PriceEntityMapper mapper;
+    @Mock
+    private BrandRegistry brandRegistry;
+    @Spy
+    private PriceLookupTimers timers = new PriceLookupTimers(new SimpleMeterRegistry());
+    @Spy
+    private PriceLookupCoalescer coalescer = new PriceLookupCoalescer(true, new SimpleMeterRegistry());
 
-    @InjectMocks
     private PriceRepositoryAdapter priceRepositoryImpl;
 
+    @BeforeEach
+    void setUp() {
+        var batcher = new PriceLookupBatcher(priceJPARepository, false, Duration.ofMillis(1), 64, 4096, 4,
+                new SimpleMeterRegistry());
+        priceRepositoryImpl = new PriceRepositoryAdapter(priceJPARepository, mapper, brandRegistry, timers, coalescer,
+                batcher);
+    }
+
     @Test
     void getPreferredPrice_ShouldReturnMappedPrice_WhenPriceExists() {
         LocalDateTime applicationDate = LocalDateTime.now();
         Integer productId = 1;
         Integer brandId = 1;
 
-        PriceEntity mockEntity = new PriceEntity();
+        Brand brand = new Brand(brandId, "Zara");
+        PriceView view = priceView(0, 0, brandId, applicationDate, applicationDate);
         Price mockDto = new Price(0, productId, 0, Currency.EUR,
-                BigDecimal.ZERO, LocalDateTime.now(), LocalDateTime.now(),
-                new Brand(brandId, "Zara"));
+                BigDecimal.ZERO, LocalDateTime.now(), LocalDateTime.now(), brand);
 
-        when(priceJPARepository.findTopPrice(
-                productId, brandId, applicationDate)).thenReturn(Optional.of(mockEntity));
-        when(mapper.toDomain(mockEntity)).thenReturn(mockDto);
+        when(priceJPARepository.findTopPriceView(
+                productId, brandId, applicationDate)).thenReturn(Optional.of(view));
+        when(brandRegistry.brand(brandId)).thenReturn(brand);
+        when(mapper.toDomain(view, brand)).thenReturn(mockDto);
 
         Optional<Price> result = priceRepositoryImpl.getPreferredPrice(applicationDate, productId, brandId);
 
@@ -59,11 +86,95 @@ class PriceRepositoryAdapterTest {
         Integer productId = 1;
         Integer brandId = 1;
 
-        when(priceJPARepository.findTopPrice(
+        when(priceJPARepository.findTopPriceView(
                 productId, brandId, applicationDate)).thenReturn(Optional.empty());
 
         Optional<Price> result = priceRepositoryImpl.getPreferredPrice(applicationDate, productId, brandId);
 
         assertFalse(result.isPresent());
     }
+
+    @Test
+    void getPreferredSegment_ShouldEndAtStartOfFirstPreferredPrice() {
+        LocalDateTime date = LocalDateTime.parse("2025-06-14T10:00:00");
+        Brand brand = new Brand(1, "Zara");
+        PriceView base = priceView(1, 0, 1, date.minusDays(1), date.plusDays(1));
+        PriceView sameLevel = priceView(0, 0, 1, date.plusHours(1), date.plusHours(8));
+        PriceView promo = priceView(2, 1, 1, date.plusHours(5), date.plusHours(8));
+        Price baseDomain = new Price(1, 1, 0, Currency.EUR,
+                BigDecimal.TEN, base.startDate(), base.endDate(), brand);
+
+        when(priceJPARepository.findTopPriceView(1, 1, date)).thenReturn(Optional.of(base));
+        when(priceJPARepository.findSuccessorPriceViews(Set.of(1), Set.of(1), date, base.endDate()))
+                .thenReturn(List.of(sameLevel, promo));
+        when(brandRegistry.brand(1)).thenReturn(brand);
+        when(mapper.toDomain(base, brand)).thenReturn(baseDomain);
+
+        var segment = priceRepositoryImpl.getPreferredSegment(date, 1, 1).orElseThrow();
+
+        assertEquals(date, segment.from());
+        assertEquals(date.plusHours(5), segment.to());
+        assertEquals(baseDomain, segment.price());
+    }
+
+    @Test
+    void getPreferredSegment_ShouldEndWithWinner_WhenNoPreferredPriceStartsBefore() {
+        LocalDateTime date = LocalDateTime.parse("2025-06-14T16:00:00");
+        Brand brand = new Brand(1, "Zara");
+        PriceView promo = priceView(2, 1, 1, date.minusHours(1), date.plusHours(2));
+        Price promoDomain = new Price(2, 1, 1, Currency.EUR,
+                BigDecimal.ONE, promo.startDate(), promo.endDate(), brand);
+
+        when(priceJPARepository.findTopPriceView(1, 1, date)).thenReturn(Optional.of(promo));
+        when(priceJPARepository.findSuccessorPriceViews(Set.of(1), Set.of(1), date, promo.endDate()))
+                .thenReturn(List.of());
+        when(brandRegistry.brand(1)).thenReturn(brand);
+        when(mapper.toDomain(promo, brand)).thenReturn(promoDomain);
+
+        var segment = priceRepositoryImpl.getPreferredSegment(date, 1, 1).orElseThrow();
+
+        assertEquals(promo.endDate().plusNanos(1), segment.to());
+        assertEquals(promoDomain, segment.price());
+    }
+
+    @Test
+    void getPreferredSegment_ShouldNotReadSuccessors_WhenNoPriceApplies() {
+        LocalDateTime date = LocalDateTime.parse("2025-06-14T16:00:00");
+        when(priceJPARepository.findTopPriceView(1, 1, date)).thenReturn(Optional.empty());
+
+        assertTrue(priceRepositoryImpl.getPreferredSegment(date, 1, 1).isEmpty());
+        verify(priceJPARepository, never()).findSuccessorPriceViews(any(), any(), any(), any());
+    }
+
+    @Test
+    void getPreferredPrices_ShouldResolveAllQueriesWithSingleQuery() {
+        LocalDateTime date = LocalDateTime.parse("2025-06-14T16:00:00");
+        Brand brand = new Brand(1, "Zara");
+        PriceView base = priceView(1, 0, 1, date.minusDays(1), date.plusDays(1));
+        PriceView promo = priceView(2, 1, 1, date.minusHours(1), date.plusHours(1));
+        Price promoDomain = new Price(2, 1, 1, Currency.EUR,
+                BigDecimal.ONE, promo.startDate(), promo.endDate(), brand);
+        Price baseDomain = new Price(1, 1, 0, Currency.EUR,
+                BigDecimal.TEN, base.startDate(), base.endDate(), brand);
+        var queries = List.of(
+                new PriceQuery(date, 1, 1, null),
+                new PriceQuery(date.plusHours(5), 1, 1, null),
+                new PriceQuery(date, 1, 2, null));
+
+        when(priceJPARepository.findCandidatePriceViews(any(), any(), any(), any())).thenReturn(List.of(base, promo));
+        when(brandRegistry.brand(1)).thenReturn(brand);
+        when(mapper.toDomain(promo, brand)).thenReturn(promoDomain);
+        when(mapper.toDomain(base, brand)).thenReturn(baseDomain);
+
+        List<Optional<Price>> result = priceRepositoryImpl.getPreferredPrices(queries);
+
+        assertEquals(List.of(Optional.of(promoDomain), Optional.of(baseDomain), Optional.empty()), result);
+        verify(priceJPARepository).findCandidatePriceViews(Set.of(1), Set.of(1, 2), date, date.plusHours(5));
+    }
+
+    private static PriceView priceView(int priceList, int priority, int brandId,
+                                       LocalDateTime startDate, LocalDateTime endDate) {
+        return new PriceView(priceList, 1, brandId, priority,
+                com.ws.infrastructure.price.persistence.entity.Currency.EUR, BigDecimal.ONE, startDate, endDate);
+    }
 }
@@ -0,0 +1,90 @@
+package com.ws.infrastructure.price.persistence.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import com.ws.domain.price.model.Brand;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.Price;
+import com.ws.infrastructure.price.persistence.PriceJpaRepository;
+import com.ws.infrastructure.price.persistence.snapshot.MappedPriceSnapshot;
+import com.ws.infrastructure.price.persistence.snapshot.PriceSnapshotWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = "price.outbound.adapter=snapshot")
+@DirtiesContext
+class PriceSnapshotAdapterStartupTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.parse("2025-06-14T10:00:00");
+
+    private static Path directory;
+
+    @Autowired
+    private PriceSnapshotAdapter adapter;
+    @Autowired
+    private PriceJpaRepository priceJPARepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @DynamicPropertySource
+    static void snapshotOfPreviousRun(DynamicPropertyRegistry registry) throws IOException {
+        directory = Files.createTempDirectory("price-snapshot");
+        var previous = new Price(1, 35455, 0, Currency.EUR, new BigDecimal("99.99"),
+                DATE.minusDays(1), DATE.plusDays(1), new Brand(1, "ZARA"));
+        PriceSnapshotWriter.write(directory.resolve("prices.bin"), List.of(previous), Set.of(), 7, 0);
+        registry.add("price.snapshot.file", () -> directory.resolve("prices.bin").toString());
+    }
+
+    @AfterAll
+    static void deleteSnapshot() throws IOException {
+        Files.deleteIfExists(directory.resolve("prices.bin"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Test
+    void afterSingletonsInstantiated_ShouldExportSnapshotAgain_WhenFileWasExportedFromOtherPrices() {
+        var snapshot = MappedPriceSnapshot.open(directory.resolve("prices.bin"));
+
+        assertEquals(new BigDecimal("35.50"), adapter.getPreferredPrice(DATE, 35455, 1).orElseThrow().price());
+        assertEquals(1, snapshot.version());
+        assertEquals(priceJPARepository.fingerprint().value(), snapshot.fingerprint());
+        assertNotEquals(0, snapshot.fingerprint());
+    }
+
+    @Test
+    void fingerprint_ShouldChange_WhenEditsToSeveralRowsCompensateEachOther() {
+        long fingerprint = priceJPARepository.fingerprint().value();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE PRICES SET PRIORITY = PRIORITY + 1 WHERE PRICE_LIST = 2");
+            jdbcTemplate.update("UPDATE PRICES SET PRIORITY = PRIORITY - 1 WHERE PRICE_LIST = 3");
+            assertNotEquals(fingerprint, priceJPARepository.fingerprint().value());
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE PRICES SET PRICE = 30.50 WHERE PRICE_LIST = 2");
+            jdbcTemplate.update("UPDATE PRICES SET PRICE = 25.45 WHERE PRICE_LIST = 3");
+            assertNotEquals(fingerprint, priceJPARepository.fingerprint().value());
+            status.setRollbackOnly();
+        });
+
+        assertEquals(fingerprint, priceJPARepository.fingerprint().value());
+    }
+}
@@ -0,0 +1,138 @@
+package com.ws.infrastructure.price.persistence.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ws.domain.price.model.Brand;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.Price;
+import com.ws.infrastructure.price.partition.PricePartition;
+import com.ws.infrastructure.price.persistence.PriceJpaRepository;
+import com.ws.infrastructure.price.persistence.entity.PriceEntity;
+import com.ws.infrastructure.price.persistence.event.PriceChangedEvent;
+import com.ws.infrastructure.price.persistence.mapper.PriceEntityMapper;
+import com.ws.infrastructure.price.persistence.projection.PriceFingerprint;
+import com.ws.infrastructure.price.persistence.snapshot.MappedPriceSnapshot;
+import com.ws.infrastructure.price.persistence.snapshot.PriceSnapshotWriter;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PriceSnapshotAdapterTest {
+
+    private static final LocalDateTime START = LocalDateTime.parse("2025-06-14T00:00:00");
+    private static final Price BASE = new Price(1, 1, 0, Currency.EUR, BigDecimal.TEN,
+            START, START.plusDays(10), new Brand(1, "Zara"));
+    private static final PriceFingerprint FINGERPRINT = new PriceFingerprint(1L, 592_485_985L, 869_074_571L);
+
+    @Mock
+    private PriceJpaRepository priceJPARepository;
+    @Mock
+    private PriceEntityMapper mapper;
+
+    @TempDir
+    private Path directory;
+
+    private Path file;
+    private PriceSnapshotAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        file = directory.resolve("prices.bin");
+        adapter = new PriceSnapshotAdapter(priceJPARepository, mapper,
+                new PricePartition(Set.of(), Map.of(), Duration.ofSeconds(2)), file);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        adapter.destroy();
+    }
+
+    @Test
+    void afterSingletonsInstantiated_ShouldMapSnapshot_WithoutReadingPrices_WhenFileMatchesPrices() {
+        PriceSnapshotWriter.write(file, List.of(BASE), Set.of(), 5, FINGERPRINT.value());
+        when(priceJPARepository.fingerprint()).thenReturn(FINGERPRINT);
+
+        adapter.afterSingletonsInstantiated();
+
+        assertEquals(BASE, adapter.getPreferredPrice(START.plusDays(1), 1, 1).orElseThrow());
+        assertTrue(adapter.getPreferredPrice(START.plusDays(1), 1, 2).isEmpty());
+        assertEquals(5, adapter.snapshotVersion());
+        verify(priceJPARepository, never()).findAll();
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void afterSingletonsInstantiated_ShouldExportSnapshot_WhenFileWasExportedFromOtherPrices() {
+        Price previous = new Price(1, 1, 0, Currency.EUR, BigDecimal.ONE,
+                START, START.plusDays(10), new Brand(1, "Zara"));
+        PriceSnapshotWriter.write(file, List.of(previous), Set.of(), 5, FINGERPRINT.value() + 1);
+        PriceEntity baseEntity = new PriceEntity();
+        when(priceJPARepository.fingerprint()).thenReturn(FINGERPRINT);
+        when(priceJPARepository.findAll()).thenReturn(List.of(baseEntity));
+        when(mapper.toDomain(baseEntity)).thenReturn(BASE);
+
+        adapter.afterSingletonsInstantiated();
+
+        assertEquals(BASE, adapter.getPreferredPrice(START.plusDays(1), 1, 1).orElseThrow());
+        assertEquals(1, adapter.snapshotVersion());
+        assertEquals(FINGERPRINT.value(), MappedPriceSnapshot.open(file).fingerprint());
+    }
+
+    @Test
+    void afterSingletonsInstantiated_ShouldExportSnapshot_WhenFileIsNotASnapshot() throws Exception {
+        Files.writeString(file, "not a snapshot");
+        PriceEntity baseEntity = new PriceEntity();
+        when(priceJPARepository.fingerprint()).thenReturn(FINGERPRINT);
+        when(priceJPARepository.findAll()).thenReturn(List.of(baseEntity));
+        when(mapper.toDomain(baseEntity)).thenReturn(BASE);
+
+        adapter.afterSingletonsInstantiated();
+
+        assertEquals(BASE, adapter.getPreferredPrice(START.plusDays(1), 1, 1).orElseThrow());
+        assertEquals(1, MappedPriceSnapshot.open(file).size());
+        verify(priceJPARepository).findAll();
+    }
+
+    @Test
+    void onPriceChanged_ShouldOverrideSnapshotTimeline_AndExportNewSnapshot() throws Exception {
+        PriceSnapshotWriter.write(file, List.of(BASE), Set.of(), 1, FINGERPRINT.value());
+        when(priceJPARepository.fingerprint()).thenReturn(FINGERPRINT);
+        adapter.afterSingletonsInstantiated();
+        PriceEntity baseEntity = new PriceEntity();
+        PriceEntity flashEntity = new PriceEntity();
+        Price flash = new Price(9, 1, 5, Currency.EUR, BigDecimal.ONE,
+                START.plusDays(1), START.plusDays(2), new Brand(1, "Zara"));
+        when(priceJPARepository.findPrices(1, 1)).thenReturn(List.of(baseEntity, flashEntity));
+        when(priceJPARepository.findAll()).thenReturn(List.of(baseEntity, flashEntity));
+        when(mapper.toDomain(baseEntity)).thenReturn(BASE);
+        when(mapper.toDomain(flashEntity)).thenReturn(flash);
+
+        adapter.onPriceChanged(new PriceChangedEvent(1, 1));
+        adapter.destroy();
+
+        assertEquals(2, adapter.snapshotVersion());
+        assertEquals(flash, adapter.getPreferredPrice(START.plusDays(1).plusHours(1), 1, 1).orElseThrow());
+        assertEquals(BASE, adapter.getPreferredPrice(START.plusDays(3), 1, 1).orElseThrow());
+        var exported = MappedPriceSnapshot.open(file);
+        assertEquals(2, exported.version());
+        assertEquals(flash, exported.priceAt(START.plusDays(1).plusHours(1), 1, 1).orElseThrow());
+    }
+}
@@ -0,0 +1,126 @@
+package com.ws.infrastructure.price.persistence.adapter;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ws.domain.price.model.Brand;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.Price;
+import com.ws.infrastructure.price.partition.PricePartition;
+import com.ws.infrastructure.price.persistence.PriceJpaRepository;
+import com.ws.infrastructure.price.persistence.entity.PriceEntity;
+import com.ws.infrastructure.price.persistence.event.PriceChangedEvent;
+import com.ws.infrastructure.price.persistence.mapper.PriceEntityMapper;
+import com.ws.infrastructure.price.persistence.timeline.PriceSnapshotVersion;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PriceTimelineAdapterTest {
+
+    @Mock
+    private PriceJpaRepository priceJPARepository;
+    @Mock
+    private PriceEntityMapper mapper;
+    @Spy
+    private PricePartition partition = new PricePartition(Set.of(), Map.of(), Duration.ofSeconds(2));
+
+    @InjectMocks
+    private PriceTimelineAdapter priceTimelineAdapter;
+
+    @Test
+    void getPreferredPrice_ShouldResolveFromLoadedIndex_WithoutQueryingRepository() {
+        LocalDateTime start = LocalDateTime.parse("2025-06-14T00:00:00");
+        PriceEntity baseEntity = new PriceEntity();
+        PriceEntity promoEntity = new PriceEntity();
+        Price base = new Price(1, 1, 0, Currency.EUR, BigDecimal.TEN,
+                start, start.plusDays(10), new Brand(1, "Zara"));
+        Price promo = new Price(2, 1, 1, Currency.EUR, BigDecimal.ONE,
+                start.plusHours(15), start.plusHours(18), new Brand(1, "Zara"));
+
+        when(priceJPARepository.findAll()).thenReturn(List.of(baseEntity, promoEntity));
+        when(mapper.toDomain(baseEntity)).thenReturn(base);
+        when(mapper.toDomain(promoEntity)).thenReturn(promo);
+        priceTimelineAdapter.afterSingletonsInstantiated();
+
+        Optional<Price> result = priceTimelineAdapter.getPreferredPrice(start.plusHours(16), 1, 1);
+
+        assertTrue(result.isPresent());
+        assertEquals(promo, result.get());
+        verify(priceJPARepository).findAll();
+        verifyNoMoreInteractions(priceJPARepository);
+    }
+
+    @Test
+    void getPreferredPrice_ShouldReturnEmpty_WhenPriceDoesNotExist() {
+        when(priceJPARepository.findAll()).thenReturn(List.of());
+        priceTimelineAdapter.afterSingletonsInstantiated();
+
+        Optional<Price> result = priceTimelineAdapter.getPreferredPrice(LocalDateTime.now(), 1, 2);
+
+        assertFalse(result.isPresent());
+    }
+
+    @Test
+    void refresh_ShouldPublishNewSnapshot_WithOnlyChangedTimelineRebuilt() {
+        LocalDateTime start = LocalDateTime.parse("2025-06-14T00:00:00");
+        PriceEntity baseEntity = new PriceEntity();
+        PriceEntity flashEntity = new PriceEntity();
+        Price base = new Price(1, 1, 0, Currency.EUR, BigDecimal.TEN,
+                start, start.plusDays(10), new Brand(1, "Zara"));
+        Price flash = new Price(9, 1, 5, Currency.EUR, BigDecimal.ONE,
+                start.plusDays(1), start.plusDays(2), new Brand(1, "Zara"));
+
+        when(priceJPARepository.findAll()).thenReturn(List.of(baseEntity));
+        when(mapper.toDomain(baseEntity)).thenReturn(base);
+        priceTimelineAdapter.afterSingletonsInstantiated();
+        long loadedVersion = priceTimelineAdapter.snapshotVersion();
+
+        when(priceJPARepository.findPrices(1, 1)).thenReturn(List.of(baseEntity, flashEntity));
+        when(mapper.toDomain(flashEntity)).thenReturn(flash);
+        priceTimelineAdapter.onPriceChanged(new PriceChangedEvent(1, 1));
+
+        assertEquals(loadedVersion + 1, priceTimelineAdapter.snapshotVersion());
+        assertEquals(flash, priceTimelineAdapter.getPreferredPrice(start.plusDays(1).plusHours(1), 1, 1).orElseThrow());
+        assertEquals(base, priceTimelineAdapter.getPreferredPrice(start.plusDays(3), 1, 1).orElseThrow());
+        assertEquals(loadedVersion + 1, PriceSnapshotVersion.consumeRead().orElseThrow());
+        verify(priceJPARepository).findAll();
+    }
+
+    @Test
+    void reload_ShouldOnlyLoadOwnedBrands_AndIgnoreChangesToOthers_WhenPartitioned() {
+        LocalDateTime start = LocalDateTime.parse("2025-06-14T00:00:00");
+        PriceEntity baseEntity = new PriceEntity();
+        Price base = new Price(1, 1, 0, Currency.EUR, BigDecimal.TEN,
+                start, start.plusDays(10), new Brand(1, "Zara"));
+        var partitioned = new PricePartition(Set.of(1), Map.of(2, URI.create("http://localhost:8082")),
+                Duration.ofSeconds(2));
+        var adapter = new PriceTimelineAdapter(priceJPARepository, mapper, partitioned);
+
+        when(priceJPARepository.findByBrandIds(Set.of(1))).thenReturn(List.of(baseEntity));
+        when(mapper.toDomain(baseEntity)).thenReturn(base);
+        adapter.afterSingletonsInstantiated();
+        adapter.onPriceChanged(new PriceChangedEvent(1, 2));
+
+        assertEquals(base, adapter.getPreferredPrice(start.plusDays(1), 1, 1).orElseThrow());
+        verify(priceJPARepository).findByBrandIds(Set.of(1));
+        verifyNoMoreInteractions(priceJPARepository);
+    }
+}
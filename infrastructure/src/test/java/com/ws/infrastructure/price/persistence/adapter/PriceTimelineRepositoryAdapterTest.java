@@ -0,0 +1,103 @@
+package com.ws.infrastructure.price.persistence.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ws.domain.price.model.Brand;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.Price;
+import com.ws.domain.price.model.PriceSegment;
+import com.ws.infrastructure.price.persistence.PriceJpaRepository;
+import com.ws.infrastructure.price.persistence.mapper.PriceEntityMapper;
+import com.ws.infrastructure.price.persistence.projection.BrandRegistry;
+import com.ws.infrastructure.price.persistence.projection.PriceView;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+class PriceTimelineRepositoryAdapterTest {
+
+    private static final Brand BRAND = new Brand(1, "ZARA");
+    private static final LocalDateTime FROM = LocalDateTime.parse("2025-06-14T12:00:00");
+    private static final LocalDateTime TO = LocalDateTime.parse("2025-06-15T00:00:00");
+
+    @Mock
+    private PriceJpaRepository priceJPARepository;
+    @Mock
+    private PriceEntityMapper mapper;
+    @Mock
+    private BrandRegistry brandRegistry;
+
+    private PriceTimelineRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new PriceTimelineRepositoryAdapter(priceJPARepository, mapper, brandRegistry, 2);
+    }
+
+    @Test
+    void forEachSegment_ShouldResolveThePricesOfEveryPage_ReadingEachPageAfterTheLastKeyOfThePreviousOne() {
+        var base = priceView(1, 0, "2025-06-14T00:00:00", "2025-12-31T23:59:59");
+        var promo = priceView(2, 1, "2025-06-14T15:00:00", "2025-06-14T18:29:59");
+        var evening = priceView(3, 1, "2025-06-14T20:00:00", "2025-06-14T21:59:59");
+        when(priceJPARepository.findTimelinePage(35455, 1, FROM, TO, Limit.of(2))).thenReturn(List.of(base, promo));
+        when(priceJPARepository.findTimelinePageAfter(35455, 1, FROM, TO, promo.startDate(), 2, Limit.of(2)))
+                .thenReturn(List.of(evening));
+        mapToDomain();
+
+        var segments = new ArrayList<PriceSegment>();
+        adapter.forEachSegment(35455, 1, FROM, TO, segments::add);
+
+        assertEquals(5, segments.size());
+        assertEquals(FROM, segments.get(0).from());
+        assertEquals(LocalDateTime.parse("2025-06-14T15:00:00"), segments.get(0).to());
+        assertEquals(2, segments.get(1).price().priceList());
+        assertEquals(LocalDateTime.parse("2025-06-14T18:29:59.000000001"), segments.get(2).from());
+        assertEquals(3, segments.get(3).price().priceList());
+        assertEquals(TO, segments.get(4).to());
+        var order = inOrder(priceJPARepository);
+        order.verify(priceJPARepository).findTimelinePage(35455, 1, FROM, TO, Limit.of(2));
+        order.verify(priceJPARepository).findTimelinePageAfter(35455, 1, FROM, TO, promo.startDate(), 2,
+                Limit.of(2));
+    }
+
+    @Test
+    void forEachSegment_ShouldNotReadAnotherPage_WhenThePageIsNotFull() {
+        var base = priceView(1, 0, "2025-06-14T00:00:00", "2025-12-31T23:59:59");
+        when(priceJPARepository.findTimelinePage(35455, 1, FROM, TO, Limit.of(2))).thenReturn(List.of(base));
+        mapToDomain();
+
+        var segments = new ArrayList<PriceSegment>();
+        adapter.forEachSegment(35455, 1, FROM, TO, segments::add);
+
+        assertEquals(List.of(new PriceSegment(FROM, TO, segments.get(0).price())), segments);
+        verify(priceJPARepository, never()).findTimelinePageAfter(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    private void mapToDomain() {
+        when(brandRegistry.brand(1)).thenReturn(BRAND);
+        when(mapper.toDomain(any(PriceView.class), any(Brand.class))).thenAnswer(invocation -> {
+            PriceView view = invocation.getArgument(0);
+            return new Price(view.priceList(), view.productId(), view.priority(), Currency.EUR, view.price(),
+                    view.startDate(), view.endDate(), BRAND);
+        });
+    }
+
+    private static PriceView priceView(int priceList, int priority, String startDate, String endDate) {
+        return new PriceView(priceList, 35455, 1, priority,
+                com.ws.infrastructure.price.persistence.entity.Currency.EUR, BigDecimal.ONE,
+                LocalDateTime.parse(startDate), LocalDateTime.parse(endDate));
+    }
+}
@@ -0,0 +1,181 @@
+package com.ws.infrastructure.price.persistence.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ws.infrastructure.price.persistence.PriceJpaRepository;
+import com.ws.infrastructure.price.persistence.entity.Currency;
+import com.ws.infrastructure.price.persistence.projection.PriceView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class PriceLookupBatcherTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.parse("2025-06-14T16:00:00");
+
+    @Mock
+    private PriceJpaRepository priceJPARepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PriceLookupBatcher batcher;
+
+    private PriceLookupBatcher start(Duration window, int maxBatchSize, int queueCapacity, int maxConcurrentBatches) {
+        batcher = new PriceLookupBatcher(priceJPARepository, true, window, maxBatchSize, queueCapacity,
+                maxConcurrentBatches, meterRegistry);
+        batcher.start();
+        return batcher;
+    }
+
+    @AfterEach
+    void stop() {
+        if (batcher != null) {
+            batcher.stop();
+        }
+    }
+
+    @Test
+    void findTopPriceView_ShouldResolveConcurrentLookupsWithASingleQuery() throws Exception {
+        var base = priceView(1, 35455, 0);
+        var promo = priceView(2, 35455, 1);
+        var other = priceView(3, 10, 0);
+        when(priceJPARepository.findCandidatePriceViews(any(), any(), any(), any()))
+                .thenReturn(List.of(base, promo, other));
+        start(Duration.ofSeconds(5), 3, 16, 1);
+
+        try (var executor = Executors.newFixedThreadPool(3)) {
+            var first = executor.submit(() -> batcher.findTopPriceView(35455, 1, DATE));
+            var second = executor.submit(() -> batcher.findTopPriceView(10, 1, DATE));
+            var third = executor.submit(() -> batcher.findTopPriceView(20, 1, DATE));
+
+            assertEquals(Optional.of(promo), first.get(5, TimeUnit.SECONDS));
+            assertEquals(Optional.of(other), second.get(5, TimeUnit.SECONDS));
+            assertEquals(Optional.empty(), third.get(5, TimeUnit.SECONDS));
+        }
+
+        verify(priceJPARepository, times(1)).findCandidatePriceViews(any(), any(), any(), any());
+        var batchSize = meterRegistry.get("price.db.batching.batch.size").summary();
+        assertEquals(1, batchSize.count());
+        assertEquals(3, batchSize.totalAmount());
+    }
+
+    @Test
+    void findSegmentView_ShouldBoundTheSegmentsOfTheBatchWithASingleSuccessorQuery() throws Exception {
+        var base = priceView(1, 35455, 0);
+        var promo = priceView(2, 10, 0);
+        var successor = new PriceView(4, 35455, 1, 1, Currency.EUR, BigDecimal.ONE,
+                DATE.plusHours(2), LocalDateTime.parse("2025-12-31T23:59:59"));
+        when(priceJPARepository.findCandidatePriceViews(any(), any(), any(), any()))
+                .thenReturn(List.of(base, promo));
+        when(priceJPARepository.findSuccessorPriceViews(any(), any(), any(), any()))
+                .thenReturn(List.of(successor));
+        start(Duration.ofSeconds(5), 4, 16, 1);
+
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            var first = executor.submit(() -> batcher.findSegmentView(35455, 1, DATE));
+            var second = executor.submit(() -> batcher.findSegmentView(10, 1, DATE));
+            var third = executor.submit(() -> batcher.findSegmentView(20, 1, DATE));
+            var price = executor.submit(() -> batcher.findTopPriceView(10, 1, DATE));
+
+            var bounded = first.get(5, TimeUnit.SECONDS).orElseThrow();
+            assertEquals(base, bounded.price());
+            assertEquals(DATE, bounded.from());
+            assertEquals(DATE.plusHours(2), bounded.to());
+            assertEquals(promo.endDate().plusNanos(1), second.get(5, TimeUnit.SECONDS).orElseThrow().to());
+            assertEquals(Optional.empty(), third.get(5, TimeUnit.SECONDS));
+            assertEquals(Optional.of(promo), price.get(5, TimeUnit.SECONDS));
+        }
+
+        verify(priceJPARepository, times(1)).findCandidatePriceViews(any(), any(), any(), any());
+        verify(priceJPARepository, times(1)).findSuccessorPriceViews(any(), any(), any(), any());
+    }
+
+    @Test
+    void findTopPriceView_ShouldThrowTheFailureOfTheQueryToEveryLookupOfTheBatch() throws Exception {
+        var failure = new DataAccessResourceFailureException("database down");
+        when(priceJPARepository.findCandidatePriceViews(any(), any(), any(), any())).thenThrow(failure);
+        start(Duration.ofSeconds(5), 2, 16, 1);
+
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            var first = executor.submit(() -> batcher.findTopPriceView(35455, 1, DATE));
+            var second = executor.submit(() -> batcher.findTopPriceView(10, 1, DATE));
+
+            assertSame(failure, assertThrows(ExecutionException.class, first::get).getCause());
+            assertSame(failure, assertThrows(ExecutionException.class, second::get).getCause());
+        }
+    }
+
+    @Test
+    void findTopPriceView_ShouldRejectTheLookup_WhenTheQueueIsFull() throws Exception {
+        var resolving = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(priceJPARepository.findCandidatePriceViews(any(), any(), any(), any())).thenAnswer(invocation -> {
+            resolving.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        start(Duration.ZERO, 1, 1, 1);
+
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            var running = executor.submit(() -> batcher.findTopPriceView(35455, 1, DATE));
+            assertTrue(resolving.await(5, TimeUnit.SECONDS));
+            var queued = executor.submit(() -> batcher.findTopPriceView(10, 1, DATE));
+            awaitQueueDepth(1);
+
+            assertThrows(DataAccessResourceFailureException.class, () -> batcher.findTopPriceView(20, 1, DATE));
+            release.countDown();
+
+            assertTrue(running.get(5, TimeUnit.SECONDS).isEmpty());
+            assertTrue(queued.get(5, TimeUnit.SECONDS).isEmpty());
+        }
+        assertEquals(1, meterRegistry.get("price.db.batching.rejected").counter().count());
+    }
+
+    @Test
+    void findTopPriceView_ShouldRunItsOwnQuery_WhenBatchingIsDisabled() {
+        var view = priceView(1, 35455, 0);
+        when(priceJPARepository.findTopPriceView(35455, 1, DATE)).thenReturn(Optional.of(view));
+        var disabled = new PriceLookupBatcher(priceJPARepository, false, Duration.ofMillis(1), 64, 16, 1,
+                meterRegistry);
+        disabled.start();
+
+        assertEquals(Optional.of(view), disabled.findTopPriceView(35455, 1, DATE));
+        assertFalse(disabled.isRunning());
+        verify(priceJPARepository, times(0)).findCandidatePriceViews(any(), any(), any(), any());
+    }
+
+    private void awaitQueueDepth(double depth) throws InterruptedException {
+        var gauge = meterRegistry.get("price.db.batching.queue.depth").gauge();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (gauge.value() != depth && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(depth, gauge.value());
+    }
+
+    private static PriceView priceView(int priceList, int productId, int priority) {
+        return new PriceView(priceList, productId, 1, priority, Currency.EUR, BigDecimal.TEN,
+                LocalDateTime.parse("2025-06-14T00:00:00"), LocalDateTime.parse("2025-12-31T23:59:59"));
+    }
+}
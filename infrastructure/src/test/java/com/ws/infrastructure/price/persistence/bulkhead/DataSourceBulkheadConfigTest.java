@@ -0,0 +1,51 @@
+package com.ws.infrastructure.price.persistence.bulkhead;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+@SpringBootTest(properties = {"price.outbound.adapter=jpa", "price.db.bulkhead.max-concurrent=1",
+        "price.db.bulkhead.max-waiting=0"})
+@ActiveProfiles("virtual")
+@AutoConfigureMockMvc
+class DataSourceBulkheadConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private MockMvc mockMvc;
+
+    private void getPrice(int expectedStatus) throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/prices")
+                        .param("applicationDate", "2025-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(MockMvcResultMatchers.status().is(expectedStatus));
+    }
+
+    @Test
+    void lookup_ShouldGoThroughBulkhead_AndReleaseConnection() throws Exception {
+        var bulkhead = assertInstanceOf(DataSourceBulkhead.class, dataSource);
+
+        getPrice(200);
+
+        assertEquals(0, bulkhead.active());
+    }
+
+    @Test
+    void lookup_ShouldAnswerServiceUnavailable_WhenBulkheadIsFull() throws Exception {
+        try (var held = dataSource.getConnection()) {
+            getPrice(503);
+        }
+        getPrice(200);
+    }
+}
@@ -0,0 +1,81 @@
+package com.ws.infrastructure.price.persistence.bulkhead;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DataSourceBulkheadTest {
+
+    @Mock
+    private DataSource pool;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DataSourceBulkhead bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkhead = new DataSourceBulkhead(pool, 1, 0, Duration.ofMillis(10));
+        bulkhead.bindTo(meterRegistry);
+    }
+
+    @Test
+    void getConnection_ShouldReject_WhenEveryPermitIsHeld() throws Exception {
+        when(pool.getConnection()).thenReturn(mock(Connection.class));
+        var held = bulkhead.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, bulkhead::getConnection);
+        assertEquals(1, bulkhead.active());
+        assertEquals(1, meterRegistry.counter("price.db.bulkhead.rejected").count());
+        held.close();
+    }
+
+    @Test
+    void close_ShouldReleasePermitOnce_AndCloseUnderlyingConnection() throws Exception {
+        var pooled = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(pooled);
+        var connection = bulkhead.getConnection();
+
+        connection.close();
+        connection.close();
+
+        assertEquals(0, bulkhead.active());
+        verify(pooled).close();
+    }
+
+    @Test
+    void getConnection_ShouldWaitForReleasedPermit_WhenWaitingIsAllowed() throws Exception {
+        when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        bulkhead = new DataSourceBulkhead(pool, 1, 1, Duration.ofSeconds(5));
+        var held = bulkhead.getConnection();
+        var waiter = Thread.ofVirtual().start(() -> {
+            try {
+                bulkhead.getConnection().close();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (bulkhead.waiting() == 0) {
+            Thread.onSpinWait();
+        }
+
+        held.close();
+        waiter.join();
+
+        assertEquals(0, bulkhead.active());
+    }
+}
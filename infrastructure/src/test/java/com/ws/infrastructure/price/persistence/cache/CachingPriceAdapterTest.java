@@ -0,0 +1,115 @@
+package com.ws.infrastructure.price.persistence.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ws.application.price.port.out.PriceOutboundPort;
+import com.ws.domain.price.model.Brand;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.Price;
+import com.ws.domain.price.model.PriceSegment;
+import com.ws.infrastructure.price.persistence.event.PriceChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CachingPriceAdapterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.parse("2025-06-14T12:00:00");
+    private static final Clock CLOCK = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    private static final Price PROMO = new Price(2, 35455, 1, Currency.EUR, new BigDecimal("25.45"),
+            NOW.plusHours(3), NOW.plusHours(6), new Brand(1, "ZARA"));
+    private static final PriceSegment SEGMENT = new PriceSegment(NOW.plusHours(3), NOW.plusHours(6), PROMO);
+
+    @Mock
+    private PriceOutboundPort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingPriceAdapter cachingPriceAdapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cachingPriceAdapter = new CachingPriceAdapter(delegate, 100, Duration.ofMinutes(10), CLOCK, meterRegistry);
+    }
+
+    @Test
+    void getPreferredPrice_ShouldHitSameEntry_ForAnyDateInsideSegment() {
+        when(delegate.getPreferredSegment(NOW.plusHours(4), 35455, 1)).thenReturn(Optional.of(SEGMENT));
+
+        assertEquals(PROMO, cachingPriceAdapter.getPreferredPrice(NOW.plusHours(4), 35455, 1).orElseThrow());
+        assertEquals(PROMO, cachingPriceAdapter.getPreferredPrice(NOW.plusHours(4).plusNanos(1_000_000), 35455, 1)
+                .orElseThrow());
+        assertEquals(PROMO, cachingPriceAdapter.getPreferredPrice(NOW.plusHours(3), 35455, 1).orElseThrow());
+
+        verify(delegate, times(1)).getPreferredSegment(any(), any(), any());
+        assertEquals(2, meterRegistry.counter("price.cache.gets", "result", "hit").count());
+        assertEquals(1, meterRegistry.counter("price.cache.gets", "result", "miss").count());
+    }
+
+    @Test
+    void getPreferredPrice_ShouldMiss_OutsideCachedSegment() {
+        when(delegate.getPreferredSegment(NOW.plusHours(4), 35455, 1)).thenReturn(Optional.of(SEGMENT));
+        when(delegate.getPreferredSegment(NOW.plusHours(6), 35455, 1)).thenReturn(Optional.empty());
+
+        cachingPriceAdapter.getPreferredPrice(NOW.plusHours(4), 35455, 1);
+
+        assertTrue(cachingPriceAdapter.getPreferredPrice(NOW.plusHours(6), 35455, 1).isEmpty());
+        assertEquals(2, meterRegistry.counter("price.cache.gets", "result", "miss").count());
+    }
+
+    @Test
+    void onPriceChanged_ShouldDropSegmentsOfChangedKey() {
+        when(delegate.getPreferredSegment(eq(NOW.plusHours(4)), eq(35455), eq(1))).thenReturn(Optional.of(SEGMENT));
+
+        cachingPriceAdapter.getPreferredPrice(NOW.plusHours(4), 35455, 1);
+        cachingPriceAdapter.onPriceChanged(new PriceChangedEvent(35455, 1));
+        cachingPriceAdapter.getPreferredPrice(NOW.plusHours(4), 35455, 1);
+
+        verify(delegate, times(2)).getPreferredSegment(NOW.plusHours(4), 35455, 1);
+        assertEquals(2, meterRegistry.counter("price.cache.gets", "result", "miss").count());
+    }
+
+    @Test
+    void getPreferredPrice_ShouldEvict_WhenMaximumSizeIsReached() {
+        meterRegistry = new SimpleMeterRegistry();
+        cachingPriceAdapter = new CachingPriceAdapter(delegate, 1, Duration.ofMinutes(10), CLOCK, meterRegistry);
+        var other = new PriceSegment(SEGMENT.from(), SEGMENT.to(),
+                new Price(3, 10, 0, Currency.EUR, BigDecimal.ONE, NOW, NOW.plusDays(1), new Brand(1, "ZARA")));
+        when(delegate.getPreferredSegment(NOW.plusHours(4), 35455, 1)).thenReturn(Optional.of(SEGMENT));
+        when(delegate.getPreferredSegment(NOW.plusHours(4), 10, 1)).thenReturn(Optional.of(other));
+
+        cachingPriceAdapter.getPreferredPrice(NOW.plusHours(4), 35455, 1);
+        cachingPriceAdapter.getPreferredPrice(NOW.plusHours(4), 10, 1);
+
+        assertEquals(1, meterRegistry.counter("price.cache.evictions", "cause", "size").count());
+        assertEquals(1, meterRegistry.get("price.cache.size").gauge().value());
+    }
+
+    @Test
+    void getPreferredPrice_ShouldUseEndedSegmentTtl_WhenSegmentHasAlreadyEnded() {
+        cachingPriceAdapter = new CachingPriceAdapter(delegate, 100, Duration.ZERO, CLOCK, new SimpleMeterRegistry());
+        var ended = new PriceSegment(NOW.minusDays(2), NOW.minusDays(1), PROMO);
+        when(delegate.getPreferredSegment(NOW.minusDays(2), 35455, 1)).thenReturn(Optional.of(ended));
+
+        cachingPriceAdapter.getPreferredPrice(NOW.minusDays(2), 35455, 1);
+        cachingPriceAdapter.getPreferredPrice(NOW.minusDays(2), 35455, 1);
+
+        verify(delegate, times(2)).getPreferredSegment(NOW.minusDays(2), 35455, 1);
+    }
+}
@@ -0,0 +1,36 @@
+package com.ws.infrastructure.price.persistence.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import com.ws.application.price.port.out.PriceOutboundPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {"price.cache.enabled=true", "price.outbound.adapter=jpa"})
+class PriceCacheConfigTest {
+
+    @Autowired
+    private PriceOutboundPort priceOutboundPort;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void priceOutboundPort_ShouldServeRepeatedLookupsInsideSegmentFromCache() {
+        assertInstanceOf(CachingPriceAdapter.class, priceOutboundPort);
+
+        assertEquals(new BigDecimal("25.45"), priceOutboundPort.getPreferredPrice(
+                LocalDateTime.parse("2025-06-14T16:00:00.000"), 35455, 1).orElseThrow().price());
+        assertEquals(new BigDecimal("25.45"), priceOutboundPort.getPreferredPrice(
+                LocalDateTime.parse("2025-06-14T16:00:00.001"), 35455, 1).orElseThrow().price());
+        assertEquals(new BigDecimal("35.50"), priceOutboundPort.getPreferredPrice(
+                LocalDateTime.parse("2025-06-14T21:00:00"), 35455, 1).orElseThrow().price());
+
+        assertEquals(1, meterRegistry.counter("price.cache.gets", "result", "hit").count());
+        assertEquals(2, meterRegistry.counter("price.cache.gets", "result", "miss").count());
+    }
+}
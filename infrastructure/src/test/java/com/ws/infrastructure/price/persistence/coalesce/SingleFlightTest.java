@@ -0,0 +1,103 @@
+package com.ws.infrastructure.price.persistence.coalesce;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<String, Integer> flights = new SingleFlight<>();
+
+    private void awaitCoalesced(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flights.coalesced() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, flights.coalesced());
+    }
+
+    @Test
+    void execute_ShouldRunASingleCall_WhenCallersOfTheSameKeyArriveWhileItRuns() throws Exception {
+        var release = new CountDownLatch(1);
+        var runs = new AtomicInteger();
+        try (var executor = Executors.newFixedThreadPool(CALLERS)) {
+            var results = new ArrayList<Future<Integer>>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> flights.execute("35455-1", () -> {
+                    runs.incrementAndGet();
+                    await(release);
+                    return 42;
+                })));
+            }
+            awaitCoalesced(CALLERS - 1);
+            release.countDown();
+
+            for (var result : results) {
+                assertEquals(42, result.get(5, TimeUnit.SECONDS));
+            }
+        }
+
+        assertEquals(1, runs.get());
+        assertEquals(1, flights.calls());
+        assertEquals(0, flights.inFlight());
+    }
+
+    @Test
+    void execute_ShouldThrowTheFailureToEveryWaiter_AndRunAgainAfterwards() throws Exception {
+        var release = new CountDownLatch(1);
+        var failure = new IllegalStateException("database down");
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            var leader = executor.submit(() -> flights.execute("35455-1", () -> {
+                await(release);
+                throw failure;
+            }));
+            awaitInFlight();
+            var waiter = executor.submit(() -> flights.execute("35455-1", () -> 0));
+            awaitCoalesced(1);
+            release.countDown();
+
+            assertSame(failure, assertThrows(ExecutionException.class, leader::get).getCause());
+            assertSame(failure, assertThrows(ExecutionException.class, waiter::get).getCause());
+        }
+
+        assertEquals(7, flights.execute("35455-1", () -> 7));
+        assertEquals(2, flights.calls());
+    }
+
+    @Test
+    void execute_ShouldRunEachKeyOnItsOwn() {
+        assertEquals(1, flights.execute("35455-1", () -> 1));
+        assertEquals(2, flights.execute("35455-2", () -> 2));
+
+        assertEquals(2, flights.calls());
+        assertEquals(0, flights.coalesced());
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flights.inFlight() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(1, flights.inFlight());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
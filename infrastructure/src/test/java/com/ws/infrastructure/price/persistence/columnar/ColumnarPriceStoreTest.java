@@ -0,0 +1,67 @@
+package com.ws.infrastructure.price.persistence.columnar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.ws.domain.price.model.Brand;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.Price;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+class ColumnarPriceStoreTest {
+
+    private static final Brand BRAND = new Brand(1, "ZARA");
+
+    private static Price price(int priceList, int productId, int priority, String price, String start, String end) {
+        return new Price(priceList, productId, priority, Currency.EUR, new BigDecimal(price),
+                LocalDateTime.parse(start), LocalDateTime.parse(end), BRAND);
+    }
+
+    private final Price base = price(1, 35455, 0, "35.50", "2025-06-14T00:00:00", "2025-12-31T23:59:59");
+    private final Price promo = price(2, 35455, 1, "25.45", "2025-06-14T15:00:00", "2025-06-14T18:30:00");
+    private final Price other = price(5, 10, 0, "1.00", "2025-01-01T00:00:00", "2025-12-31T23:59:59");
+
+    private final ColumnarPriceStore store = ColumnarPriceStore.builder(0)
+            .add(promo)
+            .add(other)
+            .add(base)
+            .build();
+
+    @Test
+    void priceAt_ShouldMaterializeHighestPriorityRow() {
+        assertEquals(base, store.priceAt(LocalDateTime.parse("2025-06-14T10:00:00"), 35455, 1).orElseThrow());
+        assertEquals(promo, store.priceAt(LocalDateTime.parse("2025-06-14T16:00:00"), 35455, 1).orElseThrow());
+        assertEquals(other, store.priceAt(LocalDateTime.parse("2025-06-14T16:00:00"), 10, 1).orElseThrow());
+    }
+
+    @Test
+    void priceAt_ShouldTreatEndDateAsInclusive() {
+        assertEquals(promo, store.priceAt(LocalDateTime.parse("2025-06-14T18:30:00"), 35455, 1).orElseThrow());
+        assertEquals(base, store.priceAt(LocalDateTime.parse("2025-06-14T18:30:00.001"), 35455, 1).orElseThrow());
+    }
+
+    @Test
+    void priceAt_ShouldReturnEmpty_WhenNoRowApplies() {
+        assertFalse(store.priceAt(LocalDateTime.parse("2024-06-14T10:00:00"), 35455, 1).isPresent());
+        assertFalse(store.priceAt(LocalDateTime.parse("2025-06-14T10:00:00"), 35455, 2).isPresent());
+        assertFalse(store.priceAt(LocalDateTime.parse("2025-06-14T10:00:00"), 35455, 100_000).isPresent());
+    }
+
+    @Test
+    void footprintBytes_ShouldCountPrimitiveColumnsOnly() {
+        assertEquals(3, store.size());
+        assertEquals(8 * 16 + 3 * (3 * Integer.BYTES + Short.BYTES + 3 * Long.BYTES + Byte.BYTES),
+                store.footprintBytes());
+    }
+
+    @Test
+    void add_ShouldRejectBrandOutOfShortRange() {
+        var builder = ColumnarPriceStore.builder(1);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.add(1, 1, 40_000, 0, 0, 0, 0, Currency.EUR));
+    }
+}
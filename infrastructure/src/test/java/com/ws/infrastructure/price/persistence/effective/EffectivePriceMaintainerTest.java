@@ -0,0 +1,86 @@
+package com.ws.infrastructure.price.persistence.effective;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ws.application.price.port.in.PriceAdminInboundPort;
+import com.ws.application.price.port.out.PriceOutboundPort;
+import com.ws.infrastructure.price.persistence.EffectivePriceJpaRepository;
+import com.ws.infrastructure.price.persistence.PriceJpaRepository;
+import com.ws.infrastructure.price.persistence.entity.Currency;
+import com.ws.infrastructure.price.persistence.entity.PriceEntity;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest(properties = "price.outbound.adapter=effective")
+@DirtiesContext
+class EffectivePriceMaintainerTest {
+
+    private static final int PRODUCT_ID = 35455;
+    private static final int BRAND_ID = 1;
+
+    @Autowired
+    private EffectivePriceMaintainer maintainer;
+    @Autowired
+    private EffectivePriceJpaRepository effectivePriceJPARepository;
+    @Autowired
+    private PriceJpaRepository priceJPARepository;
+    @Autowired
+    private PriceOutboundPort priceOutboundPort;
+    @Autowired
+    private PriceAdminInboundPort priceAdminInboundPort;
+
+    @Test
+    void check_ShouldBeConsistent_AfterStartupRebuild() {
+        EffectivePriceCheck check = maintainer.check();
+
+        assertTrue(check.isConsistent());
+        assertEquals(1, check.checkedKeys());
+        assertEquals(6, effectivePriceJPARepository.findSegments(PRODUCT_ID, BRAND_ID).size());
+    }
+
+    @Test
+    void getPreferredPrice_ShouldResolveFromEffectiveSegments() {
+        assertEquals(2, priceOutboundPort.getPreferredPrice(
+                LocalDateTime.parse("2025-06-14T18:30:00"), PRODUCT_ID, BRAND_ID).orElseThrow().priceList());
+        assertEquals(1, priceOutboundPort.getPreferredPrice(
+                LocalDateTime.parse("2025-06-14T18:30:00.000001"), PRODUCT_ID, BRAND_ID).orElseThrow().priceList());
+        assertTrue(priceOutboundPort.getPreferredPrice(
+                LocalDateTime.parse("2024-06-14T10:00:00"), PRODUCT_ID, BRAND_ID).isEmpty());
+    }
+
+    @Test
+    @DirtiesContext
+    void save_ShouldRebuildSegmentsOfChangedKey() {
+        PriceEntity flash = new PriceEntity();
+        flash.setPriceList(99);
+        flash.setProductId(PRODUCT_ID);
+        flash.setPriority(5);
+        flash.setCurrency(Currency.EUR);
+        flash.setPrice(new BigDecimal("9.99"));
+        flash.setStartDate(LocalDateTime.parse("2025-06-20T10:00:00"));
+        flash.setEndDate(LocalDateTime.parse("2025-06-20T12:00:00"));
+        flash.setBrand(priceJPARepository.findById(1).orElseThrow().getBrand());
+
+        priceJPARepository.save(flash);
+
+        assertEquals(99, priceOutboundPort.getPreferredPrice(
+                LocalDateTime.parse("2025-06-20T11:00:00"), PRODUCT_ID, BRAND_ID).orElseThrow().priceList());
+        assertTrue(maintainer.check().isConsistent());
+    }
+
+    @Test
+    @DirtiesContext
+    void deletePrice_ShouldDeleteSegmentsOfPriceList_AndRebuildItsKey() {
+        priceAdminInboundPort.deletePrice(2);
+
+        assertTrue(priceJPARepository.findById(2).isEmpty());
+        assertEquals(1, priceOutboundPort.getPreferredPrice(
+                LocalDateTime.parse("2025-06-14T16:00:00"), PRODUCT_ID, BRAND_ID).orElseThrow().priceList());
+        assertTrue(maintainer.check().isConsistent());
+    }
+}
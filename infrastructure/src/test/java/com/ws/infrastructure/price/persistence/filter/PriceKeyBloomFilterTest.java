@@ -0,0 +1,53 @@
+package com.ws.infrastructure.price.persistence.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ws.infrastructure.price.persistence.timeline.PriceTimelineIndex;
+import org.junit.jupiter.api.Test;
+
+class PriceKeyBloomFilterTest {
+
+    @Test
+    void mightContain_ShouldNeverMissAnAddedKey_AndStayNearTargetRate() {
+        var filter = PriceKeyBloomFilter.create(100_000, 0.01);
+        for (int productId = 0; productId < 100_000; productId++) {
+            filter.add(PriceTimelineIndex.key(productId, 1));
+        }
+
+        for (int productId = 0; productId < 100_000; productId++) {
+            assertTrue(filter.mightContain(PriceTimelineIndex.key(productId, 1)));
+        }
+        int falsePositives = 0;
+        for (int productId = 0; productId < 100_000; productId++) {
+            if (filter.mightContain(PriceTimelineIndex.key(productId, 2))) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "false positives : " + falsePositives);
+        assertTrue(filter.expectedFalsePositiveRate() < 0.02, "rate : " + filter.expectedFalsePositiveRate());
+        assertEquals(100_000, filter.keys(), 1_000);
+    }
+
+    @Test
+    void add_ShouldNotCountAKeyTwice() {
+        var filter = PriceKeyBloomFilter.create(10, 0.01);
+
+        assertTrue(filter.add(PriceTimelineIndex.key(35455, 1)));
+        assertFalse(filter.add(PriceTimelineIndex.key(35455, 1)));
+
+        assertEquals(1, filter.keys());
+        assertFalse(filter.mightContain(PriceTimelineIndex.key(35455, 2)));
+    }
+
+    @Test
+    void create_ShouldSizeBitsFromCapacityAndRate() {
+        var filter = PriceKeyBloomFilter.create(1_000_000, 0.01);
+
+        assertEquals(7, filter.hashes());
+        assertEquals(1_198_136, filter.sizeInBytes());
+        assertThrows(IllegalArgumentException.class, () -> PriceKeyBloomFilter.create(10, 0));
+    }
+}
@@ -0,0 +1,110 @@
+package com.ws.infrastructure.price.persistence.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ws.infrastructure.price.partition.PricePartition;
+import com.ws.infrastructure.price.persistence.PriceJpaRepository;
+import com.ws.infrastructure.price.persistence.event.PriceChangedEvent;
+import com.ws.infrastructure.price.persistence.event.PricesReloadedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PriceKeyFilterAdapterTest {
+
+    private static final PricePartition UNPARTITIONED = new PricePartition(Set.of(), Map.of(), Duration.ofSeconds(2));
+
+    @Mock
+    private PriceJpaRepository priceJPARepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PriceKeyFilterAdapter priceKeyFilterAdapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        priceKeyFilterAdapter = new PriceKeyFilterAdapter(priceJPARepository, UNPARTITIONED, true, 0.01, meterRegistry);
+    }
+
+    @Test
+    void mightContain_ShouldRejectPairsWithoutPrices_OnceLoaded() {
+        when(priceJPARepository.findKeys()).thenReturn(List.of(new PriceKey(35455, 1)));
+
+        assertTrue(priceKeyFilterAdapter.mightContain(35455, 2));
+        priceKeyFilterAdapter.afterSingletonsInstantiated();
+
+        assertTrue(priceKeyFilterAdapter.mightContain(35455, 1));
+        assertFalse(priceKeyFilterAdapter.mightContain(35455, 2));
+        assertEquals(2, meterRegistry.counter("price.key.filter.checks", "result", "passed").count());
+        assertEquals(1, meterRegistry.counter("price.key.filter.checks", "result", "rejected").count());
+        assertEquals(1, meterRegistry.get("price.key.filter.keys").gauge().value());
+        assertTrue(meterRegistry.get("price.key.filter.memory").gauge().value() > 0);
+        assertTrue(meterRegistry.get("price.key.filter.false.positive.rate").gauge().value() < 0.01);
+    }
+
+    @Test
+    void onPriceChanged_ShouldAddPairWithoutQueryingRepository() {
+        when(priceJPARepository.findKeys()).thenReturn(List.of());
+        priceKeyFilterAdapter.afterSingletonsInstantiated();
+
+        priceKeyFilterAdapter.onPriceChanged(new PriceChangedEvent(35455, 2));
+
+        assertTrue(priceKeyFilterAdapter.mightContain(35455, 2));
+        verify(priceJPARepository, times(1)).findKeys();
+    }
+
+    @Test
+    void onPricesReloaded_ShouldRebuildFilter() {
+        when(priceJPARepository.findKeys())
+                .thenReturn(List.of(new PriceKey(35455, 1)))
+                .thenReturn(List.of(new PriceKey(35455, 2)));
+        priceKeyFilterAdapter.afterSingletonsInstantiated();
+
+        priceKeyFilterAdapter.onPricesReloaded(new PricesReloadedEvent(1));
+
+        assertFalse(priceKeyFilterAdapter.mightContain(35455, 1));
+        assertTrue(priceKeyFilterAdapter.mightContain(35455, 2));
+    }
+
+    @Test
+    void mightContain_ShouldPassEveryPair_WhenDisabled() {
+        priceKeyFilterAdapter = new PriceKeyFilterAdapter(priceJPARepository, UNPARTITIONED, false, 0.01,
+                new SimpleMeterRegistry());
+
+        priceKeyFilterAdapter.afterSingletonsInstantiated();
+        priceKeyFilterAdapter.onPriceChanged(new PriceChangedEvent(35455, 1));
+
+        assertTrue(priceKeyFilterAdapter.mightContain(35455, 2));
+        verifyNoInteractions(priceJPARepository);
+    }
+
+    @Test
+    void mightContain_ShouldOnlyHoldOwnedBrands_WhenPartitioned() {
+        var partition = new PricePartition(Set.of(1), Map.of(2, URI.create("http://localhost:8082")),
+                Duration.ofSeconds(2));
+        priceKeyFilterAdapter = new PriceKeyFilterAdapter(priceJPARepository, partition, true, 0.01,
+                new SimpleMeterRegistry());
+        when(priceJPARepository.findKeysByBrandIds(Set.of(1))).thenReturn(List.of(new PriceKey(35455, 1)));
+
+        priceKeyFilterAdapter.afterSingletonsInstantiated();
+        priceKeyFilterAdapter.onPriceChanged(new PriceChangedEvent(35455, 2));
+
+        assertTrue(priceKeyFilterAdapter.mightContain(35455, 1));
+        assertFalse(priceKeyFilterAdapter.mightContain(35455, 2));
+    }
+}
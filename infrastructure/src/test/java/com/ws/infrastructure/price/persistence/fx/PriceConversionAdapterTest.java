@@ -0,0 +1,136 @@
+package com.ws.infrastructure.price.persistence.fx;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ws.application.price.port.out.ExchangeRateOutboundPort;
+import com.ws.domain.price.model.Brand;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.ExchangeRates;
+import com.ws.domain.price.model.Price;
+import com.ws.infrastructure.price.partition.PricePartition;
+import com.ws.infrastructure.price.persistence.PriceJpaRepository;
+import com.ws.infrastructure.price.persistence.event.ExchangeRatesPublishedEvent;
+import com.ws.infrastructure.price.persistence.event.PriceChangedEvent;
+import com.ws.infrastructure.price.persistence.event.PricesReloadedEvent;
+import com.ws.infrastructure.price.persistence.projection.PriceAmount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PriceConversionAdapterTest {
+
+    private static final PricePartition UNPARTITIONED = new PricePartition(Set.of(), Map.of(), Duration.ofSeconds(2));
+    private static final LocalDateTime START = LocalDateTime.parse("2025-06-14T15:00:00");
+    private static final ExchangeRates RATES = new ExchangeRates(1, Map.of(Currency.USD, new BigDecimal("1.0842")));
+    private static final Price PROMO = new Price(2, 35455, 1, Currency.EUR, new BigDecimal("25.45"),
+            START, START.plusHours(3), new Brand(1, "ZARA"));
+
+    @Mock
+    private PriceJpaRepository priceJPARepository;
+
+    @Mock
+    private ExchangeRateOutboundPort exchangeRateOutboundPort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PriceConversionAdapter priceConversionAdapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        priceConversionAdapter = new PriceConversionAdapter(priceJPARepository, exchangeRateOutboundPort,
+                UNPARTITIONED, meterRegistry);
+    }
+
+    @Test
+    void convert_ShouldReturnPrecomputedAmount_OnceLoaded() {
+        when(exchangeRateOutboundPort.findCurrent()).thenReturn(RATES);
+        when(priceJPARepository.findAmounts()).thenReturn(List.of(amount("25.45")));
+        priceConversionAdapter.afterSingletonsInstantiated();
+
+        var converted = priceConversionAdapter.convert(PROMO, Currency.USD);
+
+        assertEquals(Currency.USD, converted.currency());
+        assertEquals(new BigDecimal("27.59"), converted.price());
+        assertSame(PROMO, priceConversionAdapter.convert(PROMO, Currency.EUR));
+        assertEquals(1, meterRegistry.counter("price.conversion.lookups", "result", "precomputed").count());
+        assertEquals(1, meterRegistry.get("price.conversion.amounts").gauge().value());
+        assertEquals(1, meterRegistry.get("price.conversion.rates.version").gauge().value());
+    }
+
+    @Test
+    void convert_ShouldComputeAmount_WhenItIsNotInTheTable() {
+        when(exchangeRateOutboundPort.findCurrent()).thenReturn(RATES);
+        when(priceJPARepository.findAmounts()).thenReturn(List.of());
+        priceConversionAdapter.afterSingletonsInstantiated();
+
+        assertEquals(new BigDecimal("27.59"), priceConversionAdapter.convert(PROMO, Currency.USD).price());
+        assertEquals(1, meterRegistry.counter("price.conversion.lookups", "result", "computed").count());
+        assertThrows(IllegalArgumentException.class, () -> priceConversionAdapter.convert(PROMO, Currency.GBP));
+    }
+
+    @Test
+    void onPriceChanged_ShouldOnlyConvertAmountsOfChangedPair() {
+        when(exchangeRateOutboundPort.findCurrent()).thenReturn(RATES);
+        when(priceJPARepository.findAmounts()).thenReturn(List.of());
+        when(priceJPARepository.findAmounts(35455, 1)).thenReturn(List.of(amount("25.45")));
+        priceConversionAdapter.afterSingletonsInstantiated();
+
+        priceConversionAdapter.onPriceChanged(new PriceChangedEvent(35455, 1));
+        priceConversionAdapter.convert(PROMO, Currency.USD);
+
+        assertEquals(1, meterRegistry.counter("price.conversion.lookups", "result", "precomputed").count());
+        verify(priceJPARepository, times(1)).findAmounts();
+    }
+
+    @Test
+    void onRatesPublished_ShouldRebuildTable_OnlyForNewerVersions() {
+        when(exchangeRateOutboundPort.findCurrent()).thenReturn(RATES);
+        when(priceJPARepository.findAmounts()).thenReturn(List.of(amount("25.45")));
+        priceConversionAdapter.afterSingletonsInstantiated();
+        assertFalse(priceConversionAdapter.supports(Currency.GBP));
+
+        priceConversionAdapter.onRatesPublished(new ExchangeRatesPublishedEvent(
+                new ExchangeRates(2, Map.of(Currency.GBP, new BigDecimal("0.8571")))));
+        priceConversionAdapter.onRatesPublished(new ExchangeRatesPublishedEvent(RATES));
+
+        assertTrue(priceConversionAdapter.supports(Currency.GBP));
+        assertFalse(priceConversionAdapter.supports(Currency.USD));
+        assertEquals(new BigDecimal("21.81"), priceConversionAdapter.convert(PROMO, Currency.GBP).price());
+        verify(priceJPARepository, times(2)).findAmounts();
+    }
+
+    @Test
+    void onPricesReloaded_ShouldRebuildTable_WithTheCurrentRates() {
+        when(exchangeRateOutboundPort.findCurrent()).thenReturn(RATES,
+                new ExchangeRates(2, Map.of(Currency.GBP, new BigDecimal("0.8571"))));
+        when(priceJPARepository.findAmounts()).thenReturn(List.of(amount("25.45")));
+        priceConversionAdapter.afterSingletonsInstantiated();
+
+        priceConversionAdapter.onPricesReloaded(new PricesReloadedEvent(1));
+
+        assertTrue(priceConversionAdapter.supports(Currency.GBP));
+        assertEquals(new BigDecimal("21.81"), priceConversionAdapter.convert(PROMO, Currency.GBP).price());
+        verify(exchangeRateOutboundPort, times(2)).findCurrent();
+    }
+
+    private static PriceAmount amount(String price) {
+        return new PriceAmount(com.ws.infrastructure.price.persistence.entity.Currency.EUR, new BigDecimal(price));
+    }
+}
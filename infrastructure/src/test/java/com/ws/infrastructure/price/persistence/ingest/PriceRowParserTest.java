@@ -0,0 +1,70 @@
+package com.ws.infrastructure.price.persistence.ingest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ws.domain.price.model.Currency;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+class PriceRowParserTest {
+
+    private static PriceRow parse(PriceFileFormat format, String line) {
+        var bytes = line.getBytes(StandardCharsets.US_ASCII);
+        var cursor = new ByteCursor();
+        var row = new PriceRow();
+        cursor.reset(ByteBuffer.wrap(bytes), 0, bytes.length, 100);
+        format.parser().parse(cursor, row);
+        return row;
+    }
+
+    @Test
+    void parse_ShouldReadEveryColumn_WhenCsvRowIsValid() {
+        var row = parse(PriceFileFormat.CSV, "7,35455,1,2,EUR,25.5,2025-06-14T15:00:00,2025-06-14 18:30:00.25\r");
+
+        assertEquals(7, row.priceList);
+        assertEquals(35455, row.productId);
+        assertEquals(1, row.brandId);
+        assertEquals(2, row.priority);
+        assertEquals(Currency.EUR, row.currency);
+        assertEquals(2550, row.minorPrice);
+        assertEquals(LocalDateTime.parse("2025-06-14T15:00:00"), row.startDate);
+        assertEquals(LocalDateTime.parse("2025-06-14T18:30:00.25"), row.endDate);
+    }
+
+    @Test
+    void parse_ShouldMatchKeysInAnyOrder_WhenNdjsonRowIsValid() {
+        var row = parse(PriceFileFormat.NDJSON, """
+                { "currency": "EUR", "price": 35.50, "startDate": "2025-06-14T00:00:00", \
+                "endDate": "2025-12-31T23:59:59", "brandId": 1, "productId": 35455, \
+                "comment": {"source": ["erp", 1]}, "priority": 0, "priceList": 1 }""");
+
+        assertEquals(1, row.priceList);
+        assertEquals(35455, row.productId);
+        assertEquals(3550, row.minorPrice);
+        assertEquals(LocalDateTime.parse("2025-12-31T23:59:59"), row.endDate);
+    }
+
+    @Test
+    void parse_ShouldReportByteOffset_WhenRowIsMalformed() {
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> parse(PriceFileFormat.CSV, "7,35455,x,2,EUR,25.50,2025-06-14T15:00:00,2025-06-14T18:30:00"));
+
+        assertTrue(exception.getMessage().startsWith("malformed price row at byte 108"), exception.getMessage());
+    }
+
+    @Test
+    void parse_ShouldReject_WhenPriceHasMoreDecimalsThanMinorUnit() {
+        assertThrows(IllegalArgumentException.class,
+                () -> parse(PriceFileFormat.CSV, "7,35455,1,2,EUR,25.505,2025-06-14T15:00:00,2025-06-14T18:30:00"));
+    }
+
+    @Test
+    void parse_ShouldReject_WhenNdjsonKeyIsMissing() {
+        assertThrows(IllegalArgumentException.class,
+                () -> parse(PriceFileFormat.NDJSON, "{\"priceList\": 1, \"productId\": 35455}"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.ws.infrastructure.price.persistence.projection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ws.domain.price.model.Brand;
+import com.ws.infrastructure.price.persistence.BrandJpaRepository;
+import com.ws.infrastructure.price.persistence.entity.BrandEntity;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BrandRegistryTest {
+
+    @Mock
+    private BrandJpaRepository brandJPARepository;
+
+    @InjectMocks
+    private BrandRegistry brandRegistry;
+
+    @Test
+    void brand_ShouldNotQuery_WhenBrandWasLoadedAtStartup() {
+        when(brandJPARepository.findAll()).thenReturn(List.of(brandEntity(1, "ZARA")));
+        brandRegistry.afterSingletonsInstantiated();
+
+        assertEquals(new Brand(1, "ZARA"), brandRegistry.brand(1));
+        verify(brandJPARepository, never()).findById(1);
+    }
+
+    @Test
+    void brand_ShouldLoadOnce_WhenBrandWasAddedAfterStartup() {
+        when(brandJPARepository.findById(2)).thenReturn(Optional.of(brandEntity(2, "PULL&BEAR")));
+
+        assertEquals(new Brand(2, "PULL&BEAR"), brandRegistry.brand(2));
+        assertEquals(new Brand(2, "PULL&BEAR"), brandRegistry.brand(2));
+        verify(brandJPARepository, times(1)).findById(2);
+    }
+
+    @Test
+    void brand_ShouldThrow_WhenBrandDoesNotExist() {
+        when(brandJPARepository.findById(3)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalStateException.class, () -> brandRegistry.brand(3));
+    }
+
+    private static BrandEntity brandEntity(int id, String name) {
+        var entity = new BrandEntity();
+        entity.setId(id);
+        entity.setName(name);
+        return entity;
+    }
+}
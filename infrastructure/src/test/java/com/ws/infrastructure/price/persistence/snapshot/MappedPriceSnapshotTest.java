@@ -0,0 +1,103 @@
+package com.ws.infrastructure.price.persistence.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.ws.domain.price.model.Brand;
+import com.ws.domain.price.model.Currency;
+import com.ws.domain.price.model.Price;
+import com.ws.domain.price.model.PriceTimeline;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedPriceSnapshotTest {
+
+    private static final Brand ZARA = new Brand(1, "ZARA");
+
+    private static final List<Price> PRICES = List.of(
+            price(1, 0, "35.50", "2025-06-14T00:00:00", "2025-12-31T23:59:59"),
+            price(2, 1, "25.45", "2025-06-14T15:00:00", "2025-06-14T18:30:00"),
+            price(3, 1, "30.50", "2025-06-15T00:00:00", "2025-06-15T11:00:00"),
+            price(4, 1, "38.95", "2025-06-15T16:00:00", "2025-12-31T23:59:59"));
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void segmentAt_ShouldMatchResolvedTimeline_WhenSnapshotIsWritten() {
+        var file = directory.resolve("prices.bin");
+        PriceSnapshotWriter.write(file, PRICES, Set.of(), 7, 42);
+        var timeline = PriceTimeline.of(PRICES);
+
+        var snapshot = MappedPriceSnapshot.open(file);
+
+        assertEquals(7, snapshot.version());
+        assertEquals(42, snapshot.fingerprint());
+        assertEquals(Set.of(), snapshot.scope());
+        assertEquals(1, snapshot.size());
+        assertEquals(timeline.size(), snapshot.segmentCount());
+        for (String date : List.of("2025-06-14T10:00:00", "2025-06-14T16:00:00", "2025-06-14T18:30:00",
+                "2025-06-14T18:30:00.000000001", "2025-06-15T10:00:00", "2025-06-16T21:00:00")) {
+            var applicationDate = LocalDateTime.parse(date);
+            assertEquals(timeline.segmentAt(applicationDate), snapshot.segmentAt(applicationDate, 35455, 1), date);
+        }
+        assertFalse(snapshot.segmentAt(LocalDateTime.parse("2025-06-13T23:59:59"), 35455, 1).isPresent());
+        assertFalse(snapshot.segmentAt(LocalDateTime.parse("2026-01-01T00:00:00"), 35455, 1).isPresent());
+        assertFalse(snapshot.segmentAt(LocalDateTime.parse("2025-06-14T16:00:00"), 35455, 2).isPresent());
+        assertFalse(snapshot.segmentAt(LocalDateTime.parse("2025-06-14T16:00:00"), 35456, 1).isPresent());
+    }
+
+    @Test
+    void open_ShouldReject_WhenHeaderIsCorruptedOrFileIsTruncated() throws IOException {
+        var file = directory.resolve("prices.bin");
+        PriceSnapshotWriter.write(file, PRICES, Set.of(1), 1, 0);
+        var bytes = Files.readAllBytes(file);
+
+        var corrupted = bytes.clone();
+        corrupted[PriceSnapshotLayout.VERSION_OFFSET] ^= 1;
+        Files.write(file, corrupted);
+        assertThrows(PriceSnapshotException.class, () -> MappedPriceSnapshot.open(file));
+
+        corrupted = bytes.clone();
+        corrupted[PriceSnapshotLayout.FINGERPRINT_OFFSET] ^= 1;
+        Files.write(file, corrupted);
+        assertThrows(PriceSnapshotException.class, () -> MappedPriceSnapshot.open(file));
+
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(PriceSnapshotException.class, () -> MappedPriceSnapshot.open(file));
+    }
+
+    @Test
+    void segmentAt_ShouldOnlyCheckBlocksItReads_AndThrow_WhenOneFailsItsChecksum() throws IOException {
+        var file = directory.resolve("prices.bin");
+        var prices = IntStream.rangeClosed(1, 3000)
+                .mapToObj(productId -> new Price(1, productId, 0, Currency.EUR, BigDecimal.TEN,
+                        LocalDateTime.parse("2025-01-01T00:00:00"), LocalDateTime.parse("2025-12-31T23:59:59"), ZARA))
+                .toList();
+        PriceSnapshotWriter.write(file, prices, Set.of(), 1, 0);
+        var bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(file, bytes);
+        var date = LocalDateTime.parse("2025-06-14T16:00:00");
+
+        var snapshot = MappedPriceSnapshot.open(file);
+
+        assertEquals(1, snapshot.priceAt(date, 1, 1).orElseThrow().priceList());
+        assertThrows(PriceSnapshotException.class, () -> snapshot.priceAt(date, 3000, 1));
+    }
+
+    private static Price price(int priceList, int priority, String amount, String start, String end) {
+        return new Price(priceList, 35455, priority, Currency.EUR, new BigDecimal(amount),
+                LocalDateTime.parse(start), LocalDateTime.parse(end), ZARA);
+    }
+}
@@ -0,0 +1,48 @@
+package com.ws.infrastructure.price.rest.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ws.application.price.model.PriceDto;
+import com.ws.domain.price.model.Currency;
+import com.ws.application.price.model.PriceSegmentDto;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+class PriceCacheHeadersTest {
+
+    private static final LocalDateTime START = LocalDateTime.parse("2025-06-14T15:00:00");
+    private static final PriceDto PROMO = new PriceDto(2, 35455, new BigDecimal("25.45"), Currency.EUR,
+            START, START.plusHours(3), 1);
+
+    private final PriceCacheHeaders priceCacheHeaders = new PriceCacheHeaders(Duration.ofHours(1));
+
+    @Test
+    void etag_ShouldBeStrongAndChangeWithData() {
+        var etag = priceCacheHeaders.etag(PROMO);
+
+        assertTrue(etag.startsWith("\"2-") && etag.endsWith("\""), etag);
+        assertEquals(etag, priceCacheHeaders.etag(new PriceDto(2, 35455, new BigDecimal("25.45"), Currency.EUR,
+                START, START.plusHours(3), 1)));
+        assertNotEquals(etag, priceCacheHeaders.etag(new PriceDto(2, 35455, new BigDecimal("19.99"), Currency.EUR,
+                START, START.plusHours(3), 1)));
+        assertNotEquals(etag, priceCacheHeaders.etag(new PriceDto(2, 35455, new BigDecimal("25.45"), Currency.EUR,
+                START, START.plusHours(4), 1)));
+        assertNotEquals(etag, priceCacheHeaders.etag(new PriceDto(2, 35455, new BigDecimal("25.45"), Currency.USD,
+                START, START.plusHours(3), 1)));
+    }
+
+    @Test
+    void cacheControl_ShouldLastUntilSegmentEnds_CappedAtLimit() {
+        var segment = new PriceSegmentDto(START, START.plusHours(3), PROMO);
+
+        assertEquals("max-age=600, public",
+                priceCacheHeaders.cacheControl(segment, START.plusHours(3).minusMinutes(10)).getHeaderValue());
+        assertEquals("max-age=3600, public", priceCacheHeaders.cacheControl(segment, START).getHeaderValue());
+        assertEquals("max-age=0, public",
+                priceCacheHeaders.cacheControl(segment, START.plusHours(4)).getHeaderValue());
+    }
+}
@@ -0,0 +1,119 @@
+package com.ws.infrastructure.price.rest.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ws.application.price.model.PriceDto;
+import com.ws.domain.price.model.Currency;
+import com.ws.infrastructure.price.persistence.event.PriceChangedEvent;
+import com.ws.infrastructure.price.persistence.event.PricesReloadedEvent;
+import com.ws.infrastructure.price.rest.mapper.PriceResponseMapperImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class PriceResponseCacheTest {
+
+    private static final LocalDateTime START = LocalDateTime.parse("2025-06-14T15:00:00");
+    private static final PriceDto PROMO = new PriceDto(2, 35455, new BigDecimal("25.45"), Currency.EUR,
+            START, START.plusHours(3), 1);
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private SimpleMeterRegistry meterRegistry;
+    private PriceResponseCache priceResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        priceResponseCache = new PriceResponseCache(objectMapper, new PriceResponseMapperImpl(), true, 100,
+                meterRegistry);
+    }
+
+    @Test
+    void toResponse_ShouldReuseResponseAndEncodedBody_ForSamePriceList() throws Exception {
+        var first = priceResponseCache.toResponse(PROMO);
+        var second = priceResponseCache.toResponse(new PriceDto(2, 35455, new BigDecimal("25.45"), Currency.EUR,
+                START, START.plusHours(3), 1));
+
+        assertSame(first, second);
+        assertArrayEquals(objectMapper.writeValueAsBytes(first), priceResponseCache.encoded(first));
+        assertEquals(1, meterRegistry.counter("price.response.cache.gets", "result", "hit").count());
+        assertEquals(1, meterRegistry.counter("price.response.cache.gets", "result", "miss").count());
+    }
+
+    @Test
+    void toResponse_ShouldReturnReadOnlyResponse_SoNoCallerChangesTheResponseOfTheOthers() {
+        var first = priceResponseCache.toResponse(PROMO);
+
+        assertThrows(UnsupportedOperationException.class, () -> first.setPrice(BigDecimal.ZERO));
+        assertThrows(UnsupportedOperationException.class, () -> first.price(BigDecimal.ZERO));
+        assertEquals(new BigDecimal("25.45"), priceResponseCache.toResponse(PROMO).getPrice());
+    }
+
+    @Test
+    void toResponse_ShouldReplaceEntry_WhenPriceListChanged() {
+        var first = priceResponseCache.toResponse(PROMO);
+        var changed = priceResponseCache.toResponse(new PriceDto(2, 35455, new BigDecimal("19.99"), Currency.EUR,
+                START, START.plusHours(3), 1));
+
+        assertNotSame(first, changed);
+        assertEquals(new BigDecimal("19.99"), changed.getPrice());
+        assertEquals(2, meterRegistry.counter("price.response.cache.gets", "result", "miss").count());
+    }
+
+    @Test
+    void toResponse_ShouldKeepOneEntryPerCurrency_ForSamePriceList() {
+        var euros = priceResponseCache.toResponse(PROMO);
+        var dollars = priceResponseCache.toResponse(new PriceDto(2, 35455, new BigDecimal("27.59"), Currency.USD,
+                START, START.plusHours(3), 1));
+
+        assertNotEquals(euros, dollars);
+        assertEquals(euros, priceResponseCache.toResponse(PROMO));
+        assertEquals(1, meterRegistry.counter("price.response.cache.gets", "result", "hit").count());
+        assertNotNull(priceResponseCache.encoded(euros));
+        assertNotNull(priceResponseCache.encoded(dollars));
+    }
+
+    @Test
+    void onPriceChanged_ShouldDropEntriesOfChangedPair() {
+        var first = priceResponseCache.toResponse(PROMO);
+
+        priceResponseCache.onPriceChanged(new PriceChangedEvent(35455, 2));
+        assertSame(first, priceResponseCache.toResponse(PROMO));
+
+        priceResponseCache.onPriceChanged(new PriceChangedEvent(35455, 1));
+        assertNotSame(first, priceResponseCache.toResponse(PROMO));
+    }
+
+    @Test
+    void onPricesReloaded_ShouldDropEveryEntry() {
+        var first = priceResponseCache.toResponse(PROMO);
+
+        priceResponseCache.onPricesReloaded(new PricesReloadedEvent(1));
+
+        assertEquals(0, meterRegistry.get("price.response.cache.size").gauge().value());
+        assertNotSame(first, priceResponseCache.toResponse(PROMO));
+    }
+
+    @Test
+    void toResponse_ShouldMapEveryTime_WhenDisabled() {
+        priceResponseCache = new PriceResponseCache(objectMapper, new PriceResponseMapperImpl(), false, 100,
+                new SimpleMeterRegistry());
+
+        var first = priceResponseCache.toResponse(PROMO);
+
+        assertNotSame(first, priceResponseCache.toResponse(PROMO));
+        assertNull(priceResponseCache.encoded(first));
+    }
+}
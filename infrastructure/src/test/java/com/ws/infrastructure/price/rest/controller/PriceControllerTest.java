@@ -3,19 +3,38 @@ package com.ws.infrastructure.price.rest.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.ws.application.price.model.PriceBatchItemDto;
 import com.ws.application.price.model.PriceDto;
+import com.ws.application.price.model.PriceQuery;
+import com.ws.application.price.model.PriceSegmentDto;
 import com.ws.application.price.port.in.PriceInboundPort;
+import com.ws.domain.price.model.Currency;
+import com.ws.infrastructure.price.metrics.PriceLookupTimers;
+import com.ws.infrastructure.price.partition.PriceBatchRouter;
+import com.ws.infrastructure.price.partition.PricePartition;
+import com.ws.infrastructure.price.rest.cache.PriceCacheHeaders;
+import com.ws.infrastructure.price.rest.cache.PriceResponseCache;
+import com.ws.infrastructure.price.rest.dto.PriceBatchItemDTO;
+import com.ws.infrastructure.price.rest.dto.PriceBatchRequestDTO;
+import com.ws.infrastructure.price.rest.dto.PriceBatchResponseDTO;
+import com.ws.infrastructure.price.rest.dto.PriceQueryDTO;
 import com.ws.infrastructure.price.rest.dto.PriceResponseDTO;
 import com.ws.infrastructure.price.rest.mapper.PriceResponseMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 
@@ -28,24 +47,60 @@ class PriceControllerTest {
     @Mock
     private PriceResponseMapper mapper;
 
+    @Mock
+    private PriceResponseCache responseCache;
+
+    @Spy
+    private PriceCacheHeaders cacheHeaders = new PriceCacheHeaders(Duration.ofHours(1));
+
+    @Spy
+    private PriceBatchRouter batchRouter = new PriceBatchRouter(
+            new PricePartition(Set.of(), Map.of(), Duration.ofSeconds(2)), null, null);
+
+    @Spy
+    private PriceLookupTimers timers = new PriceLookupTimers(new SimpleMeterRegistry());
+
     @InjectMocks
     private PriceController priceController;
 
     @Test
     void getPrices_ShouldReturnResponseEntity_WhenPriceExists() {
-        LocalDateTime applicationDate = LocalDateTime.now();
+        LocalDateTime applicationDate = LocalDateTime.parse("2025-06-14T16:00:00");
         Integer productId = 1;
         Integer brandId = 1;
-        PriceDto mockDto = mock(PriceDto.class);
+        PriceDto dto = new PriceDto(2, productId, BigDecimal.TEN, Currency.EUR, applicationDate.minusHours(1),
+                applicationDate.plusMinutes(30), brandId);
+        PriceSegmentDto segment = new PriceSegmentDto(dto.startDate(), dto.endDate(), dto);
         PriceResponseDTO mockPriceResponseDTO = mock(PriceResponseDTO.class);
 
 
-        when(mapper.toResponse(any())).thenReturn(mockPriceResponseDTO);
-        when(priceInboundPort.getPreferredPrice(applicationDate, productId, brandId)).thenReturn(mockDto);
+        when(responseCache.toResponse(dto)).thenReturn(mockPriceResponseDTO);
+        when(priceInboundPort.getPreferredSegment(applicationDate, productId, brandId, null)).thenReturn(segment);
 
-        ResponseEntity<PriceResponseDTO> response = priceController.getPrices(applicationDate, productId, brandId);
+        ResponseEntity<PriceResponseDTO> response = priceController.getPrices(applicationDate, productId, brandId, null);
 
         assertNotNull(response);
         assertEquals(200, response.getStatusCode().value());
+        assertEquals(mockPriceResponseDTO, response.getBody());
+        assertEquals(cacheHeaders.etag(dto), response.getHeaders().getETag());
+        assertEquals("max-age=1800, public", response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void getPricesBatch_ShouldReturnOneItemPerQuery() {
+        var queryDto = new PriceQueryDTO(LocalDateTime.now(), 1, 1);
+        var query = new PriceQuery(queryDto.getApplicationDate(), 1, 1, null);
+        var items = List.of(new PriceBatchItemDto(query, null));
+        var itemDtos = List.of(new PriceBatchItemDTO().found(false));
+
+        when(mapper.toQueries(List.of(queryDto))).thenReturn(List.of(query));
+        when(priceInboundPort.getPreferredPrices(List.of(query))).thenReturn(items);
+        when(mapper.toBatchItems(items)).thenReturn(itemDtos);
+
+        ResponseEntity<PriceBatchResponseDTO> response =
+                priceController.getPricesBatch(new PriceBatchRequestDTO(List.of(queryDto)));
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(itemDtos, response.getBody().getItems());
     }
 }
@@ -0,0 +1,40 @@
+package com.ws.infrastructure.price.rest.controller;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ws.infrastructure.price.persistence.timeline.PriceSnapshotVersion;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class PriceSnapshotVersionFilterTest {
+
+    private final PriceSnapshotVersionFilter filter = new PriceSnapshotVersionFilter();
+
+    @AfterEach
+    void tearDown() {
+        PriceSnapshotVersion.clear();
+    }
+
+    @Test
+    void doFilter_ShouldClearVersion_WhenRequestRecordedOneWithoutWritingABody() throws Exception {
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                (request, response) -> PriceSnapshotVersion.recordRead(7));
+
+        assertTrue(PriceSnapshotVersion.consumeRead().isEmpty());
+    }
+
+    @Test
+    void doFilter_ShouldClearVersion_WhenRequestFails() {
+        assertThrows(ServletException.class, () -> filter.doFilter(new MockHttpServletRequest(),
+                new MockHttpServletResponse(), (request, response) -> {
+                    PriceSnapshotVersion.recordRead(7);
+                    throw new ServletException("lookup failed");
+                }));
+
+        assertTrue(PriceSnapshotVersion.consumeRead().isEmpty());
+    }
+}
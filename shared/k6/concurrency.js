@@ -0,0 +1,32 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+// Closed-model load at a fixed number of concurrent clients, without think time.
+// Usage: docker-compose run --rm -e VUS=2000 -e MODE=virtual k6 run /scripts/concurrency.js
+const vus = parseInt(__ENV.VUS || '200');
+
+export let options = {
+  scenarios: {
+    concurrency: {
+      executor: 'constant-vus',
+      vus: vus,
+      duration: __ENV.DURATION || '60s',
+      gracefulStop: '10s',
+      tags: { mode: __ENV.MODE || 'platform', vus: String(vus) },
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const host = __ENV.HOST || "http://host.docker.internal:8080";
+const dates = ["2025-06-14T10:00:00.000", "2025-06-14T16:00:00.000", "2025-06-14T21:00:00.000",
+               "2025-06-15T10:00:00.000", "2025-06-16T21:00:00.000"];
+
+export default function () {
+  const date = dates[Math.floor(Math.random() * dates.length)];
+  const res = http.get(host + "/prices?applicationDate=" + date + "&productId=35455&brandId=1");
+  check(res, {
+    'status is 200': (r) => r.status === 200,
+    'status is 503': (r) => r.status === 503,
+  });
+}
@@ -36,7 +36,8 @@ export let options = {
   }
 };
 
-const host = "http://host.docker.internal:8080";
+// HOST=http://host.docker.internal:8081 targets the reactive deployment
+const host = __ENV.HOST || "http://host.docker.internal:8080";
 
 export function test() {
   // Test 1